@@ -17,13 +17,21 @@ repositories {
 dependencies {
     implementation(libs.spring.boot.starter.web)
     implementation(libs.spring.boot.starter.data.jpa)
+    implementation(libs.spring.boot.starter.actuator)
+    implementation(libs.spring.boot.starter.aop)
+    implementation(libs.micrometer.registry.prometheus)
     implementation(libs.jackson.databind)
+    implementation(libs.jackson.dataformat.cbor)
     implementation(libs.mysql.connector.java)
     implementation(libs.apimanager)
     implementation(libs.equinox.backend)
     implementation(libs.equinox.core)
     implementation(libs.json)
     implementation(project(":core"))
+    testImplementation(project(":dataset"))
+    testImplementation(libs.junit.jupiter)
+    testImplementation(libs.mariadb4j)
+    testRuntimeOnly(libs.junit.platform.launcher)
 }
 
 kotlin {
@@ -33,4 +41,8 @@ kotlin {
 java {
     sourceCompatibility = JavaVersion.VERSION_18
     targetCompatibility = JavaVersion.VERSION_18
-}
\ No newline at end of file
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
@@ -9,6 +9,7 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.context.annotation.PropertySources;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import static com.tecknobit.equinoxbackend.apis.resources.ResourcesProvider.CUSTOM_CONFIGURATION_FILE_PATH;
 import static com.tecknobit.equinoxbackend.apis.resources.ResourcesProvider.DEFAULT_CONFIGURATION_FILE_PATH;
@@ -26,6 +27,7 @@ import static com.tecknobit.equinoxbackend.apis.resources.ResourcesProvider.DEFA
 @EnableJpaRepositories("com.tecknobit.*")
 @EntityScan("com.tecknobit.*")
 @ComponentScan(value = {"com.tecknobit.pandoro.*", "com.tecknobit.equinoxbackend.environment.configuration"})
+@EnableScheduling
 @SpringBootApplication
 public class Launcher {
 
@@ -0,0 +1,158 @@
+package com.tecknobit.pandoro.configuration;
+
+import com.tecknobit.pandoro.configuration.ReplicaRoutingDataSource.DataSourceType;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * The {@code DataSourcesConfig} class is useful to set the databases used by the server. When a replica database is
+ * configured the read-only transactions are routed to it, while the writes and the reads of a user who has just
+ * written are served by the primary database
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see WebMvcConfigurer
+ * @since 1.2.2
+ */
+@Configuration
+public class DataSourcesConfig implements WebMvcConfigurer {
+
+    /**
+     * {@code HIKARI_PROPERTIES} the prefix of the properties of the pools of connections
+     */
+    private static final String HIKARI_PROPERTIES = "spring.datasource.hikari";
+
+    /**
+     * {@code REPLICA_CONFIGURED} the condition to check whether a replica database has been configured
+     */
+    private static final String REPLICA_CONFIGURED = "#{!'${pandoro.datasource.replica.url:}'.isBlank()}";
+
+    /**
+     * {@code readYourWritesTracker} instance used to keep the reads of a user on the primary after his writes
+     */
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    /**
+     * Constructor used to init the configuration
+     *
+     * @param readYourWritesTracker The instance used to keep the reads of a user on the primary after his writes
+     */
+    @Autowired
+    public DataSourcesConfig(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    /**
+     * Method to create the pool of connections to the primary database
+     *
+     * @param properties The properties of the primary database
+     * @return the pool of connections as {@link HikariDataSource}
+     * @apiNote the pool is configured with the {@code spring.datasource.hikari.*} properties
+     */
+    @Bean
+    @ConfigurationProperties(HIKARI_PROPERTIES)
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    /**
+     * Method to create the pool of connections to the replica database, created only when its url is configured
+     *
+     * @param properties      The properties of the primary database
+     * @param replicaUrl      The url of the replica database
+     * @param replicaUsername The username of the replica database
+     * @param replicaPassword The password of the replica database
+     * @return the pool of connections as {@link HikariDataSource}
+     * @apiNote the pool is configured with the same {@code spring.datasource.hikari.*} properties of the primary one
+     */
+    @Bean
+    @ConfigurationProperties(HIKARI_PROPERTIES)
+    @ConditionalOnExpression(REPLICA_CONFIGURED)
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${pandoro.datasource.replica.url}") String replicaUrl,
+            @Value("${pandoro.datasource.replica.username:}") String replicaUsername,
+            @Value("${pandoro.datasource.replica.password:}") String replicaPassword
+    ) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replicaUrl)
+                .username(replicaUsername.isBlank() ? properties.determineUsername() : replicaUsername)
+                .password(replicaPassword.isBlank() ? properties.determinePassword() : replicaPassword)
+                .build();
+    }
+
+    /**
+     * Method to create the datasource used by the server
+     *
+     * @param primary The pool of connections to the primary database
+     * @param replica The provider of the pool of connections to the replica database, if not available the routing
+     *                is disabled
+     * @return the datasource as {@link DataSource}
+     * @apiNote the routing datasource is wrapped in a {@link LazyConnectionDataSourceProxy} so the connection is
+     * obtained at the first statement, when the read-only flag of the transaction has already been set
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                 @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replica) {
+        HikariDataSource replicaDataSource = replica.getIfAvailable();
+        if (replicaDataSource == null)
+            return primary;
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primary,
+                DataSourceType.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Method to register the {@link StatementsRecorder} in Hibernate, so the statements executed by each request are
+     * recorded in its {@link StatementsReport}
+     *
+     * @return the customizer of the properties of Hibernate as {@link HibernatePropertiesCustomizer}
+     * @apiNote the recorder is registered as class for the listeners of the sessions, because Hibernate creates a
+     * listener for each session
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementsRecording() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementsRecorder());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, StatementsRecorder.class.getName());
+        };
+    }
+
+    /**
+     * Method to register the interceptor which tracks the writes of the users
+     *
+     * @param registry The registry of the interceptors
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readYourWritesTracker);
+    }
+
+}
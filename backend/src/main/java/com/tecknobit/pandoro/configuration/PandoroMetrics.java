@@ -0,0 +1,178 @@
+package com.tecknobit.pandoro.configuration;
+
+import com.tecknobit.pandoro.services.changelogs.helpers.ChangelogsEmitter;
+import com.tecknobit.pandoro.services.changelogs.helpers.ChangelogsNotifier;
+import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * The {@code PandoroMetrics} class is useful to expose the metrics of the components of the server which are not
+ * measured by the instrumentation of the requests, the services and the repositories: the size of the fan-out of the
+ * changelogs pushed, the counters of the work saved by the coalescing and the size of the resources directories
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see MeterBinder
+ * @since 1.2.2
+ */
+@Component
+public class PandoroMetrics implements MeterBinder {
+
+    /**
+     * {@code RESOURCES_DIRECTORY} the directory where the resources of the server are stored
+     */
+    private static final String RESOURCES_DIRECTORY = "resources";
+
+    /**
+     * {@code DIRECTORY_TAG} the tag of the resources directory measured
+     */
+    private static final String DIRECTORY_TAG = "directory";
+
+    /**
+     * {@code ResourcesDirectorySize} the record represents the size of a resources directory
+     *
+     * @param files The number of the files stored in the directory
+     * @param bytes The size of the files stored in the directory
+     */
+    private record ResourcesDirectorySize(long files, long bytes) {
+    }
+
+    /**
+     * {@code changelogsEmitter} instance to push the changelogs to the connected users
+     */
+    private final ChangelogsEmitter changelogsEmitter;
+
+    /**
+     * {@code changelogsNotifier} instance to create the changelogs
+     */
+    private final ChangelogsNotifier changelogsNotifier;
+
+    /**
+     * {@code responsesCache} instance to serve the cached responses
+     */
+    private final ResponsesCache responsesCache;
+
+    /**
+     * {@code resourcesDirectories} the size of each resources directory measured by the last scan
+     */
+    private final ConcurrentHashMap<String, ResourcesDirectorySize> resourcesDirectories;
+
+    /**
+     * {@code resourcesFiles} the gauges of the number of files of each resources directory
+     */
+    private MultiGauge resourcesFiles;
+
+    /**
+     * {@code resourcesBytes} the gauges of the size of each resources directory
+     */
+    private MultiGauge resourcesBytes;
+
+    /**
+     * Constructor used to init the metrics
+     *
+     * @param changelogsEmitter  The instance to push the changelogs to the connected users
+     * @param changelogsNotifier The instance to create the changelogs
+     * @param responsesCache     The instance to serve the cached responses
+     */
+    @Autowired
+    public PandoroMetrics(ChangelogsEmitter changelogsEmitter, ChangelogsNotifier changelogsNotifier,
+                          ResponsesCache responsesCache) {
+        this.changelogsEmitter = changelogsEmitter;
+        this.changelogsNotifier = changelogsNotifier;
+        this.responsesCache = responsesCache;
+        resourcesDirectories = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method to register the metrics in the registry
+     *
+     * @param registry The registry where register the metrics
+     * @apiNote the gauges and the counters read the values already tracked by the components when the registry is
+     * scraped, so no work is added to the requests
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("pandoro.changelogs.connected.users", changelogsEmitter, ChangelogsEmitter::getConnectedUsers)
+                .description("The number of users with at least a changelogs stream opened")
+                .register(registry);
+        Gauge.builder("pandoro.changelogs.opened.streams", changelogsEmitter, ChangelogsEmitter::getOpenedStreams)
+                .description("The number of changelogs streams opened, the fan-out of a broadcast")
+                .register(registry);
+        FunctionCounter.builder("pandoro.changelogs.coalesced", changelogsNotifier,
+                        ChangelogsNotifier::getSavedChangelogs)
+                .description("The number of changelogs not stored because merged in an existing one")
+                .register(registry);
+        FunctionCounter.builder("pandoro.responses.coalesced", responsesCache, ResponsesCache::getCoalescedRequests)
+                .description("The number of requests served by sharing a response being built by another request")
+                .register(registry);
+        resourcesFiles = MultiGauge.builder("pandoro.resources.files")
+                .description("The number of files stored in each resources directory")
+                .register(registry);
+        resourcesBytes = MultiGauge.builder("pandoro.resources.size")
+                .description("The size of the files stored in each resources directory")
+                .baseUnit("bytes")
+                .register(registry);
+        scanResourcesDirectories();
+    }
+
+    /**
+     * Method to periodically scan the resources directories to refresh their size
+     *
+     * @apiNote the directories are scanned in background because walking them each time the registry is scraped
+     * would make the scrape as slow as the number of the resources stored
+     */
+    @Scheduled(fixedDelayString = "${pandoro.metrics.resources-scan-interval:300000}",
+            initialDelayString = "${pandoro.metrics.resources-scan-interval:300000}")
+    public void scanResourcesDirectories() {
+        if (resourcesFiles == null)
+            return;
+        File[] directories = new File(RESOURCES_DIRECTORY).listFiles(File::isDirectory);
+        resourcesDirectories.clear();
+        if (directories != null)
+            for (File directory : directories)
+                resourcesDirectories.put(directory.getName(), measureDirectory(directory.toPath()));
+        List<MultiGauge.Row<?>> files = new ArrayList<>();
+        List<MultiGauge.Row<?>> bytes = new ArrayList<>();
+        resourcesDirectories.forEach((directory, size) -> {
+            Tags tags = Tags.of(DIRECTORY_TAG, directory);
+            files.add(MultiGauge.Row.of(tags, size.files()));
+            bytes.add(MultiGauge.Row.of(tags, size.bytes()));
+        });
+        resourcesFiles.register(files, true);
+        resourcesBytes.register(bytes, true);
+    }
+
+    /**
+     * Method to measure the size of a resources directory
+     *
+     * @param directory The directory to measure
+     * @return the size of the directory as {@link ResourcesDirectorySize}, the files which cannot be read are not
+     * counted
+     */
+    private ResourcesDirectorySize measureDirectory(Path directory) {
+        long files = 0;
+        long bytes = 0;
+        try (Stream<Path> resources = Files.walk(directory)) {
+            for (Path resource : (Iterable<Path>) resources.filter(Files::isRegularFile)::iterator) {
+                files++;
+                bytes += resource.toFile().length();
+            }
+            return new ResourcesDirectorySize(files, bytes);
+        } catch (IOException | UncheckedIOException e) {
+            return new ResourcesDirectorySize(files, bytes);
+        }
+    }
+
+}
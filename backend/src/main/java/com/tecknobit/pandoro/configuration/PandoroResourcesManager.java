@@ -2,8 +2,11 @@ package com.tecknobit.pandoro.configuration;
 
 import com.tecknobit.apimanager.annotations.Wrapper;
 import com.tecknobit.equinoxbackend.apis.resources.ResourcesManager;
+import com.tecknobit.pandoro.helpers.profiling.ResourceSaveEvent;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+
 public interface PandoroResourcesManager extends ResourcesManager {
 
     /**
@@ -62,4 +65,20 @@ public interface PandoroResourcesManager extends ResourcesManager {
         return deleteResource(GROUP_LOGOS_DIRECTORY, groupId);
     }
 
+    /**
+     * Method to save a resource
+     *
+     * @param resource     The resource to save
+     * @param resourcePath The path where save the resource
+     * @apiNote the save is recorded as {@link ResourceSaveEvent} when the event is enabled
+     * @since 1.2.2
+     */
+    @Override
+    default void saveResource(MultipartFile resource, String resourcePath) throws IOException {
+        ResourceSaveEvent event = new ResourceSaveEvent(resourcePath, resource.getSize());
+        event.begin();
+        ResourcesManager.super.saveResource(resource, resourcePath);
+        event.commit();
+    }
+
 }
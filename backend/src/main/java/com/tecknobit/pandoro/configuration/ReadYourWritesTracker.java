@@ -0,0 +1,213 @@
+package com.tecknobit.pandoro.configuration;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * The {@code ReadYourWritesTracker} class is useful to keep the reads of a user on the primary database for a short
+ * window after one of his writes, so the user does not read stale data from a replica not aligned yet
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see HandlerInterceptor
+ * @since 1.2.2
+ */
+@Component
+public class ReadYourWritesTracker implements HandlerInterceptor {
+
+    /**
+     * {@code PRIMARY_REQUIRED} whether the current request has to be served by the primary database
+     */
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * {@code lastWrites} the timestamp of the last write request of each user
+     */
+    private final ConcurrentHashMap<String, Long> lastWrites;
+
+    /**
+     * {@code stickinessWindow} the window, in milliseconds, in which the reads of a user are kept on the primary
+     * database after a write
+     */
+    private final long stickinessWindow;
+
+    /**
+     * Constructor used to init the tracker
+     *
+     * @param stickinessWindow The window, in milliseconds, in which the reads of a user are kept on the primary
+     *                         database after a write
+     */
+    public ReadYourWritesTracker(@Value("${pandoro.datasource.read-your-writes-window:5000}") long stickinessWindow) {
+        this.stickinessWindow = stickinessWindow;
+        lastWrites = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method used to check whether the current request has to be served by the primary database
+     *
+     * @return whether the current request has to be served by the primary database as {@code boolean}
+     */
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get();
+    }
+
+    /**
+     * Method used to route to the primary database the reads of the current request when the user has written
+     * within the stickiness window
+     *
+     * @param userId The identifier of the user who sent the request
+     * @return whether the reads of the current request have been routed to the primary database as {@code boolean}
+     * @apiNote this method is used by the filters which read the database before the interceptor is invoked, which
+     * have to call {@link #releasePrimary()} when the request has been completed
+     */
+    public boolean requirePrimaryAfterWrite(String userId) {
+        if (!hasRecentWrite(userId))
+            return false;
+        PRIMARY_REQUIRED.set(true);
+        return true;
+    }
+
+    /**
+     * Method used to release the routing of the current request to the primary database
+     */
+    public static void releasePrimary() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    /**
+     * Method used to wrap a task executed by another thread, so it is routed to the same database of the current
+     * request
+     *
+     * @param task The task to wrap
+     * @return the wrapped task as {@link Callable}
+     * @param <T> The type of the result of the task
+     */
+    public static <T> Callable<T> withCurrentRouting(Callable<T> task) {
+        boolean primaryRequired = isPrimaryRequired();
+        return () -> {
+            PRIMARY_REQUIRED.set(primaryRequired);
+            try {
+                return task.call();
+            } finally {
+                PRIMARY_REQUIRED.remove();
+            }
+        };
+    }
+
+    /**
+     * Method used to wrap a body streamed by the asynchronous thread of the response, so it is routed to the same
+     * database of the current request
+     *
+     * @param body The body to wrap
+     * @return the wrapped body as {@link StreamingResponseBody}
+     */
+    public static StreamingResponseBody withCurrentRouting(StreamingResponseBody body) {
+        boolean primaryRequired = isPrimaryRequired();
+        return output -> {
+            PRIMARY_REQUIRED.set(primaryRequired);
+            try {
+                body.writeTo(output);
+            } finally {
+                PRIMARY_REQUIRED.remove();
+            }
+        };
+    }
+
+    /**
+     * Method used to evict the writes older than the stickiness window, so the users who do not read after their
+     * writes do not keep their entries in memory
+     */
+    @Scheduled(fixedDelayString = "${pandoro.datasource.read-your-writes-window:5000}")
+    public void evictExpiredWrites() {
+        long expiration = currentTimeMillis() - stickinessWindow;
+        lastWrites.values().removeIf(lastWrite -> lastWrite < expiration);
+    }
+
+    /**
+     * Method invoked before the request is handled to pin the reads of a user who has just written on the primary
+     * database
+     *
+     * @param request  The current request
+     * @param response The current response
+     * @param handler  The handler of the request
+     * @return {@code true} to continue the execution of the request
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String userId = getRequestingUser(request);
+        if (userId != null && !isWriteRequest(request) && hasRecentWrite(userId))
+            PRIMARY_REQUIRED.set(true);
+        return true;
+    }
+
+    /**
+     * Method used to check whether a user has written within the stickiness window
+     *
+     * @param userId The identifier of the user
+     * @return whether the user has written within the stickiness window as {@code boolean}
+     */
+    private boolean hasRecentWrite(String userId) {
+        Long lastWrite = lastWrites.get(userId);
+        if (lastWrite == null)
+            return false;
+        if (currentTimeMillis() - lastWrite <= stickinessWindow)
+            return true;
+        lastWrites.remove(userId, lastWrite);
+        return false;
+    }
+
+    /**
+     * Method invoked after the request has been completed to register the writes of the user
+     *
+     * @param request  The current request
+     * @param response The current response
+     * @param handler  The handler of the request
+     * @param ex       The exception thrown during the request if occurred
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        PRIMARY_REQUIRED.remove();
+        String userId = getRequestingUser(request);
+        if (userId != null && isWriteRequest(request))
+            lastWrites.put(userId, currentTimeMillis());
+    }
+
+    /**
+     * Method used to get the identifier of the user who sent the request
+     *
+     * @param request The current request
+     * @return the identifier of the user as {@link String} if present in the path, {@code null} otherwise
+     */
+    @SuppressWarnings("unchecked")
+    private String getRequestingUser(HttpServletRequest request) {
+        Object pathVariables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(pathVariables instanceof Map))
+            return null;
+        return ((Map<String, String>) pathVariables).get(IDENTIFIER_KEY);
+    }
+
+    /**
+     * Method used to check whether the request is a write request
+     *
+     * @param request The current request
+     * @return whether the request is a write request as {@code boolean}
+     */
+    private boolean isWriteRequest(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !method.equals("GET") && !method.equals("HEAD") && !method.equals("OPTIONS");
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.tecknobit.pandoro.configuration;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The {@code ReplicaRoutingDataSource} class is useful to route the read-only transactions to the replica database
+ * and all the other operations to the primary one
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see AbstractRoutingDataSource
+ * @since 1.2.2
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * {@code DataSourceType} the types of the databases where the operations can be routed
+     */
+    public enum DataSourceType {
+
+        /**
+         * {@code PRIMARY} the database which serves the writes and the reads which need the latest data
+         */
+        PRIMARY,
+
+        /**
+         * {@code REPLICA} the database which serves the read-only transactions
+         */
+        REPLICA
+
+    }
+
+    /**
+     * Method used to determine the database where route the current operation
+     *
+     * @return the type of the database as {@link DataSourceType}
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() &&
+                !ReadYourWritesTracker.isPrimaryRequired())
+            return DataSourceType.REPLICA;
+        return DataSourceType.PRIMARY;
+    }
+
+}
@@ -0,0 +1,484 @@
+package com.tecknobit.pandoro.configuration;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.tecknobit.pandoro.services.sync.service.SyncService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
+import static com.tecknobit.equinoxcore.network.EquinoxBaseEndpointsSet.BASE_EQUINOX_ENDPOINT;
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+import static com.tecknobit.pandorocore.helpers.PandoroEndpoints.OVERVIEW_ENDPOINT;
+
+/**
+ * The {@code ResponsesCache} class is useful to serve the serialized responses of the reading requests without
+ * rebuilding them when the data of the user did not change. Each response is cached with the version of the data of
+ * the user, which is increased by any change of the items he can see, and is tagged with an {@code ETag}, so when the
+ * client already holds the current response it is answered with {@code 304 Not Modified}. The identical requests
+ * received while the response is being built wait for it and share it, instead of building it again. The responses
+ * are cached for each media type negotiated with the {@code Accept} header, normalized to JSON or CBOR, so the two
+ * formats of the same request are kept apart while the equivalent headers share the same response.
+ * Only the successful responses are cached and the cache is bounded by the total size of the bodies cached
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see OncePerRequestFilter
+ * @since 1.2.2
+ */
+@Component
+public class ResponsesCache extends OncePerRequestFilter {
+
+    /**
+     * {@code USER_PATH} the path of the requests of a user
+     */
+    private static final String USER_PATH = BASE_EQUINOX_ENDPOINT + USERS_KEY + "/{" + IDENTIFIER_KEY + "}/";
+
+    /**
+     * {@code CACHEABLE_PATHS} the paths of the reading requests whose responses can be cached, respectively the
+     * projects, a group, the notes and the overview of the user. Each path is listed explicitly, so a new endpoint is
+     * never cached unless it is added here
+     */
+    private static final List<String> CACHEABLE_PATHS = List.of(
+            USER_PATH + PROJECTS_KEY,
+            USER_PATH + GROUPS_KEY + "/{" + GROUP_IDENTIFIER_KEY + "}",
+            USER_PATH + NOTES_KEY,
+            USER_PATH + OVERVIEW_ENDPOINT
+    );
+
+    /**
+     * {@code RESPONSE_STATUS_FIELD} the field of the bodies of the Equinox responses which carries their status
+     */
+    private static final String RESPONSE_STATUS_FIELD = "response_status";
+
+    /**
+     * {@code SUCCESSFUL_STATUS} the status of the successful Equinox responses
+     */
+    private static final String SUCCESSFUL_STATUS = "SUCCESSFUL";
+
+    /**
+     * {@code JSON_FACTORY} the factory used to read the status of the JSON responses
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * {@code CBOR_FACTORY} the factory used to read the status of the CBOR responses
+     */
+    private static final CBORFactory CBOR_FACTORY = new CBORFactory();
+
+    /**
+     * {@code CachedResponse} the record represents a serialized response cached
+     *
+     * @param version     The version of the data of the user when the response has been created
+     * @param eTag        The tag of the response
+     * @param contentType The content type of the response
+     * @param body        The serialized body of the response
+     */
+    private record CachedResponse(long version, String eTag, String contentType, byte[] body) {
+    }
+
+    /**
+     * {@code pathMatcher} the matcher used to check the paths of the requests
+     */
+    private final AntPathMatcher pathMatcher;
+
+    /**
+     * {@code syncService} instance used to get the version of the data of the users
+     */
+    private final SyncService syncService;
+
+    /**
+     * {@code readYourWritesTracker} instance used to read from the primary database the version of the users who
+     * have just written
+     */
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    /**
+     * {@code responses} the responses cached sorted from the least recently used one, which is evicted first when
+     * the {@link #maxBytes} are exceeded
+     */
+    private final LinkedHashMap<String, CachedResponse> responses;
+
+    /**
+     * {@code maxBytes} the maximum total size, in bytes, of the bodies cached
+     */
+    private final long maxBytes;
+
+    /**
+     * {@code cachedBytes} the total size, in bytes, of the bodies currently cached
+     */
+    private long cachedBytes;
+
+    /**
+     * {@code inFlight} the responses currently being built, each one shared with the identical requests received
+     * meanwhile
+     */
+    private final ConcurrentHashMap<String, CompletableFuture<CachedResponse>> inFlight;
+
+    /**
+     * {@code coalescedRequests} the number of requests served by sharing a response being built by another request
+     */
+    private final AtomicLong coalescedRequests;
+
+    /**
+     * {@code joinTimeout} the milliseconds a request waits for a response being built by another request before
+     * building it by itself
+     */
+    private final long joinTimeout;
+
+    /**
+     * Constructor used to init the cache
+     *
+     * @param syncService           The instance used to get the version of the data of the users
+     * @param readYourWritesTracker The instance used to read from the primary database the version of the users who
+     *                              have just written
+     * @param maxBytes              The maximum total size, in bytes, of the bodies cached
+     * @param joinTimeout           The milliseconds a request waits for a response being built by another request
+     *                              before building it by itself
+     */
+    @Autowired
+    public ResponsesCache(SyncService syncService, ReadYourWritesTracker readYourWritesTracker,
+                          @Value("${pandoro.responses-cache.max-bytes:67108864}") long maxBytes,
+                          @Value("${pandoro.responses-cache.join-timeout:5000}") long joinTimeout) {
+        this.syncService = syncService;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxBytes = maxBytes;
+        this.joinTimeout = joinTimeout;
+        pathMatcher = new AntPathMatcher();
+        inFlight = new ConcurrentHashMap<>();
+        coalescedRequests = new AtomicLong();
+        responses = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Method used to exclude from the cache the requests which are not reading requests of the cacheable paths
+     *
+     * @param request The current request
+     * @return whether the request has not to be filtered as {@code boolean}
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!request.getMethod().equals("GET") || request.getHeader(TOKEN_KEY) == null)
+            return true;
+        return getCacheablePath(request) == null;
+    }
+
+    /**
+     * Method used to serve the cached response when the data of the user did not change, otherwise the request is
+     * handled and its response is cached
+     *
+     * @param request     The current request
+     * @param response    The current response
+     * @param filterChain The chain of the filters
+     * @apiNote the version is read before the request is handled, so when a change occurs meanwhile the response is
+     * cached with the previous version and is rebuilt with the next request. For the same reason a request joins only
+     * a response being built with its same version. The reads of a user who has just written are routed to the
+     * primary database before reading the version, so the version and the response are read from the same database
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String cacheablePath = getCacheablePath(request);
+        String userId = pathMatcher.extractUriTemplateVariables(cacheablePath, getPath(request)).get(IDENTIFIER_KEY);
+        boolean primaryRequired = readYourWritesTracker.requirePrimaryAfterWrite(userId);
+        try {
+            serveCachedResponse(request, response, filterChain, userId);
+        } finally {
+            if (primaryRequired)
+                ReadYourWritesTracker.releasePrimary();
+        }
+    }
+
+    /**
+     * Method used to serve the cached response when the data of the user did not change, otherwise the request is
+     * handled and its response is cached
+     *
+     * @param request     The current request
+     * @param response    The current response
+     * @param filterChain The chain of the filters
+     * @param userId      The identifier of the user who sent the request
+     */
+    private void serveCachedResponse(HttpServletRequest request, HttpServletResponse response,
+                                     FilterChain filterChain, String userId) throws ServletException, IOException {
+        String token = request.getHeader(TOKEN_KEY);
+        Long version = syncService.getDataVersion(userId, token);
+        if (version == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = userId + token + request.getRequestURI() + normalizeParameters(request) + "#"
+                + negotiateMediaType(request);
+        CachedResponse cachedResponse = getCachedResponse(key);
+        if (cachedResponse != null && cachedResponse.version() == version) {
+            serve(request, response, cachedResponse);
+            return;
+        }
+        String flightKey = key + "#" + version;
+        CompletableFuture<CachedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> leadingFlight = inFlight.putIfAbsent(flightKey, flight);
+        if (leadingFlight != null) {
+            cachedResponse = joinFlight(leadingFlight);
+            if (cachedResponse != null) {
+                coalescedRequests.incrementAndGet();
+                serve(request, response, cachedResponse);
+            } else
+                filterChain.doFilter(request, response);
+            return;
+        }
+        cachedResponse = null;
+        try {
+            ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, responseWrapper);
+            byte[] body = responseWrapper.getContentAsByteArray();
+            String contentType = responseWrapper.getContentType();
+            if (responseWrapper.getStatus() != HttpServletResponse.SC_OK || !isSuccessful(contentType, body)) {
+                responseWrapper.copyBodyToResponse();
+                return;
+            }
+            cachedResponse = new CachedResponse(version, "\"" + version + "-" + DigestUtils.md5DigestAsHex(body)
+                    + "\"", contentType, body);
+            cacheResponse(key, cachedResponse);
+            serve(request, response, cachedResponse);
+        } finally {
+            inFlight.remove(flightKey, flight);
+            flight.complete(cachedResponse);
+        }
+    }
+
+    /**
+     * Method used to get a cached response, marking it as the most recently used one
+     *
+     * @param key The key of the response
+     * @return the cached response as {@link CachedResponse}, {@code null} if not cached
+     */
+    private synchronized CachedResponse getCachedResponse(String key) {
+        return responses.get(key);
+    }
+
+    /**
+     * Method used to cache a response, evicting the least recently used ones until the total size of the bodies
+     * cached does not exceed the {@link #maxBytes}
+     *
+     * @param key            The key of the response
+     * @param cachedResponse The response to cache
+     * @apiNote a response larger than the {@link #maxBytes} is not cached
+     */
+    private synchronized void cacheResponse(String key, CachedResponse cachedResponse) {
+        int size = cachedResponse.body().length;
+        if (size > maxBytes)
+            return;
+        CachedResponse replacedResponse = responses.put(key, cachedResponse);
+        if (replacedResponse != null)
+            cachedBytes -= replacedResponse.body().length;
+        cachedBytes += size;
+        Iterator<CachedResponse> eldestResponses = responses.values().iterator();
+        while (cachedBytes > maxBytes && eldestResponses.hasNext()) {
+            cachedBytes -= eldestResponses.next().body().length;
+            eldestResponses.remove();
+        }
+    }
+
+    /**
+     * Method used to check whether the body of a response is a successful Equinox response, the failed ones are
+     * served with the {@code 200} status too, so they are recognized by the status carried in their body
+     *
+     * @param contentType The content type of the response
+     * @param body        The body of the response
+     * @return whether the response is successful as {@code boolean}
+     * @apiNote only the fields at the root of the body are scanned, skipping their content, so the whole body is not
+     * parsed
+     */
+    private boolean isSuccessful(String contentType, byte[] body) {
+        if (contentType == null)
+            return false;
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        JsonFactory factory;
+        if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON))
+            factory = JSON_FACTORY;
+        else if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR))
+            factory = CBOR_FACTORY;
+        else
+            return false;
+        try (JsonParser parser = factory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+                return false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (field.equals(RESPONSE_STATUS_FIELD))
+                    return SUCCESSFUL_STATUS.equals(parser.getValueAsString());
+                parser.skipChildren();
+            }
+            return false;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Method used to wait for a response being built by another request
+     *
+     * @param flight The response being built
+     * @return the response built as {@link CachedResponse}, {@code null} if it has not been built successfully or
+     * within the {@link #joinTimeout}
+     * @apiNote the wait is bounded, so a slow or stuck request does not hold all the identical requests queued behind
+     * it, which are handled by themselves instead
+     */
+    private CachedResponse joinFlight(CompletableFuture<CachedResponse> flight) {
+        try {
+            return flight.get(joinTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to get {@link #coalescedRequests} instance
+     *
+     * @return {@link #coalescedRequests} instance as long
+     */
+    public long getCoalescedRequests() {
+        return coalescedRequests.get();
+    }
+
+    /**
+     * Method used to serve a cached response
+     *
+     * @param request        The current request
+     * @param response       The current response
+     * @param cachedResponse The cached response to serve
+     */
+    private void serve(HttpServletRequest request, HttpServletResponse response,
+                       CachedResponse cachedResponse) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cachedResponse.eTag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.VARY, TOKEN_KEY + ", " + HttpHeaders.ACCEPT);
+        if (isNotModified(request, cachedResponse)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cachedResponse.contentType());
+        response.setContentLength(cachedResponse.body().length);
+        response.getOutputStream().write(cachedResponse.body());
+    }
+
+    /**
+     * Method used to check whether the client already holds the cached response
+     *
+     * @param request        The current request
+     * @param cachedResponse The cached response
+     * @return whether the client already holds the cached response as {@code boolean}
+     */
+    private boolean isNotModified(HttpServletRequest request, CachedResponse cachedResponse) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null)
+            return false;
+        for (String eTag : ifNoneMatch.split(",")) {
+            eTag = eTag.trim();
+            if (eTag.startsWith("W/"))
+                eTag = eTag.substring(2);
+            if (eTag.equals(cachedResponse.eTag()) || eTag.equals("*"))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Method used to get the cacheable path matched by the request
+     *
+     * @param request The current request
+     * @return the cacheable path matched as {@link String} if matched, {@code null} otherwise
+     */
+    private String getCacheablePath(HttpServletRequest request) {
+        String path = getPath(request);
+        for (String cacheablePath : CACHEABLE_PATHS)
+            if (pathMatcher.match(cacheablePath, path))
+                return cacheablePath;
+        return null;
+    }
+
+    /**
+     * Method used to normalize the parameters of the request, so the identical requests share the same key whatever
+     * the order of their parameters is
+     *
+     * @param request The current request
+     * @return the parameters of the request sorted by name as {@link String}
+     */
+    private String normalizeParameters(HttpServletRequest request) {
+        StringJoiner parameters = new StringJoiner("&", "?", "");
+        new TreeMap<>(request.getParameterMap())
+                .forEach((name, values) -> parameters.add(name + "=" + String.join(",", values)));
+        return parameters.toString();
+    }
+
+    /**
+     * Method used to negotiate the media type of the response as the message converters do, picking the first
+     * accepted media type, by quality and specificity, which is compatible with JSON or with CBOR
+     *
+     * @param request The current request
+     * @return the media type negotiated as {@link MediaType}, {@link MediaType#APPLICATION_JSON} when the
+     * {@code Accept} header is missing or not valid
+     * @apiNote JSON is checked before CBOR, as the JSON converter precedes the CBOR one, so a wildcard is negotiated
+     * as JSON
+     */
+    private MediaType negotiateMediaType(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank())
+            return MediaType.APPLICATION_JSON;
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            MimeTypeUtils.sortBySpecificity(acceptedTypes);
+        } catch (InvalidMediaTypeException | InvalidMimeTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.getQualityValue() == 0)
+                continue;
+            if (acceptedType.isCompatibleWith(MediaType.APPLICATION_JSON))
+                return MediaType.APPLICATION_JSON;
+            if (acceptedType.isCompatibleWith(MediaType.APPLICATION_CBOR))
+                return MediaType.APPLICATION_CBOR;
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Method used to get the path of the request without the context path
+     *
+     * @param request The current request
+     * @return the path of the request as {@link String}
+     */
+    private String getPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.tecknobit.pandoro.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The {@code ServicesMetrics} class is useful to time each invocation of the public methods of the services of the
+ * server, the requests and the repositories queries are already timed respectively as {@code http.server.requests}
+ * and as {@code spring.data.repository.invocations}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@Aspect
+@Component
+public class ServicesMetrics {
+
+    /**
+     * {@code SERVICES_INVOCATIONS} the name of the timer of the invocations of the services
+     */
+    private static final String SERVICES_INVOCATIONS = "pandoro.service.invocations";
+
+    /**
+     * {@code NONE_EXCEPTION} the value of the exception tag when the invocation completed successfully
+     */
+    private static final String NONE_EXCEPTION = "none";
+
+    /**
+     * {@code registry} the registry where the timers are registered
+     */
+    private final MeterRegistry registry;
+
+    /**
+     * {@code timers} the timers of the successful invocations of each method
+     */
+    private final ConcurrentHashMap<Method, Timer> timers;
+
+    /**
+     * Constructor used to init the aspect
+     *
+     * @param registry The registry where the timers are registered
+     */
+    @Autowired
+    public ServicesMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        timers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method to time an invocation of a service
+     *
+     * @param invocation The invocation to time
+     * @return the result of the invocation as {@link Object}
+     * @apiNote the timers of the successful invocations are resolved once for each method, so the tags are not built
+     * again for each invocation
+     */
+    @Around("execution(public * com.tecknobit.pandoro.services..*(..)) " +
+            "&& @within(org.springframework.stereotype.Service)")
+    public Object time(ProceedingJoinPoint invocation) throws Throwable {
+        Method method = ((MethodSignature) invocation.getSignature()).getMethod();
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            timers.computeIfAbsent(method, key -> timer(key, NONE_EXCEPTION))
+                    .record(System.nanoTime() - start, NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(method, e.getClass().getSimpleName()).record(System.nanoTime() - start, NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * Method to get the timer of the invocations of a method
+     *
+     * @param method    The method invoked
+     * @param exception The simple name of the exception thrown by the invocation, {@link #NONE_EXCEPTION} if it
+     *                  completed successfully
+     * @return the timer as {@link Timer}
+     */
+    private Timer timer(Method method, String exception) {
+        return Timer.builder(SERVICES_INVOCATIONS)
+                .description("The duration of the invocations of the services")
+                .tag("service", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.tecknobit.pandoro.configuration;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * The {@code StatementsBudget} class is useful to record the SQL statements executed by each request and to report
+ * the requests which exceed the budget of statements allowed, together with the statement they repeat the most, so
+ * the loops of queries are detected
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see OncePerRequestFilter
+ * @see StatementsReport
+ * @since 1.2.2
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementsBudget extends OncePerRequestFilter {
+
+    /**
+     * {@code STATEMENTS_REPORT_ATTRIBUTE} the attribute of the request where its {@link StatementsReport} is stored,
+     * so the integration tests can assert the number of the statements executed by an endpoint
+     */
+    public static final String STATEMENTS_REPORT_ATTRIBUTE = StatementsReport.class.getName();
+
+    /**
+     * {@code budget} the maximum number of statements a request can execute without being reported, {@code 0} to
+     * disable the reports
+     */
+    private final int budget;
+
+    /**
+     * Constructor used to init the filter
+     *
+     * @param budget The maximum number of statements a request can execute without being reported
+     */
+    public StatementsBudget(@Value("${pandoro.statements.budget:25}") int budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Method used to record the statements executed while the request is served and to report it when the budget has
+     * been exceeded
+     *
+     * @param request     The current request
+     * @param response    The current response
+     * @param filterChain The chain of the filters
+     * @apiNote the filter runs before the others, so the statements executed to serialize the lazy relationships of
+     * the responses are recorded as well
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        StatementsReport report = StatementsReport.start();
+        request.setAttribute(STATEMENTS_REPORT_ATTRIBUTE, report);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StatementsReport.stop();
+            if (budget > 0 && report.exceeds(budget) && logger.isWarnEnabled()) {
+                logger.warn(request.getMethod() + " " + request.getRequestURI() + " exceeded the budget of " + budget
+                        + " statements: " + report);
+            }
+        }
+    }
+
+}
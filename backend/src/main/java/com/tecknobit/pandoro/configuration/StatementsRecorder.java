@@ -0,0 +1,53 @@
+package com.tecknobit.pandoro.configuration;
+
+import org.hibernate.engine.spi.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * The {@code StatementsRecorder} class is useful to record in the {@link StatementsReport} of the current thread the
+ * statements prepared by Hibernate and the time spent by the database to execute them. It is registered both as
+ * {@link StatementInspector} of the session factory and as {@link SessionEventListener} of each session
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public class StatementsRecorder implements StatementInspector, SessionEventListener {
+
+    /**
+     * {@code executionStart} the time, in nanoseconds, when the execution of the current statement started
+     */
+    private long executionStart;
+
+    /**
+     * Method invoked when a statement is prepared to record it
+     *
+     * @param sql The statement prepared
+     * @return the statement unchanged as {@link String}
+     */
+    @Override
+    public String inspect(String sql) {
+        StatementsReport report = StatementsReport.current();
+        if (report != null)
+            report.statementExecuted(sql);
+        return sql;
+    }
+
+    /**
+     * Method invoked when the execution of a statement starts
+     */
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    /**
+     * Method invoked when the execution of a statement ends to record the time spent by the database
+     */
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        StatementsReport report = StatementsReport.current();
+        if (report != null)
+            report.databaseTimeElapsed(System.nanoTime() - executionStart);
+    }
+
+}
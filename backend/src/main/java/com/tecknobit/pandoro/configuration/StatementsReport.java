@@ -0,0 +1,253 @@
+package com.tecknobit.pandoro.configuration;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The {@code StatementsReport} class is useful to collect the SQL statements executed while serving a request and the
+ * time spent by the database to execute them, so the requests which execute more statements than expected, as the
+ * loops of queries, can be detected. The statements are collected by the {@link StatementsRecorder} for the report
+ * attached to the current thread
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public final class StatementsReport {
+
+    /**
+     * {@code CURRENT_REPORT} the report attached to the current thread, {@code null} if the statements of the thread are
+     * not recorded
+     */
+    private static final ThreadLocal<StatementsReport> CURRENT_REPORT = new ThreadLocal<>();
+
+    /**
+     * {@code WHITESPACES} the pattern used to normalize the whitespaces of the statements
+     */
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    /**
+     * {@code PARAMETERS_LIST} the pattern used to normalize the lists of parameters of the statements, so the same
+     * query executed with lists of different sizes is recognized as the same statement
+     */
+    private static final Pattern PARAMETERS_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+
+    /**
+     * {@code statements} the statements executed, each one with the number of its executions
+     */
+    private final Map<String, Integer> statements;
+
+    /**
+     * {@code executedStatements} the number of the statements executed
+     */
+    private int executedStatements;
+
+    /**
+     * {@code databaseTime} the time, in nanoseconds, spent by the database to execute the statements
+     */
+    private long databaseTime;
+
+    /**
+     * Constructor used to init the report
+     */
+    private StatementsReport() {
+        statements = new LinkedHashMap<>();
+    }
+
+    /**
+     * Method used to start recording the statements executed by the current thread
+     *
+     * @return the report where the statements are recorded as {@link StatementsReport}
+     */
+    public static StatementsReport start() {
+        StatementsReport report = new StatementsReport();
+        CURRENT_REPORT.set(report);
+        return report;
+    }
+
+    /**
+     * Method used to stop recording the statements executed by the current thread
+     */
+    public static void stop() {
+        CURRENT_REPORT.remove();
+    }
+
+    /**
+     * Method used to get the report attached to the current thread
+     *
+     * @return the report as {@link StatementsReport}, {@code null} if the statements of the thread are not recorded
+     */
+    public static StatementsReport current() {
+        return CURRENT_REPORT.get();
+    }
+
+    /**
+     * Method used to record the statements executed by a task
+     *
+     * @param task The task to execute
+     * @return the report of the statements executed by the task as {@link StatementsReport}
+     * @apiNote this method is intended for the integration tests, to pin the number of queries executed by an
+     * operation, e.g. {@code StatementsReport.record(() -> service.getProjects(...)).assertStatements(3)}
+     */
+    public static StatementsReport record(Callable<?> task) throws Exception {
+        StatementsReport previousReport = current();
+        StatementsReport report = start();
+        try {
+            task.call();
+            return report;
+        } finally {
+            if (previousReport != null)
+                CURRENT_REPORT.set(previousReport);
+            else
+                stop();
+        }
+    }
+
+    /**
+     * Method used to wrap a task executed by another thread, so its statements are recorded in the report of the
+     * current thread
+     *
+     * @param task The task to wrap
+     * @return the wrapped task as {@link Callable}
+     * @param <T> The type of the result of the task
+     */
+    public static <T> Callable<T> withCurrentReport(Callable<T> task) {
+        StatementsReport report = current();
+        if (report == null)
+            return task;
+        return () -> {
+            CURRENT_REPORT.set(report);
+            try {
+                return task.call();
+            } finally {
+                CURRENT_REPORT.remove();
+            }
+        };
+    }
+
+    /**
+     * Method used to record the execution of a statement
+     *
+     * @param statement The statement executed
+     */
+    synchronized void statementExecuted(String statement) {
+        executedStatements++;
+        statements.merge(statement, 1, Integer::sum);
+    }
+
+    /**
+     * Method used to record the time spent by the database to execute a statement
+     *
+     * @param nanos The time spent, in nanoseconds
+     */
+    synchronized void databaseTimeElapsed(long nanos) {
+        databaseTime += nanos;
+    }
+
+    /**
+     * Method to get {@link #executedStatements} instance
+     *
+     * @return {@link #executedStatements} instance as int
+     */
+    public synchronized int getExecutedStatements() {
+        return executedStatements;
+    }
+
+    /**
+     * Method to get the time, in milliseconds, spent by the database to execute the statements
+     *
+     * @return the time spent by the database as long
+     */
+    public synchronized long getDatabaseTime() {
+        return NANOSECONDS.toMillis(databaseTime);
+    }
+
+    /**
+     * Method to get the statements executed, normalized, each one with the number of its executions
+     *
+     * @return the statements executed as {@link Map} of {@link String} and {@link Integer}
+     */
+    public synchronized Map<String, Integer> getStatements() {
+        Map<String, Integer> normalizedStatements = new HashMap<>();
+        statements.forEach((statement, executions) -> normalizedStatements.merge(normalize(statement), executions,
+                Integer::sum));
+        return normalizedStatements;
+    }
+
+    /**
+     * Method to get the statement executed the most times, which is the one repeated by a loop of queries
+     *
+     * @return the statement with the number of its executions as {@link Map.Entry}, {@code null} if no statements
+     * have been executed
+     */
+    public Map.Entry<String, Integer> getMostRepeatedStatement() {
+        Map.Entry<String, Integer> mostRepeatedStatement = null;
+        for (Map.Entry<String, Integer> statement : getStatements().entrySet())
+            if (mostRepeatedStatement == null || statement.getValue() > mostRepeatedStatement.getValue())
+                mostRepeatedStatement = statement;
+        return mostRepeatedStatement;
+    }
+
+    /**
+     * Method used to check whether the number of the statements executed exceeds a budget
+     *
+     * @param budget The maximum number of statements expected
+     * @return whether the budget has been exceeded as {@code boolean}
+     */
+    public boolean exceeds(int budget) {
+        return getExecutedStatements() > budget;
+    }
+
+    /**
+     * Method used to assert the number of the statements executed
+     *
+     * @param expectedStatements The number of statements expected
+     * @throws AssertionError when a different number of statements has been executed
+     */
+    public void assertStatements(int expectedStatements) {
+        if (getExecutedStatements() != expectedStatements)
+            throw new AssertionError("Expected " + expectedStatements + " statements but " + this);
+    }
+
+    /**
+     * Method used to assert that the number of the statements executed does not exceed a budget
+     *
+     * @param budget The maximum number of statements expected
+     * @throws AssertionError when more statements than the budget have been executed
+     */
+    public void assertStatementsAtMost(int budget) {
+        if (exceeds(budget))
+            throw new AssertionError("Expected at most " + budget + " statements but " + this);
+    }
+
+    /**
+     * Method used to normalize a statement
+     *
+     * @param statement The statement to normalize
+     * @return the statement normalized as {@link String}
+     */
+    private String normalize(String statement) {
+        String normalizedStatement = WHITESPACES.matcher(statement.trim()).replaceAll(" ");
+        return PARAMETERS_LIST.matcher(normalizedStatement).replaceAll("(?)");
+    }
+
+    /**
+     * Method to get the summary of the report
+     *
+     * @return the summary of the report as {@link String}
+     */
+    @Override
+    public String toString() {
+        Map.Entry<String, Integer> mostRepeatedStatement = getMostRepeatedStatement();
+        String summary = getExecutedStatements() + " statements executed in " + getDatabaseTime() + " ms";
+        if (mostRepeatedStatement == null || mostRepeatedStatement.getValue() == 1)
+            return summary;
+        return summary + ", the most repeated one executed " + mostRepeatedStatement.getValue() + " times: " +
+                mostRepeatedStatement.getKey();
+    }
+
+}
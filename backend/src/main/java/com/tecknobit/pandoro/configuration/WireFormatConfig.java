@@ -0,0 +1,62 @@
+package com.tecknobit.pandoro.configuration;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.tecknobit.pandorocore.helpers.PandoroWireFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * The {@code WireFormatConfig} class is useful to serve the responses in the compact binary format of the
+ * {@link PandoroWireFormat} to the clients which request it with the {@code Accept: application/cbor} header, the
+ * other clients keep receiving the JSON responses
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see WebMvcConfigurer
+ * @since 1.2.2
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    /**
+     * {@code cborConverter} the converter used to write the responses as CBOR
+     */
+    private final MappingJackson2CborHttpMessageConverter cborConverter;
+
+    /**
+     * Constructor used to init the configuration
+     *
+     * @param mapperBuilder The builder of the mapper used for the JSON responses
+     * @apiNote the mapper of the CBOR responses is created from the same builder of the JSON responses, so both the
+     * formats share the same modules and features and carry the same keys and values
+     */
+    @Autowired
+    public WireFormatConfig(Jackson2ObjectMapperBuilder mapperBuilder) {
+        cborConverter = new MappingJackson2CborHttpMessageConverter(mapperBuilder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Method used to replace the default CBOR converter, which is created with a plain mapper, with the
+     * {@link #cborConverter}
+     *
+     * @param converters The converters of the responses
+     * @apiNote the converter is kept after the JSON one, so the requests which accept any media type still receive the
+     * JSON responses
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int j = 0; j < converters.size(); j++) {
+            if (converters.get(j) instanceof MappingJackson2CborHttpMessageConverter) {
+                converters.set(j, cborConverter);
+                return;
+            }
+        }
+        converters.add(cborConverter);
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.tecknobit.pandoro.helpers;
+
+import java.security.SecureRandom;
+
+/**
+ * The {@code SortableIdentifierGenerator} class is useful to generate time-ordered identifiers, in the ULID format,
+ * for the new rows. Each identifier is made up of the creation time in milliseconds followed by 80 random bits, both
+ * encoded in the Crockford's base32 alphabet, so the identifiers sort lexicographically by creation time and the new
+ * rows are appended at the end of the clustered index instead of being inserted at random positions. The identifiers
+ * are plain strings, so they coexist with the identifiers already stored
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public final class SortableIdentifierGenerator {
+
+    /**
+     * {@code ENCODING} the Crockford's base32 alphabet used to encode the identifiers
+     */
+    private static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    /**
+     * {@code IDENTIFIER_LENGTH} the length of the identifiers generated
+     */
+    private static final int IDENTIFIER_LENGTH = 26;
+
+    /**
+     * {@code TIMESTAMP_LENGTH} the number of characters used to encode the creation time
+     */
+    private static final int TIMESTAMP_LENGTH = 10;
+
+    /**
+     * {@code RANDOM_HIGH_MASK} the mask of the 16 most significant random bits
+     */
+    private static final int RANDOM_HIGH_MASK = 0xFFFF;
+
+    /**
+     * {@code RANDOM} the source of the random bits
+     */
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * {@code lastTimestamp} the creation time of the last identifier generated
+     */
+    private static long lastTimestamp = -1;
+
+    /**
+     * {@code randomHigh} the 16 most significant random bits of the last identifier generated
+     */
+    private static int randomHigh;
+
+    /**
+     * {@code randomLow} the 64 least significant random bits of the last identifier generated
+     */
+    private static long randomLow;
+
+    /**
+     * Constructor to avoid the instantiation of the generator
+     */
+    private SortableIdentifierGenerator() {
+    }
+
+    /**
+     * Method to generate a new time-ordered identifier
+     *
+     * @return the identifier generated as {@link String}
+     * @apiNote the identifiers generated in the same millisecond, or while the system clock goes backwards, reuse the
+     * last creation time and increment the random bits, so they are still strictly increasing
+     */
+    public static synchronized String generate() {
+        long timestamp = System.currentTimeMillis();
+        if (timestamp > lastTimestamp) {
+            lastTimestamp = timestamp;
+            randomHigh = RANDOM.nextInt() & RANDOM_HIGH_MASK;
+            randomLow = RANDOM.nextLong();
+        } else if (++randomLow == 0) {
+            randomHigh = (randomHigh + 1) & RANDOM_HIGH_MASK;
+            if (randomHigh == 0)
+                lastTimestamp++;
+        }
+        return encode(lastTimestamp, randomHigh, randomLow);
+    }
+
+    /**
+     * Method to encode the components of an identifier
+     *
+     * @param timestamp  The creation time of the identifier
+     * @param randomHigh The 16 most significant random bits
+     * @param randomLow  The 64 least significant random bits
+     * @return the identifier encoded as {@link String}
+     * @apiNote this method is public to let build identifiers from deterministic bits, for example the identifiers of
+     * the synthetic datasets generated from a seed
+     */
+    public static String encode(long timestamp, int randomHigh, long randomLow) {
+        char[] identifier = new char[IDENTIFIER_LENGTH];
+        for (int i = TIMESTAMP_LENGTH - 1; i >= 0; i--) {
+            identifier[i] = ENCODING[(int) (timestamp & 31)];
+            timestamp >>>= 5;
+        }
+        for (int i = IDENTIFIER_LENGTH - 1; i >= TIMESTAMP_LENGTH; i--) {
+            identifier[i] = ENCODING[(int) (randomLow & 31)];
+            randomLow = (randomLow >>> 5) | ((long) randomHigh << 59);
+            randomHigh >>>= 5;
+        }
+        return new String(identifier);
+    }
+
+}
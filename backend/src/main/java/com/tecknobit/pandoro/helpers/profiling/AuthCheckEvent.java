@@ -0,0 +1,44 @@
+package com.tecknobit.pandoro.helpers.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@code AuthCheckEvent} class is the event emitted when the credentials of a request are checked
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see PandoroEvent
+ * @since 1.2.2
+ */
+@Name("com.tecknobit.pandoro.AuthCheck")
+@Label("Auth Check")
+@Description("The check of the credentials of a request")
+public class AuthCheckEvent extends PandoroEvent {
+
+    /**
+     * {@code authorized} whether the credentials were valid
+     */
+    @Label("Authorized")
+    @Description("Whether the credentials were valid")
+    private boolean authorized;
+
+    /**
+     * Constructor used to init the event
+     *
+     * @param userId The identifier of the user whose credentials are checked
+     */
+    public AuthCheckEvent(String userId) {
+        super(userId);
+    }
+
+    /**
+     * Method to set {@link #authorized} instance
+     *
+     * @param authorized Whether the credentials were valid
+     */
+    public void setAuthorized(boolean authorized) {
+        this.authorized = authorized;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.tecknobit.pandoro.helpers.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@code ChangelogsFanOutEvent} class is the event emitted when an event is pushed to all the changelogs streams
+ * opened by a user
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see PandoroEvent
+ * @since 1.2.2
+ */
+@Name("com.tecknobit.pandoro.ChangelogsFanOut")
+@Label("Changelogs Fan-Out")
+@Description("The push of an event to all the changelogs streams opened by a user")
+public class ChangelogsFanOutEvent extends PandoroEvent {
+
+    /**
+     * {@code streams} the number of the streams the event has been pushed to
+     */
+    @Label("Streams")
+    @Description("The number of the streams the event has been pushed to")
+    private final int streams;
+
+    /**
+     * Constructor used to init the event
+     *
+     * @param userId  The identifier of the user who owns the streams
+     * @param streams The number of the streams the event is pushed to
+     */
+    public ChangelogsFanOutEvent(String userId, int streams) {
+        super(userId);
+        this.streams = streams;
+    }
+
+}
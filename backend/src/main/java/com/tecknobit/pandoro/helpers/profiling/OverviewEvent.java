@@ -0,0 +1,44 @@
+package com.tecknobit.pandoro.helpers.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@code OverviewEvent} class is the event emitted when the overview of a user is computed
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see PandoroEvent
+ * @since 1.2.2
+ */
+@Name("com.tecknobit.pandoro.Overview")
+@Label("Overview")
+@Description("The computation of the overview of a user")
+public class OverviewEvent extends PandoroEvent {
+
+    /**
+     * {@code projects} the number of the projects analyzed
+     */
+    @Label("Projects")
+    @Description("The number of the projects analyzed")
+    private int projects;
+
+    /**
+     * Constructor used to init the event
+     *
+     * @param userId The identifier of the user who requested the overview
+     */
+    public OverviewEvent(String userId) {
+        super(userId);
+    }
+
+    /**
+     * Method to set {@link #projects} instance
+     *
+     * @param projects The number of the projects analyzed
+     */
+    public void setProjects(int projects) {
+        this.projects = projects;
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.tecknobit.pandoro.helpers.profiling;
+
+import jdk.jfr.*;
+
+/**
+ * The {@code PandoroEvent} class is the base of the <b>Java Flight Recorder</b> events emitted around the hot paths
+ * of the server. The events are disabled by default, so they cost nearly nothing until a recording enables them, e.g.
+ * with the {@code jfr/pandoro.jfc} configuration
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see Event
+ * @since 1.2.2
+ */
+@Category("Pandoro")
+@Enabled(false)
+@StackTrace(false)
+public abstract class PandoroEvent extends Event {
+
+    /**
+     * {@code userHash} the hash of the identifier of the user who performed the operation, so the operations of the
+     * same user can be correlated without recording his identifier
+     */
+    @Label("User Hash")
+    @Description("The hash of the identifier of the user who performed the operation")
+    private final int userHash;
+
+    /**
+     * Constructor used to init the event
+     *
+     * @param userId The identifier of the user who performed the operation, {@code null} if not related to a user
+     */
+    protected PandoroEvent(String userId) {
+        userHash = userId != null ? userId.hashCode() : 0;
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.tecknobit.pandoro.helpers.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@code ProjectsEvent} class is the event emitted when a page of the projects of a user is loaded
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see PandoroEvent
+ * @since 1.2.2
+ */
+@Name("com.tecknobit.pandoro.Projects")
+@Label("Projects")
+@Description("The loading of a page of the projects of a user")
+public class ProjectsEvent extends PandoroEvent {
+
+    /**
+     * {@code filters} the number of the filters applied
+     */
+    @Label("Filters")
+    @Description("The number of the filters applied")
+    private final int filters;
+
+    /**
+     * {@code projects} the number of the projects loaded in the page
+     */
+    @Label("Projects")
+    @Description("The number of the projects loaded in the page")
+    private int projects;
+
+    /**
+     * {@code totalProjects} the number of the projects matching the filters
+     */
+    @Label("Total Projects")
+    @Description("The number of the projects matching the filters")
+    private long totalProjects;
+
+    /**
+     * Constructor used to init the event
+     *
+     * @param userId  The identifier of the user who requested the projects
+     * @param filters The number of the filters applied
+     */
+    public ProjectsEvent(String userId, int filters) {
+        super(userId);
+        this.filters = filters;
+    }
+
+    /**
+     * Method to set the number of the projects loaded
+     *
+     * @param projects      The number of the projects loaded in the page
+     * @param totalProjects The number of the projects matching the filters
+     */
+    public void setProjects(int projects, long totalProjects) {
+        this.projects = projects;
+        this.totalProjects = totalProjects;
+    }
+
+}
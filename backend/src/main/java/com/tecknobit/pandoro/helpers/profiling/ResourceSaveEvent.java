@@ -0,0 +1,47 @@
+package com.tecknobit.pandoro.helpers.profiling;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@code ResourceSaveEvent} class is the event emitted when a resource uploaded, as an icon or a logo, is saved
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see PandoroEvent
+ * @since 1.2.2
+ */
+@Name("com.tecknobit.pandoro.ResourceSave")
+@Label("Resource Save")
+@Description("The save of a resource uploaded")
+public class ResourceSaveEvent extends PandoroEvent {
+
+    /**
+     * {@code resourcePath} the path where the resource has been saved
+     */
+    @Label("Resource Path")
+    @Description("The path where the resource has been saved")
+    private final String resourcePath;
+
+    /**
+     * {@code size} the size of the resource
+     */
+    @Label("Size")
+    @Description("The size of the resource")
+    @DataAmount
+    private final long size;
+
+    /**
+     * Constructor used to init the event
+     *
+     * @param resourcePath The path where the resource is saved
+     * @param size         The size of the resource
+     */
+    public ResourceSaveEvent(String resourcePath, long size) {
+        super(null);
+        this.resourcePath = resourcePath;
+        this.size = size;
+    }
+
+}
@@ -1,6 +1,8 @@
 package com.tecknobit.pandoro.services;
 
 import com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController;
+import com.tecknobit.pandoro.helpers.SortableIdentifierGenerator;
+import com.tecknobit.pandoro.helpers.profiling.AuthCheckEvent;
 import com.tecknobit.pandoro.services.users.entities.PandoroUser;
 import com.tecknobit.pandoro.services.users.repository.PandoroUsersRepository;
 import com.tecknobit.pandoro.services.users.service.PandoroUsersService;
@@ -11,4 +13,35 @@ import com.tecknobit.pandoro.services.users.service.PandoroUsersService;
  * @author N7ghtm4r3 - Tecknobit
  */
 public class DefaultPandoroController extends EquinoxController<PandoroUser, PandoroUsersRepository, PandoroUsersService> {
+
+    /**
+     * Method to generate the identifier of a new item
+     *
+     * @return the identifier generated as {@link String}
+     * @apiNote the identifiers are time-ordered, see {@link SortableIdentifierGenerator}
+     * @since 1.2.2
+     */
+    public static String generateIdentifier() {
+        return SortableIdentifierGenerator.generate();
+    }
+
+    /**
+     * Method to check whether the requester is the user who owns the identifier and the token of the request
+     *
+     * @param id    The identifier of the user
+     * @param token The token of the user
+     * @return whether the requester is the user as {@code boolean}
+     * @apiNote the check is recorded as {@link AuthCheckEvent} when the event is enabled
+     * @since 1.2.2
+     */
+    @Override
+    public boolean isMe(String id, String token) {
+        AuthCheckEvent event = new AuthCheckEvent(id);
+        event.begin();
+        boolean isMe = super.isMe(id, token);
+        event.setAuthorized(isMe);
+        event.commit();
+        return isMe;
+    }
+
 }
@@ -0,0 +1,75 @@
+package com.tecknobit.pandoro.services.bootstrap.controller;
+
+import com.tecknobit.equinoxcore.annotations.RequestPath;
+import com.tecknobit.pandoro.services.DefaultPandoroController;
+import com.tecknobit.pandoro.services.bootstrap.service.BootstrapService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
+import static com.tecknobit.equinoxcore.network.EquinoxBaseEndpointsSet.BASE_EQUINOX_ENDPOINT;
+import static com.tecknobit.equinoxcore.network.RequestMethod.GET;
+import static com.tecknobit.equinoxcore.pagination.PaginatedResponse.DEFAULT_PAGE_SIZE_HEADER_VALUE;
+import static com.tecknobit.equinoxcore.pagination.PaginatedResponse.PAGE_SIZE_KEY;
+import static com.tecknobit.pandorocore.helpers.PandoroEndpoints.BOOTSTRAP_ENDPOINT;
+
+/**
+ * The {@code BootstrapController} class is useful to provide in a single request the initial state of a client
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController
+ * @see DefaultPandoroController
+ * @since 1.2.2
+ */
+@RestController
+@RequestMapping(path = BASE_EQUINOX_ENDPOINT + USERS_KEY + "/{" + IDENTIFIER_KEY + "}/" + BOOTSTRAP_ENDPOINT)
+public class BootstrapController extends DefaultPandoroController {
+
+    /**
+     * {@code bootstrapService} instance to load the initial state of the clients
+     */
+    private final BootstrapService bootstrapService;
+
+    /**
+     * Constructor used to init the controller
+     *
+     * @param bootstrapService The instance to load the initial state of the clients
+     */
+    @Autowired
+    public BootstrapController(BootstrapService bootstrapService) {
+        this.bootstrapService = bootstrapService;
+    }
+
+    /**
+     * Method to get the initial state of a client: the projects, the projects in development, the groups, the notes,
+     * the number of the unread changelogs and the overview
+     *
+     * @param id       The identifier of the user
+     * @param token    The token of the user
+     * @param pageSize The size of the first page of each list
+     * @return the result of the request as {@link T}
+     */
+    @GetMapping(
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/users/{id}/bootstrap", method = GET)
+    public <T> T bootstrap(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestParam(name = PAGE_SIZE_KEY, defaultValue = DEFAULT_PAGE_SIZE_HEADER_VALUE, required = false) int pageSize
+    ) {
+        if (!isMe(id, token))
+            return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        try {
+            return (T) successResponse(bootstrapService.bootstrap(id, pageSize));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return (T) failedResponse(WRONG_PROCEDURE_MESSAGE);
+        } catch (Exception e) {
+            return (T) failedResponse(WRONG_PROCEDURE_MESSAGE);
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.tecknobit.pandoro.services.bootstrap.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tecknobit.pandoro.services.changelogs.service.ChangelogsService;
+import com.tecknobit.pandoro.services.groups.service.GroupsService;
+import com.tecknobit.pandoro.services.notes.service.NotesService;
+import com.tecknobit.pandoro.services.overview.service.OverviewService;
+import com.tecknobit.pandoro.services.projects.services.ProjectsService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static com.tecknobit.pandoro.configuration.ReadYourWritesTracker.withCurrentRouting;
+import static com.tecknobit.pandoro.configuration.StatementsReport.withCurrentReport;
+import static com.tecknobit.pandoro.services.notes.service.NotesService.ALL_FILTER_VALUE;
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+
+/**
+ * The {@code BootstrapService} class is useful to load in a single operation the initial state of a client. Each
+ * section of the state is loaded concurrently by a bounded pool of threads, each one with its own read-only
+ * transaction
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@Service
+public class BootstrapService {
+
+    /**
+     * {@code projectsService} instance to manage the projects database operations
+     */
+    private final ProjectsService projectsService;
+
+    /**
+     * {@code groupsService} instance to manage the groups database operations
+     */
+    private final GroupsService groupsService;
+
+    /**
+     * {@code notesService} instance to manage the notes database operations
+     */
+    private final NotesService notesService;
+
+    /**
+     * {@code changelogsService} instance to manage the changelogs database operations
+     */
+    private final ChangelogsService changelogsService;
+
+    /**
+     * {@code overviewService} instance to manage the overview database operations
+     */
+    private final OverviewService overviewService;
+
+    /**
+     * {@code transactionTemplate} the template used to load each section in its own read-only transaction
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * {@code mapper} the mapper used to format the sections loaded
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * {@code executor} the pool of threads used to load the sections concurrently
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Constructor used to init the service
+     *
+     * @param projectsService    The instance to manage the projects database operations
+     * @param groupsService      The instance to manage the groups database operations
+     * @param notesService       The instance to manage the notes database operations
+     * @param changelogsService  The instance to manage the changelogs database operations
+     * @param overviewService    The instance to manage the overview database operations
+     * @param transactionManager The manager of the transactions
+     * @param mapper             The mapper used to format the sections loaded
+     * @param parallelism        The number of threads used to load the sections concurrently
+     */
+    @Autowired
+    public BootstrapService(ProjectsService projectsService, GroupsService groupsService, NotesService notesService,
+                            ChangelogsService changelogsService, OverviewService overviewService,
+                            PlatformTransactionManager transactionManager, ObjectMapper mapper,
+                            @Value("${pandoro.bootstrap.parallelism:8}") int parallelism) {
+        this.projectsService = projectsService;
+        this.groupsService = groupsService;
+        this.notesService = notesService;
+        this.changelogsService = changelogsService;
+        this.overviewService = overviewService;
+        this.mapper = mapper;
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        executor = Executors.newFixedThreadPool(parallelism);
+    }
+
+    /**
+     * Method to load the initial state of a client: the first page of the projects, of the projects in development,
+     * of the groups and of the notes, the number of the unread changelogs and the overview
+     *
+     * @param userId   The user identifier
+     * @param pageSize The size of the first page of each list
+     * @return the initial state of the client as {@link Map} of {@link JsonNode}
+     * @apiNote each section is formatted inside its own transaction, so the lazy relationships of the entities are
+     * loaded before the transaction is closed
+     */
+    public Map<String, JsonNode> bootstrap(String userId, int pageSize) throws ExecutionException,
+            InterruptedException {
+        Map<String, Future<JsonNode>> sections = new LinkedHashMap<>();
+        sections.put(PROJECTS_KEY, load(() -> projectsService.getProjects(userId, 0, pageSize, Set.of())));
+        sections.put(IN_DEVELOPMENT_PROJECTS_KEY, load(() -> projectsService.getInDevelopmentProjects(userId, 0,
+                pageSize, Set.of())));
+        sections.put(GROUPS_KEY, load(() -> groupsService.getGroups(userId, 0, pageSize, false, "", List.of())));
+        sections.put(NOTES_KEY, load(() -> notesService.getNotes(userId, 0, pageSize, ALL_FILTER_VALUE)));
+        sections.put(UNREAD_CHANGELOGS_KEY, load(() -> changelogsService.getUnreadChangelogsCount(userId)));
+        sections.put(OVERVIEW_KEY, load(() -> overviewService.getOverview(userId)));
+        Map<String, JsonNode> state = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, Future<JsonNode>> section : sections.entrySet())
+                state.put(section.getKey(), section.getValue().get());
+        } finally {
+            sections.values().forEach(section -> section.cancel(true));
+        }
+        return state;
+    }
+
+    /**
+     * Method to load a section of the state of a client
+     *
+     * @param section The supplier of the section to load
+     * @return the section loading as {@link Future} of {@link JsonNode}
+     */
+    private Future<JsonNode> load(Supplier<Object> section) {
+        Callable<JsonNode> loading = () -> transactionTemplate.execute(status -> mapper.valueToTree(section.get()));
+        return executor.submit(withCurrentRouting(withCurrentReport(loading)));
+    }
+
+    /**
+     * Method to shut down the pool of threads when the server is stopped
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+}
@@ -5,8 +5,12 @@ import com.tecknobit.pandoro.services.DefaultPandoroController;
 import com.tecknobit.pandoro.services.changelogs.service.ChangelogsService;
 import com.tecknobit.pandorocore.enums.events.ChangelogEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
@@ -14,7 +18,8 @@ import static com.tecknobit.equinoxcore.network.EquinoxBaseEndpointsSet.BASE_EQU
 import static com.tecknobit.equinoxcore.network.RequestMethod.*;
 import static com.tecknobit.equinoxcore.pagination.PaginatedResponse.*;
 import static com.tecknobit.pandorocore.ConstantsKt.*;
-import static com.tecknobit.pandorocore.helpers.PandoroEndpoints.UNREAD_CHANGELOGS_ENDPOINT;
+import static com.tecknobit.pandorocore.helpers.PandoroEndpoints.*;
+import static java.lang.System.currentTimeMillis;
 
 /**
  * The {@code ChangelogsController} class is useful to manage all the changelog operations
@@ -66,6 +71,40 @@ public class ChangelogsController extends DefaultPandoroController {
             return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
     }
 
+    /**
+     * Method to open a stream where receive the new changelogs and the count of the unread changelogs as soon as they
+     * change, instead of polling them
+     *
+     * @param id          The identifier of the user
+     * @param token       The token of the user
+     * @param lastEventId The identifier of the last changelog event received, sent by the client when it reconnects
+     * @return the stream opened as {@link SseEmitter}
+     */
+    @GetMapping(
+            path = "/" + CHANGELOGS_STREAM_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            },
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    @RequestPath(path = "/api/v1/users/{id}/changelogs/stream", method = GET)
+    public SseEmitter streamChangelogs(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestHeader(name = LAST_EVENT_IDENTIFIER_KEY, required = false) Long lastEventId
+    ) {
+        if (isMe(id, token))
+            return changelogsService.streamChangelogs(id, lastEventId);
+        SseEmitter stream = new SseEmitter();
+        try {
+            stream.send(failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE), MediaType.APPLICATION_JSON);
+            stream.complete();
+        } catch (IOException e) {
+            stream.completeWithError(e);
+        }
+        return stream;
+    }
+
     /**
      * Method to get a changelogs list
      *
@@ -119,6 +158,88 @@ public class ChangelogsController extends DefaultPandoroController {
         return successResponse();
     }
 
+    /**
+     * Method to read a list of changelogs
+     *
+     * @param id The identifier of the user
+     * @param token The token of the user
+     * @param payload The payload with the identifiers of the changelogs to read
+     * @return the result of the request as {@link String}
+     */
+    @PatchMapping(
+            path = "/" + MARK_CHANGELOGS_AS_READ_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/users/{id}/changelogs/markAsRead", method = PATCH)
+    public String readChangelogs(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestBody Map<String, Object> payload
+    ) {
+        if (!isMe(id, token))
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        loadJsonHelper(payload);
+        List<String> changelogsIds = jsonHelper.fetchList(CHANGELOGS_KEY);
+        if (changelogsIds == null || changelogsIds.isEmpty())
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        changelogsService.markAsRead(changelogsIds, id);
+        return successResponse();
+    }
+
+    /**
+     * Method to read all the changelogs created up to a timestamp
+     *
+     * @param id The identifier of the user
+     * @param token The token of the user
+     * @param payload The payload with the timestamp up to which read the changelogs, if missing all the changelogs
+     *                are read
+     * @return the result of the request as {@link String}
+     */
+    @PatchMapping(
+            path = "/" + MARK_ALL_CHANGELOGS_AS_READ_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/users/{id}/changelogs/markAllAsRead", method = PATCH)
+    public String readAllChangelogs(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestBody(required = false) Map<String, Object> payload
+    ) {
+        if (!isMe(id, token))
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        loadJsonHelper(payload);
+        changelogsService.markAllAsRead(jsonHelper.getLong(TIMESTAMP_KEY, currentTimeMillis()), id);
+        return successResponse();
+    }
+
+    /**
+     * Method to delete all the read changelogs
+     *
+     * @param id The identifier of the user
+     * @param token The token of the user
+     * @return the result of the request as {@link String}
+     */
+    @DeleteMapping(
+            path = "/" + DELETE_READ_CHANGELOGS_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/users/{id}/changelogs/deleteRead", method = DELETE)
+    public String deleteReadChangelogs(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @RequestHeader(TOKEN_KEY) String token
+    ) {
+        if (!isMe(id, token))
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        changelogsService.deleteReadChangelogs(id);
+        return successResponse();
+    }
+
     /**
      * Method to delete a changelog
      *
@@ -0,0 +1,188 @@
+package com.tecknobit.pandoro.services.changelogs.entity;
+
+import com.tecknobit.equinoxbackend.annotations.EmptyConstructor;
+import com.tecknobit.equinoxbackend.environment.services.builtin.entity.EquinoxItem;
+import com.tecknobit.pandorocore.enums.events.ChangelogEvent;
+import jakarta.persistence.*;
+
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+
+/**
+ * The {@code ArchivedChangelog} class is useful to store a {@link Changelog} moved out from the changelogs table by
+ * the retention policies. The references to the project, the group and the owner are kept as plain identifiers, so
+ * the archived changelogs survive to the deletion of the items they referred to
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see EquinoxItem
+ * @since 1.2.2
+ */
+@Entity
+@Table(
+        name = ARCHIVED_CHANGELOGS_KEY,
+        indexes = {
+                @Index(
+                        name = "archived_changelogs_timeline_index",
+                        columnList = CHANGELOG_OWNER_KEY + "," + TIMESTAMP_KEY
+                )
+        }
+)
+public class ArchivedChangelog extends EquinoxItem {
+
+    /**
+     * {@code changelogEvent} the value of the changelog event
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = CHANGELOG_EVENT_KEY)
+    private final ChangelogEvent changelogEvent;
+
+    /**
+     * {@code timestamp} when the changelog event has been created
+     */
+    @Column(name = TIMESTAMP_KEY)
+    private final long timestamp;
+
+    /**
+     * {@code projectId} the identifier of the project of the changelog event
+     */
+    @Column(name = PROJECT_IDENTIFIER_KEY)
+    private final String projectId;
+
+    /**
+     * {@code groupId} the identifier of the group of the changelog event
+     */
+    @Column(name = GROUP_IDENTIFIER_KEY)
+    private final String groupId;
+
+    /**
+     * {@code extraContent} extra content data of the changelog event
+     */
+    @Column(name = EXTRA_CONTENT_KEY)
+    private final String extraContent;
+
+    /**
+     * {@code read} whether the changelog has been read
+     */
+    @Column(name = CHANGELOG_READ_KEY)
+    private final boolean read;
+
+    /**
+     * {@code owner} the identifier of the changelog owner
+     */
+    @Column(name = CHANGELOG_OWNER_KEY)
+    private final String owner;
+
+    /**
+     * {@code archivedAt} when the changelog has been archived
+     */
+    @Column(name = ARCHIVED_AT_KEY)
+    private final long archivedAt;
+
+    /**
+     * Default constructor
+     *
+     * @apiNote empty constructor required
+     */
+    @EmptyConstructor
+    public ArchivedChangelog() {
+        this(null, null, -1, null, null, null, false, null, -1);
+    }
+
+    /**
+     * Constructor to init a {@link ArchivedChangelog} object
+     *
+     * @param id The identifier of the changelog
+     * @param changelogEvent The value of the changelog event
+     * @param timestamp When the changelog event has been created
+     * @param projectId The identifier of the project of the changelog event
+     * @param groupId The identifier of the group of the changelog event
+     * @param extraContent Extra content data of the changelog event
+     * @param read Whether the changelog has been read
+     * @param owner The identifier of the changelog owner
+     * @param archivedAt When the changelog has been archived
+     */
+    public ArchivedChangelog(String id, ChangelogEvent changelogEvent, long timestamp, String projectId, String groupId,
+                             String extraContent, boolean read, String owner, long archivedAt) {
+        super(id);
+        this.changelogEvent = changelogEvent;
+        this.timestamp = timestamp;
+        this.projectId = projectId;
+        this.groupId = groupId;
+        this.extraContent = extraContent;
+        this.read = read;
+        this.owner = owner;
+        this.archivedAt = archivedAt;
+    }
+
+    /**
+     * Method to get {@link #changelogEvent} instance
+     *
+     * @return {@link #changelogEvent} instance as {@link ChangelogEvent}
+     */
+    public ChangelogEvent getChangelogEvent() {
+        return changelogEvent;
+    }
+
+    /**
+     * Method to get {@link #timestamp} instance
+     *
+     * @return {@link #timestamp} instance as long
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Method to get {@link #projectId} instance
+     *
+     * @return {@link #projectId} instance as {@link String}
+     */
+    public String getProjectId() {
+        return projectId;
+    }
+
+    /**
+     * Method to get {@link #groupId} instance
+     *
+     * @return {@link #groupId} instance as {@link String}
+     */
+    public String getGroupId() {
+        return groupId;
+    }
+
+    /**
+     * Method to get {@link #extraContent} instance
+     *
+     * @return {@link #extraContent} instance as {@link String}
+     */
+    public String getExtraContent() {
+        return extraContent;
+    }
+
+    /**
+     * Method to get {@link #read} instance
+     *
+     * @return {@link #read} instance as boolean
+     */
+    public boolean isRead() {
+        return read;
+    }
+
+    /**
+     * Method to get {@link #owner} instance
+     *
+     * @return {@link #owner} instance as {@link String}
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Method to get {@link #archivedAt} instance
+     *
+     * @return {@link #archivedAt} instance as long
+     */
+    public long getArchivedAt() {
+        return archivedAt;
+    }
+
+}
@@ -25,7 +25,23 @@ import static com.tecknobit.pandorocore.ConstantsKt.*;
  * @see Serializable
  */
 @Entity
-@Table(name = CHANGELOGS_KEY)
+@Table(
+        name = CHANGELOGS_KEY,
+        indexes = {
+                @Index(
+                        name = "changelogs_unread_index",
+                        columnList = CHANGELOG_OWNER_KEY + "," + CHANGELOG_READ_KEY + "," + TIMESTAMP_KEY
+                ),
+                @Index(
+                        name = "changelogs_timeline_index",
+                        columnList = CHANGELOG_OWNER_KEY + "," + TIMESTAMP_KEY
+                ),
+                @Index(
+                        name = "changelogs_retention_index",
+                        columnList = CHANGELOG_READ_KEY + "," + TIMESTAMP_KEY
+                )
+        }
+)
 public class Changelog extends EquinoxItem {
 
     /**
@@ -83,6 +99,17 @@ public class Changelog extends EquinoxItem {
     @Column(name = CHANGELOG_READ_KEY)
     private final boolean read;
 
+    /**
+     * {@code coalescedEvents} the number of events of the same type and target merged in this changelog
+     *
+     * @since 1.2.2
+     */
+    @Column(
+            name = COALESCED_EVENTS_KEY,
+            columnDefinition = "INT DEFAULT 1 NOT NULL"
+    )
+    private int coalescedEvents;
+
     /**
      * {@code owner} the changelog owner
      *
@@ -123,6 +150,7 @@ public class Changelog extends EquinoxItem {
         this.extraContent = extraContent;
         this.read = read;
         group = null;
+        coalescedEvents = 1;
     }
 
     /**
@@ -183,4 +211,15 @@ public class Changelog extends EquinoxItem {
         return read;
     }
 
+    /**
+     * Method to get {@link #coalescedEvents} instance
+     *
+     * @return {@link #coalescedEvents} instance as int
+     * @since 1.2.2
+     */
+    @JsonGetter(COALESCED_EVENTS_KEY)
+    public int getCoalescedEvents() {
+        return coalescedEvents;
+    }
+
 }
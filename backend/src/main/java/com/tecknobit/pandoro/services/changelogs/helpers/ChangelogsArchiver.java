@@ -0,0 +1,122 @@
+package com.tecknobit.pandoro.services.changelogs.helpers;
+
+import com.tecknobit.pandoro.services.changelogs.entity.ArchivedChangelog;
+import com.tecknobit.pandoro.services.changelogs.repository.ChangelogsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * The {@code ChangelogsArchiver} class is useful to apply the retention policies of the changelogs, moving the read
+ * changelogs expired or exceeding the cap of their owner in the {@link ArchivedChangelog} table. The changelogs are
+ * moved in small chunks, each one in its own transaction, so the changelogs table is never locked for long
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@Service
+public class ChangelogsArchiver {
+
+    /**
+     * {@code changelogsRepository} instance for the changelogs repository
+     */
+    private final ChangelogsRepository changelogsRepository;
+
+    /**
+     * {@code readRetentionDays} the days after which a read changelog is archived, {@code 0} to disable the policy
+     */
+    private final int readRetentionDays;
+
+    /**
+     * {@code maxReadPerUser} the maximum number of read changelogs kept for each user, {@code 0} to disable the policy
+     */
+    private final int maxReadPerUser;
+
+    /**
+     * {@code chunkSize} the maximum number of changelogs archived in a single transaction
+     */
+    private final int chunkSize;
+
+    /**
+     * Constructor used to init the service
+     *
+     * @param changelogsRepository The instance for the changelogs repository
+     * @param readRetentionDays    The days after which a read changelog is archived, {@code 0} to disable the policy
+     * @param maxReadPerUser       The maximum number of read changelogs kept for each user, {@code 0} to disable the policy
+     * @param chunkSize            The maximum number of changelogs archived in a single transaction
+     */
+    @Autowired
+    public ChangelogsArchiver(ChangelogsRepository changelogsRepository,
+                              @Value("${pandoro.changelogs.retention.read-days:30}") int readRetentionDays,
+                              @Value("${pandoro.changelogs.retention.max-read-per-user:500}") int maxReadPerUser,
+                              @Value("${pandoro.changelogs.retention.chunk-size:500}") int chunkSize) {
+        this.changelogsRepository = changelogsRepository;
+        this.readRetentionDays = readRetentionDays;
+        this.maxReadPerUser = maxReadPerUser;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Method to periodically apply the retention policies of the changelogs
+     */
+    @Scheduled(cron = "${pandoro.changelogs.retention.cron:0 30 3 * * *}")
+    public void applyRetentionPolicies() {
+        if (readRetentionDays > 0)
+            archiveExpiredChangelogs();
+        if (maxReadPerUser > 0)
+            archiveChangelogsOverCap();
+    }
+
+    /**
+     * Method to archive the read changelogs older than the retention days
+     */
+    private void archiveExpiredChangelogs() {
+        long expirationTimestamp = currentTimeMillis() - TimeUnit.DAYS.toMillis(readRetentionDays);
+        List<String> changelogsIds;
+        do {
+            changelogsIds = changelogsRepository.getExpiredChangelogs(expirationTimestamp, chunkSize);
+            archive(changelogsIds);
+        } while (changelogsIds.size() == chunkSize);
+    }
+
+    /**
+     * Method to archive, for each user, the oldest read changelogs which exceed the cap allowed
+     *
+     * @apiNote the users are walked in chunks of identifiers, so each query counts the read changelogs of a chunk of
+     * users only instead of grouping the whole table
+     */
+    private void archiveChangelogsOverCap() {
+        String lastUserId = "";
+        List<String> usersIds;
+        do {
+            usersIds = changelogsRepository.getUsersIdentifiersAfter(lastUserId, chunkSize);
+            if (usersIds.isEmpty())
+                return;
+            for (String owner : changelogsRepository.getOwnersOverReadChangelogsCap(usersIds, maxReadPerUser)) {
+                List<String> changelogsIds;
+                do {
+                    changelogsIds = changelogsRepository.getChangelogsOverReadCap(owner, maxReadPerUser, chunkSize);
+                    archive(changelogsIds);
+                } while (changelogsIds.size() == chunkSize);
+            }
+            lastUserId = usersIds.get(usersIds.size() - 1);
+        } while (usersIds.size() == chunkSize);
+    }
+
+    /**
+     * Method to archive a chunk of changelogs
+     *
+     * @param changelogsIds The identifiers of the changelogs to archive
+     */
+    private void archive(List<String> changelogsIds) {
+        if (!changelogsIds.isEmpty())
+            changelogsRepository.archiveChangelogs(changelogsIds, currentTimeMillis());
+    }
+
+}
@@ -0,0 +1,458 @@
+package com.tecknobit.pandoro.services.changelogs.helpers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tecknobit.pandoro.helpers.profiling.ChangelogsFanOutEvent;
+import com.tecknobit.pandoro.services.changelogs.entity.Changelog;
+import com.tecknobit.pandoro.services.changelogs.repository.ChangelogsRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static com.tecknobit.pandorocore.ConstantsKt.CHANGELOG_STREAM_EVENT;
+import static com.tecknobit.pandorocore.ConstantsKt.UNREAD_CHANGELOGS_STREAM_EVENT;
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * The {@code ChangelogsEmitter} class is useful to push to the connected users the new changelogs and the count of the
+ * changelogs yet to read, so the clients do not have to poll them. Each changelog event uses its timestamp as
+ * identifier, so a client which reconnects with the last identifier received receives the changelogs it missed.
+ * The events are queued on each stream and sent by a bounded pool of threads, so a slow client never blocks the
+ * threads which push the events: its stream is closed when its queue is full or when a send lasts too long
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see SseEmitter
+ * @since 1.2.2
+ */
+@Service
+public class ChangelogsEmitter {
+
+    /**
+     * {@code STREAM_TIMEOUT} the lifetime, in milliseconds, of a stream before the client has to reconnect
+     */
+    private static final long STREAM_TIMEOUT = 30 * 60 * 1000L;
+
+    /**
+     * {@code HEARTBEAT_COMMENT} the comment sent to keep alive the streams
+     */
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    /**
+     * {@code streams} the streams currently opened by each user
+     */
+    private final ConcurrentHashMap<String, Set<StreamChannel>> streams;
+
+    /**
+     * {@code changelogsRepository} instance for the changelogs repository
+     */
+    private final ChangelogsRepository changelogsRepository;
+
+    /**
+     * {@code mapper} the mapper used to format the changelogs pushed
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * {@code sender} the bounded pool of threads used to send the events queued on the streams
+     */
+    private final ThreadPoolExecutor sender;
+
+    /**
+     * {@code streamBacklog} the maximum number of events queued on a stream before it is closed
+     */
+    private final int streamBacklog;
+
+    /**
+     * {@code sendTimeout} the maximum time, in milliseconds, a send can last before its stream is closed
+     */
+    private final long sendTimeout;
+
+    /**
+     * Constructor used to init the service
+     *
+     * @param changelogsRepository The instance for the changelogs repository
+     * @param mapper               The mapper used to format the changelogs pushed
+     * @param senders              The number of threads used to send the events
+     * @param maxStreams           The maximum number of streams which can wait for a thread to send their events
+     * @param streamBacklog        The maximum number of events queued on a stream before it is closed
+     * @param sendTimeout          The maximum time, in milliseconds, a send can last before its stream is closed
+     */
+    @Autowired
+    public ChangelogsEmitter(ChangelogsRepository changelogsRepository, ObjectMapper mapper,
+                             @Value("${pandoro.changelogs.stream.senders:4}") int senders,
+                             @Value("${pandoro.changelogs.stream.max-waiting-streams:10000}") int maxStreams,
+                             @Value("${pandoro.changelogs.stream.backlog:64}") int streamBacklog,
+                             @Value("${pandoro.changelogs.stream.send-timeout:10000}") long sendTimeout) {
+        this.changelogsRepository = changelogsRepository;
+        this.mapper = mapper;
+        this.streamBacklog = streamBacklog;
+        this.sendTimeout = sendTimeout;
+        streams = new ConcurrentHashMap<>();
+        sender = new ThreadPoolExecutor(senders, senders, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxStreams));
+    }
+
+    /**
+     * Method to get the number of users with at least a stream opened
+     *
+     * @return the number of users connected as int
+     */
+    public int getConnectedUsers() {
+        return streams.size();
+    }
+
+    /**
+     * Method to get the number of streams currently opened, which is the number of pushes performed by a broadcast
+     * to all the connected users
+     *
+     * @return the number of streams opened as int
+     */
+    public int getOpenedStreams() {
+        int openedStreams = 0;
+        for (Set<StreamChannel> userStreams : streams.values())
+            openedStreams += userStreams.size();
+        return openedStreams;
+    }
+
+    /**
+     * Method to open a new stream for a user
+     *
+     * @param userId      The identifier of the user
+     * @param lastEventId The identifier of the last changelog event received by the client, {@code null} if it is
+     *                    the first connection
+     * @return the stream opened as {@link SseEmitter}
+     * @apiNote the changelogs created in the same millisecond of the last event received are sent again, so the
+     * clients have to discard the changelogs already received by their identifier
+     */
+    @Transactional
+    public SseEmitter subscribe(String userId, Long lastEventId) {
+        SseEmitter stream = new SseEmitter(STREAM_TIMEOUT);
+        StreamChannel channel = new StreamChannel(userId, stream);
+        Set<StreamChannel> userStreams = streams.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet());
+        userStreams.add(channel);
+        stream.onCompletion(() -> unsubscribe(userId, channel));
+        stream.onTimeout(() -> unsubscribe(userId, channel));
+        stream.onError(error -> unsubscribe(userId, channel));
+        if (lastEventId != null) {
+            for (Changelog changelog : changelogsRepository.getChangelogsFrom(userId, lastEventId))
+                channel.push(changelogEvent(formatChangelog(changelog), changelog.getTimestamp()));
+        }
+        channel.push(unreadChangelogsEvent(changelogsRepository.getUnreadChangelogsCount(userId)));
+        return stream;
+    }
+
+    /**
+     * Method to push a new changelog to the streams of its owner
+     *
+     * @param changelogId The identifier of the changelog created
+     * @param ownerId     The identifier of the owner of the changelog
+     */
+    @Transactional
+    public void changelogCreated(String changelogId, String ownerId) {
+        Set<StreamChannel> userStreams = streams.get(ownerId);
+        if (userStreams == null)
+            return;
+        afterCommit(() -> {
+            Changelog changelog = changelogsRepository.getChangelog(changelogId, ownerId);
+            if (changelog != null) {
+                String payload = formatChangelog(changelog);
+                broadcast(ownerId, userStreams, () -> changelogEvent(payload, changelog.getTimestamp()));
+            }
+            broadcastUnreadChangelogs(ownerId, userStreams);
+        });
+    }
+
+    /**
+     * Method to push again to the streams of its owner a changelog, when a new event has been merged in it
+     *
+     * @param changelogId The identifier of the changelog changed
+     * @param ownerId     The identifier of the owner of the changelog
+     */
+    @Transactional
+    public void changelogChanged(String changelogId, String ownerId) {
+        Set<StreamChannel> userStreams = streams.get(ownerId);
+        if (userStreams == null)
+            return;
+        afterCommit(() -> {
+            Changelog changelog = changelogsRepository.getChangelog(changelogId, ownerId);
+            if (changelog == null)
+                return;
+            String payload = formatChangelog(changelog);
+            broadcast(ownerId, userStreams, () -> changelogEvent(payload, changelog.getTimestamp()));
+        });
+    }
+
+    /**
+     * Method to push the current count of the changelogs yet to read to the streams of a user
+     *
+     * @param ownerId The identifier of the owner of the changelogs
+     */
+    public void unreadChangelogsChanged(String ownerId) {
+        Set<StreamChannel> userStreams = streams.get(ownerId);
+        if (userStreams == null)
+            return;
+        afterCommit(() -> broadcastUnreadChangelogs(ownerId, userStreams));
+    }
+
+    /**
+     * Method to push the current count of the changelogs yet to read to the given streams of a user
+     *
+     * @param ownerId     The identifier of the owner of the changelogs
+     * @param userStreams The streams of the user
+     */
+    private void broadcastUnreadChangelogs(String ownerId, Set<StreamChannel> userStreams) {
+        long unreadChangelogs = changelogsRepository.getUnreadChangelogsCount(ownerId);
+        broadcast(ownerId, userStreams, () -> unreadChangelogsEvent(unreadChangelogs));
+    }
+
+    /**
+     * Method to execute a push when the current transaction is committed, so the clients never receive changes which
+     * are then rolled back and the streams are not written while the transaction holds its locks
+     *
+     * @param push The push to execute
+     * @apiNote when there is no transaction in progress the push is executed immediately
+     */
+    private void afterCommit(Runnable push) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            push.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                push.run();
+            }
+        });
+    }
+
+    /**
+     * Method to periodically send the heartbeat to all the streams opened, so the intermediate proxies do not close the
+     * idle connections and the streams of the disconnected clients are released
+     *
+     * @apiNote the streams whose current send lasts more than the send timeout are closed before sending the heartbeat
+     */
+    @Scheduled(fixedDelayString = "${pandoro.changelogs.heartbeat-interval:15000}")
+    public void sendHeartbeat() {
+        long now = currentTimeMillis();
+        for (Map.Entry<String, Set<StreamChannel>> userStreams : streams.entrySet()) {
+            for (StreamChannel channel : userStreams.getValue())
+                if (channel.isSendTimedOut(now))
+                    channel.close(new TimeoutException("The send to the stream timed out"));
+            broadcast(userStreams.getKey(), userStreams.getValue(),
+                    () -> SseEmitter.event().comment(HEARTBEAT_COMMENT));
+        }
+    }
+
+    /**
+     * Method to queue an event on all the streams of a user
+     *
+     * @param userId      The identifier of the user
+     * @param userStreams The streams of the user
+     * @param event       The supplier of the event to send, an event is built for each stream because its builder
+     *                    cannot be sent more than once
+     */
+    private void broadcast(String userId, Set<StreamChannel> userStreams,
+                           Supplier<SseEmitter.SseEventBuilder> event) {
+        ChangelogsFanOutEvent fanOutEvent = new ChangelogsFanOutEvent(userId, userStreams.size());
+        fanOutEvent.begin();
+        for (StreamChannel channel : userStreams)
+            channel.push(event.get());
+        fanOutEvent.commit();
+    }
+
+    /**
+     * Method to format a changelog as JSON while its lazy relationships can be still loaded
+     *
+     * @param changelog The changelog to format
+     * @return the changelog formatted as {@link String}
+     */
+    private String formatChangelog(Changelog changelog) {
+        try {
+            return mapper.writeValueAsString(changelog);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Method to create the event which carries a changelog
+     *
+     * @param payload   The changelog formatted as JSON
+     * @param timestamp The timestamp of the changelog, used as identifier of the event
+     * @return the event as {@link SseEmitter.SseEventBuilder}
+     */
+    private SseEmitter.SseEventBuilder changelogEvent(String payload, long timestamp) {
+        return SseEmitter.event()
+                .id(String.valueOf(timestamp))
+                .name(CHANGELOG_STREAM_EVENT)
+                .data(payload, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Method to create the event which carries the count of the changelogs yet to read
+     *
+     * @param unreadChangelogs The count of the changelogs yet to read
+     * @return the event as {@link SseEmitter.SseEventBuilder}
+     */
+    private SseEmitter.SseEventBuilder unreadChangelogsEvent(long unreadChangelogs) {
+        return SseEmitter.event()
+                .name(UNREAD_CHANGELOGS_STREAM_EVENT)
+                .data(unreadChangelogs);
+    }
+
+    /**
+     * Method to remove a stream from the streams of a user
+     *
+     * @param userId  The identifier of the user
+     * @param channel The channel of the stream to remove
+     */
+    private void unsubscribe(String userId, StreamChannel channel) {
+        streams.computeIfPresent(userId, (key, userStreams) -> {
+            userStreams.remove(channel);
+            return userStreams.isEmpty() ? null : userStreams;
+        });
+    }
+
+    /**
+     * Method to shut down the pool of threads when the server is stopped
+     */
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * The {@code StreamChannel} class is useful to queue the events of a stream and to send them, in order, with the
+     * pool of threads of the emitter
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 1.2.2
+     */
+    private final class StreamChannel {
+
+        /**
+         * {@code userId} the identifier of the owner of the stream
+         */
+        private final String userId;
+
+        /**
+         * {@code stream} the stream where the events are sent
+         */
+        private final SseEmitter stream;
+
+        /**
+         * {@code pendingEvents} the events waiting to be sent
+         */
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pendingEvents;
+
+        /**
+         * {@code draining} whether a thread of the pool is sending the pending events
+         */
+        private final AtomicBoolean draining;
+
+        /**
+         * {@code sendingSince} the timestamp when the current send started, {@code 0} when no send is in progress
+         */
+        private volatile long sendingSince;
+
+        /**
+         * Constructor used to init the channel
+         *
+         * @param userId The identifier of the owner of the stream
+         * @param stream The stream where the events are sent
+         */
+        private StreamChannel(String userId, SseEmitter stream) {
+            this.userId = userId;
+            this.stream = stream;
+            pendingEvents = new ArrayBlockingQueue<>(streamBacklog);
+            draining = new AtomicBoolean(false);
+        }
+
+        /**
+         * Method to queue an event to send, if the queue is full the client is not reading the stream and the
+         * stream is closed
+         *
+         * @param event The event to send
+         */
+        private void push(SseEmitter.SseEventBuilder event) {
+            if (!pendingEvents.offer(event)) {
+                close(new IllegalStateException("The backlog of the stream is full"));
+                return;
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * Method to submit the sending of the pending events to the pool of threads, if no thread is already
+         * sending them
+         */
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true))
+                return;
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                close(e);
+            }
+        }
+
+        /**
+         * Method to send the pending events, if the stream is not reachable anymore it is closed
+         */
+        private void drain() {
+            SseEmitter.SseEventBuilder event;
+            while ((event = pendingEvents.poll()) != null) {
+                sendingSince = currentTimeMillis();
+                try {
+                    stream.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    close(e);
+                    return;
+                } finally {
+                    sendingSince = 0;
+                }
+            }
+            draining.set(false);
+            if (!pendingEvents.isEmpty())
+                scheduleDrain();
+        }
+
+        /**
+         * Method to check whether the current send lasts more than the send timeout
+         *
+         * @param now The current timestamp
+         * @return whether the current send timed out as {@code boolean}
+         */
+        private boolean isSendTimedOut(long now) {
+            long startedAt = sendingSince;
+            return startedAt != 0 && now - startedAt > sendTimeout;
+        }
+
+        /**
+         * Method to close the stream and discard its pending events
+         *
+         * @param cause The cause of the closing
+         */
+        private void close(Exception cause) {
+            unsubscribe(userId, this);
+            pendingEvents.clear();
+            stream.completeWithError(cause);
+        }
+
+    }
+
+}
@@ -4,12 +4,18 @@ import com.tecknobit.apimanager.annotations.Wrapper;
 import com.tecknobit.pandoro.services.changelogs.repository.ChangelogsRepository;
 import com.tecknobit.pandoro.services.groups.entity.Group;
 import com.tecknobit.pandoro.services.projects.entities.Project;
+import com.tecknobit.pandoro.services.users.helpers.UsersCountersBuffer;
 import com.tecknobit.pandorocore.enums.Role;
 import com.tecknobit.pandorocore.enums.events.ChangelogEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import static com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController.generateIdentifier;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.tecknobit.pandoro.services.DefaultPandoroController.generateIdentifier;
 import static com.tecknobit.pandorocore.enums.events.ChangelogEvent.*;
 import static java.lang.System.currentTimeMillis;
 
@@ -23,19 +29,76 @@ import static java.lang.System.currentTimeMillis;
 @Service
 public class ChangelogsNotifier {
 
+    /**
+     * {@code COALESCIBLE_EVENTS} the events which can be merged in a single changelog when repeated within the
+     * coalescing window, the invitations and the deletions of a group are always stored one by one
+     *
+     * @since 1.2.2
+     */
+    private static final Set<ChangelogEvent> COALESCIBLE_EVENTS = EnumSet.of(JOINED_GROUP, ROLE_CHANGED, LEFT_GROUP,
+            PROJECT_ADDED, PROJECT_REMOVED, UPDATE_SCHEDULED, UPDATE_STARTED, UPDATE_PUBLISHED, UPDATE_DELETED);
+
     /**
      * {@code changelogsRepository} repository to handle the database operations
      */
     private final ChangelogsRepository changelogRepository;
 
+    /**
+     * {@code changelogsEmitter} instance to push the changelogs to the connected users
+     *
+     * @since 1.2.2
+     */
+    private final ChangelogsEmitter changelogsEmitter;
+
+    /**
+     * {@code usersCountersBuffer} instance used to update the counters of the changelogs yet to read
+     *
+     * @since 1.2.2
+     */
+    private final UsersCountersBuffer usersCountersBuffer;
+
+    /**
+     * {@code coalescingWindow} the window, in milliseconds, in which the events of the same type and target are merged
+     * in a single changelog, {@code 0} to disable the coalescing
+     *
+     * @since 1.2.2
+     */
+    private final long coalescingWindow;
+
+    /**
+     * {@code savedChangelogs} the number of changelogs not stored because merged in an existing one
+     *
+     * @since 1.2.2
+     */
+    private final AtomicLong savedChangelogs;
+
     /**
      * Constructor used to init the service
      *
      * @param changelogRepository The repository to handle the database operations
+     * @param changelogsEmitter The instance to push the changelogs to the connected users
+     * @param usersCountersBuffer The instance used to update the counters of the changelogs yet to read
+     * @param coalescingWindow The window, in milliseconds, in which the events of the same type and target are merged
      */
     @Autowired
-    public ChangelogsNotifier(ChangelogsRepository changelogRepository) {
+    public ChangelogsNotifier(ChangelogsRepository changelogRepository, ChangelogsEmitter changelogsEmitter,
+                              UsersCountersBuffer usersCountersBuffer,
+                              @Value("${pandoro.changelogs.coalescing-window:10000}") long coalescingWindow) {
         this.changelogRepository = changelogRepository;
+        this.changelogsEmitter = changelogsEmitter;
+        this.usersCountersBuffer = usersCountersBuffer;
+        this.coalescingWindow = coalescingWindow;
+        savedChangelogs = new AtomicLong();
+    }
+
+    /**
+     * Method to get the number of changelogs not stored because merged in an existing one
+     *
+     * @return the number of changelogs saved by the coalescing as long
+     * @since 1.2.2
+     */
+    public long getSavedChangelogs() {
+        return savedChangelogs.get();
     }
 
     /**
@@ -104,8 +167,19 @@ public class ChangelogsNotifier {
      * @param memberId: the member id, the changelog owner
      */
     private void createGroupChangelog(ChangelogEvent event, String extraContent, String groupId, String memberId) {
-        changelogRepository.addGroupChangelog(generateIdentifier(), event, extraContent, currentTimeMillis(), groupId,
-                memberId);
+        long timestamp = currentTimeMillis();
+        if (isCoalescible(event) && groupId != null) {
+            String changelogId = changelogRepository.coalesceGroupChangelog(event, extraContent, timestamp, groupId,
+                    memberId, timestamp - coalescingWindow);
+            if (changelogId != null) {
+                changelogCoalesced(changelogId, memberId);
+                return;
+            }
+        }
+        String changelogId = generateIdentifier();
+        usersCountersBuffer.storeUnreadChangelog(memberId, () -> changelogRepository.insertGroupChangelog(changelogId,
+                event, extraContent, timestamp, groupId, memberId));
+        changelogsEmitter.changelogCreated(changelogId, memberId);
     }
 
     /**
@@ -187,8 +261,42 @@ public class ChangelogsNotifier {
      * @param userId: the user id, the changelog owner
      */
     private void createProjectChangelog(ChangelogEvent event, String targetVersion, String projectId, String userId) {
-        changelogRepository.addProjectChangelog(generateIdentifier(), event, targetVersion, currentTimeMillis(),
-                projectId, userId);
+        long timestamp = currentTimeMillis();
+        if (isCoalescible(event)) {
+            String changelogId = changelogRepository.coalesceProjectChangelog(event, targetVersion, timestamp,
+                    projectId, userId, timestamp - coalescingWindow);
+            if (changelogId != null) {
+                changelogCoalesced(changelogId, userId);
+                return;
+            }
+        }
+        String changelogId = generateIdentifier();
+        usersCountersBuffer.storeUnreadChangelog(userId, () -> changelogRepository.insertProjectChangelog(changelogId,
+                event, targetVersion, timestamp, projectId, userId));
+        changelogsEmitter.changelogCreated(changelogId, userId);
+    }
+
+    /**
+     * Method to check whether an event can be merged in an existing changelog
+     *
+     * @param event The event of the changelog
+     * @return whether the event can be merged as boolean
+     * @since 1.2.2
+     */
+    private boolean isCoalescible(ChangelogEvent event) {
+        return coalescingWindow > 0 && COALESCIBLE_EVENTS.contains(event);
+    }
+
+    /**
+     * Method to account a changelog merged in an existing one and to push the changelog updated to its owner
+     *
+     * @param changelogId The identifier of the changelog which absorbed the event
+     * @param ownerId The identifier of the owner of the changelog
+     * @since 1.2.2
+     */
+    private void changelogCoalesced(String changelogId, String ownerId) {
+        savedChangelogs.incrementAndGet();
+        changelogsEmitter.changelogChanged(changelogId, ownerId);
     }
 
 }
@@ -13,6 +13,8 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.USERS_KEY;
+import static com.tecknobit.equinoxcore.pagination.PaginatedResponse.PAGE_SIZE_KEY;
 import static com.tecknobit.pandorocore.ConstantsKt.*;
 
 /**
@@ -26,21 +28,89 @@ import static com.tecknobit.pandorocore.ConstantsKt.*;
 public interface ChangelogsRepository extends JpaRepository<Changelog, String> {
 
     /**
-     * Method to execute the query to count the {@link Changelog} yet to read
+     * {@code UNREAD_CHANGELOGS_COUNT} the subquery which counts the {@link Changelog} yet to read of each user
+     *
+     * @since 1.2.2
+     */
+    String UNREAD_CHANGELOGS_COUNT = "(SELECT COUNT(*) FROM " + CHANGELOGS_KEY + " WHERE " + CHANGELOGS_KEY + "."
+            + CHANGELOG_OWNER_KEY + "=" + USERS_KEY + "." + IDENTIFIER_KEY + " AND " + CHANGELOGS_KEY + "."
+            + CHANGELOG_READ_KEY + "=" + false + ")";
+
+    /**
+     * Method to execute the query to get the count of the {@link Changelog} yet to read, the count is read from the
+     * counter maintained on the owner
      *
      * @param owner The owner of the changelogs
      * @return the count of changelogs yet to read
      */
     @Query(
-            value = "SELECT COUNT(*) FROM " + CHANGELOGS_KEY +
-                    " WHERE " + CHANGELOG_OWNER_KEY + "=:" + CHANGELOG_OWNER_KEY +
-                    " AND " + CHANGELOG_READ_KEY + "=" + false,
+            value = "SELECT " + UNREAD_CHANGELOGS_KEY + " FROM " + USERS_KEY +
+                    " WHERE " + IDENTIFIER_KEY + "=:" + CHANGELOG_OWNER_KEY,
             nativeQuery = true
     )
     long getUnreadChangelogsCount(
             @Param(CHANGELOG_OWNER_KEY) String owner
     );
 
+    /**
+     * Method to execute the query to decrease the counter of the {@link Changelog} yet to read of a user
+     *
+     * @param owner The owner of the changelogs
+     * @param changelogs The number of changelogs read or deleted
+     * @since 1.2.2
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = "UPDATE " + USERS_KEY + " SET " + UNREAD_CHANGELOGS_KEY + "=GREATEST(" + UNREAD_CHANGELOGS_KEY
+                    + "-:" + CHANGELOGS_KEY + ",0) WHERE " + IDENTIFIER_KEY + "=:" + CHANGELOG_OWNER_KEY,
+            nativeQuery = true
+    )
+    void decreaseUnreadChangelogs(
+            @Param(CHANGELOG_OWNER_KEY) String owner,
+            @Param(CHANGELOGS_KEY) int changelogs
+    );
+
+    /**
+     * Method to execute the query to get a chunk of the users identifiers, sorted by identifier, used to walk the
+     * users table without keeping it locked
+     *
+     * @param lastUserId The identifier of the last user of the previous chunk, an empty string for the first chunk
+     * @param chunkSize The maximum number of identifiers to get
+     * @return the identifiers of the users as {@link List} of {@link String}
+     * @since 1.2.2
+     */
+    @Query(
+            value = "SELECT " + IDENTIFIER_KEY + " FROM " + USERS_KEY + " WHERE " + IDENTIFIER_KEY + ">:"
+                    + IDENTIFIER_KEY + " ORDER BY " + IDENTIFIER_KEY + " LIMIT :" + PAGE_SIZE_KEY,
+            nativeQuery = true
+    )
+    List<String> getUsersIdentifiersAfter(
+            @Param(IDENTIFIER_KEY) String lastUserId,
+            @Param(PAGE_SIZE_KEY) int chunkSize
+    );
+
+    /**
+     * Method to execute the query to realign the counters of the {@link Changelog} yet to read of a chunk of users with
+     * the changelogs effectively stored, for example after the changelogs deleted in cascade with their project or
+     * their group
+     *
+     * @param usersIds The identifiers of the users whose counters have to be realigned
+     * @return the number of the counters realigned
+     * @since 1.2.2
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + USERS_KEY + " SET " + UNREAD_CHANGELOGS_KEY + "=" + UNREAD_CHANGELOGS_COUNT
+                    + " WHERE " + IDENTIFIER_KEY + " IN (:" + USERS_KEY + ")"
+                    + " AND " + UNREAD_CHANGELOGS_KEY + "<>" + UNREAD_CHANGELOGS_COUNT,
+            nativeQuery = true
+    )
+    int reconcileUnreadChangelogs(
+            @Param(USERS_KEY) List<String> usersIds
+    );
+
     /**
      * Method to execute the query to get the total number of the changelogs owned by the user
      *
@@ -75,6 +145,26 @@ public interface ChangelogsRepository extends JpaRepository<Changelog, String> {
             Pageable pageable
     );
 
+    /**
+     * Method to execute the query to select the {@link Changelog} created starting from a timestamp, sorted from the
+     * oldest one
+     *
+     * @param owner The owner of the changelogs
+     * @param timestamp The timestamp from which select the changelogs
+     * @return the list of changelogs as {@link List} of {@link Changelog}
+     * @since 1.2.2
+     */
+    @Query(
+            value = "SELECT * FROM " + CHANGELOGS_KEY + " WHERE " + CHANGELOG_OWNER_KEY + "=:" + CHANGELOG_OWNER_KEY
+                    + " AND " + TIMESTAMP_KEY + ">=:" + TIMESTAMP_KEY
+                    + " ORDER BY " + TIMESTAMP_KEY + " ASC ",
+            nativeQuery = true
+    )
+    List<Changelog> getChangelogsFrom(
+            @Param(CHANGELOG_OWNER_KEY) String owner,
+            @Param(TIMESTAMP_KEY) long timestamp
+    );
+
     /**
      * Method to execute the query to select the a {@link Changelog}
      *
@@ -92,8 +182,165 @@ public interface ChangelogsRepository extends JpaRepository<Changelog, String> {
             @Param(CHANGELOG_OWNER_KEY) String owner
     );
 
+    /**
+     * {@code COALESCING_WINDOW_KEY} the timestamp from which a changelog can absorb a new event key
+     *
+     * @since 1.2.2
+     */
+    String COALESCING_WINDOW_KEY = "coalescing_window";
+
+    /**
+     * {@code COALESCIBLE_CHANGELOG} the query which selects, locking it, the most recent changelog yet to read of the
+     * same type created within the coalescing window
+     *
+     * @since 1.2.2
+     */
+    String COALESCIBLE_CHANGELOG = "SELECT " + IDENTIFIER_KEY + " FROM " + CHANGELOGS_KEY
+            + " WHERE " + CHANGELOG_OWNER_KEY + "=:" + CHANGELOG_OWNER_KEY
+            + " AND " + CHANGELOG_EVENT_KEY + "=:#{#" + CHANGELOG_EVENT_KEY + ".name()}"
+            + " AND " + CHANGELOG_READ_KEY + "=" + false
+            + " AND " + TIMESTAMP_KEY + ">=:" + COALESCING_WINDOW_KEY;
+
+    /**
+     * {@code COALESCIBLE_CHANGELOG_LOCK} the ordering and the lock of the changelog which can absorb a new event
+     *
+     * @since 1.2.2
+     */
+    String COALESCIBLE_CHANGELOG_LOCK = " ORDER BY " + TIMESTAMP_KEY + " DESC LIMIT 1 FOR UPDATE";
+
+    /**
+     * Method to merge a new event related to a project in the existing {@link Changelog} of the same project, target
+     * version and type, so the events related to different projects are never merged together
+     *
+     * @param changelogEvent The event of the changelog
+     * @param extraContent The extra content of the changelog
+     * @param changelogTimestamp When the event has been created
+     * @param projectId The identifier of the project of the event
+     * @param owner The owner of the changelog
+     * @param windowStart The timestamp from which a changelog can absorb the event
+     * @return the identifier of the changelog which absorbed the event as {@link String}, {@code null} if no changelog
+     * can absorb it
+     * @since 1.2.2
+     */
+    @Transactional
+    default String coalesceProjectChangelog(ChangelogEvent changelogEvent, String extraContent,
+                                            long changelogTimestamp, String projectId, String owner,
+                                            long windowStart) {
+        String changelogId = getCoalescibleProjectChangelog(changelogEvent, extraContent, projectId, owner,
+                windowStart);
+        if (changelogId != null)
+            absorbEvent(changelogId, extraContent, changelogTimestamp);
+        return changelogId;
+    }
+
+    /**
+     * Method to execute the query to select the {@link Changelog} which can absorb a new event related to a project
+     *
+     * @param changelogEvent The event of the changelog
+     * @param extraContent The extra content of the changelog
+     * @param projectId The identifier of the project of the event
+     * @param owner The owner of the changelog
+     * @param windowStart The timestamp from which a changelog can absorb the event
+     * @return the identifier of the changelog as {@link String}, {@code null} if no changelog can absorb the event
+     * @since 1.2.2
+     */
+    @Query(
+            value = COALESCIBLE_CHANGELOG
+                    + " AND " + PROJECT_IDENTIFIER_KEY + "=:" + PROJECT_IDENTIFIER_KEY
+                    + " AND " + EXTRA_CONTENT_KEY + "<=>:" + EXTRA_CONTENT_KEY
+                    + COALESCIBLE_CHANGELOG_LOCK,
+            nativeQuery = true
+    )
+    String getCoalescibleProjectChangelog(
+            @Param(CHANGELOG_EVENT_KEY) ChangelogEvent changelogEvent,
+            @Param(EXTRA_CONTENT_KEY) String extraContent,
+            @Param(PROJECT_IDENTIFIER_KEY) String projectId,
+            @Param(CHANGELOG_OWNER_KEY) String owner,
+            @Param(COALESCING_WINDOW_KEY) long windowStart
+    );
+
+    /**
+     * Method to merge a new event related to a group in the existing {@link Changelog} of the same group and type,
+     * the merged changelog keeps the extra content of the last event merged
+     *
+     * @param changelogEvent The event of the changelog
+     * @param extraContent The extra content of the changelog
+     * @param changelogTimestamp When the event has been created
+     * @param groupId The identifier of the group of the event
+     * @param owner The owner of the changelog
+     * @param windowStart The timestamp from which a changelog can absorb the event
+     * @return the identifier of the changelog which absorbed the event as {@link String}, {@code null} if no changelog
+     * can absorb it
+     * @since 1.2.2
+     */
+    @Transactional
+    default String coalesceGroupChangelog(ChangelogEvent changelogEvent, String extraContent, long changelogTimestamp,
+                                          String groupId, String owner, long windowStart) {
+        String changelogId = getCoalescibleGroupChangelog(changelogEvent, groupId, owner, windowStart);
+        if (changelogId != null)
+            absorbEvent(changelogId, extraContent, changelogTimestamp);
+        return changelogId;
+    }
+
+    /**
+     * Method to execute the query to select the {@link Changelog} which can absorb a new event related to a group
+     *
+     * @param changelogEvent The event of the changelog
+     * @param groupId The identifier of the group of the event
+     * @param owner The owner of the changelog
+     * @param windowStart The timestamp from which a changelog can absorb the event
+     * @return the identifier of the changelog as {@link String}, {@code null} if no changelog can absorb the event
+     * @since 1.2.2
+     */
+    @Query(
+            value = COALESCIBLE_CHANGELOG
+                    + " AND " + GROUP_IDENTIFIER_KEY + "=:" + GROUP_IDENTIFIER_KEY
+                    + COALESCIBLE_CHANGELOG_LOCK,
+            nativeQuery = true
+    )
+    String getCoalescibleGroupChangelog(
+            @Param(CHANGELOG_EVENT_KEY) ChangelogEvent changelogEvent,
+            @Param(GROUP_IDENTIFIER_KEY) String groupId,
+            @Param(CHANGELOG_OWNER_KEY) String owner,
+            @Param(COALESCING_WINDOW_KEY) long windowStart
+    );
+
+    /**
+     * Method to execute the query to merge a new event in an existing {@link Changelog}
+     *
+     * @param changelogId The identifier of the changelog which absorbs the event
+     * @param extraContent The extra content of the event
+     * @param changelogTimestamp When the event has been created
+     * @since 1.2.2
+     */
     @Modifying(clearAutomatically = true)
     @Transactional
+    @Query(
+            value = "UPDATE " + CHANGELOGS_KEY + " SET "
+                    + EXTRA_CONTENT_KEY + "=:" + EXTRA_CONTENT_KEY + ","
+                    + TIMESTAMP_KEY + "=:" + TIMESTAMP_KEY + ","
+                    + COALESCED_EVENTS_KEY + "=" + COALESCED_EVENTS_KEY + "+1"
+                    + " WHERE " + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+            nativeQuery = true
+    )
+    void absorbEvent(
+            @Param(IDENTIFIER_KEY) String changelogId,
+            @Param(EXTRA_CONTENT_KEY) String extraContent,
+            @Param(TIMESTAMP_KEY) long changelogTimestamp
+    );
+
+    /**
+     * Method to execute the query to insert a new {@link Changelog} related to a project
+     *
+     * @param changelogId The identifier of the changelog
+     * @param changelogEvent The event of the changelog
+     * @param extraContent The extra content of the changelog
+     * @param changelogTimestamp When the changelog has been created
+     * @param projectId The identifier of the project of the changelog
+     * @param owner The owner of the changelog
+     */
+    @Modifying
+    @Transactional
     @Query(
 
             value = "INSERT INTO " + CHANGELOGS_KEY
@@ -115,7 +362,7 @@ public interface ChangelogsRepository extends JpaRepository<Changelog, String> {
                     + ":" + CHANGELOG_OWNER_KEY + ")",
             nativeQuery = true
     )
-    void addProjectChangelog(
+    void insertProjectChangelog(
             @Param(IDENTIFIER_KEY) String changelogId,
             @Param(CHANGELOG_EVENT_KEY) ChangelogEvent changelogEvent,
             @Param(EXTRA_CONTENT_KEY) String extraContent,
@@ -124,7 +371,17 @@ public interface ChangelogsRepository extends JpaRepository<Changelog, String> {
             @Param(CHANGELOG_OWNER_KEY) String owner
     );
 
-    @Modifying(clearAutomatically = true)
+    /**
+     * Method to execute the query to insert a new {@link Changelog} related to a group
+     *
+     * @param changelogId The identifier of the changelog
+     * @param changelogEvent The event of the changelog
+     * @param extraContent The extra content of the changelog
+     * @param changelogTimestamp When the changelog has been created
+     * @param groupId The identifier of the group of the changelog
+     * @param owner The owner of the changelog
+     */
+    @Modifying
     @Transactional
     @Query(
 
@@ -147,7 +404,7 @@ public interface ChangelogsRepository extends JpaRepository<Changelog, String> {
                     + ":" + CHANGELOG_OWNER_KEY + ")",
             nativeQuery = true
     )
-    void addGroupChangelog(
+    void insertGroupChangelog(
             @Param(IDENTIFIER_KEY) String changelogId,
             @Param(CHANGELOG_EVENT_KEY) ChangelogEvent changelogEvent,
             @Param(EXTRA_CONTENT_KEY) String extraContent,
@@ -157,41 +414,318 @@ public interface ChangelogsRepository extends JpaRepository<Changelog, String> {
     );
 
     /**
-     * Method to execute the query to mark as read a {@link Changelog}
+     * Method to mark as read a {@link Changelog} and to decrease the counter of the changelogs yet to read of its
+     * owner if the changelog was not already read
      *
      * @param owner The owner of the changelog
      * @param changelogId The changelog identifier
      */
+    @Transactional
+    default void markAsRead(String owner, String changelogId) {
+        if (markChangelogAsRead(owner, changelogId) > 0)
+            decreaseUnreadChangelogs(owner, 1);
+    }
+
+    /**
+     * Method to execute the query to mark as read a {@link Changelog} not read yet
+     *
+     * @param owner The owner of the changelog
+     * @param changelogId The changelog identifier
+     * @return the number of changelogs marked as read
+     */
     @Modifying(clearAutomatically = true)
     @Transactional
     @Query(
             value = "UPDATE " + CHANGELOGS_KEY + " SET " + CHANGELOG_READ_KEY + "=true WHERE "
                     + CHANGELOG_OWNER_KEY + "=:" + CHANGELOG_OWNER_KEY + " AND "
-                    + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+                    + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY + " AND "
+                    + CHANGELOG_READ_KEY + "=" + false,
             nativeQuery = true
     )
-    void markAsRead(
+    int markChangelogAsRead(
             @Param(CHANGELOG_OWNER_KEY) String owner,
             @Param(IDENTIFIER_KEY) String changelogId
     );
 
+    /**
+     * Method to mark as read a list of {@link Changelog} and to decrease the counter of the changelogs yet to read of
+     * their owner by the number of changelogs effectively marked
+     *
+     * @param owner The owner of the changelogs
+     * @param changelogsIds The identifiers of the changelogs to mark as read
+     * @since 1.2.2
+     */
+    @Transactional
+    default void markAsRead(String owner, List<String> changelogsIds) {
+        int markedChangelogs = markChangelogsAsRead(owner, changelogsIds);
+        if (markedChangelogs > 0)
+            decreaseUnreadChangelogs(owner, markedChangelogs);
+    }
+
+    /**
+     * Method to execute the query to mark as read a list of {@link Changelog} not read yet
+     *
+     * @param owner The owner of the changelogs
+     * @param changelogsIds The identifiers of the changelogs to mark as read
+     * @return the number of changelogs marked as read
+     * @since 1.2.2
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + CHANGELOGS_KEY + " SET " + CHANGELOG_READ_KEY + "=true WHERE "
+                    + CHANGELOG_OWNER_KEY + "=:" + CHANGELOG_OWNER_KEY + " AND "
+                    + IDENTIFIER_KEY + " IN (:" + CHANGELOGS_KEY + ") AND "
+                    + CHANGELOG_READ_KEY + "=" + false,
+            nativeQuery = true
+    )
+    int markChangelogsAsRead(
+            @Param(CHANGELOG_OWNER_KEY) String owner,
+            @Param(CHANGELOGS_KEY) List<String> changelogsIds
+    );
+
+    /**
+     * Method to mark as read all the {@link Changelog} created up to a timestamp and to decrease the counter of the
+     * changelogs yet to read of their owner by the number of changelogs effectively marked
+     *
+     * @param owner The owner of the changelogs
+     * @param timestamp The timestamp up to which mark the changelogs as read
+     * @since 1.2.2
+     */
+    @Transactional
+    default void markAllAsRead(String owner, long timestamp) {
+        int markedChangelogs = markChangelogsAsReadUntil(owner, timestamp);
+        if (markedChangelogs > 0)
+            decreaseUnreadChangelogs(owner, markedChangelogs);
+    }
+
+    /**
+     * Method to execute the query to mark as read all the {@link Changelog} not read yet created up to a timestamp
+     *
+     * @param owner The owner of the changelogs
+     * @param timestamp The timestamp up to which mark the changelogs as read
+     * @return the number of changelogs marked as read
+     * @since 1.2.2
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + CHANGELOGS_KEY + " SET " + CHANGELOG_READ_KEY + "=true WHERE "
+                    + CHANGELOG_OWNER_KEY + "=:" + CHANGELOG_OWNER_KEY + " AND "
+                    + CHANGELOG_READ_KEY + "=" + false + " AND "
+                    + TIMESTAMP_KEY + "<=:" + TIMESTAMP_KEY,
+            nativeQuery = true
+    )
+    int markChangelogsAsReadUntil(
+            @Param(CHANGELOG_OWNER_KEY) String owner,
+            @Param(TIMESTAMP_KEY) long timestamp
+    );
+
+    /**
+     * Method to execute the query to delete all the read {@link Changelog} of a user, the invitations to a group are
+     * excluded because their deletion requires to leave the group
+     *
+     * @param owner The owner of the changelogs
+     * @return the number of changelogs deleted
+     * @since 1.2.2
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "DELETE FROM " + CHANGELOGS_KEY + " WHERE "
+                    + CHANGELOG_OWNER_KEY + "=:" + CHANGELOG_OWNER_KEY + " AND "
+                    + CHANGELOG_READ_KEY + "=" + true + " AND "
+                    + CHANGELOG_EVENT_KEY + "<>'INVITED_GROUP'",
+            nativeQuery = true
+    )
+    int deleteReadChangelogs(
+            @Param(CHANGELOG_OWNER_KEY) String owner
+    );
+
+    /**
+     * Method to delete a {@link Changelog} and to decrease the counter of the changelogs yet to read of its owner if
+     * the changelog was not read
+     *
+     * @param owner The owner of the changelog
+     * @param changelogId The changelog identifier
+     */
+    @Transactional
+    default void deleteChangelog(String owner, String changelogId) {
+        if (removeChangelog(owner, changelogId) > 0)
+            decreaseUnreadChangelogs(owner, 1);
+    }
+
+    /**
+     * Method to delete a {@link Changelog} without changing the counter of the changelogs yet to read of its owner,
+     * which has to be decreased by the caller
+     *
+     * @param owner The owner of the changelog
+     * @param changelogId The changelog identifier
+     * @return the number of changelogs yet to read deleted
+     * @since 1.2.2
+     */
+    @Transactional
+    default int removeChangelog(String owner, String changelogId) {
+        int unreadChangelogs = removeChangelog(owner, changelogId, false);
+        if (unreadChangelogs == 0)
+            removeChangelog(owner, changelogId, true);
+        return unreadChangelogs;
+    }
+
     /**
      * Method to execute the query to delete a {@link Changelog}
      *
      * @param owner The owner of the changelog
      * @param changelogId The changelog identifier
+     * @param read Whether the changelog to delete is read
+     * @return the number of changelogs deleted
      */
     @Modifying(clearAutomatically = true)
     @Transactional
     @Query(
             value = "DELETE FROM " + CHANGELOGS_KEY + " WHERE "
                     + CHANGELOG_OWNER_KEY + "=:" + CHANGELOG_OWNER_KEY + " AND "
-                    + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+                    + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY + " AND "
+                    + CHANGELOG_READ_KEY + "=:" + CHANGELOG_READ_KEY,
             nativeQuery = true
     )
-    void deleteChangelog(
+    int removeChangelog(
             @Param(CHANGELOG_OWNER_KEY) String owner,
-            @Param(IDENTIFIER_KEY) String changelogId
+            @Param(IDENTIFIER_KEY) String changelogId,
+            @Param(CHANGELOG_READ_KEY) boolean read
+    );
+
+    /**
+     * {@code ARCHIVED_CHANGELOG_COLUMNS} the columns copied from a {@link Changelog} to its archived copy
+     *
+     * @since 1.2.2
+     */
+    String ARCHIVED_CHANGELOG_COLUMNS = IDENTIFIER_KEY + "," + CHANGELOG_EVENT_KEY + "," + EXTRA_CONTENT_KEY + ","
+            + CHANGELOG_READ_KEY + "," + TIMESTAMP_KEY + "," + PROJECT_IDENTIFIER_KEY + "," + GROUP_IDENTIFIER_KEY + ","
+            + CHANGELOG_OWNER_KEY;
+
+    /**
+     * {@code READ_CHANGELOGS_CAP_KEY} the maximum number of read changelogs kept for each user key
+     *
+     * @since 1.2.2
+     */
+    String READ_CHANGELOGS_CAP_KEY = "read_changelogs_cap";
+
+    /**
+     * Method to execute the query to select a chunk of the read {@link Changelog} created before a timestamp, sorted
+     * from the oldest one, the invitations to a group are never expired because they are pending until the user
+     * answers them
+     *
+     * @param timestamp The timestamp before which the read changelogs are expired
+     * @param chunkSize The maximum number of changelogs to select
+     * @return the identifiers of the expired changelogs as {@link List} of {@link String}
+     * @since 1.2.2
+     */
+    @Query(
+            value = "SELECT " + IDENTIFIER_KEY + " FROM " + CHANGELOGS_KEY + " WHERE " + CHANGELOG_READ_KEY + "=" + true
+                    + " AND " + CHANGELOG_EVENT_KEY + "<>'INVITED_GROUP'"
+                    + " AND " + TIMESTAMP_KEY + "<:" + TIMESTAMP_KEY
+                    + " ORDER BY " + TIMESTAMP_KEY + " ASC LIMIT :" + PAGE_SIZE_KEY,
+            nativeQuery = true
+    )
+    List<String> getExpiredChangelogs(
+            @Param(TIMESTAMP_KEY) long timestamp,
+            @Param(PAGE_SIZE_KEY) int chunkSize
+    );
+
+    /**
+     * Method to execute the query to select, among a chunk of users, the ones who own more read {@link Changelog}
+     * than the cap allowed, the invitations to a group are not counted
+     *
+     * @param usersIds The identifiers of the chunk of users to check
+     * @param cap The maximum number of read changelogs kept for each user
+     * @return the identifiers of the users as {@link List} of {@link String}
+     * @since 1.2.2
+     */
+    @Query(
+            value = "SELECT " + CHANGELOG_OWNER_KEY + " FROM " + CHANGELOGS_KEY + " WHERE " + CHANGELOG_OWNER_KEY
+                    + " IN (:" + USERS_KEY + ") AND " + CHANGELOG_READ_KEY + "=" + true + " AND "
+                    + CHANGELOG_EVENT_KEY + "<>'INVITED_GROUP'"
+                    + " GROUP BY " + CHANGELOG_OWNER_KEY + " HAVING COUNT(*)>:" + READ_CHANGELOGS_CAP_KEY,
+            nativeQuery = true
+    )
+    List<String> getOwnersOverReadChangelogsCap(
+            @Param(USERS_KEY) List<String> usersIds,
+            @Param(READ_CHANGELOGS_CAP_KEY) int cap
+    );
+
+    /**
+     * Method to execute the query to select a chunk of the read {@link Changelog} of a user which exceed the cap
+     * allowed, the most recent ones are kept and the invitations to a group are neither counted nor selected
+     *
+     * @param owner The owner of the changelogs
+     * @param cap The maximum number of read changelogs kept for each user
+     * @param chunkSize The maximum number of changelogs to select
+     * @return the identifiers of the exceeding changelogs as {@link List} of {@link String}
+     * @since 1.2.2
+     */
+    @Query(
+            value = "SELECT " + IDENTIFIER_KEY + " FROM " + CHANGELOGS_KEY + " WHERE " + CHANGELOG_OWNER_KEY + "=:"
+                    + CHANGELOG_OWNER_KEY + " AND " + CHANGELOG_READ_KEY + "=" + true
+                    + " AND " + CHANGELOG_EVENT_KEY + "<>'INVITED_GROUP'"
+                    + " ORDER BY " + TIMESTAMP_KEY + " DESC LIMIT :" + PAGE_SIZE_KEY + " OFFSET :"
+                    + READ_CHANGELOGS_CAP_KEY,
+            nativeQuery = true
+    )
+    List<String> getChangelogsOverReadCap(
+            @Param(CHANGELOG_OWNER_KEY) String owner,
+            @Param(READ_CHANGELOGS_CAP_KEY) int cap,
+            @Param(PAGE_SIZE_KEY) int chunkSize
+    );
+
+    /**
+     * Method to move a chunk of {@link Changelog} in the archived changelogs table, the copy and the deletion are
+     * executed in the same short transaction, so the rows of the changelogs table are locked only for a chunk at a time
+     *
+     * @param changelogsIds The identifiers of the changelogs to archive
+     * @param archivedAt When the changelogs have been archived
+     * @since 1.2.2
+     */
+    @Transactional
+    default void archiveChangelogs(List<String> changelogsIds, long archivedAt) {
+        copyInArchive(changelogsIds, archivedAt);
+        deleteChangelogs(changelogsIds);
+    }
+
+    /**
+     * Method to execute the query to copy a chunk of {@link Changelog} in the archived changelogs table
+     *
+     * @param changelogsIds The identifiers of the changelogs to copy
+     * @param archivedAt When the changelogs have been archived
+     * @since 1.2.2
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = "INSERT IGNORE INTO " + ARCHIVED_CHANGELOGS_KEY + " (" + ARCHIVED_CHANGELOG_COLUMNS + ","
+                    + ARCHIVED_AT_KEY + ") SELECT " + ARCHIVED_CHANGELOG_COLUMNS + ",:" + ARCHIVED_AT_KEY + " FROM "
+                    + CHANGELOGS_KEY + " WHERE " + IDENTIFIER_KEY + " IN (:" + CHANGELOGS_KEY + ")",
+            nativeQuery = true
+    )
+    void copyInArchive(
+            @Param(CHANGELOGS_KEY) List<String> changelogsIds,
+            @Param(ARCHIVED_AT_KEY) long archivedAt
+    );
+
+    /**
+     * Method to execute the query to delete a chunk of {@link Changelog}
+     *
+     * @param changelogsIds The identifiers of the changelogs to delete
+     * @since 1.2.2
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "DELETE FROM " + CHANGELOGS_KEY + " WHERE " + IDENTIFIER_KEY + " IN (:" + CHANGELOGS_KEY + ")",
+            nativeQuery = true
+    )
+    void deleteChangelogs(
+            @Param(CHANGELOGS_KEY) List<String> changelogsIds
     );
 
 }
@@ -2,13 +2,20 @@ package com.tecknobit.pandoro.services.changelogs.service;
 
 import com.tecknobit.equinoxcore.pagination.PaginatedResponse;
 import com.tecknobit.pandoro.services.changelogs.entity.Changelog;
+import com.tecknobit.pandoro.services.changelogs.helpers.ChangelogsEmitter;
 import com.tecknobit.pandoro.services.changelogs.repository.ChangelogsRepository;
 import com.tecknobit.pandoro.services.groups.repositories.GroupMembersRepository;
 import com.tecknobit.pandorocore.enums.events.ChangelogEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -32,23 +39,39 @@ public class ChangelogsService {
      */
     private final GroupMembersRepository membersRepository;
 
+    /**
+     * {@code changelogsEmitter} instance to push the changelogs to the connected users
+     */
+    private final ChangelogsEmitter changelogsEmitter;
+
+    /**
+     * {@code reconcileChunkSize} the maximum number of users whose counters are realigned in a single transaction
+     */
+    private final int reconcileChunkSize;
+
     /**
      * Constructor used to init the service
      *
      * @param changelogsRepository The instance for the changelogs repository
      * @param membersRepository    The instance for the members of a group repository
+     * @param changelogsEmitter    The instance to push the changelogs to the connected users
+     * @param reconcileChunkSize   The maximum number of users whose counters are realigned in a single transaction
      */
     @Autowired
-    public ChangelogsService(ChangelogsRepository changelogsRepository, GroupMembersRepository membersRepository) {
+    public ChangelogsService(ChangelogsRepository changelogsRepository, GroupMembersRepository membersRepository,
+                             ChangelogsEmitter changelogsEmitter,
+                             @Value("${pandoro.changelogs.unread-reconcile-chunk-size:500}") int reconcileChunkSize) {
         this.changelogsRepository = changelogsRepository;
         this.membersRepository = membersRepository;
+        this.changelogsEmitter = changelogsEmitter;
+        this.reconcileChunkSize = reconcileChunkSize;
     }
 
     /**
-     * Method to get the user's changelogs list
+     * Method to get the count of the changelogs yet to read of the user
      *
      * @param ownerId The owner identifier
-     * @return the changelogs list as {@link PaginatedResponse} of {@link Changelog}
+     * @return the count of the changelogs yet to read as {@code long}
      */
     public long getUnreadChangelogsCount(String ownerId) {
         return changelogsRepository.getUnreadChangelogsCount(ownerId);
@@ -62,6 +85,7 @@ public class ChangelogsService {
      * @param pageSize  The size of the items to insert in the page
      * @return the changelogs list as {@link PaginatedResponse} of {@link Changelog}
      */
+    @Transactional(readOnly = true)
     public PaginatedResponse<Changelog> getChangelogs(String ownerId, int page, int pageSize) {
         Pageable pageable = PageRequest.of(page, pageSize);
         List<Changelog> changelogs = changelogsRepository.getChangelogs(ownerId, pageable);
@@ -69,6 +93,39 @@ public class ChangelogsService {
         return new PaginatedResponse<>(changelogs, page, pageSize, changelogsCount);
     }
 
+    /**
+     * Method to realign the counters of the changelogs yet to read with the changelogs stored, it is executed when the
+     * application is ready, to initialize the counters, and then periodically, to recover the drifts caused by the
+     * changelogs deleted in cascade with their project or their group. The users are walked in chunks sorted by
+     * identifier, each one realigned in its own transaction, so the users table is never locked for long
+     *
+     * @since 1.2.2
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${pandoro.changelogs.unread-reconcile-cron:0 0 4 * * *}")
+    public void reconcileUnreadChangelogs() {
+        String lastUserId = "";
+        List<String> usersIds;
+        do {
+            usersIds = changelogsRepository.getUsersIdentifiersAfter(lastUserId, reconcileChunkSize);
+            if (usersIds.isEmpty())
+                return;
+            changelogsRepository.reconcileUnreadChangelogs(usersIds);
+            lastUserId = usersIds.get(usersIds.size() - 1);
+        } while (usersIds.size() == reconcileChunkSize);
+    }
+
+    /**
+     * Method to open a stream where receive the new changelogs and the count of the changelogs yet to read
+     *
+     * @param ownerId     The owner identifier
+     * @param lastEventId The identifier of the last changelog event received, {@code null} if it is the first connection
+     * @return the stream opened as {@link SseEmitter}
+     */
+    public SseEmitter streamChangelogs(String ownerId, Long lastEventId) {
+        return changelogsEmitter.subscribe(ownerId, lastEventId);
+    }
+
     /**
      * Method to check whether a changelog exists
      *
@@ -87,6 +144,41 @@ public class ChangelogsService {
      */
     public void markAsRead(String changelogId, String ownerId) {
         changelogsRepository.markAsRead(ownerId, changelogId);
+        changelogsEmitter.unreadChangelogsChanged(ownerId);
+    }
+
+    /**
+     * Method to mark as read a list of changelogs
+     *
+     * @param changelogsIds The identifiers of the changelogs
+     * @param ownerId The owner identifier
+     * @since 1.2.2
+     */
+    public void markAsRead(List<String> changelogsIds, String ownerId) {
+        changelogsRepository.markAsRead(ownerId, changelogsIds);
+        changelogsEmitter.unreadChangelogsChanged(ownerId);
+    }
+
+    /**
+     * Method to mark as read all the changelogs created up to a timestamp
+     *
+     * @param timestamp The timestamp up to which mark the changelogs as read
+     * @param ownerId The owner identifier
+     * @since 1.2.2
+     */
+    public void markAllAsRead(long timestamp, String ownerId) {
+        changelogsRepository.markAllAsRead(ownerId, timestamp);
+        changelogsEmitter.unreadChangelogsChanged(ownerId);
+    }
+
+    /**
+     * Method to delete all the read changelogs, except the invitations to a group
+     *
+     * @param ownerId The owner identifier
+     * @since 1.2.2
+     */
+    public void deleteReadChangelogs(String ownerId) {
+        changelogsRepository.deleteReadChangelogs(ownerId);
     }
 
     /**
@@ -106,6 +198,8 @@ public class ChangelogsService {
             membersRepository.leaveGroup(ownerId, groupId);
         }
         changelogsRepository.deleteChangelog(ownerId, changelogId);
+        if (!changelog.isRead())
+            changelogsEmitter.unreadChangelogsChanged(ownerId);
     }
 
 }
@@ -28,7 +28,19 @@ import static com.tecknobit.pandorocore.ConstantsKt.*;
  * @see Serializable
  */
 @Entity
-@Table(name = GROUPS_KEY)
+@Table(
+        name = GROUPS_KEY,
+        indexes = {
+                @Index(
+                        name = "groups_timeline_index",
+                        columnList = AUTHOR_KEY + "," + CREATION_DATE_KEY
+                ),
+                @Index(
+                        name = "groups_name_index",
+                        columnList = AUTHOR_KEY + "," + NAME_KEY
+                )
+        }
+)
 public class Group extends PandoroItem {
 
     /**
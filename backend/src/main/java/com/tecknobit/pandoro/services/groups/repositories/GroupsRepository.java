@@ -139,6 +139,22 @@ public interface GroupsRepository extends JpaRepository<Group, String> {
             @Param(AUTHOR_KEY) String userId
     );
 
+    /**
+     * Method to execute the query to select the identifiers of the groups where the user is a member
+     *
+     * @param userId The user identifier
+     * @return the identifiers of the groups as {@link List} of {@link String}
+     * @since 1.2.2
+     */
+    @Query(
+            value = "SELECT " + GROUP_MEMBER_KEY + " FROM " + GROUP_MEMBERS_TABLE + " WHERE " +
+                    IDENTIFIER_KEY + "=:" + AUTHOR_KEY + " AND " + INVITATION_STATUS_KEY + " = 'JOINED'",
+            nativeQuery = true
+    )
+    List<String> getGroupsIds(
+            @Param(AUTHOR_KEY) String userId
+    );
+
     /**
      * Method to execute the query to select a {@link Group} by its name
      *
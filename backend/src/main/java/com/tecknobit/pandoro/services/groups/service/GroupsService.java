@@ -4,6 +4,7 @@ import com.tecknobit.equinoxbackend.annotations.TableColumns;
 import com.tecknobit.equinoxbackend.apis.batch.EquinoxItemsHelper;
 import com.tecknobit.equinoxcore.pagination.PaginatedResponse;
 import com.tecknobit.pandoro.configuration.PandoroResourcesManager;
+import com.tecknobit.pandoro.services.changelogs.helpers.ChangelogsEmitter;
 import com.tecknobit.pandoro.services.changelogs.helpers.ChangelogsNotifier;
 import com.tecknobit.pandoro.services.changelogs.repository.ChangelogsRepository;
 import com.tecknobit.pandoro.services.groups.dto.GroupDTO;
@@ -11,14 +12,19 @@ import com.tecknobit.pandoro.services.groups.entity.Group;
 import com.tecknobit.pandoro.services.groups.repositories.GroupMembersRepository;
 import com.tecknobit.pandoro.services.groups.repositories.GroupsRepository;
 import com.tecknobit.pandoro.services.projects.entities.Project;
+import com.tecknobit.pandoro.services.search.helpers.SearchIndexer;
+import com.tecknobit.pandoro.services.sync.helpers.SyncTracker;
+import com.tecknobit.pandoro.services.sync.helpers.SyncTracker.GroupSnapshot;
 import com.tecknobit.pandoro.services.users.entities.GroupMember;
 import com.tecknobit.pandoro.services.users.entities.PandoroUser;
+import com.tecknobit.pandoro.services.users.helpers.UsersCountersBuffer;
 import com.tecknobit.pandoro.services.users.repository.PandoroUsersRepository;
 import jakarta.persistence.Query;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -28,6 +34,7 @@ import java.util.List;
 
 import static com.tecknobit.equinoxbackend.apis.batch.EquinoxItemsHelper.InsertCommand.REPLACE_INTO;
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
+import static com.tecknobit.pandoro.services.search.helpers.SearchIndexer.SearchableType.GROUP;
 import static com.tecknobit.pandorocore.ConstantsKt.*;
 import static com.tecknobit.pandorocore.enums.InvitationStatus.JOINED;
 import static com.tecknobit.pandorocore.enums.InvitationStatus.PENDING;
@@ -69,6 +76,26 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
      */
     private final ChangelogsNotifier changelogsNotifier;
 
+    /**
+     * {@code changelogsEmitter} instance used to push the changelogs to the connected users
+     */
+    private final ChangelogsEmitter changelogsEmitter;
+
+    /**
+     * {@code searchIndexer} instance used to keep the search index aligned
+     */
+    private final SearchIndexer searchIndexer;
+
+    /**
+     * {@code syncTracker} instance used to stamp the changes to synchronize
+     */
+    private final SyncTracker syncTracker;
+
+    /**
+     * {@code usersCountersBuffer} instance used to update the counters of the changelogs yet to read
+     */
+    private final UsersCountersBuffer usersCountersBuffer;
+
     /**
      * Constructor to init the service
      *
@@ -77,16 +104,26 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
      * @param membersRepository    The instance for the members of a group repository
      * @param changelogsRepository The instance for the changelogs repository
      * @param changelogsNotifier The instance used to notify a changelog event
+     * @param changelogsEmitter The instance used to push the changelogs to the connected users
+     * @param searchIndexer The instance used to keep the search index aligned
+     * @param syncTracker The instance used to stamp the changes to synchronize
+     * @param usersCountersBuffer The instance used to update the counters of the changelogs yet to read
      */
     @Autowired
     public GroupsService(PandoroUsersRepository usersRepository, GroupsRepository groupsRepository,
                          GroupMembersRepository membersRepository, ChangelogsRepository changelogsRepository,
-                         ChangelogsNotifier changelogsNotifier) {
+                         ChangelogsNotifier changelogsNotifier, ChangelogsEmitter changelogsEmitter,
+                         SearchIndexer searchIndexer, SyncTracker syncTracker,
+                         UsersCountersBuffer usersCountersBuffer) {
         this.usersRepository = usersRepository;
         this.groupsRepository = groupsRepository;
         this.membersRepository = membersRepository;
         this.changelogsRepository = changelogsRepository;
         this.changelogsNotifier = changelogsNotifier;
+        this.changelogsEmitter = changelogsEmitter;
+        this.searchIndexer = searchIndexer;
+        this.syncTracker = syncTracker;
+        this.usersCountersBuffer = usersCountersBuffer;
     }
 
     /**
@@ -100,6 +137,7 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
      * @param roles The role values to use as filter
      * @return the groups list as {@link PaginatedResponse} of {@link Group}
      */
+    @Transactional(readOnly = true)
     public PaginatedResponse<Group> getGroups(String userId, int page, int pageSize, boolean authoredGroups,
                                               String groupName, List<String> roles) {
         Pageable pageable = PageRequest.of(page, pageSize);
@@ -133,10 +171,12 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
      * @param groupId The identifier of the new group
      * @param group The payload with the group details
      */
+    @Transactional(rollbackFor = IOException.class)
     public void createGroup(PandoroUser author, String groupId, GroupDTO group) throws IOException {
         String authorId = author.getId();
         String groupName = group.name();
         MultipartFile logo = group.logo();
+        GroupSnapshot snapshot = syncTracker.snapshotGroup(groupId);
         long operationDate = System.currentTimeMillis();
         String logoPath = createGroupLogoResource(logo, groupId + operationDate);
         groupsRepository.createGroup(
@@ -157,9 +197,11 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
                 JOINED,
                 groupId
         );
-        addMembers(groupName, group.members(), groupId);
-        editProjects(groupId, group.projects());
+        inviteMembers(groupName, group.members(), groupId);
+        manageProjects(groupId, group.projects());
         saveResource(logo, logoPath);
+        searchIndexer.indexGroup(groupId, groupName, group.group_description());
+        syncTracker.groupChanged(groupId, snapshot);
     }
 
     /**
@@ -169,7 +211,20 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
      * @param members   The list of members to add
      * @param groupId   The group identifier where add the members
      */
+    @Transactional
     public void addMembers(String groupName, List<String> members, String groupId) {
+        inviteMembers(groupName, members, groupId);
+        syncTracker.groupChanged(groupId);
+    }
+
+    /**
+     * Method to invite a list of members in a group
+     *
+     * @param groupName The name of the group
+     * @param members   The list of members to invite
+     * @param groupId   The group identifier where invite the members
+     */
+    private void inviteMembers(String groupName, List<String> members, String groupId) {
         batchInsert(REPLACE_INTO, GROUP_MEMBERS_TABLE, new BatchQuery<PandoroUser>() {
             @Override
             public Collection<PandoroUser> getData() {
@@ -212,11 +267,13 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
      * @param groupId The identifier of the new group
      * @param group   The payload with the group details
      */
+    @Transactional(rollbackFor = IOException.class)
     public void editGroup(PandoroUser author, String groupId, GroupDTO group) throws IOException {
         String requester = author.getId();
         String groupName = group.name();
         String groupDescription = group.group_description();
         MultipartFile logo = group.logo();
+        GroupSnapshot snapshot = syncTracker.snapshotGroup(groupId);
         if (logo != null && !logo.isEmpty()) {
             deleteGroupLogoResource(groupId);
             String logoPath = createGroupLogoResource(logo, groupId + System.currentTimeMillis());
@@ -235,7 +292,9 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
             );
         }
         editMembers(requester, groupId, groupName, group.members());
-        editProjects(groupId, group.projects());
+        manageProjects(groupId, group.projects());
+        searchIndexer.indexGroup(groupId, groupName, groupDescription);
+        syncTracker.groupChanged(groupId, snapshot);
     }
 
     /**
@@ -319,15 +378,20 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
      * @param groupId The group identifier
      * @param user The user who accepts the invitation
      */
+    @Transactional
     public void acceptGroupInvitation(String groupId, String changelogId, PandoroUser user) throws IllegalAccessException {
         String userId = user.getId();
         if (changelogsRepository.getChangelog(changelogId, userId) == null)
             throw new IllegalAccessException();
+        GroupSnapshot snapshot = syncTracker.snapshotGroup(groupId);
         membersRepository.acceptGroupInvitation(userId, groupId);
         List<GroupMember> members = membersRepository.getGroupMembers(groupId);
-        changelogsRepository.deleteChangelog(userId, changelogId);
+        usersCountersBuffer.decreaseUnreadChangelogs(userId, changelogsRepository.removeChangelog(userId,
+                changelogId));
+        changelogsEmitter.unreadChangelogsChanged(userId);
         for (GroupMember member : members)
             changelogsNotifier.newMemberJoined(groupId, member.getId());
+        syncTracker.groupChanged(groupId, snapshot);
     }
 
     /**
@@ -336,13 +400,17 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
      * @param groupId The group identifier
      * @param user The user who declines the invitation
      */
+    @Transactional
     public void declineGroupInvitation(String groupId, String changelogId, PandoroUser user) throws IllegalAccessException {
         String userId = user.getId();
         if (changelogsRepository.getChangelog(changelogId, userId) == null)
             throw new IllegalAccessException();
         if (membersRepository.getGroupMemberByEmail(userId, groupId, user.getEmail()).getInvitationStatus() == PENDING) {
             membersRepository.leaveGroup(userId, groupId);
-            changelogsRepository.deleteChangelog(userId, changelogId);
+            usersCountersBuffer.decreaseUnreadChangelogs(userId, changelogsRepository.removeChangelog(userId,
+                    changelogId));
+            changelogsEmitter.unreadChangelogsChanged(userId);
+            syncTracker.groupChanged(groupId);
         } else
             throw new IllegalAccessException();
     }
@@ -376,9 +444,11 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
      * @param groupId The group identifier
      * @param role The new role for a member
      */
+    @Transactional
     public void changeMemberRole(String memberId, String groupId, com.tecknobit.pandorocore.enums.Role role) {
         membersRepository.changeMemberRole(memberId, groupId, role);
         changelogsNotifier.yourGroupRoleChanged(groupId, memberId, role);
+        syncTracker.groupChanged(groupId);
     }
 
     /**
@@ -387,8 +457,11 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
      * @param memberId The member identifier
      * @param groupId The group identifier
      */
+    @Transactional
     public void removeMember(String memberId, String groupId) {
+        GroupSnapshot snapshot = syncTracker.snapshotGroup(groupId);
         membersRepository.leaveGroup(memberId, groupId);
+        syncTracker.groupChanged(groupId, snapshot);
     }
 
     /**
@@ -397,7 +470,20 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
      * @param groupId The group identifier
      * @param projects The projects list of a group to edit
      */
+    @Transactional
     public void editProjects(String groupId, ArrayList<String> projects) {
+        GroupSnapshot snapshot = syncTracker.snapshotGroup(groupId);
+        manageProjects(groupId, projects);
+        syncTracker.groupChanged(groupId, snapshot);
+    }
+
+    /**
+     * Method to manage the projects list of a group, adding the new projects and removing the ones not shared anymore
+     *
+     * @param groupId The group identifier
+     * @param projects The projects list of a group to edit
+     */
+    private void manageProjects(String groupId, ArrayList<String> projects) {
         List<String> currentProjects = groupsRepository.getGroupProjectsIds(groupId);
         List<GroupMember> groupMembers = membersRepository.getGroupMembers(groupId);
         currentProjects.removeAll(projects);
@@ -420,16 +506,19 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
      * @param memberId The identifier of the member
      * @param group The group from leave
      */
+    @Transactional
     public void leaveGroup(String memberId, Group group) {
         String groupId = group.getId();
         if (group.getMembers().size() - 1 == 0)
             deleteGroup(memberId, groupId);
         else {
+            GroupSnapshot snapshot = syncTracker.snapshotGroup(groupId);
             membersRepository.leaveGroup(memberId, groupId);
             for (Project project : group.getProjects())
                 if (project.getAuthor().getId().equals(memberId))
                     groupsRepository.removeGroupProject(project.getId(), groupId);
             changelogsNotifier.memberLeftGroup(groupId, memberId);
+            syncTracker.groupChanged(groupId, snapshot);
         }
     }
 
@@ -439,11 +528,15 @@ public class GroupsService extends EquinoxItemsHelper implements PandoroResource
      * @param memberId The identifier of the member
      * @param groupId:  the group identifier
      */
+    @Transactional
     public void deleteGroup(String memberId, String groupId) {
         List<GroupMember> members = membersRepository.getGroupMembers(groupId);
         String groupName = groupsRepository.getGroup(memberId, groupId).getName();
+        GroupSnapshot snapshot = syncTracker.snapshotGroup(groupId);
         groupsRepository.deleteGroup(groupId);
         deleteGroupLogoResource(groupId);
+        searchIndexer.remove(GROUP, groupId);
+        syncTracker.groupDeleted(groupId, snapshot);
         for (GroupMember member : members)
             changelogsNotifier.groupDeleted(groupName, member.getId());
     }
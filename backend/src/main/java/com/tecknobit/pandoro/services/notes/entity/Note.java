@@ -21,7 +21,24 @@ import static com.tecknobit.pandorocore.ConstantsKt.*;
  * @see EquinoxItem
  */
 @Entity
-@Table(name = NOTES_KEY)
+@Table(
+        name = NOTES_KEY,
+        indexes = {
+                @Index(
+                        name = "notes_status_index",
+                        columnList = AUTHOR_KEY + "," + UPDATE_ESCAPED_KEY + "," + MARKED_AS_DONE_KEY + "," +
+                                CREATION_DATE_KEY
+                ),
+                @Index(
+                        name = "notes_timeline_index",
+                        columnList = AUTHOR_KEY + "," + UPDATE_ESCAPED_KEY + "," + CREATION_DATE_KEY
+                ),
+                @Index(
+                        name = "notes_update_index",
+                        columnList = UPDATE_ESCAPED_KEY + "," + CREATION_DATE_KEY
+                )
+        }
+)
 public class Note extends EquinoxItem {
 
     /**
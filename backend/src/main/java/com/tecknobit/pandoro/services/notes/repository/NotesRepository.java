@@ -59,6 +59,18 @@ public interface NotesRepository extends JpaRepository<Note, String> {
             Pageable pageable
     );
 
+    /**
+     * Method to execute the query to select all the personal notes, so the notes which are not change notes
+     *
+     * @return the list of notes as {@link List} of {@link Note}
+     * @since 1.2.2
+     */
+    @Query(
+            value = "SELECT * FROM " + NOTES_KEY + " WHERE " + UPDATE_ESCAPED_KEY + " IS NULL",
+            nativeQuery = true
+    )
+    List<Note> getPersonalNotes();
+
     /**
      * Method to execute the query to select the number of the notes
      *
@@ -3,13 +3,17 @@ package com.tecknobit.pandoro.services.notes.service;
 import com.tecknobit.equinoxcore.pagination.PaginatedResponse;
 import com.tecknobit.pandoro.services.notes.entity.Note;
 import com.tecknobit.pandoro.services.notes.repository.NotesRepository;
+import com.tecknobit.pandoro.services.search.helpers.SearchIndexer;
+import com.tecknobit.pandoro.services.sync.helpers.SyncTracker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+import static com.tecknobit.pandoro.services.search.helpers.SearchIndexer.SearchableType.NOTE;
 import static java.lang.System.currentTimeMillis;
 
 /**
@@ -30,14 +34,28 @@ public class NotesService {
      */
     private final NotesRepository notesRepository;
 
+    /**
+     * {@code searchIndexer} instance used to keep the search index aligned
+     */
+    private final SearchIndexer searchIndexer;
+
+    /**
+     * {@code syncTracker} instance used to stamp the changes to synchronize
+     */
+    private final SyncTracker syncTracker;
+
     /**
      * Constructor used to init the service
      *
      * @param notesRepository The instance for the notes repository
+     * @param searchIndexer The instance used to keep the search index aligned
+     * @param syncTracker The instance used to stamp the changes to synchronize
      */
     @Autowired
-    public NotesService(NotesRepository notesRepository) {
+    public NotesService(NotesRepository notesRepository, SearchIndexer searchIndexer, SyncTracker syncTracker) {
         this.notesRepository = notesRepository;
+        this.searchIndexer = searchIndexer;
+        this.syncTracker = syncTracker;
     }
 
     /**
@@ -49,6 +67,7 @@ public class NotesService {
      * @param statusFilter The status of the note to use as filter
      * @return the notes list as {@link PaginatedResponse} of {@link Note}
      */
+    @Transactional(readOnly = true)
     public PaginatedResponse<Note> getNotes(String userId, int page, int pageSize, String statusFilter) {
         Pageable pageable = PageRequest.of(page, pageSize);
         List<Note> notes;
@@ -80,8 +99,11 @@ public class NotesService {
      * @param noteId The note identifier
      * @param contentNote The content of the note
      */
+    @Transactional
     public void createNote(String authorId, String noteId, String contentNote) {
         notesRepository.createNote(authorId, noteId, contentNote, currentTimeMillis());
+        searchIndexer.indexNote(noteId, contentNote, authorId);
+        syncTracker.noteChanged(noteId, authorId);
     }
 
     /**
@@ -91,8 +113,11 @@ public class NotesService {
      * @param noteId      The note identifier
      * @param contentNote The content of the note
      */
+    @Transactional
     public void editNote(String authorId, String noteId, String contentNote) {
         notesRepository.editNote(authorId, noteId, contentNote);
+        searchIndexer.indexNote(noteId, contentNote, authorId);
+        syncTracker.noteChanged(noteId, authorId);
     }
 
     /**
@@ -112,8 +137,10 @@ public class NotesService {
      * @param authorId The author of the note identifier
      * @param noteId The note identifier
      */
+    @Transactional
     public void manageNoteStatus(String authorId, String noteId, boolean completed) {
         notesRepository.manageNoteStatus(authorId, noteId, completed, currentTimeMillis());
+        syncTracker.noteChanged(noteId, authorId);
     }
 
     /**
@@ -122,8 +149,11 @@ public class NotesService {
      * @param authorId The author of the note identifier
      * @param noteId The note identifier
      */
+    @Transactional
     public void deleteNote(String authorId, String noteId) {
         notesRepository.deleteNote(authorId, noteId);
+        searchIndexer.remove(NOTE, noteId);
+        syncTracker.noteDeleted(noteId, authorId);
     }
 
 }
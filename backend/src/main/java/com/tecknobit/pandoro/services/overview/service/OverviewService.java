@@ -1,17 +1,20 @@
 package com.tecknobit.pandoro.services.overview.service;
 
+import com.tecknobit.pandoro.helpers.profiling.OverviewEvent;
 import com.tecknobit.pandoro.services.overview.dto.Overview;
 import com.tecknobit.pandoro.services.overview.dto.Overview.OverviewFullStatsItem;
 import com.tecknobit.pandoro.services.overview.dto.Overview.OverviewStatsItem;
 import com.tecknobit.pandoro.services.overview.dto.Overview.ProjectPerformanceStats;
 import com.tecknobit.pandoro.services.projects.entities.Project;
 import com.tecknobit.pandoro.services.projects.entities.Update;
+import com.tecknobit.pandoro.services.projects.helpers.VersionRange;
 import com.tecknobit.pandoro.services.projects.repositories.ProjectsRepository;
 import com.tecknobit.pandorocore.enums.UpdateStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
@@ -50,24 +53,33 @@ public class OverviewService {
      * @param userId The user who requests the overview
      * @return overview analysis as {@link Overview} DTO
      */
+    @Transactional(readOnly = true)
     public Overview getOverview(String userId) {
-        Pageable pageable = PageRequest.ofSize(Integer.MAX_VALUE);
-        List<Project> projects = projectsRepository.getProjects(userId, "", Collections.emptySet(), pageable);
-        if (projects.isEmpty())
-            return null;
-        Overview overview = new Overview();
-        overview.setTotalProjects(getTotalProjectsStats(projects));
-        overview.setTotalUpdates(getTotalUpdatesStats(projects));
-        for (UpdateStatus status : UpdateStatus.getEntries())
-            overview.setUpdatesStats(status, getUpdatesStats(userId, projects, status));
-        overview.setDevelopmentDays(getDevelopmentDays(projects));
-        overview.setAverageDevelopmentDays(getAverageDevelopmentDays(projects));
-        ProjectsAnalyzer projectsAnalyzer = new ProjectsAnalyzer(projects);
-        overview.setBestPersonalPerformanceProject(projectsAnalyzer.getBestPersonalProjectStats());
-        overview.setWorstPersonalPerformanceProject(projectsAnalyzer.getWorstPersonalProjectStats());
-        overview.setBestGroupPerformanceProject(projectsAnalyzer.getBestGroupProjectStats());
-        overview.setWorstGroupPerformanceProject(projectsAnalyzer.getWorstGroupProjectStats());
-        return overview;
+        OverviewEvent event = new OverviewEvent(userId);
+        event.begin();
+        try {
+            Pageable pageable = PageRequest.ofSize(Integer.MAX_VALUE);
+            List<Project> projects = projectsRepository.getProjects(userId, "", Collections.emptySet(),
+                    VersionRange.UNBOUNDED_RANGE, pageable);
+            event.setProjects(projects.size());
+            if (projects.isEmpty())
+                return null;
+            Overview overview = new Overview();
+            overview.setTotalProjects(getTotalProjectsStats(projects));
+            overview.setTotalUpdates(getTotalUpdatesStats(projects));
+            for (UpdateStatus status : UpdateStatus.getEntries())
+                overview.setUpdatesStats(status, getUpdatesStats(userId, projects, status));
+            overview.setDevelopmentDays(getDevelopmentDays(projects));
+            overview.setAverageDevelopmentDays(getAverageDevelopmentDays(projects));
+            ProjectsAnalyzer projectsAnalyzer = new ProjectsAnalyzer(projects);
+            overview.setBestPersonalPerformanceProject(projectsAnalyzer.getBestPersonalProjectStats());
+            overview.setWorstPersonalPerformanceProject(projectsAnalyzer.getWorstPersonalProjectStats());
+            overview.setBestGroupPerformanceProject(projectsAnalyzer.getBestGroupProjectStats());
+            overview.setWorstGroupPerformanceProject(projectsAnalyzer.getWorstGroupProjectStats());
+            return overview;
+        } finally {
+            event.commit();
+        }
     }
 
     /**
@@ -11,8 +11,12 @@ import com.tecknobit.pandoro.services.projects.services.ProjectsService;
 import com.tecknobit.pandoro.services.projects.services.UpdatesService;
 import com.tecknobit.pandorocore.enums.UpdateStatus;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,12 +25,12 @@ import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
 import static com.tecknobit.equinoxcore.network.EquinoxBaseEndpointsSet.BASE_EQUINOX_ENDPOINT;
 import static com.tecknobit.equinoxcore.network.RequestMethod.*;
 import static com.tecknobit.equinoxcore.pagination.PaginatedResponse.*;
+import static com.tecknobit.pandoro.configuration.ReadYourWritesTracker.withCurrentRouting;
 import static com.tecknobit.pandoro.services.notes.controller.NotesController.WRONG_CONTENT_NOTE_MESSAGE;
 import static com.tecknobit.pandoro.services.projects.controller.ProjectsController.ChangeNoteOperation.MARK_AS_DONE;
 import static com.tecknobit.pandoro.services.projects.controller.ProjectsController.ChangeNoteOperation.MARK_AS_TODO;
 import static com.tecknobit.pandorocore.ConstantsKt.*;
 import static com.tecknobit.pandorocore.enums.UpdateStatus.IN_DEVELOPMENT;
-import static com.tecknobit.pandorocore.enums.UpdateStatus.SCHEDULED;
 import static com.tecknobit.pandorocore.helpers.PandoroEndpoints.*;
 import static com.tecknobit.pandorocore.helpers.PandoroInputsValidator.INSTANCE;
 
@@ -173,6 +177,39 @@ public class ProjectsController extends DefaultPandoroController {
             return (T) failedResponse(WRONG_PROCEDURE_MESSAGE);
     }
 
+    /**
+     * Method to stream the authored projects list, each project is sent as a JSON object on its own line
+     *
+     * @param id    The identifier of the user
+     * @param token The token of the user
+     * @return the stream of the projects as {@link ResponseEntity} of {@link StreamingResponseBody}
+     * @apiNote unlike {@link #getAuthoredProjects(String, String)} the projects are not loaded all together, so the
+     * memory used by the request does not grow with the number of the projects authored. The projects are written by
+     * the asynchronous thread of the response, which is routed to the same database of the request, so a user who
+     * has just written reads the projects from the primary database. When the request is not authorized the stream
+     * contains only the failed response
+     * @since 1.2.2
+     */
+    @GetMapping(
+            path = AUTHORED_PROJECTS_STREAM_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            },
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @RequestPath(path = "/api/v1/users/{id}/projects/authored/stream", method = GET)
+    public ResponseEntity<StreamingResponseBody> streamAuthoredProjects(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @RequestHeader(TOKEN_KEY) String token
+    ) {
+        if (!isMe(id, token)) {
+            String response = failedResponse(WRONG_PROCEDURE_MESSAGE) + "\n";
+            return ResponseEntity.ok(output -> output.write(response.getBytes(StandardCharsets.UTF_8)));
+        }
+        StreamingResponseBody projects = output -> projectsService.streamAuthoredProjects(id, output);
+        return ResponseEntity.ok(withCurrentRouting(projects));
+    }
+
     /**
      * Method to get a {@link UpdateStatus#IN_DEVELOPMENT} projects list
      *
@@ -463,12 +500,11 @@ public class ProjectsController extends DefaultPandoroController {
         String targetVersion = jsonHelper.getString(UPDATE_TARGET_VERSION_KEY);
         if (!INSTANCE.isValidVersion(targetVersion))
             return failedResponse(WRONG_UPDATE_TARGET_VERSION_ERROR_MESSAGE);
-        if (updatesService.targetVersionExists(projectId, targetVersion))
-            return failedResponse(WRONG_UPDATE_TARGET_VERSION_EXISTS_ERROR_MESSAGE);
         List<String> changeNotes = jsonHelper.fetchList(UPDATE_CHANGE_NOTES_KEY);
         if (!INSTANCE.areNotesValid(changeNotes))
             return failedResponse(WRONG_CHANGE_NOTES_ERROR_MESSAGE);
-        updatesService.scheduleUpdate(generateIdentifier(), targetVersion, changeNotes, project, me);
+        if (!updatesService.scheduleUpdate(generateIdentifier(), targetVersion, changeNotes, project, me))
+            return failedResponse(WRONG_UPDATE_TARGET_VERSION_EXISTS_ERROR_MESSAGE);
         return successResponse();
     }
 
@@ -542,17 +578,11 @@ public class ProjectsController extends DefaultPandoroController {
         Update update = updatesService.updateExists(projectId, updateId);
         if (project == null || update == null)
             return failedResponse(WRONG_PROCEDURE_MESSAGE);
-        UpdateStatus status = update.getStatus();
         if (isPublishing) {
-            if (status != IN_DEVELOPMENT)
+            if (!updatesService.publishUpdate(project, update, me))
                 return failedResponse(WRONG_PUBLISH_UPDATE_REQUEST_ERROR_MESSAGE);
-            updatesService.publishUpdate(project, update, me);
-            projectsService.updateProjectVersion(id, projectId, update.getTargetVersion());
-        } else {
-            if (status != SCHEDULED)
-                return failedResponse(WRONG_START_UPDATE_REQUEST_ERROR_MESSAGE);
-            updatesService.startUpdate(project, update, me);
-        }
+        } else if (!updatesService.startUpdate(project, update, me))
+            return failedResponse(WRONG_START_UPDATE_REQUEST_ERROR_MESSAGE);
         return successResponse();
     }
 
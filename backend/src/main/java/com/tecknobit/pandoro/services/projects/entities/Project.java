@@ -7,6 +7,7 @@ import com.tecknobit.equinoxbackend.annotations.EmptyConstructor;
 import com.tecknobit.equinoxbackend.environment.services.builtin.entity.EquinoxItem;
 import com.tecknobit.pandoro.services.PandoroItem;
 import com.tecknobit.pandoro.services.groups.entity.Group;
+import com.tecknobit.pandoro.services.projects.helpers.SemanticVersion;
 import com.tecknobit.pandoro.services.users.entities.PandoroUser;
 import jakarta.persistence.*;
 import org.hibernate.annotations.OnDelete;
@@ -31,7 +32,18 @@ import static com.tecknobit.pandorocore.enums.UpdateStatus.PUBLISHED;
 @Entity
 @Table(
         name = PROJECTS_KEY,
-        uniqueConstraints = @UniqueConstraint(columnNames = NAME_KEY)
+        uniqueConstraints = @UniqueConstraint(columnNames = NAME_KEY),
+        indexes = {
+                @Index(
+                        name = "projects_timeline_index",
+                        columnList = AUTHOR_KEY + "," + CREATION_DATE_KEY
+                ),
+                @Index(
+                        name = "projects_versions_index",
+                        columnList = AUTHOR_KEY + "," + VERSION_MAJOR_KEY + "," + VERSION_MINOR_KEY + "," +
+                                VERSION_PATCH_KEY
+                )
+        }
 )
 public class Project extends PandoroItem {
 
@@ -90,6 +102,43 @@ public class Project extends PandoroItem {
     @Column(name = PROJECT_VERSION_KEY)
     private final String version;
 
+    /**
+     * {@code versionMajor} the major component of the project version, parsed when the version is stored
+     */
+    @JsonIgnore
+    @Column(
+            name = VERSION_MAJOR_KEY,
+            columnDefinition = "INT DEFAULT -1"
+    )
+    private final int versionMajor;
+
+    /**
+     * {@code versionMinor} the minor component of the project version, parsed when the version is stored
+     */
+    @JsonIgnore
+    @Column(
+            name = VERSION_MINOR_KEY,
+            columnDefinition = "INT DEFAULT -1"
+    )
+    private final int versionMinor;
+
+    /**
+     * {@code versionPatch} the patch component of the project version, parsed when the version is stored
+     */
+    @JsonIgnore
+    @Column(
+            name = VERSION_PATCH_KEY,
+            columnDefinition = "INT DEFAULT -1"
+    )
+    private final int versionPatch;
+
+    /**
+     * {@code versionPreRelease} the pre-release label of the project version, {@code null} if it is a release
+     */
+    @JsonIgnore
+    @Column(name = VERSION_PRE_RELEASE_KEY)
+    private final String versionPreRelease;
+
     /**
      * {@code groups} groups where the project has been assigned
      */
@@ -100,7 +149,17 @@ public class Project extends PandoroItem {
     @JoinTable(
             name = PROJECTS_GROUPS_TABLE,
             joinColumns = {@JoinColumn(name = PROJECT_IDENTIFIER_KEY)},
-            inverseJoinColumns = {@JoinColumn(name = GROUP_IDENTIFIER_KEY)}
+            inverseJoinColumns = {@JoinColumn(name = GROUP_IDENTIFIER_KEY)},
+            indexes = {
+                    @Index(
+                            name = "projects_groups_project_index",
+                            columnList = PROJECT_IDENTIFIER_KEY + "," + GROUP_IDENTIFIER_KEY
+                    ),
+                    @Index(
+                            name = "projects_groups_group_index",
+                            columnList = GROUP_IDENTIFIER_KEY + "," + PROJECT_IDENTIFIER_KEY
+                    )
+            }
     )
     @JsonIgnoreProperties({
             PROJECTS_KEY,
@@ -116,7 +175,8 @@ public class Project extends PandoroItem {
             mappedBy = PROJECT_KEY,
             cascade = CascadeType.ALL
     )
-    @OrderBy(UPDATE_TARGET_VERSION_KEY + " DESC")
+    @OrderBy(VERSION_MAJOR_KEY + " DESC, " + VERSION_MINOR_KEY + " DESC, " + VERSION_PATCH_KEY + " DESC, "
+            + VERSION_PRE_RELEASE_KEY + " DESC NULLS FIRST")
     private List<Update> updates;
 
     /**
@@ -158,6 +218,11 @@ public class Project extends PandoroItem {
         this.author = author;
         this.description = description;
         this.version = version;
+        SemanticVersion semanticVersion = SemanticVersion.parse(version);
+        this.versionMajor = semanticVersion.major();
+        this.versionMinor = semanticVersion.minor();
+        this.versionPatch = semanticVersion.patch();
+        this.versionPreRelease = semanticVersion.preRelease();
         this.groups = groups;
         this.updates = updates;
         this.projectRepo = projectRepo;
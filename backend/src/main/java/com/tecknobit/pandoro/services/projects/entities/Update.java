@@ -7,6 +7,7 @@ import com.tecknobit.equinoxbackend.annotations.EmptyConstructor;
 import com.tecknobit.equinoxbackend.annotations.MappingPurpose;
 import com.tecknobit.equinoxbackend.environment.services.builtin.entity.EquinoxItem;
 import com.tecknobit.pandoro.services.notes.entity.Note;
+import com.tecknobit.pandoro.services.projects.helpers.SemanticVersion;
 import com.tecknobit.pandoro.services.users.entities.PandoroUser;
 import com.tecknobit.pandorocore.enums.UpdateStatus;
 import jakarta.persistence.*;
@@ -27,9 +28,42 @@ import static com.tecknobit.pandorocore.enums.UpdateStatus.PUBLISHED;
  * @see EquinoxItem
  */
 @Entity
-@Table(name = UPDATES_KEY)
+@Table(
+        name = UPDATES_KEY,
+        indexes = {
+                @Index(
+                        name = "updates_versions_index",
+                        columnList = PROJECT_KEY + "," + VERSION_MAJOR_KEY + "," + VERSION_MINOR_KEY + "," +
+                                VERSION_PATCH_KEY
+                ),
+                @Index(
+                        name = "updates_status_index",
+                        columnList = PROJECT_KEY + "," + UPDATE_STATUS_KEY
+                ),
+                @Index(
+                        name = Update.TARGET_VERSION_UNIQUE_INDEX,
+                        columnList = PROJECT_KEY + "," + UPDATE_TARGET_VERSION_KEY,
+                        unique = true
+                )
+        }
+)
 public class Update extends EquinoxItem {
 
+    /**
+     * {@code TARGET_VERSION_UNIQUE_INDEX} the name of the index which keeps unique the target versions of a project
+     *
+     * @since 1.2.2
+     */
+    public static final String TARGET_VERSION_UNIQUE_INDEX = "updates_target_version_unique_index";
+
+    /**
+     * {@code TARGET_VERSION_INDEX} the name of the not unique index previously declared on the target versions of a
+     * project, dropped from the existing databases once the {@link #TARGET_VERSION_UNIQUE_INDEX} has been created
+     *
+     * @since 1.2.2
+     */
+    public static final String TARGET_VERSION_INDEX = "updates_target_version_index";
+
     /**
      * {@code author} the author of the update
      */
@@ -63,6 +97,43 @@ public class Update extends EquinoxItem {
     @Column(name = UPDATE_TARGET_VERSION_KEY)
     private final String targetVersion;
 
+    /**
+     * {@code versionMajor} the major component of the target version, parsed when the version is stored
+     */
+    @JsonIgnore
+    @Column(
+            name = VERSION_MAJOR_KEY,
+            columnDefinition = "INT DEFAULT -1"
+    )
+    private final int versionMajor;
+
+    /**
+     * {@code versionMinor} the minor component of the target version, parsed when the version is stored
+     */
+    @JsonIgnore
+    @Column(
+            name = VERSION_MINOR_KEY,
+            columnDefinition = "INT DEFAULT -1"
+    )
+    private final int versionMinor;
+
+    /**
+     * {@code versionPatch} the patch component of the target version, parsed when the version is stored
+     */
+    @JsonIgnore
+    @Column(
+            name = VERSION_PATCH_KEY,
+            columnDefinition = "INT DEFAULT -1"
+    )
+    private final int versionPatch;
+
+    /**
+     * {@code versionPreRelease} the pre-release label of the target version, {@code null} if it is a release
+     */
+    @JsonIgnore
+    @Column(name = VERSION_PRE_RELEASE_KEY)
+    private final String versionPreRelease;
+
     /**
      * {@code status} the status of the update
      */
@@ -209,6 +280,11 @@ public class Update extends EquinoxItem {
         this.author = author;
         this.createDate = createDate;
         this.targetVersion = targetVersion;
+        SemanticVersion semanticVersion = SemanticVersion.parse(targetVersion);
+        this.versionMajor = semanticVersion.major();
+        this.versionMinor = semanticVersion.minor();
+        this.versionPatch = semanticVersion.patch();
+        this.versionPreRelease = semanticVersion.preRelease();
         this.startedBy = startedBy;
         this.startDate = startDate;
         this.publishedBy = publishedBy;
@@ -307,6 +383,18 @@ public class Update extends EquinoxItem {
         return new ArrayList<>(notes);
     }
 
+    /**
+     * Method to get {@link #project} instance
+     *
+     * @return {@link #project} instance as {@link Project}
+     *
+     * @since 1.2.2
+     */
+    @JsonIgnore
+    public Project getProject() {
+        return project;
+    }
+
     /**
      * Method to get {@link #events} instance
      *
@@ -23,7 +23,13 @@ import static org.hibernate.annotations.OnDeleteAction.SET_NULL;
  * @since 1.2.0
  */
 @Entity
-@Table(name = UPDATE_EVENTS_KEY)
+@Table(
+        name = UPDATE_EVENTS_KEY,
+        indexes = @Index(
+                name = "update_events_timeline_index",
+                columnList = OWNER_KEY + "," + TIMESTAMP_KEY
+        )
+)
 public class UpdateEvent extends EquinoxItem {
 
     /**
@@ -0,0 +1,113 @@
+package com.tecknobit.pandoro.services.projects.helpers;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The {@code SemanticVersion} record is useful to represent a version string split in its numeric components, so the
+ * versions can be stored in indexed columns and compared numerically instead of lexicographically
+ *
+ * @param major      The major component of the version
+ * @param minor      The minor component of the version
+ * @param patch      The patch component of the version
+ * @param preRelease The pre-release label of the version, {@code null} if the version is a release
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public record SemanticVersion(int major, int minor, int patch, String preRelease) implements Comparable<SemanticVersion> {
+
+    /**
+     * {@code UNDEFINED_COMPONENT} the value of a component of a version which has not been parsed yet
+     */
+    public static final int UNDEFINED_COMPONENT = -1;
+
+    /**
+     * {@code UNDEFINED_VERSION} the instance used when a version is not available
+     */
+    public static final SemanticVersion UNDEFINED_VERSION = new SemanticVersion(UNDEFINED_COMPONENT,
+            UNDEFINED_COMPONENT, UNDEFINED_COMPONENT, null);
+
+    /**
+     * {@code PRE_RELEASE_PATTERN} the pattern used to detach the pre-release label from a version
+     */
+    private static final Pattern PRE_RELEASE_PATTERN = Pattern.compile("-([a-zA-Z]+\\d*)$");
+
+    /**
+     * {@code COMPONENTS_SEPARATOR_PATTERN} the pattern used to split the numeric components of a version
+     */
+    private static final Pattern COMPONENTS_SEPARATOR_PATTERN = Pattern.compile("[-.]");
+
+    /**
+     * {@code MAX_COMPONENT_DIGITS} the max number of digits of a component which fits in an {@code int}
+     */
+    private static final int MAX_COMPONENT_DIGITS = 9;
+
+    /**
+     * Method to parse a version string already validated, the components after the patch one are ignored
+     *
+     * @param version The version to parse
+     * @return the version parsed as {@link SemanticVersion}, {@link #UNDEFINED_VERSION} if the version is not valid
+     */
+    public static SemanticVersion parse(String version) {
+        if (version == null || version.isBlank())
+            return UNDEFINED_VERSION;
+        String numericPart = version.trim();
+        if (numericPart.startsWith("v") || numericPart.startsWith("V"))
+            numericPart = numericPart.substring(1);
+        String preRelease = null;
+        Matcher preReleaseMatcher = PRE_RELEASE_PATTERN.matcher(numericPart);
+        if (preReleaseMatcher.find()) {
+            preRelease = preReleaseMatcher.group(1);
+            numericPart = numericPart.substring(0, preReleaseMatcher.start());
+        }
+        int[] components = new int[]{0, 0, 0};
+        String[] rawComponents = COMPONENTS_SEPARATOR_PATTERN.split(numericPart);
+        for (int i = 0; i < Math.min(rawComponents.length, components.length); i++) {
+            int component = parseComponent(rawComponents[i]);
+            if (component == UNDEFINED_COMPONENT)
+                return UNDEFINED_VERSION;
+            components[i] = component;
+        }
+        return new SemanticVersion(components[0], components[1], components[2], preRelease);
+    }
+
+    /**
+     * Method to parse a single numeric component of a version
+     *
+     * @param rawComponent The component to parse
+     * @return the component as {@code int}, {@link #UNDEFINED_COMPONENT} if not valid
+     */
+    private static int parseComponent(String rawComponent) {
+        if (rawComponent.isEmpty())
+            return UNDEFINED_COMPONENT;
+        for (int i = 0; i < rawComponent.length(); i++)
+            if (!Character.isDigit(rawComponent.charAt(i)))
+                return UNDEFINED_COMPONENT;
+        if (rawComponent.length() > MAX_COMPONENT_DIGITS)
+            return Integer.MAX_VALUE;
+        return Integer.parseInt(rawComponent);
+    }
+
+    /**
+     * Method to compare two versions, a release is greater than its pre-releases
+     *
+     * @param other The version to compare
+     * @return the result of the comparison as {@code int}
+     */
+    @Override
+    public int compareTo(SemanticVersion other) {
+        int comparison = Integer.compare(major, other.major);
+        if (comparison == 0)
+            comparison = Integer.compare(minor, other.minor);
+        if (comparison == 0)
+            comparison = Integer.compare(patch, other.patch);
+        if (comparison != 0)
+            return comparison;
+        if (preRelease == null)
+            return other.preRelease == null ? 0 : 1;
+        if (other.preRelease == null)
+            return -1;
+        return preRelease.compareTo(other.preRelease);
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.tecknobit.pandoro.services.projects.helpers;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The {@code VersionRange} record is useful to represent a range of versions used to filter the projects. The range is
+ * normalized as an inclusive lower bound and an exclusive upper bound over the major, minor and patch components, so
+ * it can be applied on the indexed version columns
+ *
+ * @param bounded    Whether the range has been specified or the versions have not to be filtered by range
+ * @param lowerMajor The major component of the inclusive lower bound
+ * @param lowerMinor The minor component of the inclusive lower bound
+ * @param lowerPatch The patch component of the inclusive lower bound
+ * @param upperMajor The major component of the exclusive upper bound
+ * @param upperMinor The minor component of the exclusive upper bound
+ * @param upperPatch The patch component of the exclusive upper bound
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public record VersionRange(boolean bounded, int lowerMajor, int lowerMinor, int lowerPatch, int upperMajor,
+                           int upperMinor, int upperPatch) {
+
+    /**
+     * {@code UNBOUNDED_RANGE} the range used when no range filter has been specified
+     */
+    public static final VersionRange UNBOUNDED_RANGE = new VersionRange(false, 0, 0, 0, Integer.MAX_VALUE, 0, 0);
+
+    /**
+     * {@code COMPARATOR_RANGE_PATTERN} the pattern to match the ranges like {@code >=1.2}, {@code <2}
+     */
+    private static final Pattern COMPARATOR_RANGE_PATTERN =
+            Pattern.compile("^(>=|>|<=|<)\\s*v?(\\d{1,9})(?:\\.(\\d{1,9}))?(?:\\.(\\d{1,9}))?$");
+
+    /**
+     * {@code WILDCARD_RANGE_PATTERN} the pattern to match the ranges like {@code 1.x}, {@code 1.2.*}
+     */
+    private static final Pattern WILDCARD_RANGE_PATTERN =
+            Pattern.compile("^v?(\\d{1,9})\\.(?:[xX*]|(\\d{1,9})\\.[xX*])$");
+
+    /**
+     * Method to check whether a filter is a range filter
+     *
+     * @param filter The filter to check
+     * @return whether the filter is a range filter as {@code boolean}
+     */
+    public static boolean isRangeFilter(String filter) {
+        return COMPARATOR_RANGE_PATTERN.matcher(filter).matches() || WILDCARD_RANGE_PATTERN.matcher(filter).matches();
+    }
+
+    /**
+     * Method to parse a range filter. A partial version in a comparator is completed as done by the npm ranges:
+     * {@code >1.2} means {@code >=1.3.0} and {@code <=1.2} means {@code <1.3.0}
+     *
+     * @param filter The filter to parse
+     * @return the range as {@link VersionRange}, {@link #UNBOUNDED_RANGE} if the filter is not a range
+     */
+    public static VersionRange parse(String filter) {
+        Matcher wildcardMatcher = WILDCARD_RANGE_PATTERN.matcher(filter);
+        if (wildcardMatcher.matches()) {
+            int major = Integer.parseInt(wildcardMatcher.group(1));
+            String minor = wildcardMatcher.group(2);
+            if (minor == null)
+                return new VersionRange(true, major, 0, 0, major + 1, 0, 0);
+            int minorValue = Integer.parseInt(minor);
+            return new VersionRange(true, major, minorValue, 0, major, minorValue + 1, 0);
+        }
+        Matcher comparatorMatcher = COMPARATOR_RANGE_PATTERN.matcher(filter);
+        if (!comparatorMatcher.matches())
+            return UNBOUNDED_RANGE;
+        String comparator = comparatorMatcher.group(1);
+        int[] bound = new int[]{Integer.parseInt(comparatorMatcher.group(2)), 0, 0};
+        int specifiedComponents = 1;
+        for (int i = 1; i < bound.length; i++) {
+            String component = comparatorMatcher.group(i + 2);
+            if (component == null)
+                break;
+            bound[i] = Integer.parseInt(component);
+            specifiedComponents++;
+        }
+        if (comparator.equals(">") || comparator.equals("<=")) {
+            bound[specifiedComponents - 1]++;
+            for (int i = specifiedComponents; i < bound.length; i++)
+                bound[i] = 0;
+        }
+        if (comparator.startsWith(">"))
+            return new VersionRange(true, bound[0], bound[1], bound[2], Integer.MAX_VALUE, 0, 0);
+        return new VersionRange(true, 0, 0, 0, bound[0], bound[1], bound[2]);
+    }
+
+    /**
+     * Method to intersect this range with another one
+     *
+     * @param other The range to intersect
+     * @return the intersection of the ranges as {@link VersionRange}
+     */
+    public VersionRange intersect(VersionRange other) {
+        if (!bounded)
+            return other;
+        if (!other.bounded)
+            return this;
+        SemanticVersion lower = new SemanticVersion(lowerMajor, lowerMinor, lowerPatch, null);
+        SemanticVersion otherLower = new SemanticVersion(other.lowerMajor, other.lowerMinor, other.lowerPatch, null);
+        SemanticVersion upper = new SemanticVersion(upperMajor, upperMinor, upperPatch, null);
+        SemanticVersion otherUpper = new SemanticVersion(other.upperMajor, other.upperMinor, other.upperPatch, null);
+        if (otherLower.compareTo(lower) > 0)
+            lower = otherLower;
+        if (otherUpper.compareTo(upper) < 0)
+            upper = otherUpper;
+        return new VersionRange(true, lower.major(), lower.minor(), lower.patch(), upper.major(), upper.minor(),
+                upper.patch());
+    }
+
+}
@@ -2,6 +2,8 @@ package com.tecknobit.pandoro.services.projects.repositories;
 
 import com.tecknobit.pandoro.services.groups.entity.Group;
 import com.tecknobit.pandoro.services.projects.entities.Project;
+import com.tecknobit.pandoro.services.projects.helpers.SemanticVersion;
+import com.tecknobit.pandoro.services.projects.helpers.VersionRange;
 import com.tecknobit.pandorocore.enums.UpdateStatus;
 import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Pageable;
@@ -27,6 +29,65 @@ import static com.tecknobit.pandorocore.ConstantsKt.*;
 @Repository
 public interface ProjectsRepository extends JpaRepository<Project, String> {
 
+    /**
+     * {@code VERSION_LOWER_BOUND_CONDITION} the condition to check whether a project version is greater than or equal
+     * to the lower bound of a {@link VersionRange}
+     *
+     * @since 1.2.2
+     */
+    String VERSION_LOWER_BOUND_CONDITION = "(" + PROJECTS_KEY + "." + VERSION_MAJOR_KEY + " > :#{#" +
+            VERSION_RANGE_KEY + ".lowerMajor()} OR (" + PROJECTS_KEY + "." + VERSION_MAJOR_KEY + " = :#{#" +
+            VERSION_RANGE_KEY + ".lowerMajor()} AND (" + PROJECTS_KEY + "." + VERSION_MINOR_KEY + " > :#{#" +
+            VERSION_RANGE_KEY + ".lowerMinor()} OR (" + PROJECTS_KEY + "." + VERSION_MINOR_KEY + " = :#{#" +
+            VERSION_RANGE_KEY + ".lowerMinor()} AND " + PROJECTS_KEY + "." + VERSION_PATCH_KEY + " >= :#{#" +
+            VERSION_RANGE_KEY + ".lowerPatch()}))))";
+
+    /**
+     * {@code VERSION_UPPER_BOUND_CONDITION} the condition to check whether a project version is lower than the upper
+     * bound of a {@link VersionRange}
+     *
+     * @since 1.2.2
+     */
+    String VERSION_UPPER_BOUND_CONDITION = "(" + PROJECTS_KEY + "." + VERSION_MAJOR_KEY + " < :#{#" +
+            VERSION_RANGE_KEY + ".upperMajor()} OR (" + PROJECTS_KEY + "." + VERSION_MAJOR_KEY + " = :#{#" +
+            VERSION_RANGE_KEY + ".upperMajor()} AND (" + PROJECTS_KEY + "." + VERSION_MINOR_KEY + " < :#{#" +
+            VERSION_RANGE_KEY + ".upperMinor()} OR (" + PROJECTS_KEY + "." + VERSION_MINOR_KEY + " = :#{#" +
+            VERSION_RANGE_KEY + ".upperMinor()} AND " + PROJECTS_KEY + "." + VERSION_PATCH_KEY + " < :#{#" +
+            VERSION_RANGE_KEY + ".upperPatch()}))))";
+
+    /**
+     * {@code VERSIONS_FILTER_CLAUSE} the clause used to filter the projects by the exact versions requested or by a
+     * {@link VersionRange}. The range is applied on the indexed version columns comparing the major, minor and patch
+     * components in order
+     *
+     * @since 1.2.2
+     */
+    String VERSIONS_FILTER_CLAUSE = " AND ((COALESCE(:" + FILTERS_KEY + ") IS NULL" +
+            " AND :#{#" + VERSION_RANGE_KEY + ".bounded()} = false)" +
+            " OR " + PROJECTS_KEY + "." + PROJECT_VERSION_KEY + " IN (:" + FILTERS_KEY + ")" +
+            " OR (:#{#" + VERSION_RANGE_KEY + ".bounded()} = true AND " + VERSION_LOWER_BOUND_CONDITION +
+            " AND " + VERSION_UPPER_BOUND_CONDITION + "))";
+
+    /**
+     * {@code SEMANTIC_VERSION_VALUES} the values of the version columns taken from a {@link SemanticVersion}
+     *
+     * @since 1.2.2
+     */
+    String SEMANTIC_VERSION_VALUES = ":#{#" + SEMANTIC_VERSION_KEY + ".major()}," +
+            ":#{#" + SEMANTIC_VERSION_KEY + ".minor()}," +
+            ":#{#" + SEMANTIC_VERSION_KEY + ".patch()}," +
+            ":#{#" + SEMANTIC_VERSION_KEY + ".preRelease()},";
+
+    /**
+     * {@code SEMANTIC_VERSION_ASSIGNMENTS} the assignments of the version columns taken from a {@link SemanticVersion}
+     *
+     * @since 1.2.2
+     */
+    String SEMANTIC_VERSION_ASSIGNMENTS = VERSION_MAJOR_KEY + "=:#{#" + SEMANTIC_VERSION_KEY + ".major()}," +
+            VERSION_MINOR_KEY + "=:#{#" + SEMANTIC_VERSION_KEY + ".minor()}," +
+            VERSION_PATCH_KEY + "=:#{#" + SEMANTIC_VERSION_KEY + ".patch()}," +
+            VERSION_PRE_RELEASE_KEY + "=:#{#" + SEMANTIC_VERSION_KEY + ".preRelease()}";
+
     /**
      * Method to execute the query to select the list of a {@link Project} authored by the user id
      *
@@ -43,12 +104,30 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
             @Param(AUTHOR_KEY) String userId
     );
 
+    /**
+     * Method to execute the query to select the identifiers of the {@link Project} authored by the user id
+     *
+     * @param userId The user identifier
+     * @return the identifiers of the projects, sorted from the most recent one, as {@link List} of {@link String}
+     * @since 1.2.2
+     */
+    @Query(
+            value = "SELECT " + IDENTIFIER_KEY + " FROM " + PROJECTS_KEY +
+                    " WHERE " + AUTHOR_KEY + "=:" + AUTHOR_KEY +
+                    " ORDER BY " + CREATION_DATE_KEY + " DESC ",
+            nativeQuery = true
+    )
+    List<String> getAuthoredProjectsIds(
+            @Param(AUTHOR_KEY) String userId
+    );
+
     /**
      * Method to execute the query to select the list of a {@link Project} currently {@link UpdateStatus#IN_DEVELOPMENT}
      *
      * @param userId The user identifier
      * @param name The project name to use as filter
      * @param versions The version to use as filters
+     * @param versionRange The range of versions to use as filter
      * @return the list of projects as {@link List} of {@link Project}
      * @apiNote also the projects of a group in which he is a member are returned
      */
@@ -59,8 +138,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
                     " AND " + UPDATE_ESCAPED_KEY + "." + UPDATE_STATUS_KEY + " = 'IN_DEVELOPMENT'" +
                     " WHERE " + PROJECTS_KEY + "." + AUTHOR_KEY + "=:" + AUTHOR_KEY +
                     " AND " + PROJECTS_KEY + "." + NAME_KEY + " LIKE %:" + NAME_KEY + "%" +
-                    " AND COALESCE(:" + FILTERS_KEY + ") IS NULL" +
-                    " OR " + PROJECTS_KEY + "." + PROJECT_VERSION_KEY + " IN (:" + FILTERS_KEY + ")" +
+                    VERSIONS_FILTER_CLAUSE +
                     " UNION SELECT " + PROJECTS_KEY + ".* FROM " + PROJECTS_KEY + " AS " + PROJECTS_KEY + " LEFT JOIN " +
                     PROJECTS_GROUPS_TABLE + " ON " + PROJECTS_KEY + "." + IDENTIFIER_KEY + " = " +
                     PROJECTS_GROUPS_TABLE + "." + PROJECT_IDENTIFIER_KEY + " LEFT JOIN " +
@@ -75,15 +153,15 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
                     " AND " + GROUP_MEMBERS_TABLE + "." + INVITATION_STATUS_KEY + " = 'JOINED'" +
                     " AND " + GROUPS_KEY + "." + AUTHOR_KEY + " !=:" + AUTHOR_KEY +
                     " AND " + PROJECTS_KEY + "." + NAME_KEY + " LIKE %:" + NAME_KEY + "%" +
-                    " AND COALESCE(:" + FILTERS_KEY + ") IS NULL" +
-                    " OR " + PROJECTS_KEY + "." + PROJECT_VERSION_KEY + " IN (:" + FILTERS_KEY + ")" +
+                    VERSIONS_FILTER_CLAUSE +
                     " ORDER BY " + CREATION_DATE_KEY + " DESC ",
             nativeQuery = true
     )
     List<Project> getCompleteInDevelopmentProjectsList(
             @Param(AUTHOR_KEY) String userId,
             @Param(NAME_KEY) String name,
-            @Param(FILTERS_KEY) Set<String> versions
+            @Param(FILTERS_KEY) Set<String> versions,
+            @Param(VERSION_RANGE_KEY) VersionRange versionRange
     );
 
     /**
@@ -92,6 +170,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
      * @param userId   The user identifier
      * @param name The project name to use as filter
      * @param versions The version to use as filters
+     * @param versionRange The range of versions to use as filter
      * @param pageable The parameters to paginate the query
      * @return the list of projects as {@link List} of {@link Project}
      * @apiNote also the projects of a group in which he is a member are returned
@@ -103,8 +182,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
                     " AND " + UPDATE_ESCAPED_KEY + "." + UPDATE_STATUS_KEY + " = 'IN_DEVELOPMENT'" +
                     " WHERE " + PROJECTS_KEY + "." + AUTHOR_KEY + "=:" + AUTHOR_KEY +
                     " AND " + PROJECTS_KEY + "." + NAME_KEY + " LIKE %:" + NAME_KEY + "%" +
-                    " AND COALESCE(:" + FILTERS_KEY + ") IS NULL" +
-                    " OR " + PROJECTS_KEY + "." + PROJECT_VERSION_KEY + " IN (:" + FILTERS_KEY + ")" +
+                    VERSIONS_FILTER_CLAUSE +
                     " UNION SELECT " + PROJECTS_KEY + ".* FROM " + PROJECTS_KEY + " AS " + PROJECTS_KEY + " LEFT JOIN " +
                     PROJECTS_GROUPS_TABLE + " ON " + PROJECTS_KEY + "." + IDENTIFIER_KEY + " = " +
                     PROJECTS_GROUPS_TABLE + "." + PROJECT_IDENTIFIER_KEY + " LEFT JOIN " +
@@ -119,8 +197,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
                     " AND " + GROUP_MEMBERS_TABLE + "." + INVITATION_STATUS_KEY + " = 'JOINED'" +
                     " AND " + GROUPS_KEY + "." + AUTHOR_KEY + " !=:" + AUTHOR_KEY +
                     " AND " + PROJECTS_KEY + "." + NAME_KEY + " LIKE %:" + NAME_KEY + "%" +
-                    " AND COALESCE(:" + FILTERS_KEY + ") IS NULL" +
-                    " OR " + PROJECTS_KEY + "." + PROJECT_VERSION_KEY + " IN (:" + FILTERS_KEY + ")" +
+                    VERSIONS_FILTER_CLAUSE +
                     " ORDER BY " + CREATION_DATE_KEY + " DESC ",
             nativeQuery = true
     )
@@ -128,6 +205,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
             @Param(AUTHOR_KEY) String userId,
             @Param(NAME_KEY) String name,
             @Param(FILTERS_KEY) Set<String> versions,
+            @Param(VERSION_RANGE_KEY) VersionRange versionRange,
             Pageable pageable
     );
 
@@ -137,6 +215,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
      * @param userId The user identifier
      * @param name The project name to use as filter
      * @param versions The version to use as filters
+     * @param versionRange The range of versions to use as filter
      *
      * @return the list of projects as {@link List} of {@link Project}
      * @apiNote also the projects of a group in which he is a member are returned
@@ -145,8 +224,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
             value = "SELECT * FROM " + PROJECTS_KEY + " WHERE "
                     + AUTHOR_KEY + "=:" + AUTHOR_KEY +
                     " AND " + NAME_KEY + " LIKE %:" + NAME_KEY + "%" +
-                    " AND COALESCE(:" + FILTERS_KEY + ") IS NULL" +
-                    " OR " + PROJECT_VERSION_KEY + " IN (:" + FILTERS_KEY + ")" +
+                    VERSIONS_FILTER_CLAUSE +
                     " UNION SELECT " + PROJECTS_KEY + ".* FROM " + PROJECTS_KEY + " AS " + PROJECTS_KEY + " LEFT JOIN " +
                     PROJECTS_GROUPS_TABLE + " ON " + PROJECTS_KEY + "." + IDENTIFIER_KEY + " = " +
                     PROJECTS_GROUPS_TABLE + "." + PROJECT_IDENTIFIER_KEY + " LEFT JOIN " +
@@ -156,15 +234,15 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
                     IDENTIFIER_KEY + " =:" + AUTHOR_KEY + " AND " + GROUP_MEMBERS_TABLE + "." + INVITATION_STATUS_KEY +
                     " = 'JOINED' AND " + GROUPS_KEY + "." + AUTHOR_KEY + " !=:" + AUTHOR_KEY +
                     " AND " + PROJECTS_KEY + "." + NAME_KEY + " LIKE %:" + NAME_KEY + "%" +
-                    " AND COALESCE(:" + FILTERS_KEY + ") IS NULL" +
-                    " OR " + PROJECTS_KEY + "." + PROJECT_VERSION_KEY + " IN (:" + FILTERS_KEY + ")" +
+                    VERSIONS_FILTER_CLAUSE +
                     " ORDER BY " + CREATION_DATE_KEY + " DESC ",
             nativeQuery = true
     )
     List<Project> getCompleteProjectsList(
             @Param(AUTHOR_KEY) String userId,
             @Param(NAME_KEY) String name,
-            @Param(FILTERS_KEY) Set<String> versions
+            @Param(FILTERS_KEY) Set<String> versions,
+            @Param(VERSION_RANGE_KEY) VersionRange versionRange
     );
 
     /**
@@ -173,6 +251,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
      * @param userId   The user identifier
      * @param name The project name to use as filter
      * @param versions The version to use as filters
+     * @param versionRange The range of versions to use as filter
      * @param pageable The parameters to paginate the query
      * @return the list of projects as {@link List} of {@link Project}
      * @apiNote also the projects of a group in which he is a member are returned
@@ -181,8 +260,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
             value = "SELECT * FROM " + PROJECTS_KEY + " WHERE "
                     + AUTHOR_KEY + "=:" + AUTHOR_KEY +
                     " AND " + NAME_KEY + " LIKE %:" + NAME_KEY + "%" +
-                    " AND COALESCE(:" + FILTERS_KEY + ") IS NULL" +
-                    " OR " + PROJECT_VERSION_KEY + " IN (:" + FILTERS_KEY + ")" +
+                    VERSIONS_FILTER_CLAUSE +
                     " UNION SELECT " + PROJECTS_KEY + ".* FROM " + PROJECTS_KEY + " AS " + PROJECTS_KEY + " LEFT JOIN " +
                     PROJECTS_GROUPS_TABLE + " ON " + PROJECTS_KEY + "." + IDENTIFIER_KEY + " = " +
                     PROJECTS_GROUPS_TABLE + "." + PROJECT_IDENTIFIER_KEY + " LEFT JOIN " +
@@ -192,8 +270,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
                     IDENTIFIER_KEY + " =:" + AUTHOR_KEY + " AND " + GROUP_MEMBERS_TABLE + "." + INVITATION_STATUS_KEY +
                     " = 'JOINED' AND " + GROUPS_KEY + "." + AUTHOR_KEY + " !=:" + AUTHOR_KEY +
                     " AND " + PROJECTS_KEY + "." + NAME_KEY + " LIKE %:" + NAME_KEY + "%" +
-                    " AND COALESCE(:" + FILTERS_KEY + ") IS NULL" +
-                    " OR " + PROJECTS_KEY + "." + PROJECT_VERSION_KEY + " IN (:" + FILTERS_KEY + ")" +
+                    VERSIONS_FILTER_CLAUSE +
                     " ORDER BY " + CREATION_DATE_KEY + " DESC ",
             nativeQuery = true
     )
@@ -201,9 +278,31 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
             @Param(AUTHOR_KEY) String userId,
             @Param(NAME_KEY) String name,
             @Param(FILTERS_KEY) Set<String> versions,
+            @Param(VERSION_RANGE_KEY) VersionRange versionRange,
             Pageable pageable
     );
 
+    /**
+     * Method to execute the query to select the identifiers of the projects visible by a user
+     *
+     * @param userId The user identifier
+     * @return the identifiers of the projects as {@link List} of {@link String}
+     * @apiNote also the identifiers of the projects of a group in which he is a member are returned
+     * @since 1.2.2
+     */
+    @Query(
+            value = "SELECT " + IDENTIFIER_KEY + " FROM " + PROJECTS_KEY + " WHERE " + AUTHOR_KEY + "=:" + AUTHOR_KEY +
+                    " UNION SELECT " + PROJECTS_GROUPS_TABLE + "." + PROJECT_IDENTIFIER_KEY + " FROM " +
+                    PROJECTS_GROUPS_TABLE + " INNER JOIN " + GROUP_MEMBERS_TABLE + " ON " + PROJECTS_GROUPS_TABLE +
+                    "." + GROUP_IDENTIFIER_KEY + " = " + GROUP_MEMBERS_TABLE + "." + GROUP_MEMBER_KEY + " WHERE " +
+                    GROUP_MEMBERS_TABLE + "." + IDENTIFIER_KEY + "=:" + AUTHOR_KEY + " AND " + GROUP_MEMBERS_TABLE +
+                    "." + INVITATION_STATUS_KEY + " = 'JOINED'",
+            nativeQuery = true
+    )
+    List<String> getVisibleProjectsIds(
+            @Param(AUTHOR_KEY) String userId
+    );
+
     /**
      * Method to execute the query to select a {@link Project} by its id
      *
@@ -226,6 +325,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
      * @param creationDate The date when the project has been created
      * @param description The description of the project
      * @param version The project_version of the project
+     * @param semanticVersion The project_version parsed in its components
      * @param repository The GitHub or Gitlab project_repository url of the project
      */
     @Modifying(clearAutomatically = true)
@@ -240,6 +340,10 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
                     + CREATION_DATE_KEY + ","
                     + PROJECT_DESCRIPTION_KEY + ","
                     + PROJECT_VERSION_KEY + ","
+                    + VERSION_MAJOR_KEY + ","
+                    + VERSION_MINOR_KEY + ","
+                    + VERSION_PATCH_KEY + ","
+                    + VERSION_PRE_RELEASE_KEY + ","
                     + PROJECT_REPOSITORY_KEY + ") VALUES "
                     + "( "
                     + ":" + AUTHOR_KEY + ","
@@ -249,6 +353,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
                     + ":" + CREATION_DATE_KEY + ","
                     + ":" + PROJECT_DESCRIPTION_KEY + ","
                     + ":" + PROJECT_VERSION_KEY + ","
+                    + SEMANTIC_VERSION_VALUES
                     + ":" + PROJECT_REPOSITORY_KEY + ")",
             nativeQuery = true
     )
@@ -260,6 +365,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
             @Param(CREATION_DATE_KEY) long creationDate,
             @Param(PROJECT_DESCRIPTION_KEY) String description,
             @Param(PROJECT_VERSION_KEY) String version,
+            @Param(SEMANTIC_VERSION_KEY) SemanticVersion semanticVersion,
             @Param(PROJECT_REPOSITORY_KEY) String repository
     );
 
@@ -304,6 +410,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
      * @param name The name of the project
      * @param description The description of the project
      * @param version The project_version of the project
+     * @param semanticVersion The project_version parsed in its components
      * @param repository The GitHub or Gitlab project_repository url of the project
      */
     @Modifying(clearAutomatically = true)
@@ -313,6 +420,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
                     + NAME_KEY + "=:" + NAME_KEY + ","
                     + PROJECT_DESCRIPTION_KEY + "=:" + PROJECT_DESCRIPTION_KEY + ","
                     + PROJECT_VERSION_KEY + "=:" + PROJECT_VERSION_KEY + ","
+                    + SEMANTIC_VERSION_ASSIGNMENTS + ","
                     + PROJECT_REPOSITORY_KEY + "=:" + PROJECT_REPOSITORY_KEY
                     + " WHERE " + AUTHOR_KEY + "=:" + AUTHOR_KEY + " AND "
                     + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
@@ -324,6 +432,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
             @Param(NAME_KEY) String name,
             @Param(PROJECT_DESCRIPTION_KEY) String description,
             @Param(PROJECT_VERSION_KEY) String version,
+            @Param(SEMANTIC_VERSION_KEY) SemanticVersion semanticVersion,
             @Param(PROJECT_REPOSITORY_KEY) String repository
     );
 
@@ -336,6 +445,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
      * @param icon The icon of the project
      * @param description The description of the project
      * @param version The project_version of the project
+     * @param semanticVersion The project_version parsed in its components
      * @param repository The GitHub or Gitlab project_repository url of the project
      */
     @Modifying(clearAutomatically = true)
@@ -346,6 +456,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
                     + PROJECT_ICON_KEY + "=:" + PROJECT_ICON_KEY + ","
                     + PROJECT_DESCRIPTION_KEY + "=:" + PROJECT_DESCRIPTION_KEY + ","
                     + PROJECT_VERSION_KEY + "=:" + PROJECT_VERSION_KEY + ","
+                    + SEMANTIC_VERSION_ASSIGNMENTS + ","
                     + PROJECT_REPOSITORY_KEY + "=:" + PROJECT_REPOSITORY_KEY
                     + " WHERE " + AUTHOR_KEY + "=:" + AUTHOR_KEY + " AND "
                     + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
@@ -358,6 +469,7 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
             @Param(PROJECT_ICON_KEY) String icon,
             @Param(PROJECT_DESCRIPTION_KEY) String description,
             @Param(PROJECT_VERSION_KEY) String version,
+            @Param(SEMANTIC_VERSION_KEY) SemanticVersion semanticVersion,
             @Param(PROJECT_REPOSITORY_KEY) String repository
     );
 
@@ -368,12 +480,14 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
      * @param author:    the author of the project
      * @param projectId The project identifier
      * @param version The last project_version of the project
+     * @param semanticVersion The last project_version parsed in its components
      */
     @Modifying(clearAutomatically = true)
     @Transactional
     @Query(
             value = "UPDATE " + PROJECTS_KEY + " SET "
-                    + PROJECT_VERSION_KEY + "=:" + PROJECT_VERSION_KEY
+                    + PROJECT_VERSION_KEY + "=:" + PROJECT_VERSION_KEY + ","
+                    + SEMANTIC_VERSION_ASSIGNMENTS
                     + " WHERE " + AUTHOR_KEY + "=:" + AUTHOR_KEY + " AND "
                     + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
             nativeQuery = true
@@ -381,7 +495,41 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
     void updateProjectVersion(
             @Param(AUTHOR_KEY) String author,
             @Param(IDENTIFIER_KEY) String projectId,
-            @Param(PROJECT_VERSION_KEY) String version
+            @Param(PROJECT_VERSION_KEY) String version,
+            @Param(SEMANTIC_VERSION_KEY) SemanticVersion semanticVersion
+    );
+
+    /**
+     * Method to execute the query to select the projects whose version has not been parsed yet
+     *
+     * @return the list of projects as {@link List} of {@link Project}
+     * @since 1.2.2
+     */
+    @Query(
+            value = "SELECT * FROM " + PROJECTS_KEY + " WHERE " + VERSION_MAJOR_KEY + " = -1 AND "
+                    + PROJECT_VERSION_KEY + " IS NOT NULL",
+            nativeQuery = true
+    )
+    List<Project> getProjectsWithUnparsedVersion();
+
+    /**
+     * Method to execute the query to store the parsed version of a {@link Project}
+     *
+     * @param projectId The project identifier
+     * @param semanticVersion The project_version parsed in its components
+     * @since 1.2.2
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + PROJECTS_KEY + " SET "
+                    + SEMANTIC_VERSION_ASSIGNMENTS
+                    + " WHERE " + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+            nativeQuery = true
+    )
+    void storeSemanticVersion(
+            @Param(IDENTIFIER_KEY) String projectId,
+            @Param(SEMANTIC_VERSION_KEY) SemanticVersion semanticVersion
     );
 
     /**
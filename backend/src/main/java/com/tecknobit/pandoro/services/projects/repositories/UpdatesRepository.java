@@ -1,6 +1,7 @@
 package com.tecknobit.pandoro.services.projects.repositories;
 
 import com.tecknobit.pandoro.services.projects.entities.Update;
+import com.tecknobit.pandoro.services.projects.helpers.SemanticVersion;
 import com.tecknobit.pandoro.services.users.entities.PandoroUser;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,8 +10,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.AUTHOR_KEY;
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.OWNER_KEY;
+import static com.tecknobit.pandoro.services.projects.repositories.ProjectsRepository.SEMANTIC_VERSION_ASSIGNMENTS;
+import static com.tecknobit.pandoro.services.projects.repositories.ProjectsRepository.SEMANTIC_VERSION_VALUES;
 import static com.tecknobit.pandorocore.ConstantsKt.*;
 
 /**
@@ -24,21 +30,31 @@ import static com.tecknobit.pandorocore.ConstantsKt.*;
 public interface UpdatesRepository extends JpaRepository<Update, String> {
 
     /**
-     * Method to execute the query to select a {@link Update} by its target project_version
+     * {@code KEPT_UPDATE_KEY} the alias of the update kept between the ones with the same target version of a project
      *
-     * @param projectId The project identifier
-     * @param targetVersion The target project_version of the update to fetch
-     * @return the project update as {@link Update}
+     * @since 1.2.2
      */
-    @Query(
-            value = "SELECT * FROM " + UPDATES_KEY + " WHERE " + PROJECT_KEY + "=:" + PROJECT_KEY
-                    + " AND " + UPDATE_TARGET_VERSION_KEY + "=:" + UPDATE_TARGET_VERSION_KEY,
-            nativeQuery = true
-    )
-    Update getUpdateByVersion(
-            @Param(PROJECT_KEY) String projectId,
-            @Param(UPDATE_TARGET_VERSION_KEY) String targetVersion
-    );
+    String KEPT_UPDATE_KEY = "kept_update";
+
+    /**
+     * {@code DUPLICATED_UPDATES} the derived table which pairs each {@link Update} with the one kept between the
+     * updates with its same target version of the same project: the most advanced in its lifecycle, then the first
+     * created
+     *
+     * @since 1.2.2
+     */
+    String DUPLICATED_UPDATES = "(SELECT " + IDENTIFIER_KEY + ",FIRST_VALUE(" + IDENTIFIER_KEY + ") OVER (PARTITION"
+            + " BY " + PROJECT_KEY + "," + UPDATE_TARGET_VERSION_KEY + " ORDER BY FIELD(" + UPDATE_STATUS_KEY + ","
+            + "'PUBLISHED','IN_DEVELOPMENT','SCHEDULED')," + UPDATE_CREATE_DATE_KEY + "," + IDENTIFIER_KEY + ") AS "
+            + KEPT_UPDATE_KEY + " FROM " + UPDATES_KEY + ") AS duplicated";
+
+    /**
+     * {@code DUPLICATED_UPDATE} the condition which selects, from the {@link #DUPLICATED_UPDATES}, the updates to merge
+     * in the kept ones
+     *
+     * @since 1.2.2
+     */
+    String DUPLICATED_UPDATE = "duplicated." + IDENTIFIER_KEY + "<>duplicated." + KEPT_UPDATE_KEY;
 
     /**
      * Method to execute the query to select a {@link Update} by its id
@@ -58,11 +74,92 @@ public interface UpdatesRepository extends JpaRepository<Update, String> {
     );
 
     /**
-     * Method to execute the query to start an existing {@link Update}
+     * Method to execute the query to select the updates whose target version has not been parsed yet
+     *
+     * @return the list of updates as {@link List} of {@link Update}
+     * @since 1.2.2
+     */
+    @Query(
+            value = "SELECT * FROM " + UPDATES_KEY + " WHERE " + VERSION_MAJOR_KEY + " = -1",
+            nativeQuery = true
+    )
+    List<Update> getUpdatesWithUnparsedVersion();
+
+    /**
+     * Method to execute the query to store the parsed target version of an {@link Update}
      *
      * @param updateId The update identifier
+     * @param semanticVersion The target project_version parsed in its components
+     * @since 1.2.2
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + UPDATES_KEY + " SET "
+                    + SEMANTIC_VERSION_ASSIGNMENTS
+                    + " WHERE " + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+            nativeQuery = true
+    )
+    void storeSemanticVersion(
+            @Param(IDENTIFIER_KEY) String updateId,
+            @Param(SEMANTIC_VERSION_KEY) SemanticVersion semanticVersion
+    );
+
+    /**
+     * Method to execute the query to schedule a new {@link Update}, the insertion fails on the
+     * {@link Update#TARGET_VERSION_UNIQUE_INDEX} when the project already has an update with the same target version
+     *
+     * @param updateId The update identifier
+     * @param author The author of the update
+     * @param createDate When the update has been created
+     * @param targetVersion The target project_version of the update
+     * @param semanticVersion The target project_version parsed in its components
+     * @param projectId The project identifier
+     * @since 1.2.2
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "INSERT INTO " + UPDATES_KEY + " ("
+                    + IDENTIFIER_KEY + ","
+                    + AUTHOR_KEY + ","
+                    + UPDATE_CREATE_DATE_KEY + ","
+                    + UPDATE_TARGET_VERSION_KEY + ","
+                    + VERSION_MAJOR_KEY + ","
+                    + VERSION_MINOR_KEY + ","
+                    + VERSION_PATCH_KEY + ","
+                    + VERSION_PRE_RELEASE_KEY + ","
+                    + UPDATE_STATUS_KEY + ","
+                    + UPDATE_START_DATE_KEY + ","
+                    + UPDATE_PUBLISH_DATE_KEY + ","
+                    + PROJECT_KEY + ") VALUES "
+                    + "( "
+                    + ":" + IDENTIFIER_KEY + ","
+                    + ":" + AUTHOR_KEY + ","
+                    + ":" + UPDATE_CREATE_DATE_KEY + ","
+                    + ":" + UPDATE_TARGET_VERSION_KEY + ","
+                    + SEMANTIC_VERSION_VALUES
+                    + "'SCHEDULED',-1,-1,"
+                    + ":" + PROJECT_KEY + ")",
+            nativeQuery = true
+    )
+    void scheduleUpdate(
+            @Param(IDENTIFIER_KEY) String updateId,
+            @Param(AUTHOR_KEY) String author,
+            @Param(UPDATE_CREATE_DATE_KEY) long createDate,
+            @Param(UPDATE_TARGET_VERSION_KEY) String targetVersion,
+            @Param(SEMANTIC_VERSION_KEY) SemanticVersion semanticVersion,
+            @Param(PROJECT_KEY) String projectId
+    );
+
+    /**
+     * Method to execute the query to start an existing {@link Update}, only when it is still scheduled
+     *
+     * @param projectId The project identifier
+     * @param updateId The update identifier
      * @param startDate The start date of the update
      * @param startedBy Who start the update
+     * @return the number of updates started as int, {@code 0} when the update is not scheduled anymore
      */
     @Modifying(clearAutomatically = true)
     @Transactional
@@ -71,21 +168,26 @@ public interface UpdatesRepository extends JpaRepository<Update, String> {
                     + UPDATE_START_DATE_KEY + "=:" + UPDATE_START_DATE_KEY + ","
                     + UPDATE_STARTED_BY_KEY + "=:" + UPDATE_STARTED_BY_KEY + ","
                     + UPDATE_STATUS_KEY + "= 'IN_DEVELOPMENT'"
-                    + " WHERE " + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+                    + " WHERE " + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY
+                    + " AND " + PROJECT_KEY + "=:" + PROJECT_KEY
+                    + " AND " + UPDATE_STATUS_KEY + "= 'SCHEDULED'",
             nativeQuery = true
     )
-    void startUpdate(
+    int startUpdate(
+            @Param(PROJECT_KEY) String projectId,
             @Param(IDENTIFIER_KEY) String updateId,
             @Param(UPDATE_START_DATE_KEY) long startDate,
             @Param(UPDATE_STARTED_BY_KEY) String startedBy
     );
 
     /**
-     * Method to execute the query to publish an existing {@link Update}
+     * Method to execute the query to publish an existing {@link Update}, only when it is still in development
      *
+     * @param projectId The project identifier
      * @param updateId The update identifier
      * @param publishDate The publishing date of the update
      * @param publishedBy Who publish the update
+     * @return the number of updates published as int, {@code 0} when the update is not in development anymore
      */
     @Modifying(clearAutomatically = true)
     @Transactional
@@ -94,10 +196,13 @@ public interface UpdatesRepository extends JpaRepository<Update, String> {
                     + UPDATE_PUBLISH_DATE_KEY + "=:" + UPDATE_PUBLISH_DATE_KEY + ","
                     + UPDATE_PUBLISHED_BY_KEY + "=:" + UPDATE_PUBLISHED_BY_KEY + ","
                     + UPDATE_STATUS_KEY + "= 'PUBLISHED'"
-                    + " WHERE " + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+                    + " WHERE " + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY
+                    + " AND " + PROJECT_KEY + "=:" + PROJECT_KEY
+                    + " AND " + UPDATE_STATUS_KEY + "= 'IN_DEVELOPMENT'",
             nativeQuery = true
     )
-    void publishUpdate(
+    int publishUpdate(
+            @Param(PROJECT_KEY) String projectId,
             @Param(IDENTIFIER_KEY) String updateId,
             @Param(UPDATE_PUBLISH_DATE_KEY) long publishDate,
             @Param(UPDATE_PUBLISHED_BY_KEY) String publishedBy
@@ -139,4 +244,109 @@ public interface UpdatesRepository extends JpaRepository<Update, String> {
             @Param(IDENTIFIER_KEY) String userId
     );
 
+    /**
+     * Method to execute the query to count the indexes of the updates table with the given name
+     *
+     * @param indexName The name of the index
+     * @return the number of the indexes found as int
+     * @since 1.2.2
+     */
+    @Query(
+            value = "SELECT COUNT(*) FROM information_schema.STATISTICS WHERE TABLE_SCHEMA=DATABASE() AND TABLE_NAME='"
+                    + UPDATES_KEY + "' AND INDEX_NAME=:" + IDENTIFIER_KEY,
+            nativeQuery = true
+    )
+    int countIndexes(
+            @Param(IDENTIFIER_KEY) String indexName
+    );
+
+    /**
+     * Method to merge the updates with the same target version of the same project, stored before the
+     * {@link Update#TARGET_VERSION_UNIQUE_INDEX} was introduced, in the one kept between them: their change notes and
+     * their events are moved to the kept update and then they are deleted
+     *
+     * @return the number of the updates merged
+     * @since 1.2.2
+     */
+    @Transactional
+    default int mergeDuplicatedUpdates() {
+        moveDuplicatedChangeNotes();
+        moveDuplicatedUpdateEvents();
+        return deleteDuplicatedUpdates();
+    }
+
+    /**
+     * Method to execute the query to move the change notes of the duplicated updates to the kept ones
+     *
+     * @since 1.2.2
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + NOTES_KEY + " JOIN " + DUPLICATED_UPDATES + " ON " + NOTES_KEY + "."
+                    + UPDATE_ESCAPED_KEY + "=duplicated." + IDENTIFIER_KEY + " SET " + NOTES_KEY + "."
+                    + UPDATE_ESCAPED_KEY + "=duplicated." + KEPT_UPDATE_KEY + " WHERE " + DUPLICATED_UPDATE,
+            nativeQuery = true
+    )
+    void moveDuplicatedChangeNotes();
+
+    /**
+     * Method to execute the query to move the events of the duplicated updates to the kept ones
+     *
+     * @since 1.2.2
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + UPDATE_EVENTS_KEY + " JOIN " + DUPLICATED_UPDATES + " ON " + UPDATE_EVENTS_KEY + "."
+                    + OWNER_KEY + "=duplicated." + IDENTIFIER_KEY + " SET " + UPDATE_EVENTS_KEY + "." + OWNER_KEY
+                    + "=duplicated." + KEPT_UPDATE_KEY + " WHERE " + DUPLICATED_UPDATE,
+            nativeQuery = true
+    )
+    void moveDuplicatedUpdateEvents();
+
+    /**
+     * Method to execute the query to delete the duplicated updates
+     *
+     * @return the number of the updates deleted
+     * @since 1.2.2
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "DELETE " + UPDATES_KEY + " FROM " + UPDATES_KEY + " JOIN " + DUPLICATED_UPDATES + " ON "
+                    + UPDATES_KEY + "." + IDENTIFIER_KEY + "=duplicated." + IDENTIFIER_KEY + " WHERE "
+                    + DUPLICATED_UPDATE,
+            nativeQuery = true
+    )
+    int deleteDuplicatedUpdates();
+
+    /**
+     * Method to execute the statement to create the {@link Update#TARGET_VERSION_UNIQUE_INDEX}
+     *
+     * @since 1.2.2
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = "CREATE UNIQUE INDEX " + Update.TARGET_VERSION_UNIQUE_INDEX + " ON " + UPDATES_KEY + " ("
+                    + PROJECT_KEY + "," + UPDATE_TARGET_VERSION_KEY + ")",
+            nativeQuery = true
+    )
+    void createTargetVersionUniqueIndex();
+
+    /**
+     * Method to execute the statement to drop the {@link Update#TARGET_VERSION_INDEX}, made redundant by the
+     * {@link Update#TARGET_VERSION_UNIQUE_INDEX}
+     *
+     * @since 1.2.2
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = "DROP INDEX " + Update.TARGET_VERSION_INDEX + " ON " + UPDATES_KEY,
+            nativeQuery = true
+    )
+    void dropTargetVersionIndex();
+
 }
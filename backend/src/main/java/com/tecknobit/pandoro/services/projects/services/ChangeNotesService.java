@@ -3,11 +3,15 @@ package com.tecknobit.pandoro.services.projects.services;
 import com.tecknobit.pandoro.services.notes.entity.Note;
 import com.tecknobit.pandoro.services.notes.repository.NotesRepository;
 import com.tecknobit.pandoro.services.projects.entities.Update;
+import com.tecknobit.pandoro.services.search.helpers.SearchIndexer;
+import com.tecknobit.pandoro.services.sync.helpers.SyncTracker;
 import com.tecknobit.pandoro.services.users.entities.PandoroUser;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.tecknobit.pandoro.services.search.helpers.SearchIndexer.SearchableType.CHANGE_NOTE;
+
 /**
  * The {@code ChangeNotesService} class is useful to handle the change notes database operations
  *
@@ -27,16 +31,31 @@ public class ChangeNotesService {
      */
     private final UpdateEventsNotifier updateEventsNotifier;
 
+    /**
+     * {@code searchIndexer} instance used to keep the search index aligned
+     */
+    private final SearchIndexer searchIndexer;
+
+    /**
+     * {@code syncTracker} instance used to stamp the changes to synchronize
+     */
+    private final SyncTracker syncTracker;
+
     /**
      * Constructor used to init the service
      *
      * @param notesRepository The instance for the notes repository
      * @param updateEventsNotifier The notifier used to notify about an update event
+     * @param searchIndexer The instance used to keep the search index aligned
+     * @param syncTracker The instance used to stamp the changes to synchronize
      */
     @Autowired
-    public ChangeNotesService(NotesRepository notesRepository, UpdateEventsNotifier updateEventsNotifier) {
+    public ChangeNotesService(NotesRepository notesRepository, UpdateEventsNotifier updateEventsNotifier,
+                              SearchIndexer searchIndexer, SyncTracker syncTracker) {
         this.notesRepository = notesRepository;
         this.updateEventsNotifier = updateEventsNotifier;
+        this.searchIndexer = searchIndexer;
+        this.syncTracker = syncTracker;
     }
 
     /**
@@ -74,6 +93,8 @@ public class ChangeNotesService {
         Note changeNote = new Note(noteId, user, contentNote, System.currentTimeMillis(), update);
         notesRepository.save(changeNote);
         updateEventsNotifier.changeNoteAdded(user, update, changeNote);
+        searchIndexer.indexChangeNote(noteId, contentNote, update.getProject().getId());
+        syncTracker.projectChanged(update.getProject().getId());
     }
 
     /**
@@ -90,6 +111,8 @@ public class ChangeNotesService {
         String oldContent = changeNote.getContent();
         changeNote.setContent(contentNote);
         updateEventsNotifier.changeNoteEdited(user, update, changeNote, oldContent);
+        searchIndexer.indexChangeNote(changeNote.getId(), contentNote, update.getProject().getId());
+        syncTracker.projectChanged(update.getProject().getId());
     }
 
     /**
@@ -104,6 +127,7 @@ public class ChangeNotesService {
         long markAsDoneDate = System.currentTimeMillis();
         notesRepository.manageChangeNoteStatus(update.getId(), changeNote.getId(), true, user.getId(), markAsDoneDate);
         updateEventsNotifier.changeNoteDone(user, update, changeNote);
+        syncTracker.projectChanged(update.getProject().getId());
     }
 
     /**
@@ -117,6 +141,7 @@ public class ChangeNotesService {
     public void markChangeNoteAsToDo(Update update, Note changeNote, PandoroUser user) {
         notesRepository.manageChangeNoteStatus(update.getId(), changeNote.getId(), false, null, -1);
         updateEventsNotifier.changeNoteUndone(user, update, changeNote);
+        syncTracker.projectChanged(update.getProject().getId());
     }
 
     /**
@@ -131,6 +156,9 @@ public class ChangeNotesService {
     public void moveChangeNote(Note changeNote, Update sourceUpdate, Update destinationUpdate, PandoroUser user) {
         notesRepository.moveChangeNote(changeNote.getId(), destinationUpdate.getId());
         updateEventsNotifier.changeNoteMoved(user, sourceUpdate, destinationUpdate, changeNote);
+        searchIndexer.indexChangeNote(changeNote.getId(), changeNote.getContent(),
+                destinationUpdate.getProject().getId());
+        syncTracker.projectChanged(destinationUpdate.getProject().getId());
     }
 
     /**
@@ -144,6 +172,8 @@ public class ChangeNotesService {
     public void deleteChangeNote(Update update, Note changeNote, PandoroUser user) {
         notesRepository.deleteChangeNote(update.getId(), changeNote.getId());
         updateEventsNotifier.changeNoteRemoved(user, update, changeNote);
+        searchIndexer.remove(CHANGE_NOTE, changeNote.getId());
+        syncTracker.projectChanged(update.getProject().getId());
     }
 
 }
@@ -1,9 +1,13 @@
 package com.tecknobit.pandoro.services.projects.services;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.tecknobit.equinoxbackend.annotations.TableColumns;
 import com.tecknobit.equinoxbackend.apis.batch.EquinoxItemsHelper;
 import com.tecknobit.equinoxcore.pagination.PaginatedResponse;
 import com.tecknobit.pandoro.configuration.PandoroResourcesManager;
+import com.tecknobit.pandoro.helpers.profiling.ProjectsEvent;
 import com.tecknobit.pandoro.services.changelogs.helpers.ChangelogsNotifier;
 import com.tecknobit.pandoro.services.groups.entity.Group;
 import com.tecknobit.pandoro.services.groups.repositories.GroupMembersRepository;
@@ -11,22 +15,36 @@ import com.tecknobit.pandoro.services.groups.repositories.GroupsRepository;
 import com.tecknobit.pandoro.services.projects.dto.ProjectDTO;
 import com.tecknobit.pandoro.services.projects.entities.Project;
 import com.tecknobit.pandoro.services.projects.entities.Update;
+import com.tecknobit.pandoro.services.projects.helpers.SemanticVersion;
+import com.tecknobit.pandoro.services.projects.helpers.VersionRange;
 import com.tecknobit.pandoro.services.projects.repositories.ProjectsRepository;
+import com.tecknobit.pandoro.services.search.helpers.SearchIndexer;
+import com.tecknobit.pandoro.services.sync.helpers.SyncTracker;
 import com.tecknobit.pandoro.services.users.entities.GroupMember;
 import com.tecknobit.pandorocore.enums.UpdateStatus;
+import com.tecknobit.pandorocore.helpers.PandoroInputsScanner;
 import jakarta.persistence.Query;
-import kotlin.Pair;
+import kotlin.Triple;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.regex.Pattern;
 
 import static com.tecknobit.equinoxbackend.apis.batch.EquinoxItemsHelper.InsertCommand.INSERT_INTO;
+import static com.tecknobit.pandoro.services.search.helpers.SearchIndexer.SearchableType.PROJECT;
 import static com.tecknobit.pandorocore.ConstantsKt.*;
 import static com.tecknobit.pandorocore.enums.UpdateStatus.IN_DEVELOPMENT;
 
@@ -50,16 +68,6 @@ public class ProjectsService extends EquinoxItemsHelper implements PandoroResour
      */
     private static final Pattern PROJECT_NAME_PATTERN = Pattern.compile(PROJECT_NAME_REGEX);
 
-    /**
-     * {@code PROJECT_VERSION_REGEX} regex to validate the project version
-     */
-    private static final String PROJECT_VERSION_REGEX = "^v?(?:\\d+[-.]?)+(-[a-zA-Z]+\\d*)?$";
-
-    /**
-     * {@code PROJECT_VERSION_PATTERN} the pattern to validate the project version
-     */
-    private static final Pattern PROJECT_VERSION_PATTERN = Pattern.compile(PROJECT_VERSION_REGEX);
-
     /**
      * {@code projectsRepository} instance for the projects repository
      */
@@ -80,6 +88,38 @@ public class ProjectsService extends EquinoxItemsHelper implements PandoroResour
      */
     private final ChangelogsNotifier changelogsNotifier;
 
+    /**
+     * {@code searchIndexer} instance used to keep the search index aligned
+     */
+    private final SearchIndexer searchIndexer;
+
+    /**
+     * {@code syncTracker} instance used to stamp the changes to synchronize
+     */
+    private final SyncTracker syncTracker;
+
+    /**
+     * {@code STREAMED_PROJECTS_CHUNK_SIZE} the number of projects loaded together while they are streamed
+     *
+     * @since 1.2.2
+     */
+    private static final int STREAMED_PROJECTS_CHUNK_SIZE = 50;
+
+    /**
+     * {@code projectWriter} the writer used to format the projects streamed
+     *
+     * @since 1.2.2
+     */
+    private final ObjectWriter projectWriter;
+
+    /**
+     * {@code streamingTemplate} the template used to load each chunk of the projects streamed in its own read-only
+     * transaction
+     *
+     * @since 1.2.2
+     */
+    private final TransactionTemplate streamingTemplate;
+
     /**
      * Constructor used to init the service
      *
@@ -87,14 +127,25 @@ public class ProjectsService extends EquinoxItemsHelper implements PandoroResour
      * @param groupsRepository       The instance for the groups repository
      * @param groupMembersRepository The instance for the group members repository
      * @param changelogsNotifier The instance used to notify a changelog event
+     * @param searchIndexer The instance used to keep the search index aligned
+     * @param syncTracker The instance used to stamp the changes to synchronize
+     * @param transactionManager The manager of the transactions
+     * @param mapper The mapper used to format the projects streamed
      */
     @Autowired
     public ProjectsService(ProjectsRepository projectsRepository, GroupsRepository groupsRepository,
-                           GroupMembersRepository groupMembersRepository, ChangelogsNotifier changelogsNotifier) {
+                           GroupMembersRepository groupMembersRepository, ChangelogsNotifier changelogsNotifier,
+                           SearchIndexer searchIndexer, SyncTracker syncTracker,
+                           PlatformTransactionManager transactionManager, ObjectMapper mapper) {
         this.projectsRepository = projectsRepository;
         this.groupsRepository = groupsRepository;
         this.groupMembersRepository = groupMembersRepository;
         this.changelogsNotifier = changelogsNotifier;
+        this.searchIndexer = searchIndexer;
+        this.syncTracker = syncTracker;
+        projectWriter = mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        streamingTemplate = new TransactionTemplate(transactionManager);
+        streamingTemplate.setReadOnly(true);
     }
 
     /**
@@ -107,6 +158,56 @@ public class ProjectsService extends EquinoxItemsHelper implements PandoroResour
         return projectsRepository.getAuthoredProjects(userId);
     }
 
+    /**
+     * Method to stream the user's authored projects, each one written as a JSON object on its own line
+     *
+     * @param userId The user identifier
+     * @param output The stream where the projects are written
+     * @throws IOException when the projects cannot be written
+     * @apiNote only the identifiers of the projects are selected together, the projects are then loaded in chunks of
+     * {@link #STREAMED_PROJECTS_CHUNK_SIZE}, each one in its own read-only transaction where its associations are
+     * loaded while it is formatted. The connection is released before the chunk is written, so a slow client does
+     * not keep a connection of the pool for the whole stream, and the projects of a chunk are released with its
+     * transaction, so the memory used does not depend on the number of the projects authored
+     * @since 1.2.2
+     */
+    public void streamAuthoredProjects(String userId, OutputStream output) throws IOException {
+        List<String> projectsIds = projectsRepository.getAuthoredProjectsIds(userId);
+        for (int j = 0; j < projectsIds.size(); j += STREAMED_PROJECTS_CHUNK_SIZE) {
+            List<String> chunkIds = projectsIds.subList(j, Math.min(j + STREAMED_PROJECTS_CHUNK_SIZE,
+                    projectsIds.size()));
+            byte[] chunk = streamingTemplate.execute(status -> formatChunk(chunkIds));
+            output.write(chunk);
+            output.flush();
+        }
+    }
+
+    /**
+     * Method to load a chunk of the projects streamed and to format them, each one as a JSON object on its own line
+     *
+     * @param chunkIds The identifiers of the projects of the chunk, in the order they have to be written
+     * @return the projects formatted as {@code byte[]}
+     * @since 1.2.2
+     */
+    private byte[] formatChunk(List<String> chunkIds) {
+        Map<String, Project> chunk = new HashMap<>();
+        for (Project project : projectsRepository.findAllById(chunkIds))
+            chunk.put(project.getId(), project);
+        ByteArrayOutputStream formattedChunk = new ByteArrayOutputStream();
+        try {
+            for (String projectId : chunkIds) {
+                Project project = chunk.get(projectId);
+                if (project != null) {
+                    projectWriter.writeValue(formattedChunk, project);
+                    formattedChunk.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return formattedChunk.toByteArray();
+    }
+
     /**
      * Method to get the user's {@link UpdateStatus#IN_DEVELOPMENT} projects list
      *
@@ -117,16 +218,19 @@ public class ProjectsService extends EquinoxItemsHelper implements PandoroResour
      * @return the projects list as {@link PaginatedResponse} of {@link Project}
      * @apiNote also the projects of a group in which he is a member are returned
      */
+    @Transactional(readOnly = true)
     public PaginatedResponse<Project> getInDevelopmentProjects(String userId, int page, int pageSize,
                                                                Set<String> filters) {
         Pageable pageable = PageRequest.of(page, pageSize);
-        Pair<String, Set<String>> filtersSet = extractProjectFilters(filters);
+        Triple<String, Set<String>, VersionRange> filtersSet = extractProjectFilters(filters);
         String projectNameFilter = filtersSet.getFirst();
         Set<String> versionsFilter = filtersSet.getSecond();
+        VersionRange versionRange = filtersSet.getThird();
         List<Project> projects = projectsRepository.getInDevelopmentProjects(
                 userId,
                 projectNameFilter,
                 versionsFilter,
+                versionRange,
                 pageable
         );
         for (Project project : projects) {
@@ -137,7 +241,8 @@ public class ProjectsService extends EquinoxItemsHelper implements PandoroResour
         long projectsCount = projectsRepository.getCompleteInDevelopmentProjectsList(
                 userId,
                 projectNameFilter,
-                versionsFilter
+                versionsFilter,
+                versionRange
         ).size();
         return new PaginatedResponse<>(projects, page, pageSize, projectsCount);
     }
@@ -154,32 +259,48 @@ public class ProjectsService extends EquinoxItemsHelper implements PandoroResour
      *
      * @apiNote also the projects of a group in which he is a member are returned
      */
+    @Transactional(readOnly = true)
     public PaginatedResponse<Project> getProjects(String userId, int page, int pageSize, Set<String> filters) {
-        Pageable pageable = PageRequest.of(page, pageSize);
-        Pair<String, Set<String>> filtersSet = extractProjectFilters(filters);
-        String projectNameFilter = filtersSet.getFirst();
-        Set<String> versionsFilter = filtersSet.getSecond();
-        List<Project> projects = projectsRepository.getProjects(userId, projectNameFilter, versionsFilter, pageable);
-        long projectsCount = projectsRepository.getCompleteProjectsList(userId, projectNameFilter, versionsFilter).size();
-        return new PaginatedResponse<>(projects, page, pageSize, projectsCount);
+        ProjectsEvent event = new ProjectsEvent(userId, filters.size());
+        event.begin();
+        try {
+            Pageable pageable = PageRequest.of(page, pageSize);
+            Triple<String, Set<String>, VersionRange> filtersSet = extractProjectFilters(filters);
+            String projectNameFilter = filtersSet.getFirst();
+            Set<String> versionsFilter = filtersSet.getSecond();
+            VersionRange versionRange = filtersSet.getThird();
+            List<Project> projects = projectsRepository.getProjects(userId, projectNameFilter, versionsFilter,
+                    versionRange, pageable);
+            long projectsCount = projectsRepository.getCompleteProjectsList(userId, projectNameFilter, versionsFilter,
+                    versionRange).size();
+            event.setProjects(projects.size(), projectsCount);
+            return new PaginatedResponse<>(projects, page, pageSize, projectsCount);
+        } finally {
+            event.commit();
+        }
     }
 
     /**
-     * Method to select from the raw filter the specific values of the different filters
+     * Method to select from the raw filter the specific values of the different filters, the range filters such
+     * {@code >=1.2} or {@code 1.x} are intersected in a single {@link VersionRange}
      *
      * @param rawFilters The raw filters
-     * @return the specific filters as {@link Pair} of {@link String} and {@link HashSet} of {@link String}
+     * @return the specific filters as {@link Triple} of {@link String}, {@link HashSet} of {@link String} and
+     * {@link VersionRange}
      */
-    private Pair<String, Set<String>> extractProjectFilters(Set<String> rawFilters) {
+    private Triple<String, Set<String>, VersionRange> extractProjectFilters(Set<String> rawFilters) {
         String projectName = "";
         HashSet<String> filters = new HashSet<>();
+        VersionRange versionRange = VersionRange.UNBOUNDED_RANGE;
         for (String filter : rawFilters) {
-            if (projectName.isEmpty() && PROJECT_NAME_PATTERN.matcher(filter).matches())
+            if (VersionRange.isRangeFilter(filter))
+                versionRange = versionRange.intersect(VersionRange.parse(filter));
+            else if (projectName.isEmpty() && PROJECT_NAME_PATTERN.matcher(filter).matches())
                 projectName = filter;
-            else if (PROJECT_VERSION_PATTERN.matcher(filter).matches())
+            else if (PandoroInputsScanner.INSTANCE.isProjectVersion(filter))
                 filters.add(filter);
         }
-        return new Pair<>(projectName, filters);
+        return new Triple<>(projectName, filters, versionRange);
     }
 
     /**
@@ -212,15 +333,18 @@ public class ProjectsService extends EquinoxItemsHelper implements PandoroResour
      * @param project The payload with the project details
      * @param isAdding Whether is the adding operation that need to be executed
      */
+    @Transactional(rollbackFor = IOException.class)
     public void workWithProject(String userId, String projectId, ProjectDTO project, boolean isAdding) throws IOException {
         MultipartFile icon = project.icon();
         String iconPath = null;
         String name = project.name();
         String description = project.project_description();
         String version = project.project_version();
+        SemanticVersion semanticVersion = SemanticVersion.parse(version);
         String repository = project.project_repository();
         List<String> groups = project.groups();
         long operationDate = System.currentTimeMillis();
+        List<String> previousAudience = syncTracker.getProjectAudience(projectId);
         if (icon != null) {
             if (!isAdding)
                 deleteProjectIconResource(projectId);
@@ -235,6 +359,7 @@ public class ProjectsService extends EquinoxItemsHelper implements PandoroResour
                     operationDate,
                     description,
                     version,
+                    semanticVersion,
                     repository
             );
             addGroupsToAProject(groups, projectId);
@@ -242,10 +367,12 @@ public class ProjectsService extends EquinoxItemsHelper implements PandoroResour
                 saveResource(icon, iconPath);
         } else {
             if (iconPath != null) {
-                projectsRepository.editProject(userId, projectId, name, iconPath, description, version, repository);
+                projectsRepository.editProject(userId, projectId, name, iconPath, description, version,
+                        semanticVersion, repository);
                 saveResource(icon, iconPath);
             } else
-                projectsRepository.editProject(userId, projectId, name, description, version, repository);
+                projectsRepository.editProject(userId, projectId, name, description, version, semanticVersion,
+                        repository);
             List<String> currentGroups = projectsRepository.getProjectGroupsIds(projectId);
             currentGroups.removeAll(groups);
             for (String group : currentGroups) {
@@ -256,7 +383,13 @@ public class ProjectsService extends EquinoxItemsHelper implements PandoroResour
             }
             groups.removeAll(projectsRepository.getProjectGroupsIds(projectId));
             addGroupsToAProject(groups, projectId);
+            for (String group : currentGroups)
+                syncTracker.groupChanged(group);
         }
+        for (String group : groups)
+            syncTracker.groupChanged(group);
+        searchIndexer.indexProject(projectId, name, description);
+        syncTracker.projectChanged(projectId, previousAudience);
     }
 
     /**
@@ -301,8 +434,21 @@ public class ProjectsService extends EquinoxItemsHelper implements PandoroResour
      * @param updateVersion The new version to set
      * @since 1.2.0
      */
+    @Transactional
     public void updateProjectVersion(String userId, String projectId, String updateVersion) {
-        projectsRepository.updateProjectVersion(userId, projectId, updateVersion);
+        projectsRepository.updateProjectVersion(userId, projectId, updateVersion, SemanticVersion.parse(updateVersion));
+        syncTracker.projectChanged(projectId);
+    }
+
+    /**
+     * Method used to parse and store the versions of the projects stored before the version columns were introduced
+     *
+     * @since 1.2.2
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void parseStoredVersions() {
+        for (Project project : projectsRepository.getProjectsWithUnparsedVersion())
+            projectsRepository.storeSemanticVersion(project.getId(), SemanticVersion.parse(project.getVersion()));
     }
 
     /**
@@ -311,13 +457,24 @@ public class ProjectsService extends EquinoxItemsHelper implements PandoroResour
      * @param userId The user identifier
      * @param projectId The project identifier
      */
+    @Transactional
     public void deleteProject(String userId, String projectId) {
         Project project = getProjectById(projectId);
-        if (project.hasGroups())
-            for (Group group : project.getGroups())
+        List<String> previousAudience = syncTracker.getProjectAudience(projectId);
+        List<String> groups = new ArrayList<>();
+        if (project.hasGroups()) {
+            for (Group group : project.getGroups()) {
                 groupsRepository.removeGroupProject(projectId, group.getId());
+                groups.add(group.getId());
+            }
+        }
         projectsRepository.deleteProject(userId, projectId);
         deleteProjectIconResource(projectId);
+        searchIndexer.remove(PROJECT, projectId);
+        searchIndexer.removeProjectChangeNotes(projectId);
+        syncTracker.projectDeleted(projectId, previousAudience);
+        for (String group : groups)
+            syncTracker.groupChanged(group);
     }
 
 }
@@ -1,7 +1,7 @@
 package com.tecknobit.pandoro.services.projects.services;
 
-import com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController;
 import com.tecknobit.equinoxcore.annotations.Wrapper;
+import com.tecknobit.pandoro.services.DefaultPandoroController;
 import com.tecknobit.pandoro.services.notes.entity.Note;
 import com.tecknobit.pandoro.services.projects.entities.Update;
 import com.tecknobit.pandoro.services.projects.entities.UpdateEvent;
@@ -196,7 +196,7 @@ public class UpdateEventsNotifier {
      */
     private void storeUpdateEvent(PandoroUser author, UpdateEventType type, Update owner, Note changeNote,
                                   String extraContent) {
-        String eventId = EquinoxController.generateIdentifier();
+        String eventId = DefaultPandoroController.generateIdentifier();
         String noteContent = null;
         if (changeNote != null)
             noteContent = changeNote.getContent();
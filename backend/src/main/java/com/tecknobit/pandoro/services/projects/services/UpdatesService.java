@@ -3,20 +3,29 @@ package com.tecknobit.pandoro.services.projects.services;
 import com.tecknobit.equinoxbackend.annotations.TableColumns;
 import com.tecknobit.equinoxbackend.apis.batch.EquinoxItemsHelper;
 import com.tecknobit.pandoro.services.changelogs.helpers.ChangelogsNotifier;
+import com.tecknobit.pandoro.services.notes.entity.Note;
 import com.tecknobit.pandoro.services.projects.entities.Project;
 import com.tecknobit.pandoro.services.projects.entities.Update;
+import com.tecknobit.pandoro.services.projects.helpers.SemanticVersion;
 import com.tecknobit.pandoro.services.projects.repositories.UpdatesRepository;
+import com.tecknobit.pandoro.services.search.helpers.SearchIndexer;
+import com.tecknobit.pandoro.services.sync.helpers.SyncTracker;
 import com.tecknobit.pandoro.services.users.entities.PandoroUser;
 import jakarta.persistence.Query;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
 
 import static com.tecknobit.equinoxbackend.apis.batch.EquinoxItemsHelper.InsertCommand.INSERT_IGNORE_INTO;
-import static com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController.generateIdentifier;
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
+import static com.tecknobit.pandoro.services.DefaultPandoroController.generateIdentifier;
 import static com.tecknobit.pandorocore.ConstantsKt.*;
 import static com.tecknobit.pandorocore.enums.UpdateStatus.SCHEDULED;
 
@@ -45,30 +54,49 @@ public class UpdatesService extends EquinoxItemsHelper {
      */
     private final UpdateEventsNotifier updateEventsNotifier;
 
+    /**
+     * {@code searchIndexer} instance used to keep the search index aligned
+     */
+    private final SearchIndexer searchIndexer;
+
+    /**
+     * {@code syncTracker} instance used to stamp the changes to synchronize
+     */
+    private final SyncTracker syncTracker;
+
+    /**
+     * {@code projectsService} instance used to update the version of the project of a published update
+     */
+    private final ProjectsService projectsService;
+
+    /**
+     * {@code transactionTemplate} the template used to store each new update in its own transaction
+     */
+    private final TransactionTemplate transactionTemplate;
+
     /**
      * Constructor used to init the service
      *
      * @param updatesRepository  The instance for the updates repository
      * @param changelogsNotifier The instance used to notify a changelog event
      * @param updateEventsNotifier The notifier used to notify about an update event
+     * @param searchIndexer The instance used to keep the search index aligned
+     * @param syncTracker The instance used to stamp the changes to synchronize
+     * @param projectsService The instance used to update the version of the project of a published update
+     * @param transactionManager The manager of the transactions used to store the new updates
      */
     @Autowired
     public UpdatesService(UpdatesRepository updatesRepository, ChangelogsNotifier changelogsNotifier,
-                          UpdateEventsNotifier updateEventsNotifier) {
+                          UpdateEventsNotifier updateEventsNotifier, SearchIndexer searchIndexer,
+                          SyncTracker syncTracker, ProjectsService projectsService,
+                          PlatformTransactionManager transactionManager) {
         this.updatesRepository = updatesRepository;
         this.changelogsNotifier = changelogsNotifier;
         this.updateEventsNotifier = updateEventsNotifier;
-    }
-
-    /**
-     * Method to check whether an update with the target project_version inserted already exists
-     *
-     * @param projectId     The project identifier
-     * @param targetVersion The target project_version to check
-     * @return whether an update with the target project_version inserted already exists as boolean
-     */
-    public boolean targetVersionExists(String projectId, String targetVersion) {
-        return updatesRepository.getUpdateByVersion(projectId, targetVersion) != null;
+        this.searchIndexer = searchIndexer;
+        this.syncTracker = syncTracker;
+        this.projectsService = projectsService;
+        transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -90,13 +118,43 @@ public class UpdatesService extends EquinoxItemsHelper {
      * @param changeNotes   The change notes of the new update
      * @param user        The user who scheduled the update
      * @param project       The project owner of the update
+     * @return whether the update has been scheduled as boolean, {@code false} when an update with the same target
+     * project_version already exists
+     * @apiNote the uniqueness of the target project_version is guaranteed by the database, so two concurrent requests
+     * cannot schedule the same version twice. The update is stored in its own transaction, which is rolled back when
+     * the {@link Update#TARGET_VERSION_UNIQUE_INDEX} is violated, any other violation is propagated
+     */
+    public boolean scheduleUpdate(String updateId, String targetVersion, List<String> changeNotes,
+                                  Project project, PandoroUser user) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> storeUpdate(updateId, targetVersion, changeNotes,
+                    project, user));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            String violation = e.getMostSpecificCause().getMessage();
+            if (violation != null && violation.contains(Update.TARGET_VERSION_UNIQUE_INDEX))
+                return false;
+            throw e;
+        }
+    }
+
+    /**
+     * Method to store a new update with its change notes
+     *
+     * @param updateId      The update identifier
+     * @param targetVersion The target project_version of the new update
+     * @param changeNotes   The change notes of the new update
+     * @param project       The project owner of the update
+     * @param user          The user who scheduled the update
      */
-    public void scheduleUpdate(String updateId, String targetVersion, List<String> changeNotes,
-                               Project project, PandoroUser user) {
+    private void storeUpdate(String updateId, String targetVersion, List<String> changeNotes, Project project,
+                             PandoroUser user) {
         String projectId = project.getId();
         String userId = user.getId();
         Update update = new Update(updateId, user, System.currentTimeMillis(), targetVersion, SCHEDULED, project);
-        updatesRepository.save(update);
+        updatesRepository.scheduleUpdate(updateId, userId, update.getCreateTimestamp(), targetVersion,
+                SemanticVersion.parse(targetVersion), projectId);
+        Map<String, String> changeNotesIds = new LinkedHashMap<>();
         batchInsert(INSERT_IGNORE_INTO, NOTES_KEY, new EquinoxItemsHelper.BatchQuery<String>() {
             @Override
             public Collection<String> getData() {
@@ -107,7 +165,9 @@ public class UpdatesService extends EquinoxItemsHelper {
             @TableColumns(columns = {IDENTIFIER_KEY, AUTHOR_KEY, CONTENT_NOTE_KEY, CREATION_DATE_KEY, UPDATE_ESCAPED_KEY})
             public void prepareQuery(Query query, int index, Collection<String> changeNotes) {
                 for (String changeNote : changeNotes) {
-                    query.setParameter(index++, generateIdentifier());
+                    String changeNoteId = generateIdentifier();
+                    changeNotesIds.put(changeNoteId, changeNote);
+                    query.setParameter(index++, changeNoteId);
                     query.setParameter(index++, userId);
                     query.setParameter(index++, changeNote);
                     query.setParameter(index++, System.currentTimeMillis());
@@ -120,7 +180,10 @@ public class UpdatesService extends EquinoxItemsHelper {
                 return new String[]{IDENTIFIER_KEY, AUTHOR_KEY, CONTENT_NOTE_KEY, CREATION_DATE_KEY, UPDATE_ESCAPED_KEY};
             }
         });
+        changeNotesIds.forEach((changeNoteId, changeNote) -> searchIndexer.indexChangeNote(changeNoteId, changeNote,
+                projectId));
         updateEventsNotifier.updateScheduled(user, update);
+        syncTracker.projectChanged(projectId);
         if (project.hasGroups())
             changelogsNotifier.scheduledNewUpdate(targetVersion, projectId, userId);
     }
@@ -131,15 +194,20 @@ public class UpdatesService extends EquinoxItemsHelper {
      * @param project The project owner of the update
      * @param update  The update to start
      * @param user  The user who start the update
+     * @return whether the update has been started as boolean, {@code false} when it is not scheduled anymore
      */
-    public void startUpdate(Project project, Update update, PandoroUser user) {
+    @Transactional
+    public boolean startUpdate(Project project, Update update, PandoroUser user) {
         String projectId = project.getId();
         String updateId = update.getId();
         String userId = user.getId();
-        updatesRepository.startUpdate(updateId, System.currentTimeMillis(), userId);
+        if (updatesRepository.startUpdate(projectId, updateId, System.currentTimeMillis(), userId) == 0)
+            return false;
         updateEventsNotifier.updateStarted(user, update);
+        syncTracker.projectChanged(projectId);
         if (project.hasGroups())
             changelogsNotifier.updateStarted(update.getTargetVersion(), projectId, userId);
+        return true;
     }
 
     /**
@@ -148,15 +216,23 @@ public class UpdatesService extends EquinoxItemsHelper {
      * @param project The project owner of the update
      * @param update  The update to publish
      * @param user  The user who publish the update
+     * @return whether the update has been published as boolean, {@code false} when it is not in development anymore
+     * @apiNote the version of the project is updated in the same transaction of the publication, so a failure cannot
+     * leave a published update with the project still at its previous version
      */
-    public void publishUpdate(Project project, Update update, PandoroUser user) {
+    @Transactional
+    public boolean publishUpdate(Project project, Update update, PandoroUser user) {
         String projectId = project.getId();
         String updateId = update.getId();
         String userId = user.getId();
-        updatesRepository.publishUpdate(updateId, System.currentTimeMillis(), userId);
+        if (updatesRepository.publishUpdate(projectId, updateId, System.currentTimeMillis(), userId) == 0)
+            return false;
+        projectsService.updateProjectVersion(userId, projectId, update.getTargetVersion());
         updateEventsNotifier.updatePublished(user, update);
+        syncTracker.projectChanged(projectId);
         if (project.hasGroups())
             changelogsNotifier.updatePublished(update.getTargetVersion(), projectId, userId);
+        return true;
     }
 
     /**
@@ -166,11 +242,48 @@ public class UpdatesService extends EquinoxItemsHelper {
      * @param update  The update to delete
      * @param userId  The user identifier
      */
+    @Transactional
     public void deleteUpdate(Project project, Update update, String userId) {
         String projectId = project.getId();
+        List<String> changeNotesIds = new ArrayList<>();
+        for (Note changeNote : updatesRepository.getUpdateById(projectId, update.getId()).getNotes())
+            changeNotesIds.add(changeNote.getId());
         updatesRepository.deleteUpdate(update.getId());
+        searchIndexer.removeChangeNotes(changeNotesIds);
+        syncTracker.projectChanged(projectId);
         if (project.hasGroups())
             changelogsNotifier.updateDeleted(update.getTargetVersion(), projectId, userId);
     }
 
+    /**
+     * Method used to parse and store the target versions of the updates stored before the version columns were
+     * introduced
+     *
+     * @since 1.2.2
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void parseStoredVersions() {
+        for (Update update : updatesRepository.getUpdatesWithUnparsedVersion())
+            updatesRepository.storeSemanticVersion(update.getId(), SemanticVersion.parse(update.getTargetVersion()));
+    }
+
+    /**
+     * Method used to migrate the existing databases to the {@link Update#TARGET_VERSION_UNIQUE_INDEX}: the updates
+     * with the same target version of the same project are merged in a single update, then the unique index is
+     * created and the redundant {@link Update#TARGET_VERSION_INDEX} is dropped
+     *
+     * @apiNote when the updates table holds duplicated target versions the schema update at the startup cannot create
+     * the unique index, so it is created here after the duplicates have been merged
+     * @since 1.2.2
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateTargetVersionIndex() {
+        if (updatesRepository.countIndexes(Update.TARGET_VERSION_UNIQUE_INDEX) == 0) {
+            updatesRepository.mergeDuplicatedUpdates();
+            updatesRepository.createTargetVersionUniqueIndex();
+        }
+        if (updatesRepository.countIndexes(Update.TARGET_VERSION_INDEX) > 0)
+            updatesRepository.dropTargetVersionIndex();
+    }
+
 }
@@ -0,0 +1,68 @@
+package com.tecknobit.pandoro.services.search.controller;
+
+import com.tecknobit.equinoxcore.annotations.RequestPath;
+import com.tecknobit.pandoro.services.DefaultPandoroController;
+import com.tecknobit.pandoro.services.search.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
+import static com.tecknobit.equinoxcore.network.EquinoxBaseEndpointsSet.BASE_EQUINOX_ENDPOINT;
+import static com.tecknobit.equinoxcore.network.RequestMethod.GET;
+import static com.tecknobit.pandorocore.ConstantsKt.QUERY_KEY;
+import static com.tecknobit.pandorocore.helpers.PandoroEndpoints.SEARCH_ENDPOINT;
+
+/**
+ * The {@code SearchController} class is useful to manage the search operations
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController
+ * @see DefaultPandoroController
+ * @since 1.2.2
+ */
+@RestController
+@RequestMapping(path = BASE_EQUINOX_ENDPOINT + USERS_KEY + "/{" + IDENTIFIER_KEY + "}/" + SEARCH_ENDPOINT)
+public class SearchController extends DefaultPandoroController {
+
+    /**
+     * {@code searchService} instance to manage the search operations
+     */
+    private final SearchService searchService;
+
+    /**
+     * Constructor used to init the controller
+     *
+     * @param searchService The instance to manage the search operations
+     */
+    @Autowired
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /**
+     * Method to search between the projects, the groups, the notes and the change notes visible by the user
+     *
+     * @param id    The identifier of the user
+     * @param token The token of the user
+     * @param query The query to execute
+     * @return the result of the request as {@link T}
+     */
+    @GetMapping(
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/users/{id}/search", method = GET)
+    public <T> T search(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestParam(name = QUERY_KEY) String query
+    ) {
+        if (!isMe(id, token))
+            return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if (query.isBlank())
+            return (T) failedResponse(WRONG_PROCEDURE_MESSAGE);
+        return (T) successResponse(searchService.search(id, query));
+    }
+
+}
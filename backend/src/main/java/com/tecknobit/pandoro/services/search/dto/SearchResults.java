@@ -0,0 +1,31 @@
+package com.tecknobit.pandoro.services.search.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.tecknobit.equinoxcore.annotations.DTO;
+import com.tecknobit.pandoro.services.groups.entity.Group;
+import com.tecknobit.pandoro.services.notes.entity.Note;
+import com.tecknobit.pandoro.services.projects.entities.Project;
+
+import java.util.List;
+
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+
+/**
+ * The {@code SearchResults} record is useful to transfer the items which matched a search query
+ *
+ * @param projects    The projects which matched the query
+ * @param groups      The groups which matched the query
+ * @param notes       The personal notes which matched the query
+ * @param changeNotes The change notes which matched the query
+ * @author N7ghtm4r3 - Tecknobit
+ * @see DTO
+ * @since 1.2.2
+ */
+@DTO
+public record SearchResults(
+        @JsonProperty(PROJECTS_KEY) List<Project> projects,
+        @JsonProperty(GROUPS_KEY) List<Group> groups,
+        @JsonProperty(NOTES_KEY) List<Note> notes,
+        @JsonProperty(CHANGE_NOTES_KEY) List<Note> changeNotes
+) {
+}
@@ -0,0 +1,348 @@
+package com.tecknobit.pandoro.services.search.helpers;
+
+import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.pandoro.services.groups.entity.Group;
+import com.tecknobit.pandoro.services.groups.repositories.GroupsRepository;
+import com.tecknobit.pandoro.services.notes.entity.Note;
+import com.tecknobit.pandoro.services.notes.repository.NotesRepository;
+import com.tecknobit.pandoro.services.projects.entities.Project;
+import com.tecknobit.pandoro.services.projects.entities.Update;
+import com.tecknobit.pandoro.services.projects.repositories.ProjectsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * The {@code SearchIndexer} class is useful to maintain the in-process inverted index used to search between the
+ * projects, the groups, the personal notes and the change notes. The index is built once when the application is ready
+ * and then kept aligned incrementally by the services which execute the write operations. The changes requested inside
+ * a transaction are applied only after its commit, so a rolled back operation never leaves its items in the index
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@Service
+public class SearchIndexer {
+
+    /**
+     * {@code TERMS_SEPARATOR_PATTERN} the pattern used to split a text in its terms
+     */
+    private static final Pattern TERMS_SEPARATOR_PATTERN = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * {@code SearchableType} the types of the items which can be indexed
+     */
+    public enum SearchableType {
+
+        /**
+         * {@code PROJECT} a project indexed by its name and its description
+         */
+        PROJECT,
+
+        /**
+         * {@code GROUP} a group indexed by its name and its description
+         */
+        GROUP,
+
+        /**
+         * {@code NOTE} a personal note indexed by its content
+         */
+        NOTE,
+
+        /**
+         * {@code CHANGE_NOTE} a change note of an update indexed by its content
+         */
+        CHANGE_NOTE
+
+    }
+
+    /**
+     * The {@code SearchableItem} record represents an item stored in the index
+     *
+     * @param type  The type of the item
+     * @param id    The identifier of the item
+     * @param scope The identifier used to check the visibility of the item: the author for the personal notes,
+     *              the project for the change notes, the item itself otherwise
+     */
+    public record SearchableItem(SearchableType type, String id, String scope) {
+    }
+
+    /**
+     * {@code postings} the inverted index, each term is mapped to the items which contain it
+     */
+    private final ConcurrentSkipListMap<String, Set<SearchableItem>> postings;
+
+    /**
+     * {@code indexedTerms} the terms currently indexed for each item, used to remove or replace an item
+     */
+    private final ConcurrentHashMap<String, Set<String>> indexedTerms;
+
+    /**
+     * {@code indexedItems} the items currently indexed
+     */
+    private final ConcurrentHashMap<String, SearchableItem> indexedItems;
+
+    /**
+     * {@code projectsRepository} instance for the projects repository
+     */
+    private final ProjectsRepository projectsRepository;
+
+    /**
+     * {@code groupsRepository} instance for the groups repository
+     */
+    private final GroupsRepository groupsRepository;
+
+    /**
+     * {@code notesRepository} instance for the notes repository
+     */
+    private final NotesRepository notesRepository;
+
+    /**
+     * Constructor used to init the service
+     *
+     * @param projectsRepository The instance for the projects repository
+     * @param groupsRepository   The instance for the groups repository
+     * @param notesRepository    The instance for the notes repository
+     */
+    @Autowired
+    public SearchIndexer(ProjectsRepository projectsRepository, GroupsRepository groupsRepository,
+                         NotesRepository notesRepository) {
+        this.projectsRepository = projectsRepository;
+        this.groupsRepository = groupsRepository;
+        this.notesRepository = notesRepository;
+        postings = new ConcurrentSkipListMap<>();
+        indexedTerms = new ConcurrentHashMap<>();
+        indexedItems = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method to build the index with the items already stored when the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndex() {
+        for (Project project : projectsRepository.findAll()) {
+            String projectId = project.getId();
+            indexProject(projectId, project.getName(), project.getDescription());
+            for (Update update : project.getUpdates())
+                for (Note changeNote : update.getNotes())
+                    indexChangeNote(changeNote.getId(), changeNote.getContent(), projectId);
+        }
+        for (Group group : groupsRepository.findAll())
+            indexGroup(group.getId(), group.getName(), group.getDescription());
+        for (Note note : notesRepository.getPersonalNotes())
+            indexNote(note.getId(), note.getContent(), note.getAuthor().getId());
+    }
+
+    /**
+     * Method to index a project or to replace its indexed data
+     *
+     * @param projectId   The project identifier
+     * @param name        The name of the project
+     * @param description The description of the project
+     */
+    @Wrapper
+    public void indexProject(String projectId, String name, String description) {
+        afterCommit(() -> index(new SearchableItem(SearchableType.PROJECT, projectId, projectId), name, description));
+    }
+
+    /**
+     * Method to index a group or to replace its indexed data
+     *
+     * @param groupId     The group identifier
+     * @param name        The name of the group
+     * @param description The description of the group
+     */
+    @Wrapper
+    public void indexGroup(String groupId, String name, String description) {
+        afterCommit(() -> index(new SearchableItem(SearchableType.GROUP, groupId, groupId), name, description));
+    }
+
+    /**
+     * Method to index a personal note or to replace its indexed data
+     *
+     * @param noteId   The note identifier
+     * @param content  The content of the note
+     * @param authorId The author of the note identifier
+     */
+    @Wrapper
+    public void indexNote(String noteId, String content, String authorId) {
+        afterCommit(() -> index(new SearchableItem(SearchableType.NOTE, noteId, authorId), content));
+    }
+
+    /**
+     * Method to index a change note or to replace its indexed data
+     *
+     * @param noteId    The change note identifier
+     * @param content   The content of the change note
+     * @param projectId The identifier of the project owner of the update of the change note
+     */
+    @Wrapper
+    public void indexChangeNote(String noteId, String content, String projectId) {
+        afterCommit(() -> index(new SearchableItem(SearchableType.CHANGE_NOTE, noteId, projectId), content));
+    }
+
+    /**
+     * Method to apply a change of the index after the commit of the current transaction, or immediately when no
+     * transaction is active
+     *
+     * @param change The change to apply
+     */
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    /**
+     * Method to index an item, the terms previously indexed for the same item are replaced
+     *
+     * @param item  The item to index
+     * @param texts The texts from extract the terms to index
+     */
+    private synchronized void index(SearchableItem item, String... texts) {
+        String itemKey = itemKey(item.type(), item.id());
+        removeItem(itemKey);
+        Set<String> terms = new HashSet<>();
+        for (String text : texts)
+            terms.addAll(tokenize(text));
+        for (String term : terms)
+            postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(item);
+        indexedTerms.put(itemKey, terms);
+        indexedItems.put(itemKey, item);
+    }
+
+    /**
+     * Method to remove an item from the index
+     *
+     * @param type The type of the item
+     * @param id   The identifier of the item
+     */
+    public void remove(SearchableType type, String id) {
+        afterCommit(() -> removeItems(List.of(itemKey(type, id))));
+    }
+
+    /**
+     * Method to remove from the index some change notes
+     *
+     * @param changeNotesIds The identifiers of the change notes to remove
+     */
+    public void removeChangeNotes(Collection<String> changeNotesIds) {
+        List<String> itemsKeys = new ArrayList<>();
+        for (String changeNoteId : changeNotesIds)
+            itemsKeys.add(itemKey(SearchableType.CHANGE_NOTE, changeNoteId));
+        afterCommit(() -> removeItems(itemsKeys));
+    }
+
+    /**
+     * Method to remove from the index all the change notes of a project
+     *
+     * @param projectId The project identifier
+     */
+    public void removeProjectChangeNotes(String projectId) {
+        afterCommit(() -> {
+            List<String> itemsKeys = new ArrayList<>();
+            for (Map.Entry<String, SearchableItem> item : indexedItems.entrySet()) {
+                SearchableItem indexedItem = item.getValue();
+                if (indexedItem.type() == SearchableType.CHANGE_NOTE && indexedItem.scope().equals(projectId))
+                    itemsKeys.add(item.getKey());
+            }
+            removeItems(itemsKeys);
+        });
+    }
+
+    /**
+     * Method to remove a list of items from the index
+     *
+     * @param itemsKeys The keys of the items to remove
+     */
+    private synchronized void removeItems(List<String> itemsKeys) {
+        for (String itemKey : itemsKeys)
+            removeItem(itemKey);
+    }
+
+    /**
+     * Method to remove an item from the index
+     *
+     * @param itemKey The key of the item to remove
+     */
+    private void removeItem(String itemKey) {
+        SearchableItem item = indexedItems.remove(itemKey);
+        Set<String> terms = indexedTerms.remove(itemKey);
+        if (item == null || terms == null)
+            return;
+        for (String term : terms) {
+            postings.computeIfPresent(term, (key, items) -> {
+                items.remove(item);
+                return items.isEmpty() ? null : items;
+            });
+        }
+    }
+
+    /**
+     * Method to search the items which match all the terms of a query, each term of the query is matched as prefix
+     * of the indexed terms
+     *
+     * @param query The query to execute
+     * @return the items which match the query as {@link Set} of {@link SearchableItem}
+     */
+    public Set<SearchableItem> search(String query) {
+        Set<SearchableItem> matches = null;
+        for (String term : tokenize(query)) {
+            Set<SearchableItem> termMatches = new HashSet<>();
+            for (Set<SearchableItem> items : postings.subMap(term, true, term + Character.MAX_VALUE, true).values())
+                termMatches.addAll(items);
+            if (matches == null)
+                matches = termMatches;
+            else
+                matches.retainAll(termMatches);
+            if (matches.isEmpty())
+                break;
+        }
+        return matches != null ? matches : Collections.emptySet();
+    }
+
+    /**
+     * Method to split a text in its lowercase terms
+     *
+     * @param text The text to split
+     * @return the terms of the text as {@link List} of {@link String}
+     */
+    private List<String> tokenize(String text) {
+        if (text == null || text.isBlank())
+            return Collections.emptyList();
+        List<String> terms = new ArrayList<>();
+        for (String term : TERMS_SEPARATOR_PATTERN.split(text.toLowerCase(Locale.ROOT)))
+            if (!term.isEmpty())
+                terms.add(term);
+        return terms;
+    }
+
+    /**
+     * Method to get the key used to store an item in the index
+     *
+     * @param type The type of the item
+     * @param id   The identifier of the item
+     * @return the key of the item as {@link String}
+     */
+    private String itemKey(SearchableType type, String id) {
+        return type.name() + ":" + id;
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.tecknobit.pandoro.services.search.service;
+
+import com.tecknobit.equinoxbackend.environment.services.builtin.entity.EquinoxItem;
+import com.tecknobit.pandoro.services.groups.entity.Group;
+import com.tecknobit.pandoro.services.groups.repositories.GroupsRepository;
+import com.tecknobit.pandoro.services.notes.entity.Note;
+import com.tecknobit.pandoro.services.notes.repository.NotesRepository;
+import com.tecknobit.pandoro.services.projects.entities.Project;
+import com.tecknobit.pandoro.services.projects.repositories.ProjectsRepository;
+import com.tecknobit.pandoro.services.search.dto.SearchResults;
+import com.tecknobit.pandoro.services.search.helpers.SearchIndexer;
+import com.tecknobit.pandoro.services.search.helpers.SearchIndexer.SearchableItem;
+import com.tecknobit.pandoro.services.search.helpers.SearchIndexer.SearchableType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.ToLongFunction;
+
+/**
+ * The {@code SearchService} class is useful to execute the search queries over the projects, the groups, the personal
+ * notes and the change notes applying the same visibility rules of the lists of the related services
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@Service
+public class SearchService {
+
+    /**
+     * {@code searchIndexer} instance used to query the search index
+     */
+    private final SearchIndexer searchIndexer;
+
+    /**
+     * {@code projectsRepository} instance for the projects repository
+     */
+    private final ProjectsRepository projectsRepository;
+
+    /**
+     * {@code groupsRepository} instance for the groups repository
+     */
+    private final GroupsRepository groupsRepository;
+
+    /**
+     * {@code notesRepository} instance for the notes repository
+     */
+    private final NotesRepository notesRepository;
+
+    /**
+     * Constructor used to init the service
+     *
+     * @param searchIndexer      The instance used to query the search index
+     * @param projectsRepository The instance for the projects repository
+     * @param groupsRepository   The instance for the groups repository
+     * @param notesRepository    The instance for the notes repository
+     */
+    @Autowired
+    public SearchService(SearchIndexer searchIndexer, ProjectsRepository projectsRepository,
+                         GroupsRepository groupsRepository, NotesRepository notesRepository) {
+        this.searchIndexer = searchIndexer;
+        this.projectsRepository = projectsRepository;
+        this.groupsRepository = groupsRepository;
+        this.notesRepository = notesRepository;
+    }
+
+    /**
+     * Method to search the items visible by the user which match the query
+     *
+     * @param userId The user identifier
+     * @param query  The query to execute
+     * @return the items which matched the query as {@link SearchResults}
+     * @apiNote the projects and the change notes of a group in which he is a member are returned too
+     */
+    public SearchResults search(String userId, String query) {
+        Set<SearchableItem> matches = searchIndexer.search(query);
+        if (matches.isEmpty())
+            return new SearchResults(List.of(), List.of(), List.of(), List.of());
+        Set<String> visibleProjects = new HashSet<>(projectsRepository.getVisibleProjectsIds(userId));
+        Set<String> userGroups = new HashSet<>(groupsRepository.getGroupsIds(userId));
+        List<String> projectsIds = new ArrayList<>();
+        List<String> groupsIds = new ArrayList<>();
+        List<String> notesIds = new ArrayList<>();
+        List<String> changeNotesIds = new ArrayList<>();
+        for (SearchableItem item : matches) {
+            String scope = item.scope();
+            switch (item.type()) {
+                case PROJECT -> {
+                    if (visibleProjects.contains(scope))
+                        projectsIds.add(item.id());
+                }
+                case GROUP -> {
+                    if (userGroups.contains(scope))
+                        groupsIds.add(item.id());
+                }
+                case NOTE -> {
+                    if (userId.equals(scope))
+                        notesIds.add(item.id());
+                }
+                case CHANGE_NOTE -> {
+                    if (visibleProjects.contains(scope))
+                        changeNotesIds.add(item.id());
+                }
+            }
+        }
+        return new SearchResults(
+                loadItems(SearchableType.PROJECT, projectsIds, projectsRepository, Project::getCreation),
+                loadItems(SearchableType.GROUP, groupsIds, groupsRepository, Group::getCreation),
+                loadItems(SearchableType.NOTE, notesIds, notesRepository, Note::getCreation),
+                loadItems(SearchableType.CHANGE_NOTE, changeNotesIds, notesRepository, Note::getCreation)
+        );
+    }
+
+    /**
+     * Method to load the items which matched a query sorting them from the most recent one. The identifiers which do
+     * not refer anymore to an existing item, for example because deleted in cascade, are removed from the index
+     *
+     * @param type       The type of the items to load
+     * @param ids        The identifiers of the items to load
+     * @param repository The repository used to load the items
+     * @param creation   The function to get the creation date of an item
+     * @param <T>        The type of the items to load
+     * @return the items loaded as {@link List} of {@link T}
+     */
+    private <T extends EquinoxItem> List<T> loadItems(SearchableType type, List<String> ids,
+                                                      JpaRepository<T, String> repository,
+                                                      ToLongFunction<T> creation) {
+        if (ids.isEmpty())
+            return List.of();
+        List<T> items = new ArrayList<>(repository.findAllById(ids));
+        if (items.size() != ids.size()) {
+            Set<String> staleIds = new HashSet<>(ids);
+            for (T item : items)
+                staleIds.remove(item.getId());
+            for (String staleId : staleIds)
+                searchIndexer.remove(type, staleId);
+        }
+        items.sort(Comparator.comparingLong(creation).reversed());
+        return items;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.tecknobit.pandoro.services.sync.controller;
+
+import com.tecknobit.equinoxcore.annotations.RequestPath;
+import com.tecknobit.pandoro.services.DefaultPandoroController;
+import com.tecknobit.pandoro.services.sync.service.SyncService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
+import static com.tecknobit.equinoxcore.network.EquinoxBaseEndpointsSet.BASE_EQUINOX_ENDPOINT;
+import static com.tecknobit.equinoxcore.network.RequestMethod.GET;
+import static com.tecknobit.pandorocore.ConstantsKt.SINCE_KEY;
+import static com.tecknobit.pandorocore.helpers.PandoroEndpoints.SYNC_ENDPOINT;
+
+/**
+ * The {@code SyncController} class is useful to manage the incremental synchronization of the items of a user
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController
+ * @see DefaultPandoroController
+ * @since 1.2.2
+ */
+@RestController
+@RequestMapping(path = BASE_EQUINOX_ENDPOINT + USERS_KEY + "/{" + IDENTIFIER_KEY + "}/" + SYNC_ENDPOINT)
+public class SyncController extends DefaultPandoroController {
+
+    /**
+     * {@code syncService} instance to manage the synchronization operations
+     */
+    private final SyncService syncService;
+
+    /**
+     * Constructor used to init the controller
+     *
+     * @param syncService The instance to manage the synchronization operations
+     */
+    @Autowired
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    /**
+     * Method to get the projects, the groups and the notes changed or deleted since a sync token
+     *
+     * @param id    The identifier of the user
+     * @param token The token of the user
+     * @param since The sync token received with the last synchronization
+     * @return the result of the request as {@link T}
+     */
+    @GetMapping(
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/users/{id}/sync", method = GET)
+    public <T> T sync(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestParam(name = SINCE_KEY, defaultValue = "0", required = false) long since
+    ) {
+        if (!isMe(id, token))
+            return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        return (T) successResponse(syncService.sync(id, since));
+    }
+
+}
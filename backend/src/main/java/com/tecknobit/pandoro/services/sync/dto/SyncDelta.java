@@ -0,0 +1,34 @@
+package com.tecknobit.pandoro.services.sync.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.tecknobit.equinoxcore.annotations.DTO;
+import com.tecknobit.pandoro.services.groups.entity.Group;
+import com.tecknobit.pandoro.services.notes.entity.Note;
+import com.tecknobit.pandoro.services.projects.entities.Project;
+import com.tecknobit.pandoro.services.sync.entity.SyncChange;
+
+import java.util.List;
+
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+
+/**
+ * The {@code SyncDelta} record is useful to transfer the items changed since a sync token
+ *
+ * @param syncToken  The token to send with the next synchronization
+ * @param projects   The projects created or changed
+ * @param groups     The groups created or changed
+ * @param notes      The personal notes created or changed
+ * @param tombstones The items deleted or not visible anymore
+ * @author N7ghtm4r3 - Tecknobit
+ * @see DTO
+ * @since 1.2.2
+ */
+@DTO
+public record SyncDelta(
+        @JsonProperty(SYNC_TOKEN_KEY) long syncToken,
+        @JsonProperty(PROJECTS_KEY) List<Project> projects,
+        @JsonProperty(GROUPS_KEY) List<Group> groups,
+        @JsonProperty(NOTES_KEY) List<Note> notes,
+        @JsonProperty(TOMBSTONES_KEY) List<SyncChange> tombstones
+) {
+}
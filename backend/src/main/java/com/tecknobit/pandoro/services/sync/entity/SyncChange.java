@@ -0,0 +1,150 @@
+package com.tecknobit.pandoro.services.sync.entity;
+
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.tecknobit.equinoxbackend.annotations.EmptyConstructor;
+import com.tecknobit.pandorocore.enums.SyncableType;
+import jakarta.persistence.*;
+
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+
+/**
+ * The {@code SyncChange} class is useful to store the last change of an item which a user has to synchronize. A
+ * single row is kept for each user and item, stamped with the change sequence of the user when the item changed
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@Entity
+@Table(
+        name = SYNC_CHANGES_KEY,
+        indexes = {
+                @Index(
+                        name = "sync_changes_sequence_index",
+                        columnList = CHANGELOG_OWNER_KEY + "," + CHANGE_SEQUENCE_KEY
+                ),
+                @Index(
+                        name = "sync_changes_retention_index",
+                        columnList = SYNC_DELETED_KEY + "," + TIMESTAMP_KEY
+                )
+        }
+)
+@IdClass(SyncChangeCompositeKey.class)
+public class SyncChange {
+
+    /**
+     * {@code owner} the identifier of the user who has to synchronize the change
+     */
+    @Id
+    @Column(name = CHANGELOG_OWNER_KEY)
+    @JsonIgnore
+    private final String owner;
+
+    /**
+     * {@code itemType} the type of the item changed
+     */
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = SYNC_ITEM_TYPE_KEY)
+    private final SyncableType itemType;
+
+    /**
+     * {@code itemId} the identifier of the item changed
+     */
+    @Id
+    @Column(name = SYNC_ITEM_IDENTIFIER_KEY)
+    private final String itemId;
+
+    /**
+     * {@code sequence} the change sequence of the user when the item changed
+     */
+    @Column(name = CHANGE_SEQUENCE_KEY)
+    private final long sequence;
+
+    /**
+     * {@code deleted} whether the item has been deleted or is not visible by the user anymore
+     */
+    @Column(name = SYNC_DELETED_KEY)
+    private final boolean deleted;
+
+    /**
+     * {@code timestamp} when the item changed, used to prune the expired tombstones
+     */
+    @Column(
+            name = TIMESTAMP_KEY,
+            columnDefinition = "BIGINT DEFAULT 0 NOT NULL"
+    )
+    @JsonIgnore
+    private final long timestamp;
+
+    /**
+     * Default constructor
+     *
+     * @apiNote empty constructor required
+     */
+    @EmptyConstructor
+    public SyncChange() {
+        this(null, null, null, -1, false, -1);
+    }
+
+    /**
+     * Constructor to init a {@link SyncChange} object
+     *
+     * @param owner    The identifier of the user who has to synchronize the change
+     * @param itemType The type of the item changed
+     * @param itemId   The identifier of the item changed
+     * @param sequence The change sequence of the user when the item changed
+     * @param deleted   Whether the item has been deleted or is not visible by the user anymore
+     * @param timestamp When the item changed
+     */
+    public SyncChange(String owner, SyncableType itemType, String itemId, long sequence, boolean deleted,
+                      long timestamp) {
+        this.owner = owner;
+        this.itemType = itemType;
+        this.itemId = itemId;
+        this.sequence = sequence;
+        this.deleted = deleted;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Method to get {@link #itemType} instance
+     *
+     * @return {@link #itemType} instance as {@link SyncableType}
+     */
+    @JsonGetter(SYNC_ITEM_TYPE_KEY)
+    public SyncableType getItemType() {
+        return itemType;
+    }
+
+    /**
+     * Method to get {@link #itemId} instance
+     *
+     * @return {@link #itemId} instance as {@link String}
+     */
+    @JsonGetter(SYNC_ITEM_IDENTIFIER_KEY)
+    public String getItemId() {
+        return itemId;
+    }
+
+    /**
+     * Method to get {@link #sequence} instance
+     *
+     * @return {@link #sequence} instance as long
+     */
+    @JsonGetter(CHANGE_SEQUENCE_KEY)
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Method to get {@link #deleted} instance
+     *
+     * @return {@link #deleted} instance as boolean
+     */
+    @JsonIgnore
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+}
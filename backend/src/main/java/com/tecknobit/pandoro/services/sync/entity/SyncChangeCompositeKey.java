@@ -0,0 +1,51 @@
+package com.tecknobit.pandoro.services.sync.entity;
+
+import com.tecknobit.pandorocore.enums.SyncableType;
+
+import java.io.Serializable;
+
+/**
+ * The {@code SyncChangeCompositeKey} is useful for the {@link SyncChange} class to specify its ids
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public class SyncChangeCompositeKey implements Serializable {
+
+    /**
+     * {@code owner} the identifier of the user who has to synchronize the change
+     */
+    private String owner;
+
+    /**
+     * {@code itemType} the type of the item changed
+     */
+    private SyncableType itemType;
+
+    /**
+     * {@code itemId} the identifier of the item changed
+     */
+    private String itemId;
+
+    /**
+     * Default constructor
+     *
+     * @apiNote empty constructor required
+     */
+    public SyncChangeCompositeKey() {
+    }
+
+    /**
+     * Constructor to init a {@link SyncChangeCompositeKey} object
+     *
+     * @param owner    The identifier of the user who has to synchronize the change
+     * @param itemType The type of the item changed
+     * @param itemId   The identifier of the item changed
+     */
+    public SyncChangeCompositeKey(String owner, SyncableType itemType, String itemId) {
+        this.owner = owner;
+        this.itemType = itemType;
+        this.itemId = itemId;
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.tecknobit.pandoro.services.sync.helpers;
+
+import com.tecknobit.pandoro.services.sync.entity.SyncChange;
+import com.tecknobit.pandoro.services.sync.repository.SyncChangesRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * The {@code SyncTombstonesPruner} class is useful to apply the retention policy of the tombstones, the
+ * {@link SyncChange} which mark an item as deleted or not visible anymore. The tombstones are pruned in chunks of
+ * users, each one in its own transaction, and the sync horizon of each user is raised to the tombstones pruned, so
+ * the clients which did not synchronize in the meantime load again all their items
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@Service
+public class SyncTombstonesPruner {
+
+    /**
+     * {@code syncChangesRepository} instance for the changes to synchronize repository
+     */
+    private final SyncChangesRepository syncChangesRepository;
+
+    /**
+     * {@code retentionDays} the days after which a tombstone is pruned, {@code 0} to disable the policy
+     */
+    private final int retentionDays;
+
+    /**
+     * {@code chunkSize} the maximum number of users whose tombstones are pruned in a single transaction
+     */
+    private final int chunkSize;
+
+    /**
+     * Constructor used to init the service
+     *
+     * @param syncChangesRepository The instance for the changes to synchronize repository
+     * @param retentionDays         The days after which a tombstone is pruned, {@code 0} to disable the policy
+     * @param chunkSize             The maximum number of users whose tombstones are pruned in a single transaction
+     */
+    @Autowired
+    public SyncTombstonesPruner(SyncChangesRepository syncChangesRepository,
+                                @Value("${pandoro.sync.tombstones.retention-days:30}") int retentionDays,
+                                @Value("${pandoro.sync.tombstones.chunk-size:500}") int chunkSize) {
+        this.syncChangesRepository = syncChangesRepository;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Method to periodically prune the tombstones older than the retention days
+     */
+    @Scheduled(cron = "${pandoro.sync.tombstones.cron:0 0 3 * * *}")
+    public void pruneExpiredTombstones() {
+        if (retentionDays <= 0)
+            return;
+        long expirationTimestamp = currentTimeMillis() - TimeUnit.DAYS.toMillis(retentionDays);
+        List<String> owners;
+        do {
+            owners = syncChangesRepository.getOwnersWithExpiredTombstones(expirationTimestamp, chunkSize);
+            if (!owners.isEmpty())
+                syncChangesRepository.pruneTombstones(owners, expirationTimestamp);
+        } while (owners.size() == chunkSize);
+    }
+
+}
@@ -0,0 +1,240 @@
+package com.tecknobit.pandoro.services.sync.helpers;
+
+import com.tecknobit.pandoro.services.sync.repository.SyncChangesRepository;
+import com.tecknobit.pandoro.services.users.helpers.UsersCountersBuffer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+import static com.tecknobit.pandorocore.enums.SyncableType.*;
+
+/**
+ * The {@code SyncTracker} class is useful to stamp the changes of the projects, the groups and the notes for the
+ * users who can see them, so each client can synchronize only the items changed since its last synchronization. When
+ * a user loses the visibility of an item, the item is stamped for him as deleted
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@Service
+public class SyncTracker {
+
+    /**
+     * The {@code GroupSnapshot} record represents the visibility state of a group before an operation which can change
+     * its members or its projects
+     *
+     * @param audience The members joined in the group
+     * @param projects The projects shared in the group
+     */
+    public record GroupSnapshot(List<String> audience, List<String> projects) {
+    }
+
+    /**
+     * The {@code UserSnapshot} record represents the visibility state of the items related to a user before his
+     * deletion
+     *
+     * @param projects The users who can see each project authored by the user
+     * @param groups   The visibility state of each group where the user is a member
+     */
+    public record UserSnapshot(Map<String, List<String>> projects, Map<String, GroupSnapshot> groups) {
+    }
+
+    /**
+     * {@code syncChangesRepository} instance for the changes to synchronize repository
+     */
+    private final SyncChangesRepository syncChangesRepository;
+
+    /**
+     * {@code usersCountersBuffer} instance used to increase the change sequences and to store the changes
+     */
+    private final UsersCountersBuffer usersCountersBuffer;
+
+    /**
+     * Constructor used to init the service
+     *
+     * @param syncChangesRepository The instance for the changes to synchronize repository
+     * @param usersCountersBuffer The instance used to increase the change sequences and to store the changes
+     */
+    @Autowired
+    public SyncTracker(SyncChangesRepository syncChangesRepository, UsersCountersBuffer usersCountersBuffer) {
+        this.syncChangesRepository = syncChangesRepository;
+        this.usersCountersBuffer = usersCountersBuffer;
+    }
+
+    /**
+     * Method to get the users who currently can see a project
+     *
+     * @param projectId The identifier of the project
+     * @return the identifiers of the users as {@link List} of {@link String}
+     */
+    public List<String> getProjectAudience(String projectId) {
+        return syncChangesRepository.getProjectAudience(projectId);
+    }
+
+    /**
+     * Method to take the visibility state of a group before an operation which can change its members or its projects
+     *
+     * @param groupId The identifier of the group
+     * @return the visibility state of the group as {@link GroupSnapshot}
+     */
+    public GroupSnapshot snapshotGroup(String groupId) {
+        return new GroupSnapshot(syncChangesRepository.getGroupAudience(groupId),
+                syncChangesRepository.getGroupProjects(groupId));
+    }
+
+    /**
+     * Method to stamp the change of a project, its updates and their change notes included, for the users who can see
+     * it
+     *
+     * @param projectId The identifier of the project
+     */
+    public void projectChanged(String projectId) {
+        projectChanged(projectId, List.of());
+    }
+
+    /**
+     * Method to stamp the change of a project for the users who can see it and its deletion for the users who could see
+     * it before the change and cannot anymore
+     *
+     * @param projectId        The identifier of the project
+     * @param previousAudience The users who could see the project before the change
+     */
+    public void projectChanged(String projectId, Collection<String> previousAudience) {
+        List<String> audience = syncChangesRepository.getProjectAudience(projectId);
+        usersCountersBuffer.stampChange(audience, PROJECT, projectId, false);
+        usersCountersBuffer.stampChange(lostAudience(previousAudience, audience), PROJECT, projectId, true);
+    }
+
+    /**
+     * Method to stamp the deletion of a project
+     *
+     * @param projectId        The identifier of the project
+     * @param previousAudience The users who could see the project before its deletion
+     */
+    public void projectDeleted(String projectId, Collection<String> previousAudience) {
+        usersCountersBuffer.stampChange(previousAudience, PROJECT, projectId, true);
+    }
+
+    /**
+     * Method to stamp the change of a group for its members, when the change does not affect its members or its
+     * projects
+     *
+     * @param groupId The identifier of the group
+     */
+    public void groupChanged(String groupId) {
+        usersCountersBuffer.stampChange(syncChangesRepository.getGroupAudience(groupId), GROUP, groupId, false);
+    }
+
+    /**
+     * Method to stamp the change of a group for its members and its deletion for the members who left it. When the
+     * members changed, the projects of the group are stamped too, because their visibility changed as well, otherwise
+     * only the projects added or removed from the group are stamped
+     *
+     * @param groupId  The identifier of the group
+     * @param snapshot The visibility state of the group before the change
+     */
+    public void groupChanged(String groupId, GroupSnapshot snapshot) {
+        GroupSnapshot current = snapshotGroup(groupId);
+        usersCountersBuffer.stampChange(current.audience(), GROUP, groupId, false);
+        usersCountersBuffer.stampChange(lostAudience(snapshot.audience(), current.audience()), GROUP, groupId,
+                true);
+        Set<String> projects = new HashSet<>(current.projects());
+        projects.addAll(snapshot.projects());
+        if (new HashSet<>(snapshot.audience()).equals(new HashSet<>(current.audience()))) {
+            Set<String> unchangedProjects = new HashSet<>(snapshot.projects());
+            unchangedProjects.retainAll(current.projects());
+            projects.removeAll(unchangedProjects);
+        }
+        for (String projectId : projects)
+            projectChanged(projectId, snapshot.audience());
+    }
+
+    /**
+     * Method to stamp the deletion of a group for its members and the change of visibility of its projects
+     *
+     * @param groupId  The identifier of the group
+     * @param snapshot The visibility state of the group before its deletion
+     */
+    public void groupDeleted(String groupId, GroupSnapshot snapshot) {
+        usersCountersBuffer.stampChange(snapshot.audience(), GROUP, groupId, true);
+        for (String projectId : snapshot.projects())
+            projectChanged(projectId, snapshot.audience());
+    }
+
+    /**
+     * Method to stamp the change of a personal note for its author
+     *
+     * @param noteId   The identifier of the note
+     * @param authorId The identifier of the author of the note
+     */
+    public void noteChanged(String noteId, String authorId) {
+        usersCountersBuffer.stampChange(List.of(authorId), NOTE, noteId, false);
+    }
+
+    /**
+     * Method to stamp the deletion of a personal note for its author
+     *
+     * @param noteId   The identifier of the note
+     * @param authorId The identifier of the author of the note
+     */
+    public void noteDeleted(String noteId, String authorId) {
+        usersCountersBuffer.stampChange(List.of(authorId), NOTE, noteId, true);
+    }
+
+    /**
+     * Method to stamp the change of the profile of a user, which is shown by his projects and by the groups where he is
+     * a member
+     *
+     * @param userId The identifier of the user
+     */
+    public void userChanged(String userId) {
+        for (String groupId : syncChangesRepository.getMemberGroups(userId))
+            groupChanged(groupId);
+        for (String projectId : syncChangesRepository.getAuthoredProjects(userId))
+            projectChanged(projectId);
+    }
+
+    /**
+     * Method to take the visibility state of the items related to a user before his deletion
+     *
+     * @param userId The identifier of the user
+     * @return the visibility state of the items related to the user as {@link UserSnapshot}
+     */
+    public UserSnapshot snapshotUser(String userId) {
+        Map<String, List<String>> projects = new HashMap<>();
+        for (String projectId : syncChangesRepository.getAuthoredProjects(userId))
+            projects.put(projectId, syncChangesRepository.getProjectAudience(projectId));
+        Map<String, GroupSnapshot> groups = new HashMap<>();
+        for (String groupId : syncChangesRepository.getMemberGroups(userId))
+            groups.put(groupId, snapshotGroup(groupId));
+        return new UserSnapshot(projects, groups);
+    }
+
+    /**
+     * Method to stamp the deletion of a user: his projects are stamped as deleted, the groups where he was a member are
+     * stamped as changed and his changes to synchronize are removed
+     *
+     * @param userId   The identifier of the user
+     * @param snapshot The visibility state of the items related to the user before his deletion
+     */
+    public void userDeleted(String userId, UserSnapshot snapshot) {
+        snapshot.projects().forEach(this::projectDeleted);
+        snapshot.groups().forEach(this::groupChanged);
+        syncChangesRepository.deleteChanges(userId);
+    }
+
+    /**
+     * Method to get the users who could see an item before a change and cannot anymore
+     *
+     * @param previousAudience The users who could see the item before the change
+     * @param audience         The users who can see the item after the change
+     * @return the identifiers of the users as {@link Set} of {@link String}
+     */
+    private Set<String> lostAudience(Collection<String> previousAudience, Collection<String> audience) {
+        Set<String> lostAudience = new HashSet<>(previousAudience);
+        audience.forEach(lostAudience::remove);
+        return lostAudience;
+    }
+
+}
@@ -0,0 +1,291 @@
+package com.tecknobit.pandoro.services.sync.repository;
+
+import com.tecknobit.pandoro.services.sync.entity.SyncChange;
+import com.tecknobit.pandoro.services.sync.entity.SyncChangeCompositeKey;
+import com.tecknobit.pandorocore.enums.SyncableType;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+
+/**
+ * The {@code SyncChangesRepository} interface is useful to manage the queries for the changes to synchronize
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see JpaRepository
+ * @see SyncChange
+ * @since 1.2.2
+ */
+@Repository
+public interface SyncChangesRepository extends JpaRepository<SyncChange, SyncChangeCompositeKey> {
+
+    /**
+     * Method to execute the query to store the change of an item with the current change sequence of each user
+     *
+     * @param audience The identifiers of the users who have to synchronize the change
+     * @param itemType The type of the item changed
+     * @param itemId   The identifier of the item changed
+     * @param deleted  Whether the item has been deleted or is not visible by the users anymore
+     * @param timestamp When the item changed
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = "INSERT INTO " + SYNC_CHANGES_KEY + " (" + CHANGELOG_OWNER_KEY + "," + SYNC_ITEM_TYPE_KEY + ","
+                    + SYNC_ITEM_IDENTIFIER_KEY + "," + CHANGE_SEQUENCE_KEY + "," + SYNC_DELETED_KEY + ","
+                    + TIMESTAMP_KEY + ") SELECT "
+                    + IDENTIFIER_KEY + ",:#{#" + SYNC_ITEM_TYPE_KEY + ".name()},:" + SYNC_ITEM_IDENTIFIER_KEY + ","
+                    + CHANGE_SEQUENCE_KEY + ",:" + SYNC_DELETED_KEY + ",:" + TIMESTAMP_KEY + " FROM " + USERS_KEY
+                    + " WHERE " + IDENTIFIER_KEY + " IN (:" + USERS_KEY + ") ON DUPLICATE KEY UPDATE "
+                    + CHANGE_SEQUENCE_KEY + "=VALUES(" + CHANGE_SEQUENCE_KEY + "),"
+                    + SYNC_DELETED_KEY + "=VALUES(" + SYNC_DELETED_KEY + "),"
+                    + TIMESTAMP_KEY + "=VALUES(" + TIMESTAMP_KEY + ")",
+            nativeQuery = true
+    )
+    void storeChange(
+            @Param(USERS_KEY) Collection<String> audience,
+            @Param(SYNC_ITEM_TYPE_KEY) SyncableType itemType,
+            @Param(SYNC_ITEM_IDENTIFIER_KEY) String itemId,
+            @Param(SYNC_DELETED_KEY) boolean deleted,
+            @Param(TIMESTAMP_KEY) long timestamp
+    );
+
+    /**
+     * Method to execute the query to select a chunk of the users who own tombstones older than a timestamp
+     *
+     * @param expiration The timestamp before which a tombstone is expired
+     * @param chunkSize  The maximum number of users to select
+     * @return the identifiers of the users as {@link List} of {@link String}
+     */
+    @Query(
+            value = "SELECT DISTINCT " + CHANGELOG_OWNER_KEY + " FROM " + SYNC_CHANGES_KEY + " WHERE "
+                    + SYNC_DELETED_KEY + "=" + true + " AND " + TIMESTAMP_KEY + "<:" + TIMESTAMP_KEY
+                    + " LIMIT :" + PAGE_SIZE_KEY,
+            nativeQuery = true
+    )
+    List<String> getOwnersWithExpiredTombstones(
+            @Param(TIMESTAMP_KEY) long expiration,
+            @Param(PAGE_SIZE_KEY) int chunkSize
+    );
+
+    /**
+     * Method to prune the expired tombstones of a chunk of users, raising their sync horizon to the highest change
+     * sequence pruned, so their clients which synchronized before it load again all the items
+     *
+     * @param owners     The identifiers of the users
+     * @param expiration The timestamp before which a tombstone is expired
+     */
+    @Transactional
+    default void pruneTombstones(Collection<String> owners, long expiration) {
+        raiseSyncHorizons(owners, expiration);
+        deleteExpiredTombstones(owners, expiration);
+    }
+
+    /**
+     * Method to execute the query to raise the sync horizon of the users to the highest change sequence of their
+     * expired tombstones
+     *
+     * @param owners     The identifiers of the users
+     * @param expiration The timestamp before which a tombstone is expired
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = "UPDATE " + USERS_KEY + " SET " + SYNC_HORIZON_KEY + "=GREATEST(" + SYNC_HORIZON_KEY
+                    + ",COALESCE((SELECT MAX(" + CHANGE_SEQUENCE_KEY + ") FROM " + SYNC_CHANGES_KEY + " WHERE "
+                    + SYNC_CHANGES_KEY + "." + CHANGELOG_OWNER_KEY + "=" + USERS_KEY + "." + IDENTIFIER_KEY
+                    + " AND " + SYNC_DELETED_KEY + "=" + true + " AND " + TIMESTAMP_KEY + "<:" + TIMESTAMP_KEY
+                    + "),0)) WHERE " + IDENTIFIER_KEY + " IN (:" + USERS_KEY + ")",
+            nativeQuery = true
+    )
+    void raiseSyncHorizons(
+            @Param(USERS_KEY) Collection<String> owners,
+            @Param(TIMESTAMP_KEY) long expiration
+    );
+
+    /**
+     * Method to execute the query to delete the expired tombstones of the users
+     *
+     * @param owners     The identifiers of the users
+     * @param expiration The timestamp before which a tombstone is expired
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = "DELETE FROM " + SYNC_CHANGES_KEY + " WHERE " + CHANGELOG_OWNER_KEY + " IN (:" + USERS_KEY
+                    + ") AND " + SYNC_DELETED_KEY + "=" + true + " AND " + TIMESTAMP_KEY + "<:" + TIMESTAMP_KEY,
+            nativeQuery = true
+    )
+    void deleteExpiredTombstones(
+            @Param(USERS_KEY) Collection<String> owners,
+            @Param(TIMESTAMP_KEY) long expiration
+    );
+
+    /**
+     * Method to execute the query to get the sync horizon of a user
+     *
+     * @param owner The identifier of the user
+     * @return the highest change sequence of the tombstones pruned for the user as long
+     */
+    @Query(
+            value = "SELECT " + SYNC_HORIZON_KEY + " FROM " + USERS_KEY + " WHERE " + IDENTIFIER_KEY + "=:"
+                    + CHANGELOG_OWNER_KEY,
+            nativeQuery = true
+    )
+    long getSyncHorizon(
+            @Param(CHANGELOG_OWNER_KEY) String owner
+    );
+
+    /**
+     * Method to execute the query to delete the changes stored for a user
+     *
+     * @param owner The identifier of the user
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = "DELETE FROM " + SYNC_CHANGES_KEY + " WHERE " + CHANGELOG_OWNER_KEY + "=:" + CHANGELOG_OWNER_KEY,
+            nativeQuery = true
+    )
+    void deleteChanges(
+            @Param(CHANGELOG_OWNER_KEY) String owner
+    );
+
+    /**
+     * Method to execute the query to get the current change sequence of a user
+     *
+     * @param owner The identifier of the user
+     * @return the current change sequence of the user as long
+     */
+    @Query(
+            value = "SELECT " + CHANGE_SEQUENCE_KEY + " FROM " + USERS_KEY + " WHERE " + IDENTIFIER_KEY + "=:"
+                    + CHANGELOG_OWNER_KEY,
+            nativeQuery = true
+    )
+    long getChangeSequence(
+            @Param(CHANGELOG_OWNER_KEY) String owner
+    );
+
+    /**
+     * Method to execute the query to get the current change sequence of a user, used as version of his data
+     *
+     * @param owner The identifier of the user
+     * @param token The token of the user
+     * @return the current change sequence of the user as {@link Long}, {@code null} if the credentials are not valid
+     */
+    @Query(
+            value = "SELECT " + CHANGE_SEQUENCE_KEY + " FROM " + USERS_KEY + " WHERE " + IDENTIFIER_KEY + "=:"
+                    + CHANGELOG_OWNER_KEY + " AND " + TOKEN_KEY + "=:" + TOKEN_KEY,
+            nativeQuery = true
+    )
+    Long getDataVersion(
+            @Param(CHANGELOG_OWNER_KEY) String owner,
+            @Param(TOKEN_KEY) String token
+    );
+
+    /**
+     * Method to execute the query to select the changes of a user after a change sequence
+     *
+     * @param owner The identifier of the user
+     * @param since The change sequence after which select the changes
+     * @return the changes as {@link List} of {@link SyncChange}
+     */
+    @Query(
+            value = "SELECT * FROM " + SYNC_CHANGES_KEY + " WHERE " + CHANGELOG_OWNER_KEY + "=:" + CHANGELOG_OWNER_KEY
+                    + " AND " + CHANGE_SEQUENCE_KEY + ">:" + SINCE_KEY
+                    + " ORDER BY " + CHANGE_SEQUENCE_KEY + " ASC",
+            nativeQuery = true
+    )
+    List<SyncChange> getChanges(
+            @Param(CHANGELOG_OWNER_KEY) String owner,
+            @Param(SINCE_KEY) long since
+    );
+
+    /**
+     * Method to execute the query to select the users who can see a project: its author and the members joined in
+     * the groups where the project is shared
+     *
+     * @param projectId The identifier of the project
+     * @return the identifiers of the users as {@link List} of {@link String}
+     */
+    @Query(
+            value = "SELECT " + AUTHOR_KEY + " FROM " + PROJECTS_KEY + " WHERE " + IDENTIFIER_KEY + "=:"
+                    + PROJECT_IDENTIFIER_KEY + " UNION SELECT " + GROUP_MEMBERS_TABLE + "." + IDENTIFIER_KEY + " FROM "
+                    + GROUP_MEMBERS_TABLE + " INNER JOIN " + PROJECTS_GROUPS_TABLE + " ON " + PROJECTS_GROUPS_TABLE
+                    + "." + GROUP_IDENTIFIER_KEY + " = " + GROUP_MEMBERS_TABLE + "." + GROUP_MEMBER_KEY + " WHERE "
+                    + PROJECTS_GROUPS_TABLE + "." + PROJECT_IDENTIFIER_KEY + "=:" + PROJECT_IDENTIFIER_KEY + " AND "
+                    + GROUP_MEMBERS_TABLE + "." + INVITATION_STATUS_KEY + " = 'JOINED'",
+            nativeQuery = true
+    )
+    List<String> getProjectAudience(
+            @Param(PROJECT_IDENTIFIER_KEY) String projectId
+    );
+
+    /**
+     * Method to execute the query to select the members joined in a group
+     *
+     * @param groupId The identifier of the group
+     * @return the identifiers of the members as {@link List} of {@link String}
+     */
+    @Query(
+            value = "SELECT " + IDENTIFIER_KEY + " FROM " + GROUP_MEMBERS_TABLE + " WHERE " + GROUP_MEMBER_KEY + "=:"
+                    + GROUP_IDENTIFIER_KEY + " AND " + INVITATION_STATUS_KEY + " = 'JOINED'",
+            nativeQuery = true
+    )
+    List<String> getGroupAudience(
+            @Param(GROUP_IDENTIFIER_KEY) String groupId
+    );
+
+    /**
+     * Method to execute the query to select the groups where a user is a member, invited ones included
+     *
+     * @param memberId The identifier of the member
+     * @return the identifiers of the groups as {@link List} of {@link String}
+     */
+    @Query(
+            value = "SELECT " + GROUP_MEMBER_KEY + " FROM " + GROUP_MEMBERS_TABLE + " WHERE " + IDENTIFIER_KEY + "=:"
+                    + IDENTIFIER_KEY,
+            nativeQuery = true
+    )
+    List<String> getMemberGroups(
+            @Param(IDENTIFIER_KEY) String memberId
+    );
+
+    /**
+     * Method to execute the query to select the projects authored by a user
+     *
+     * @param authorId The identifier of the author
+     * @return the identifiers of the projects as {@link List} of {@link String}
+     */
+    @Query(
+            value = "SELECT " + IDENTIFIER_KEY + " FROM " + PROJECTS_KEY + " WHERE " + AUTHOR_KEY + "=:" + AUTHOR_KEY,
+            nativeQuery = true
+    )
+    List<String> getAuthoredProjects(
+            @Param(AUTHOR_KEY) String authorId
+    );
+
+    /**
+     * Method to execute the query to select the projects shared in a group
+     *
+     * @param groupId The identifier of the group
+     * @return the identifiers of the projects as {@link List} of {@link String}
+     */
+    @Query(
+            value = "SELECT " + PROJECT_IDENTIFIER_KEY + " FROM " + PROJECTS_GROUPS_TABLE + " WHERE "
+                    + GROUP_IDENTIFIER_KEY + "=:" + GROUP_IDENTIFIER_KEY,
+            nativeQuery = true
+    )
+    List<String> getGroupProjects(
+            @Param(GROUP_IDENTIFIER_KEY) String groupId
+    );
+
+}
@@ -0,0 +1,126 @@
+package com.tecknobit.pandoro.services.sync.service;
+
+import com.tecknobit.pandoro.configuration.ReadYourWritesTracker;
+import com.tecknobit.pandoro.services.groups.repositories.GroupsRepository;
+import com.tecknobit.pandoro.services.notes.repository.NotesRepository;
+import com.tecknobit.pandoro.services.projects.repositories.ProjectsRepository;
+import com.tecknobit.pandoro.services.sync.dto.SyncDelta;
+import com.tecknobit.pandoro.services.sync.entity.SyncChange;
+import com.tecknobit.pandoro.services.sync.repository.SyncChangesRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code SyncService} class is useful to collect the items of a user changed since his last synchronization
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@Service
+public class SyncService {
+
+    /**
+     * {@code syncChangesRepository} instance for the changes to synchronize repository
+     */
+    private final SyncChangesRepository syncChangesRepository;
+
+    /**
+     * {@code projectsRepository} instance for the projects repository
+     */
+    private final ProjectsRepository projectsRepository;
+
+    /**
+     * {@code groupsRepository} instance for the groups repository
+     */
+    private final GroupsRepository groupsRepository;
+
+    /**
+     * {@code notesRepository} instance for the notes repository
+     */
+    private final NotesRepository notesRepository;
+
+    /**
+     * Constructor used to init the service
+     *
+     * @param syncChangesRepository The instance for the changes to synchronize repository
+     * @param projectsRepository    The instance for the projects repository
+     * @param groupsRepository      The instance for the groups repository
+     * @param notesRepository       The instance for the notes repository
+     */
+    @Autowired
+    public SyncService(SyncChangesRepository syncChangesRepository, ProjectsRepository projectsRepository,
+                       GroupsRepository groupsRepository, NotesRepository notesRepository) {
+        this.syncChangesRepository = syncChangesRepository;
+        this.projectsRepository = projectsRepository;
+        this.groupsRepository = groupsRepository;
+        this.notesRepository = notesRepository;
+    }
+
+    /**
+     * Method to get the items of a user changed since a sync token
+     *
+     * @param userId The user identifier
+     * @param since  The token received with the last synchronization, {@code 0} to receive all the items visible by
+     *               the user
+     * @return the items changed as {@link SyncDelta}
+     * @apiNote the token is read before the changes, so a change stamped meanwhile is returned again with the next
+     * synchronization instead of being lost. A token older than the tombstones pruned for the user receives all the
+     * items visible by the user, because the deletions since that token may be lost
+     */
+    @Transactional(readOnly = true)
+    public SyncDelta sync(String userId, long since) {
+        long syncToken = syncChangesRepository.getChangeSequence(userId);
+        if (since <= 0 || since < syncChangesRepository.getSyncHorizon(userId)) {
+            return new SyncDelta(
+                    syncToken,
+                    projectsRepository.findAllById(projectsRepository.getVisibleProjectsIds(userId)),
+                    groupsRepository.findAllById(groupsRepository.getGroupsIds(userId)),
+                    notesRepository.getNotes(userId, Pageable.unpaged()),
+                    List.of()
+            );
+        }
+        List<String> projectsIds = new ArrayList<>();
+        List<String> groupsIds = new ArrayList<>();
+        List<String> notesIds = new ArrayList<>();
+        List<SyncChange> tombstones = new ArrayList<>();
+        for (SyncChange change : syncChangesRepository.getChanges(userId, since)) {
+            if (change.isDeleted()) {
+                tombstones.add(change);
+                continue;
+            }
+            switch (change.getItemType()) {
+                case PROJECT -> projectsIds.add(change.getItemId());
+                case GROUP -> groupsIds.add(change.getItemId());
+                case NOTE -> notesIds.add(change.getItemId());
+            }
+        }
+        return new SyncDelta(
+                syncToken,
+                projectsRepository.findAllById(projectsIds),
+                groupsRepository.findAllById(groupsIds),
+                notesRepository.findAllById(notesIds),
+                tombstones
+        );
+    }
+
+    /**
+     * Method to get the version of the data of a user, increased by any change of the items he can see
+     *
+     * @param userId The user identifier
+     * @param token  The token of the user
+     * @return the version of the data as {@link Long}, {@code null} if the credentials are not valid
+     * @apiNote the version is read with a read-only transaction, so it is read from the same database of the data
+     * read by the request which follows it: the replica, when configured, unless the reads of the user have been
+     * routed to the primary database by {@link ReadYourWritesTracker} before reading the version
+     */
+    @Transactional(readOnly = true)
+    public Long getDataVersion(String userId, String token) {
+        return syncChangesRepository.getDataVersion(userId, token);
+    }
+
+}
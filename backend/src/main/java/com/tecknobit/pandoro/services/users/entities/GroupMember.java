@@ -25,7 +25,19 @@ import static com.tecknobit.pandorocore.ConstantsKt.*;
  * @see Serializable
  */
 @Entity
-@Table(name = GROUP_MEMBERS_TABLE)
+@Table(
+        name = GROUP_MEMBERS_TABLE,
+        indexes = {
+                @Index(
+                        name = "group_members_group_index",
+                        columnList = GROUP_MEMBER_KEY + "," + INVITATION_STATUS_KEY
+                ),
+                @Index(
+                        name = "group_members_member_index",
+                        columnList = IDENTIFIER_KEY + "," + INVITATION_STATUS_KEY
+                )
+        }
+)
 @IdClass(GroupMemberCompositeKey.class)
 public class GroupMember {
 
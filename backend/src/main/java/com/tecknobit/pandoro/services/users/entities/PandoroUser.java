@@ -22,7 +22,7 @@ import java.util.List;
 import java.util.Set;
 
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
-import static com.tecknobit.pandorocore.ConstantsKt.CHANGELOG_OWNER_KEY;
+import static com.tecknobit.pandorocore.ConstantsKt.*;
 
 /**
  * The {@code PandoroUser} class is useful to create a <b>Pandoro's user</b>
@@ -47,6 +47,56 @@ public class PandoroUser extends EquinoxUser implements DTOConvertible<Candidate
     )
     private final List<Changelog> changelogs;
 
+    /**
+     * {@code unreadChangelogs} the count of the {@link #changelogs} yet to read, maintained on each changelog written
+     *
+     * @apiNote the column is written only by the queries which maintain it, so a flush of the entity never overwrites
+     * its current value
+     * @since 1.2.2
+     */
+    @Column(
+            name = UNREAD_CHANGELOGS_KEY,
+            columnDefinition = "INT DEFAULT 0 NOT NULL",
+            insertable = false,
+            updatable = false
+    )
+    @JsonIgnore
+    private int unreadChangelogs;
+
+    /**
+     * {@code changeSequence} the sequence stamped on each change of the items visible by the user, used to synchronize
+     * his clients incrementally
+     *
+     * @apiNote the column is written only by the queries which stamp the changes, so a flush of the entity never
+     * overwrites its current value
+     * @since 1.2.2
+     */
+    @Column(
+            name = CHANGE_SEQUENCE_KEY,
+            columnDefinition = "BIGINT DEFAULT 0 NOT NULL",
+            insertable = false,
+            updatable = false
+    )
+    @JsonIgnore
+    private long changeSequence;
+
+    /**
+     * {@code syncHorizon} the highest change sequence of the tombstones pruned for the user, a synchronization from
+     * an older sequence has to load again all the items
+     *
+     * @apiNote the column is written only by the queries which prune the tombstones, so a flush of the entity never
+     * overwrites its current value
+     * @since 1.2.2
+     */
+    @Column(
+            name = SYNC_HORIZON_KEY,
+            columnDefinition = "BIGINT DEFAULT 0 NOT NULL",
+            insertable = false,
+            updatable = false
+    )
+    @JsonIgnore
+    private long syncHorizon;
+
     /**
      * {@code groups} list of the groups of the user
      */
@@ -175,11 +225,7 @@ public class PandoroUser extends EquinoxUser implements DTOConvertible<Candidate
      */
     @JsonIgnore
     public int getUnreadChangelogsNumber() {
-        int unread = 0;
-        for (Changelog changelog : changelogs)
-            if (!changelog.isRead())
-                unread++;
-        return unread;
+        return unreadChangelogs;
     }
 
     /**
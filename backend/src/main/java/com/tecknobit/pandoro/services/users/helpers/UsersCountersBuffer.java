@@ -0,0 +1,233 @@
+package com.tecknobit.pandoro.services.users.helpers;
+
+import com.tecknobit.pandoro.services.sync.repository.SyncChangesRepository;
+import com.tecknobit.pandorocore.enums.SyncableType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.USERS_KEY;
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * The {@code UsersCountersBuffer} class is useful to collect, for the whole transaction in progress, the changes of
+ * the counters stored on the users rows, the counter of the changelogs yet to read and the change sequence, and to
+ * apply them just before the commit with a single statement which locks the rows sorted by identifier. The changelogs
+ * and the changes to synchronize which depend on those counters are stored right after that statement
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the operations on a group touch the rows of all its members: when each member was updated with its own
+ * statement, in the order of the members of the group, and the change sequences with a statement for each item
+ * stamped, two concurrent operations locked the same rows in different orders and deadlocked. The changelogs are
+ * stored after the counters as well, because the check of their foreign key takes a shared lock on the row of the
+ * owner, which would be upgraded by the counters update and deadlock two transactions sharing the same owners
+ * @since 1.2.2
+ */
+@Service
+public class UsersCountersBuffer {
+
+    /**
+     * {@code UNREAD_DELTA_PARAMETER} the prefix of the parameters of the changes of the changelogs yet to read
+     */
+    private static final String UNREAD_DELTA_PARAMETER = "delta";
+
+    /**
+     * {@code USER_PARAMETER} the prefix of the parameters of the users whose changelogs yet to read changed
+     */
+    private static final String USER_PARAMETER = "user";
+
+    /**
+     * {@code STAMPED_USERS_PARAMETER} the parameter of the users whose change sequence has to be increased
+     */
+    private static final String STAMPED_USERS_PARAMETER = "stamped";
+
+    /**
+     * The {@code PendingStamp} record represents the change of an item to store for its audience
+     *
+     * @param audience The identifiers of the users who have to synchronize the change
+     * @param itemType The type of the item changed
+     * @param itemId   The identifier of the item changed
+     * @param deleted  Whether the item has been deleted or is not visible by the users anymore
+     */
+    private record PendingStamp(Collection<String> audience, SyncableType itemType, String itemId, boolean deleted) {
+    }
+
+    /**
+     * {@code syncChangesRepository} instance for the changes to synchronize repository
+     */
+    private final SyncChangesRepository syncChangesRepository;
+
+    /**
+     * {@code entityManager} the entity manager used to execute the update of the counters
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Constructor used to init the buffer
+     *
+     * @param syncChangesRepository The instance for the changes to synchronize repository
+     */
+    @Autowired
+    public UsersCountersBuffer(SyncChangesRepository syncChangesRepository) {
+        this.syncChangesRepository = syncChangesRepository;
+    }
+
+    /**
+     * Method to store a new changelog and to increase the counter of the changelogs yet to read of its owner
+     *
+     * @param ownerId   The identifier of the owner of the changelog
+     * @param insertion The insertion of the changelog
+     */
+    @Transactional
+    public void storeUnreadChangelog(String ownerId, Runnable insertion) {
+        PendingChanges pendingChanges = pendingChanges();
+        pendingChanges.unreadChangelogs.merge(ownerId, 1, Integer::sum);
+        pendingChanges.changelogs.add(insertion);
+    }
+
+    /**
+     * Method to decrease the counter of the changelogs yet to read of a user
+     *
+     * @param ownerId    The identifier of the owner of the changelogs
+     * @param changelogs The number of changelogs read or deleted
+     */
+    @Transactional
+    public void decreaseUnreadChangelogs(String ownerId, int changelogs) {
+        if (changelogs > 0)
+            pendingChanges().unreadChangelogs.merge(ownerId, -changelogs, Integer::sum);
+    }
+
+    /**
+     * Method to stamp the change of an item for each user of the audience: the change sequence of each user is
+     * increased and the item is stored with the new sequence, replacing its previous change
+     *
+     * @param audience The identifiers of the users who have to synchronize the change
+     * @param itemType The type of the item changed
+     * @param itemId   The identifier of the item changed
+     * @param deleted  Whether the item has been deleted or is not visible by the users anymore
+     * @apiNote the change sequence of a user is increased once for each transaction, so all the items stamped by the
+     * same operation share the same sequence and are synchronized together
+     */
+    @Transactional
+    public void stampChange(Collection<String> audience, SyncableType itemType, String itemId, boolean deleted) {
+        if (audience.isEmpty())
+            return;
+        PendingChanges pendingChanges = pendingChanges();
+        pendingChanges.stampedUsers.addAll(audience);
+        pendingChanges.stamps.add(new PendingStamp(List.copyOf(audience), itemType, itemId, deleted));
+    }
+
+    /**
+     * Method to get the changes collected for the transaction in progress, registering them on the transaction when
+     * they are the first ones
+     *
+     * @return the changes collected as {@link PendingChanges}
+     */
+    private PendingChanges pendingChanges() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations())
+            if (synchronization instanceof PendingChanges pendingChanges)
+                return pendingChanges;
+        PendingChanges pendingChanges = new PendingChanges();
+        TransactionSynchronizationManager.registerSynchronization(pendingChanges);
+        return pendingChanges;
+    }
+
+    /**
+     * Method to update the counters of the users involved by the changes collected, sorted by identifier, in a single
+     * statement
+     *
+     * @param pendingChanges The changes collected
+     */
+    private void updateCounters(PendingChanges pendingChanges) {
+        pendingChanges.unreadChangelogs.values().removeIf(delta -> delta == 0);
+        TreeSet<String> users = new TreeSet<>(pendingChanges.unreadChangelogs.keySet());
+        users.addAll(pendingChanges.stampedUsers);
+        if (users.isEmpty())
+            return;
+        List<String> assignments = new ArrayList<>();
+        if (!pendingChanges.unreadChangelogs.isEmpty()) {
+            StringBuilder unreadChangelogs = new StringBuilder(UNREAD_CHANGELOGS_KEY + "=GREATEST("
+                    + UNREAD_CHANGELOGS_KEY + "+CASE " + IDENTIFIER_KEY);
+            for (int j = 0; j < pendingChanges.unreadChangelogs.size(); j++) {
+                unreadChangelogs.append(" WHEN :").append(USER_PARAMETER).append(j)
+                        .append(" THEN :").append(UNREAD_DELTA_PARAMETER).append(j);
+            }
+            assignments.add(unreadChangelogs.append(" ELSE 0 END,0)").toString());
+        }
+        if (!pendingChanges.stampedUsers.isEmpty()) {
+            assignments.add(CHANGE_SEQUENCE_KEY + "=" + CHANGE_SEQUENCE_KEY + "+(" + IDENTIFIER_KEY + " IN (:"
+                    + STAMPED_USERS_PARAMETER + "))");
+        }
+        Query query = entityManager.createNativeQuery("UPDATE " + USERS_KEY + " SET " + String.join(",", assignments)
+                + " WHERE " + IDENTIFIER_KEY + " IN (:" + USERS_KEY + ") ORDER BY " + IDENTIFIER_KEY);
+        int j = 0;
+        for (Map.Entry<String, Integer> unreadChangelogs : pendingChanges.unreadChangelogs.entrySet()) {
+            query.setParameter(USER_PARAMETER + j, unreadChangelogs.getKey());
+            query.setParameter(UNREAD_DELTA_PARAMETER + j, unreadChangelogs.getValue());
+            j++;
+        }
+        if (!pendingChanges.stampedUsers.isEmpty())
+            query.setParameter(STAMPED_USERS_PARAMETER, pendingChanges.stampedUsers);
+        query.setParameter(USERS_KEY, new ArrayList<>(users));
+        query.executeUpdate();
+    }
+
+    /**
+     * The {@code PendingChanges} class collects the changes requested during a transaction and applies them when the
+     * transaction is going to be committed
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 1.2.2
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        /**
+         * {@code unreadChangelogs} the change of the counter of the changelogs yet to read of each user
+         */
+        private final Map<String, Integer> unreadChangelogs = new LinkedHashMap<>();
+
+        /**
+         * {@code changelogs} the insertions of the changelogs to store
+         */
+        private final List<Runnable> changelogs = new ArrayList<>();
+
+        /**
+         * {@code stampedUsers} the users whose change sequence has to be increased
+         */
+        private final Set<String> stampedUsers = new HashSet<>();
+
+        /**
+         * {@code stamps} the changes of the items to store, in the order they have been requested
+         */
+        private final List<PendingStamp> stamps = new ArrayList<>();
+
+        /**
+         * Method to apply the changes collected: the counters are updated first, so the rows of the users are locked
+         * in order before the changelogs and the changes to synchronize are stored
+         *
+         * @param readOnly Whether the transaction is read-only
+         */
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            updateCounters(this);
+            changelogs.forEach(Runnable::run);
+            long timestamp = currentTimeMillis();
+            for (PendingStamp stamp : stamps) {
+                syncChangesRepository.storeChange(stamp.audience(), stamp.itemType(), stamp.itemId(), stamp.deleted(),
+                        timestamp);
+            }
+        }
+
+    }
+
+}
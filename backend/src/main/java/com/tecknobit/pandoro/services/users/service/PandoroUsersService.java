@@ -7,6 +7,8 @@ import com.tecknobit.pandoro.services.groups.repositories.GroupMembersRepository
 import com.tecknobit.pandoro.services.notes.repository.NotesRepository;
 import com.tecknobit.pandoro.services.projects.repositories.ProjectsRepository;
 import com.tecknobit.pandoro.services.projects.repositories.UpdatesRepository;
+import com.tecknobit.pandoro.services.sync.helpers.SyncTracker;
+import com.tecknobit.pandoro.services.sync.helpers.SyncTracker.UserSnapshot;
 import com.tecknobit.pandoro.services.users.dto.CandidateMember;
 import com.tecknobit.pandoro.services.users.entities.PandoroUser;
 import com.tecknobit.pandoro.services.users.repository.PandoroUsersRepository;
@@ -15,6 +17,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -45,6 +48,11 @@ public class PandoroUsersService extends EquinoxUsersService<PandoroUser, Pandor
      */
     private final NotesRepository notesRepository;
 
+    /**
+     * {@code syncTracker} instance used to stamp the changes to synchronize
+     */
+    private final SyncTracker syncTracker;
+
     /**
      * Constructor to init the service
      *
@@ -53,16 +61,18 @@ public class PandoroUsersService extends EquinoxUsersService<PandoroUser, Pandor
      * @param projectsRepository The instance for the projects repository
      * @param updatesRepository  The instance for the updates repository
      * @param notesRepository    The instance for the notes repository
+     * @param syncTracker        The instance used to stamp the changes to synchronize
      */
     @Autowired
     public PandoroUsersService(PandoroUsersRepository usersRepository, GroupMembersRepository membersRepository,
                                ProjectsRepository projectsRepository, UpdatesRepository updatesRepository,
-                               NotesRepository notesRepository) {
+                               NotesRepository notesRepository, SyncTracker syncTracker) {
         super(usersRepository);
         this.membersRepository = membersRepository;
         this.projectsRepository = projectsRepository;
         this.updatesRepository = updatesRepository;
         this.notesRepository = notesRepository;
+        this.syncTracker = syncTracker;
     }
 
     /**
@@ -104,9 +114,11 @@ public class PandoroUsersService extends EquinoxUsersService<PandoroUser, Pandor
      * @param userId     The identifier of the user
      */
     @Override
+    @Transactional(rollbackFor = IOException.class)
     public String changeProfilePic(MultipartFile profilePic, String userId) throws IOException {
         String profilePicPath = super.changeProfilePic(profilePic, userId);
         membersRepository.changeProfilePic(userId, profilePicPath);
+        syncTracker.userChanged(userId);
         return profilePicPath;
     }
 
@@ -117,16 +129,20 @@ public class PandoroUsersService extends EquinoxUsersService<PandoroUser, Pandor
      * @param userId   The identifier of the user
      */
     @Override
+    @Transactional
     public void changeEmail(String newEmail, String userId) {
         super.changeEmail(newEmail, userId);
         membersRepository.changeEmail(userId, newEmail);
+        syncTracker.userChanged(userId);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public void deleteUser(String id) {
+        UserSnapshot snapshot = syncTracker.snapshotUser(id);
         notesRepository.removeUserConstraints(id);
         notesRepository.setGroupNotesAuthorAfterUserDeletion(id);
         notesRepository.setGroupNotesMarkerAfterUserDeletion(id);
@@ -134,6 +150,7 @@ public class PandoroUsersService extends EquinoxUsersService<PandoroUser, Pandor
         projectsRepository.deleteProjects(id);
         membersRepository.deleteMember(id);
         super.deleteUser(id);
+        syncTracker.userDeleted(id, snapshot);
     }
 
 }
@@ -0,0 +1,345 @@
+package com.tecknobit.pandoro.services;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController;
+import com.tecknobit.pandoro.Launcher;
+import com.tecknobit.pandoro.dataset.DatasetShape;
+import com.tecknobit.pandoro.dataset.SyntheticDatasetGenerator;
+import com.tecknobit.pandoro.services.changelogs.repository.ChangelogsRepository;
+import com.tecknobit.pandoro.services.groups.repositories.GroupMembersRepository;
+import com.tecknobit.pandoro.services.groups.repositories.GroupsRepository;
+import com.tecknobit.pandoro.services.notes.repository.NotesRepository;
+import com.tecknobit.pandoro.services.projects.helpers.VersionRange;
+import com.tecknobit.pandoro.services.projects.repositories.ProjectsRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.AUTHOR_KEY;
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * The {@code IndexesUsageTest} class checks that the hot native queries of the repositories are served by the indexes
+ * declared on the entities. The backend is booted against an embedded database, which is populated with a synthetic
+ * dataset, then the plan of each query, read with {@code EXPLAIN}, must use the expected index. The queries are read
+ * from the {@link Query} annotations of the repositories, so a change to a query which loses its index fails the test.
+ * The SpEL parameters of the queries, as the bounds of a {@link VersionRange}, are resolved invoking the related
+ * accessor on the argument
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+class IndexesUsageTest {
+
+    /**
+     * {@code SEED} the seed used to generate the dataset
+     */
+    private static final long SEED = 1809L;
+
+    /**
+     * {@code USERS} the number of the users of the dataset, enough to make the table scans more expensive than the
+     * lookups on the indexes
+     */
+    private static final int USERS = 150;
+
+    /**
+     * {@code PAGE} the page used by the paginated queries
+     */
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+
+    /**
+     * {@code VERSIONS} the exact versions used by the queries which filter the projects
+     */
+    private static final Set<String> VERSIONS = Set.of("1.0.0");
+
+    /**
+     * {@code VERSION_RANGE} the range of versions used by the queries which filter the projects
+     */
+    private static final VersionRange VERSION_RANGE = new VersionRange(true, 1, 0, 0, 2, 0, 0);
+
+    /**
+     * {@code SPEL_PARAMETER} the pattern of the SpEL parameters of the queries which invoke an accessor of an argument
+     */
+    private static final Pattern SPEL_PARAMETER = Pattern.compile(":#\\{#(\\w+)\\.(\\w+)\\(\\)}");
+
+    /**
+     * {@code ANALYZED_TABLES} the tables whose statistics are refreshed before reading the plans
+     */
+    private static final List<String> ANALYZED_TABLES = List.of(CHANGELOGS_KEY, NOTES_KEY, GROUPS_KEY,
+            GROUP_MEMBERS_TABLE, PROJECTS_KEY, UPDATES_KEY);
+
+    /**
+     * {@code Sample} the values of the dataset used as parameters of the queries, resolved once the dataset has
+     * been generated
+     */
+    private enum Sample {
+
+        /**
+         * {@code USER} the user who authored the most projects
+         */
+        USER,
+
+        /**
+         * {@code GROUP} the group with the most members
+         */
+        GROUP
+
+    }
+
+    /**
+     * {@code ExplainedQuery} the record represents a query of a repository and the index expected in its plan
+     *
+     * @param repository The repository which declares the query
+     * @param method     The name of the method of the query
+     * @param arguments  The arguments of the method
+     * @param table      The table, or its alias, whose access is checked
+     * @param index      The index expected
+     */
+    private record ExplainedQuery(Class<?> repository, String method, List<Object> arguments, String table,
+                                  String index) {
+
+        /**
+         * Method to get a readable description of the query
+         *
+         * @return the description of the query as {@link String}
+         */
+        @Override
+        public String toString() {
+            return repository.getSimpleName() + "." + method + " -> " + index;
+        }
+
+    }
+
+    /**
+     * {@code database} the embedded database
+     */
+    private static DB database;
+
+    /**
+     * {@code context} the context of the backend
+     */
+    private static ConfigurableApplicationContext context;
+
+    /**
+     * {@code jdbcTemplate} the template used to read the plans
+     */
+    private static JdbcTemplate jdbcTemplate;
+
+    /**
+     * {@code samples} the values resolved for each {@link Sample}
+     */
+    private static Map<Sample, String> samples;
+
+    /**
+     * Method to start the database, boot the backend and generate the dataset
+     */
+    @BeforeAll
+    static void setUp() throws ManagedProcessException {
+        database = DB.newEmbeddedDB(DBConfigurationBuilder.newBuilder()
+                .setPort(0)
+                .build());
+        database.start();
+        String[] backendArgs = {
+                "--spring.datasource.url=" + database.getConfiguration().getURL("pandoro")
+                        + "?createDatabaseIfNotExist=true",
+                "--spring.datasource.username=root",
+                "--spring.datasource.password=",
+                "--spring.main.web-application-type=none"
+        };
+        EquinoxController.initEquinoxEnvironment(Launcher.class, backendArgs);
+        context = SpringApplication.run(Launcher.class, backendArgs);
+        SyntheticDatasetGenerator.generate(context, DatasetShape.ofUsers(SEED, USERS));
+        jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        for (String table : ANALYZED_TABLES)
+            jdbcTemplate.queryForList("ANALYZE TABLE `" + table + "`");
+        samples = new EnumMap<>(Sample.class);
+        samples.put(Sample.USER, jdbcTemplate.queryForObject("SELECT " + AUTHOR_KEY + " FROM " + PROJECTS_KEY
+                + " GROUP BY " + AUTHOR_KEY + " ORDER BY COUNT(*) DESC LIMIT 1", String.class));
+        samples.put(Sample.GROUP, jdbcTemplate.queryForObject("SELECT " + GROUP_MEMBER_KEY + " FROM "
+                + GROUP_MEMBERS_TABLE + " GROUP BY " + GROUP_MEMBER_KEY + " ORDER BY COUNT(*) DESC LIMIT 1",
+                String.class));
+    }
+
+    /**
+     * Method to stop the backend and the database
+     */
+    @AfterAll
+    static void tearDown() throws ManagedProcessException {
+        if (context != null)
+            context.close();
+        if (database != null)
+            database.stop();
+    }
+
+    /**
+     * Method to get the queries to check
+     *
+     * @return the queries to check as {@link Stream} of {@link ExplainedQuery}
+     */
+    static Stream<ExplainedQuery> hotQueries() {
+        long now = System.currentTimeMillis();
+        return Stream.of(
+                new ExplainedQuery(ChangelogsRepository.class, "getChangelogs", List.of(Sample.USER, PAGE),
+                        CHANGELOGS_KEY, "changelogs_timeline_index"),
+                new ExplainedQuery(ChangelogsRepository.class, "markChangelogsAsReadUntil", List.of(Sample.USER, now),
+                        CHANGELOGS_KEY, "changelogs_unread_index"),
+                new ExplainedQuery(ChangelogsRepository.class, "getExpiredChangelogs",
+                        List.of(DatasetShape.DEFAULT_START_TIMESTAMP, 100), CHANGELOGS_KEY,
+                        "changelogs_retention_index"),
+                new ExplainedQuery(NotesRepository.class, "getNotes", List.of(Sample.USER, PAGE), NOTES_KEY,
+                        "notes_timeline_index"),
+                new ExplainedQuery(NotesRepository.class, "getNotes", List.of(Sample.USER, false, PAGE), NOTES_KEY,
+                        "notes_status_index"),
+                new ExplainedQuery(GroupMembersRepository.class, "getGroupMembers", List.of(Sample.GROUP),
+                        GROUP_MEMBERS_TABLE, "group_members_group_index"),
+                new ExplainedQuery(GroupsRepository.class, "getGroupsIds", List.of(Sample.USER), GROUP_MEMBERS_TABLE,
+                        "group_members_member_index"),
+                new ExplainedQuery(GroupsRepository.class, "getAuthoredGroups", List.of(Sample.USER, "", PAGE),
+                        GROUPS_KEY, "groups_timeline_index"),
+                new ExplainedQuery(GroupsRepository.class, "getGroupByName", List.of(Sample.USER, "Pandoro"),
+                        GROUPS_KEY, "groups_name_index"),
+                new ExplainedQuery(ProjectsRepository.class, "getAuthoredProjects", List.of(Sample.USER),
+                        PROJECTS_KEY, "projects_timeline_index"),
+                new ExplainedQuery(ProjectsRepository.class, "getProjects",
+                        List.of(Sample.USER, "", VERSIONS, VERSION_RANGE, PAGE), PROJECTS_KEY,
+                        "projects_versions_index"),
+                new ExplainedQuery(ProjectsRepository.class, "getCompleteProjectsList",
+                        List.of(Sample.USER, "", VERSIONS, VERSION_RANGE), PROJECTS_KEY, "projects_versions_index"),
+                new ExplainedQuery(ProjectsRepository.class, "getInDevelopmentProjects",
+                        List.of(Sample.USER, "", VERSIONS, VERSION_RANGE, PAGE), UPDATE_KEY, "updates_status_index"),
+                new ExplainedQuery(ProjectsRepository.class, "getCompleteInDevelopmentProjectsList",
+                        List.of(Sample.USER, "", VERSIONS, VERSION_RANGE), UPDATE_KEY, "updates_status_index")
+        );
+    }
+
+    /**
+     * Method to check that the plan of a query uses the expected index
+     *
+     * @param query The query to check
+     */
+    @ParameterizedTest
+    @MethodSource("hotQueries")
+    void usesDeclaredIndex(ExplainedQuery query) {
+        String sql = toSql(query);
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+        Map<String, Object> access = plan.stream()
+                .filter(step -> query.table().equals(step.get("table")))
+                .findFirst()
+                .orElse(null);
+        assertNotNull(access, () -> "The table " + query.table() + " is not in the plan of " + sql + ": " + plan);
+        assertEquals(query.index(), access.get("key"), () -> "Unexpected plan of " + sql + ": " + plan);
+    }
+
+    /**
+     * Method to build the executable SQL of a query, replacing its named parameters with the arguments
+     *
+     * @param query The query to build
+     * @return the SQL of the query as {@link String}
+     */
+    private static String toSql(ExplainedQuery query) {
+        Method method = Arrays.stream(query.repository().getMethods())
+                .filter(candidate -> candidate.getName().equals(query.method()))
+                .filter(candidate -> candidate.getParameterCount() == query.arguments().size())
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown query " + query));
+        String sql = method.getAnnotation(Query.class).value();
+        boolean paginated = false;
+        Parameter[] parameters = method.getParameters();
+        sql = resolveSpelParameters(sql, parameters, query.arguments());
+        for (int j = 0; j < parameters.length; j++) {
+            Object argument = query.arguments().get(j);
+            Param param = parameters[j].getAnnotation(Param.class);
+            if (param == null) {
+                paginated |= argument instanceof Pageable;
+                continue;
+            }
+            String name = param.value();
+            sql = sql.replace("%:" + name + "%", literal("%" + resolve(argument) + "%"))
+                    .replaceAll(":" + name + "\\b", Matcher.quoteReplacement(literal(argument)));
+        }
+        if (paginated)
+            sql += " LIMIT " + PAGE.getPageSize();
+        return sql;
+    }
+
+    /**
+     * Method to replace the SpEL parameters of a query with the values returned by the accessors they invoke
+     *
+     * @param sql        The SQL of the query
+     * @param parameters The parameters of the method of the query
+     * @param arguments  The arguments of the method
+     * @return the SQL of the query without SpEL parameters as {@link String}
+     */
+    private static String resolveSpelParameters(String sql, Parameter[] parameters, List<Object> arguments) {
+        Matcher spelParameter = SPEL_PARAMETER.matcher(sql);
+        StringBuilder resolvedSql = new StringBuilder();
+        while (spelParameter.find()) {
+            Object argument = null;
+            for (int j = 0; j < parameters.length; j++) {
+                Param param = parameters[j].getAnnotation(Param.class);
+                if (param != null && param.value().equals(spelParameter.group(1)))
+                    argument = arguments.get(j);
+            }
+            if (argument == null)
+                throw new IllegalArgumentException("Unknown SpEL parameter " + spelParameter.group());
+            try {
+                Object value = argument.getClass().getMethod(spelParameter.group(2)).invoke(argument);
+                spelParameter.appendReplacement(resolvedSql, Matcher.quoteReplacement(literal(value)));
+            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalArgumentException("Unresolvable SpEL parameter " + spelParameter.group(), e);
+            }
+        }
+        spelParameter.appendTail(resolvedSql);
+        return resolvedSql.toString();
+    }
+
+    /**
+     * Method to format an argument as SQL literal
+     *
+     * @param argument The argument to format
+     * @return the literal as {@link String}
+     */
+    private static String literal(Object argument) {
+        Object value = resolve(argument);
+        if (value instanceof Collection<?> values)
+            return values.stream().map(IndexesUsageTest::literal).collect(Collectors.joining(","));
+        if (value instanceof Number || value instanceof Boolean)
+            return value.toString();
+        return "'" + value.toString().replace("'", "''") + "'";
+    }
+
+    /**
+     * Method to resolve an argument which refers to a {@link Sample}
+     *
+     * @param argument The argument to resolve
+     * @return the argument resolved as {@link Object}
+     */
+    private static Object resolve(Object argument) {
+        if (argument instanceof Sample sample)
+            return samples.get(sample);
+        return argument;
+    }
+
+}
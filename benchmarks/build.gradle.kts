@@ -0,0 +1,41 @@
+plugins {
+    id("java")
+    alias(libs.plugins.jmh)
+}
+
+group = "com.tecknobit.pandoro"
+version = "1.2.1"
+
+repositories {
+    mavenCentral()
+    maven("https://jitpack.io")
+}
+
+dependencies {
+    jmh(project(":backend"))
+    jmh(project(":core"))
+    jmh(project(":dataset"))
+    jmh(libs.spring.boot.starter.data.jpa)
+    jmh(libs.jackson.databind)
+    jmh(libs.jackson.dataformat.cbor)
+    jmh(libs.equinox.backend)
+    jmh(libs.equinox.core)
+    jmh(libs.mariadb4j)
+    jmh(libs.mysql.connector.java)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_18
+    targetCompatibility = JavaVersion.VERSION_18
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    fork.set(2)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/pandoro-$version.json"))
+    if (project.hasProperty("jmhIncludes"))
+        includes.set(listOf(project.property("jmhIncludes").toString()))
+}
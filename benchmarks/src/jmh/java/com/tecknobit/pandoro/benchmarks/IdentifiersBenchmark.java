@@ -0,0 +1,54 @@
+package com.tecknobit.pandoro.benchmarks;
+
+import com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController;
+import com.tecknobit.pandoro.helpers.SortableIdentifierGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code IdentifiersBenchmark} class compares the generation of the time-ordered identifiers with the generation
+ * of the random identifiers of {@link EquinoxController#generateIdentifier()} used before them, also under contention,
+ * because the generator is synchronized. Only the generation in memory is measured, the effect of the identifiers on
+ * the insertions is measured by the {@link IdentifiersInsertBenchmark}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IdentifiersBenchmark {
+
+    /**
+     * Method to measure the generation of a time-ordered identifier
+     *
+     * @return the identifier generated as {@link String}
+     */
+    @Benchmark
+    public String sortableIdentifier() {
+        return SortableIdentifierGenerator.generate();
+    }
+
+    /**
+     * Method to measure the generation of a time-ordered identifier by concurrent threads
+     *
+     * @return the identifier generated as {@link String}
+     */
+    @Benchmark
+    @Threads(4)
+    public String sortableIdentifierContended() {
+        return SortableIdentifierGenerator.generate();
+    }
+
+    /**
+     * Method to measure the generation of a random identifier of the Equinox controllers
+     *
+     * @return the identifier generated as {@link String}
+     */
+    @Benchmark
+    public String equinoxIdentifier() {
+        return EquinoxController.generateIdentifier();
+    }
+
+}
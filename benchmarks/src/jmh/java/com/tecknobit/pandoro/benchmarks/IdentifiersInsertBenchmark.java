@@ -0,0 +1,187 @@
+package com.tecknobit.pandoro.benchmarks;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController;
+import com.tecknobit.pandoro.helpers.SortableIdentifierGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+
+/**
+ * The {@code IdentifiersInsertBenchmark} class measures the insertion of the rows of a table shaped as the changelogs
+ * one, with the random identifiers of {@link EquinoxController#generateIdentifier()} and with the time-ordered
+ * identifiers of {@link SortableIdentifierGenerator}. The table is stored in an embedded database with a small buffer
+ * pool and is filled before the measurements, so the random identifiers spread the insertions over the whole clustered
+ * index while the time-ordered ones append them at its end. The page splits of the index caused by each trial are
+ * printed when the trial ends
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdentifiersInsertBenchmark {
+
+    /**
+     * {@code DATABASE_NAME} the name of the database of the benchmark
+     */
+    private static final String DATABASE_NAME = "pandoro_benchmarks";
+
+    /**
+     * {@code BATCH_SIZE} the number of rows inserted in each operation
+     */
+    private static final int BATCH_SIZE = 100;
+
+    /**
+     * {@code INSERT_CHANGELOG} the statement used to insert a row
+     */
+    private static final String INSERT_CHANGELOG = "INSERT INTO " + CHANGELOGS_KEY + " (" + IDENTIFIER_KEY + ","
+            + CHANGELOG_OWNER_KEY + "," + CHANGELOG_EVENT_KEY + "," + EXTRA_CONTENT_KEY + "," + CHANGELOG_READ_KEY
+            + "," + TIMESTAMP_KEY + ") VALUES (?,?,?,?,?,?)";
+
+    /**
+     * {@code PAGE_SPLITS} the query used to read the page splits of the indexes
+     */
+    private static final String PAGE_SPLITS = "SELECT COUNT FROM information_schema.INNODB_METRICS WHERE "
+            + "NAME='index_page_splits'";
+
+    /**
+     * {@code generator} the generator of the identifiers used
+     */
+    @Param({"equinox", "sortable"})
+    public String generator;
+
+    /**
+     * {@code preloadedRows} the number of rows stored before the measurements
+     */
+    @Param({"200000"})
+    public int preloadedRows;
+
+    /**
+     * {@code database} the embedded database
+     */
+    private DB database;
+
+    /**
+     * {@code connection} the connection to the database
+     */
+    private Connection connection;
+
+    /**
+     * {@code insertChangelog} the statement used to insert the rows
+     */
+    private PreparedStatement insertChangelog;
+
+    /**
+     * {@code identifiers} the supplier of the identifiers of the rows
+     */
+    private Supplier<String> identifiers;
+
+    /**
+     * {@code random} the generator of the contents of the rows
+     */
+    private Random random;
+
+    /**
+     * {@code initialPageSplits} the page splits counted when the measurements started
+     */
+    private long initialPageSplits;
+
+    /**
+     * Method to start the database, create the table and fill it with the {@link #preloadedRows}
+     */
+    @Setup(Level.Trial)
+    public void setup() throws ManagedProcessException, SQLException {
+        database = DB.newEmbeddedDB(DBConfigurationBuilder.newBuilder()
+                .setPort(0)
+                .addArg("--innodb-buffer-pool-size=16M")
+                .build());
+        database.start();
+        database.createDB(DATABASE_NAME);
+        connection = DriverManager.getConnection(database.getConfiguration().getURL(DATABASE_NAME)
+                + "?rewriteBatchedStatements=true", "root", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + CHANGELOGS_KEY + " ("
+                    + IDENTIFIER_KEY + " VARCHAR(255) NOT NULL PRIMARY KEY,"
+                    + CHANGELOG_OWNER_KEY + " VARCHAR(255) NOT NULL,"
+                    + CHANGELOG_EVENT_KEY + " VARCHAR(32) NOT NULL,"
+                    + EXTRA_CONTENT_KEY + " VARCHAR(255),"
+                    + CHANGELOG_READ_KEY + " BIT NOT NULL,"
+                    + TIMESTAMP_KEY + " BIGINT NOT NULL,"
+                    + "INDEX changelogs_unread_index (" + CHANGELOG_OWNER_KEY + "," + CHANGELOG_READ_KEY + ","
+                    + TIMESTAMP_KEY + ")) ENGINE=InnoDB");
+            statement.execute("SET GLOBAL innodb_monitor_enable='index_page_splits'");
+        }
+        identifiers = generator.equals("sortable")
+                ? SortableIdentifierGenerator::generate
+                : EquinoxController::generateIdentifier;
+        random = new Random(SyntheticData.DEFAULT_SEED);
+        insertChangelog = connection.prepareStatement(INSERT_CHANGELOG);
+        for (int j = 0; j < preloadedRows; j += BATCH_SIZE)
+            insertBatch();
+        initialPageSplits = readPageSplits();
+    }
+
+    /**
+     * Method to measure the insertion of a batch of rows
+     *
+     * @return the number of rows inserted
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int insertRows() throws SQLException {
+        return insertBatch();
+    }
+
+    /**
+     * Method to print the page splits caused by the measurements and to stop the database
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws ManagedProcessException, SQLException {
+        System.out.println();
+        System.out.println(generator + " identifiers page splits: " + (readPageSplits() - initialPageSplits));
+        insertChangelog.close();
+        connection.close();
+        database.stop();
+    }
+
+    /**
+     * Method to insert a batch of {@link #BATCH_SIZE} rows
+     *
+     * @return the number of rows inserted
+     */
+    private int insertBatch() throws SQLException {
+        for (int j = 0; j < BATCH_SIZE; j++) {
+            insertChangelog.setString(1, identifiers.get());
+            insertChangelog.setString(2, "user" + random.nextInt(1000));
+            insertChangelog.setString(3, "INVITED_GROUP");
+            insertChangelog.setString(4, "group" + random.nextInt(100));
+            insertChangelog.setBoolean(5, random.nextBoolean());
+            insertChangelog.setLong(6, System.currentTimeMillis());
+            insertChangelog.addBatch();
+        }
+        return insertChangelog.executeBatch().length;
+    }
+
+    /**
+     * Method to read the page splits of the indexes counted since the database started
+     *
+     * @return the page splits counted
+     */
+    private long readPageSplits() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(PAGE_SPLITS)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.tecknobit.pandoro.benchmarks;
+
+import com.tecknobit.pandorocore.helpers.PandoroInputsScanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static com.tecknobit.pandorocore.helpers.PandoroInputsValidator.URL_REGEX;
+
+/**
+ * The {@code InputsScannerBenchmark} class compares the {@link PandoroInputsScanner} with the regular expressions it
+ * replaces on adversarial inputs, crafted to trigger the backtracking of the regular expressions. The agreement of
+ * the scanners with the regular expressions is checked by the tests of the core module
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InputsScannerBenchmark {
+
+    /**
+     * {@code SCANNER} the scanner measured
+     */
+    private static final PandoroInputsScanner SCANNER = PandoroInputsScanner.INSTANCE;
+
+    /**
+     * {@code PROJECT_VERSION_REGEX} the regex previously used to validate the versions of the projects
+     */
+    private static final String PROJECT_VERSION_REGEX = "^v?(?:\\d+[-.]?)+(-[a-zA-Z]+\\d*)?$";
+
+    /**
+     * {@code URL_PATTERN} the pattern previously used to validate the urls
+     */
+    private static final Pattern URL_PATTERN = Pattern.compile(URL_REGEX);
+
+    /**
+     * {@code PROJECT_VERSION_PATTERN} the pattern previously used to validate the versions of the projects
+     */
+    private static final Pattern PROJECT_VERSION_PATTERN = Pattern.compile(PROJECT_VERSION_REGEX);
+
+    /**
+     * {@code length} the length of the repeated part of the adversarial inputs
+     */
+    @Param({"16", "24"})
+    public int length;
+
+    /**
+     * {@code adversarialUrl} the url which is not valid only at its end
+     */
+    private String adversarialUrl;
+
+    /**
+     * {@code adversarialVersion} the version which is not valid only at its end
+     */
+    private String adversarialVersion;
+
+    /**
+     * Method to generate the adversarial inputs
+     */
+    @Setup
+    public void setup() {
+        adversarialUrl = "https://" + "a".repeat(length * 4) + "!";
+        adversarialVersion = "1".repeat(length) + "!";
+    }
+
+    /**
+     * Method to measure the validation of the adversarial url with the regex
+     *
+     * @return whether the url is valid as {@code boolean}
+     */
+    @Benchmark
+    public boolean urlRegex() {
+        return URL_PATTERN.matcher(adversarialUrl).matches();
+    }
+
+    /**
+     * Method to measure the validation of the adversarial url with the scanner
+     *
+     * @return whether the url is valid as {@code boolean}
+     */
+    @Benchmark
+    public boolean urlScanner() {
+        return SCANNER.isUrl(adversarialUrl);
+    }
+
+    /**
+     * Method to measure the validation of the adversarial version with the regex
+     *
+     * @return whether the version is valid as {@code boolean}
+     */
+    @Benchmark
+    public boolean versionRegex() {
+        return PROJECT_VERSION_PATTERN.matcher(adversarialVersion).matches();
+    }
+
+    /**
+     * Method to measure the validation of the adversarial version with the scanner
+     *
+     * @return whether the version is valid as {@code boolean}
+     */
+    @Benchmark
+    public boolean versionScanner() {
+        return SCANNER.isProjectVersion(adversarialVersion);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.tecknobit.pandoro.benchmarks;
+
+import com.tecknobit.pandorocore.helpers.PandoroInputsValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code InputsValidatorBenchmark} class measures the checks performed by the {@link PandoroInputsValidator} on
+ * the payloads received by the server
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InputsValidatorBenchmark {
+
+    /**
+     * {@code VALIDATOR} the validator measured
+     */
+    private static final PandoroInputsValidator VALIDATOR = PandoroInputsValidator.INSTANCE;
+
+    /**
+     * {@code notes} the number of the change notes to validate
+     */
+    @Param({"1", "50"})
+    public int notes;
+
+    /**
+     * {@code projectName} the name of a project
+     */
+    private String projectName;
+
+    /**
+     * {@code projectDescription} the description of a project
+     */
+    private String projectDescription;
+
+    /**
+     * {@code repository} the repository of a project
+     */
+    private String repository;
+
+    /**
+     * {@code changeNotes} the change notes of an update
+     */
+    private List<String> changeNotes;
+
+    /**
+     * Method to generate the inputs to validate
+     */
+    @Setup
+    public void setup() {
+        SyntheticData syntheticData = new SyntheticData();
+        projectName = syntheticData.text(20);
+        projectDescription = syntheticData.text(500);
+        repository = "https://github.com/N7ghtm4r3/Pandoro";
+        changeNotes = new ArrayList<>(notes);
+        for (int j = 0; j < notes; j++)
+            changeNotes.add(syntheticData.text(120));
+    }
+
+    /**
+     * Method to measure the validation of the details of a project
+     *
+     * @return whether the details are valid as {@code boolean}
+     */
+    @Benchmark
+    public boolean validateProject() {
+        return VALIDATOR.isValidProjectName(projectName) && VALIDATOR.isValidProjectDescription(projectDescription)
+                && VALIDATOR.isValidVersion("1.2.2") && VALIDATOR.isValidRepository(repository);
+    }
+
+    /**
+     * Method to measure the validation of the change notes of an update
+     *
+     * @return whether the change notes are valid as {@code boolean}
+     */
+    @Benchmark
+    public boolean validateChangeNotes() {
+        return VALIDATOR.areNotesValid(changeNotes);
+    }
+
+}
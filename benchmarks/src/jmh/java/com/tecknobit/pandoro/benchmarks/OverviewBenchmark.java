@@ -0,0 +1,75 @@
+package com.tecknobit.pandoro.benchmarks;
+
+import com.tecknobit.pandoro.services.overview.dto.Overview;
+import com.tecknobit.pandoro.services.overview.service.OverviewService;
+import com.tecknobit.pandoro.services.projects.entities.Project;
+import com.tecknobit.pandoro.services.projects.repositories.ProjectsRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code OverviewBenchmark} class measures the computation of the overview of a user. The projects are served by
+ * an in-memory repository, so only the computations of the {@link OverviewService} are measured
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OverviewBenchmark {
+
+    /**
+     * {@code projects} the number of the projects of the user
+     */
+    @Param({"10", "100", "1000"})
+    public int projects;
+
+    /**
+     * {@code updatesPerProject} the number of the updates of each project
+     */
+    @Param({"10"})
+    public int updatesPerProject;
+
+    /**
+     * {@code userProjects} the projects of the user
+     */
+    private List<Project> userProjects;
+
+    /**
+     * {@code overviewService} the service which computes the overview
+     */
+    private OverviewService overviewService;
+
+    /**
+     * Method to generate the projects of the user
+     */
+    @Setup
+    public void setup() {
+        userProjects = new SyntheticData().projects(projects, updatesPerProject, 0);
+        ProjectsRepository projectsRepository = (ProjectsRepository) Proxy.newProxyInstance(
+                ProjectsRepository.class.getClassLoader(),
+                new Class<?>[]{ProjectsRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getProjects"))
+                        return userProjects;
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+        overviewService = new OverviewService(projectsRepository);
+    }
+
+    /**
+     * Method to measure the computation of the overview
+     *
+     * @return the overview computed as {@link Overview}
+     */
+    @Benchmark
+    public Overview getOverview() {
+        return overviewService.getOverview("user");
+    }
+
+}
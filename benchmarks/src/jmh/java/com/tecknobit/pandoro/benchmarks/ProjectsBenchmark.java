@@ -0,0 +1,104 @@
+package com.tecknobit.pandoro.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tecknobit.pandoro.services.projects.entities.Project;
+import com.tecknobit.pandoro.services.projects.services.ProjectsService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ProjectsBenchmark} class measures the computations on the projects which do not involve the database:
+ * the extraction of the filters sent by the clients and the development days of a project
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProjectsBenchmark {
+
+    /**
+     * {@code filters} the number of the raw filters sent by the client
+     */
+    @Param({"1", "5", "20"})
+    public int filters;
+
+    /**
+     * {@code updates} the number of the updates of the project
+     */
+    @Param({"10", "100"})
+    public int updates;
+
+    /**
+     * {@code rawFilters} the raw filters sent by the client
+     */
+    private Set<String> rawFilters;
+
+    /**
+     * {@code project} the project whose development days are computed
+     */
+    private Project project;
+
+    /**
+     * {@code projectsService} the service which extracts the filters
+     */
+    private ProjectsService projectsService;
+
+    /**
+     * {@code extractProjectFilters} the handle of the private method which extracts the filters
+     */
+    private MethodHandle extractProjectFilters;
+
+    /**
+     * Method to generate the filters and the project
+     */
+    @Setup
+    public void setup() throws Exception {
+        SyntheticData syntheticData = new SyntheticData();
+        rawFilters = new LinkedHashSet<>(syntheticData.projectFilters(filters));
+        project = syntheticData.project(updates, 0);
+        projectsService = new ProjectsService(null, null, null, null, null, null, null, new ObjectMapper());
+        Method method = ProjectsService.class.getDeclaredMethod("extractProjectFilters", Set.class);
+        method.setAccessible(true);
+        extractProjectFilters = MethodHandles.lookup().unreflect(method);
+    }
+
+    /**
+     * Method to measure the extraction of the filters
+     *
+     * @return the filters extracted as {@link Object}
+     */
+    @Benchmark
+    public Object extractProjectFilters() throws Throwable {
+        return extractProjectFilters.invoke(projectsService, rawFilters);
+    }
+
+    /**
+     * Method to measure the computation of the development days of a project
+     *
+     * @return the development days as int
+     */
+    @Benchmark
+    public int getTotalDevelopmentDays() {
+        return project.getTotalDevelopmentDays();
+    }
+
+    /**
+     * Method to measure the computation of the average development time of a project
+     *
+     * @param blackhole The sink of the values computed
+     */
+    @Benchmark
+    public void getAverageDevelopmentTime(Blackhole blackhole) {
+        blackhole.consume(project.getAverageDevelopmentTime());
+    }
+
+}
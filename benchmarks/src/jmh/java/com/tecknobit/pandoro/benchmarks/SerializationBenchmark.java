@@ -0,0 +1,102 @@
+package com.tecknobit.pandoro.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.tecknobit.pandoro.services.groups.entity.Group;
+import com.tecknobit.pandoro.services.projects.entities.Project;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code SerializationBenchmark} class measures the serialization of the graphs of the projects and of the groups
+ * as sent in the responses of the server, both as JSON and as CBOR
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    /**
+     * {@code pageSize} the number of the items of a page
+     */
+    @Param({"10", "100"})
+    public int pageSize;
+
+    /**
+     * {@code mapper} the mapper used to serialize the items
+     */
+    private ObjectMapper mapper;
+
+    /**
+     * {@code cborMapper} the mapper used to serialize the items as CBOR
+     */
+    private ObjectMapper cborMapper;
+
+    /**
+     * {@code projects} the page of the projects to serialize
+     */
+    private List<Project> projects;
+
+    /**
+     * {@code groups} the page of the groups to serialize
+     */
+    private List<Group> groups;
+
+    /**
+     * Method to generate the items to serialize
+     */
+    @Setup
+    public void setup() {
+        SyntheticData syntheticData = new SyntheticData();
+        mapper = new ObjectMapper();
+        cborMapper = new ObjectMapper(new CBORFactory());
+        projects = syntheticData.projects(pageSize, 10, 5);
+        groups = syntheticData.groups(pageSize, 8, 5);
+    }
+
+    /**
+     * Method to measure the serialization of a page of projects
+     *
+     * @return the page serialized as {@code byte[]}
+     */
+    @Benchmark
+    public byte[] serializeProjects() throws Exception {
+        return mapper.writeValueAsBytes(projects);
+    }
+
+    /**
+     * Method to measure the serialization of a page of groups
+     *
+     * @return the page serialized as {@code byte[]}
+     */
+    @Benchmark
+    public byte[] serializeGroups() throws Exception {
+        return mapper.writeValueAsBytes(groups);
+    }
+
+    /**
+     * Method to measure the serialization of a page of projects as CBOR
+     *
+     * @return the page serialized as {@code byte[]}
+     */
+    @Benchmark
+    public byte[] serializeProjectsAsCbor() throws Exception {
+        return cborMapper.writeValueAsBytes(projects);
+    }
+
+    /**
+     * Method to measure the serialization of a page of groups as CBOR
+     *
+     * @return the page serialized as {@code byte[]}
+     */
+    @Benchmark
+    public byte[] serializeGroupsAsCbor() throws Exception {
+        return cborMapper.writeValueAsBytes(groups);
+    }
+
+}
@@ -0,0 +1,338 @@
+package com.tecknobit.pandoro.benchmarks;
+
+import com.tecknobit.pandoro.dataset.DatasetShape;
+import com.tecknobit.pandoro.dataset.SyntheticDatasetGenerator;
+import com.tecknobit.pandoro.services.groups.entity.Group;
+import com.tecknobit.pandoro.services.notes.entity.Note;
+import com.tecknobit.pandoro.services.projects.entities.Project;
+import com.tecknobit.pandoro.services.projects.entities.Update;
+import com.tecknobit.pandoro.services.users.entities.GroupMember;
+import com.tecknobit.pandoro.services.users.entities.PandoroUser;
+import com.tecknobit.pandorocore.enums.InvitationStatus;
+import com.tecknobit.pandorocore.enums.Role;
+import com.tecknobit.pandorocore.enums.UpdateStatus;
+
+import java.util.*;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+
+/**
+ * The {@code SyntheticData} class is useful to generate the synthetic items used by the benchmarks. The items are
+ * built from the rows of the {@link SyntheticDatasetGenerator}, the same generator which populates the databases of
+ * the tests and of the load tests, with a {@link DatasetShape} of fixed sizes, so each item has exactly the size
+ * measured. The items are generated from a seed, so each run of the benchmarks works on the same data
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public class SyntheticData {
+
+    /**
+     * {@code DEFAULT_SEED} the seed used by default to generate the data
+     */
+    public static final long DEFAULT_SEED = 1809L;
+
+    /**
+     * {@code USERS} the number of the users of the datasets generated
+     */
+    private static final int USERS = 16;
+
+    /**
+     * {@code seed} the seed used to generate the data
+     */
+    private final long seed;
+
+    /**
+     * {@code random} the source of the filters and of the texts generated
+     */
+    private final Random random;
+
+    /**
+     * {@code users} the users of the dataset in progress
+     */
+    private final Map<String, PandoroUser> users;
+
+    /**
+     * {@code groups} the groups of the dataset in progress, in the order they have been generated
+     */
+    private final Map<String, Group> groups;
+
+    /**
+     * {@code projects} the projects of the dataset in progress, in the order they have been generated
+     */
+    private final Map<String, Project> projects;
+
+    /**
+     * {@code groupMembers} the members of each group of the dataset in progress
+     */
+    private final Map<String, ArrayList<GroupMember>> groupMembers;
+
+    /**
+     * {@code groupProjects} the projects shared with each group of the dataset in progress
+     */
+    private final Map<String, ArrayList<Project>> groupProjects;
+
+    /**
+     * {@code projectGroups} the groups where each project of the dataset in progress is shared
+     */
+    private final Map<String, ArrayList<Group>> projectGroups;
+
+    /**
+     * {@code projectUpdates} the updates of each project of the dataset in progress
+     */
+    private final Map<String, ArrayList<Update>> projectUpdates;
+
+    /**
+     * {@code updateNotes} the change notes of each update of the dataset in progress
+     */
+    private final Map<String, ArrayList<Note>> updateNotes;
+
+    /**
+     * Constructor used to init the generator with the {@link #DEFAULT_SEED}
+     */
+    public SyntheticData() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Constructor used to init the generator
+     *
+     * @param seed The seed used to generate the data
+     */
+    public SyntheticData(long seed) {
+        this.seed = seed;
+        random = new Random(seed);
+        users = new HashMap<>();
+        groups = new LinkedHashMap<>();
+        projects = new LinkedHashMap<>();
+        groupMembers = new HashMap<>();
+        groupProjects = new HashMap<>();
+        projectGroups = new HashMap<>();
+        projectUpdates = new HashMap<>();
+        updateNotes = new HashMap<>();
+    }
+
+    /**
+     * Method to generate a list of projects, some of them shared with the groups
+     *
+     * @param projects          The number of the projects to generate
+     * @param updatesPerProject The number of the updates of each project
+     * @param notesPerUpdate    The number of the change notes of each update
+     * @return the projects generated as {@link List} of {@link Project}
+     */
+    public List<Project> projects(int projects, int updatesPerProject, int notesPerUpdate) {
+        generate(new DatasetShape(seed, USERS, 0.25, 4, Math.ceil(projects / (double) USERS),
+                Math.max(updatesPerProject, 1), Math.max(notesPerUpdate, 1), 0.5,
+                DatasetShape.DEFAULT_START_TIMESTAMP, 1000, true));
+        List<Project> generatedProjects = new ArrayList<>(this.projects.values()).subList(0, projects);
+        for (Project project : generatedProjects) {
+            ArrayList<Update> updates = projectUpdates.get(project.getId());
+            if (notesPerUpdate == 0)
+                updates.forEach(update -> updateNotes.get(update.getId()).clear());
+            if (updatesPerProject == 0)
+                updates.clear();
+        }
+        return new ArrayList<>(generatedProjects);
+    }
+
+    /**
+     * Method to generate a project
+     *
+     * @param updates        The number of the updates of the project
+     * @param notesPerUpdate The number of the change notes of each update
+     * @return the project generated as {@link Project}
+     */
+    public Project project(int updates, int notesPerUpdate) {
+        return projects(1, updates, notesPerUpdate).get(0);
+    }
+
+    /**
+     * Method to generate a list of groups
+     *
+     * @param groups   The number of the groups to generate
+     * @param members  The number of the members of each group
+     * @param projects The maximum number of the projects of each group, the groups keep the projects shared with them
+     *                 in the dataset up to this number
+     * @return the groups generated as {@link List} of {@link Group}
+     */
+    public List<Group> groups(int groups, int members, int projects) {
+        int users = Math.max(USERS, members);
+        int groupsPerUser = (int) Math.ceil(groups / (double) users);
+        generate(new DatasetShape(seed, users, groups / (double) users, Math.max(members, 1),
+                2 * projects * groupsPerUser, 1, 1, 1, DatasetShape.DEFAULT_START_TIMESTAMP, 1000, true));
+        List<Group> generatedGroups = new ArrayList<>(this.groups.values());
+        for (Group group : generatedGroups) {
+            if (members == 0)
+                groupMembers.get(group.getId()).clear();
+            ArrayList<Project> sharedProjects = groupProjects.get(group.getId());
+            if (sharedProjects.size() > projects)
+                sharedProjects.subList(projects, sharedProjects.size()).clear();
+        }
+        return generatedGroups;
+    }
+
+    /**
+     * Method to generate a list of raw filters as sent by the clients to filter the projects
+     *
+     * @param filters The number of the filters to generate
+     * @return the filters generated as {@link List} of {@link String}
+     */
+    public List<String> projectFilters(int filters) {
+        List<String> generatedFilters = new ArrayList<>(filters);
+        for (int j = 0; j < filters; j++) {
+            switch (random.nextInt(4)) {
+                case 0 -> generatedFilters.add("Project" + random.nextInt(100));
+                case 1 -> generatedFilters.add(random.nextInt(3) + "." + random.nextInt(10) + "." + random.nextInt(20));
+                case 2 -> generatedFilters.add(">=" + random.nextInt(3) + "." + random.nextInt(10));
+                default -> generatedFilters.add(random.nextInt(3) + ".x");
+            }
+        }
+        return generatedFilters;
+    }
+
+    /**
+     * Method to generate a text
+     *
+     * @param length The length of the text
+     * @return the text generated as {@link String}
+     */
+    public String text(int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int j = 0; j < length; j++)
+            text.append(random.nextInt(8) == 0 ? ' ' : (char) ('a' + random.nextInt(26)));
+        return text.toString();
+    }
+
+    /**
+     * Method to generate a dataset in memory, building its items from the rows generated
+     *
+     * @param shape The shape of the dataset to generate
+     */
+    private void generate(DatasetShape shape) {
+        users.clear();
+        groups.clear();
+        projects.clear();
+        groupMembers.clear();
+        groupProjects.clear();
+        projectGroups.clear();
+        projectUpdates.clear();
+        updateNotes.clear();
+        SyntheticDatasetGenerator.generate(shape, this::addRow);
+    }
+
+    /**
+     * Method to build the item of a row generated and to link it to the items it refers to
+     *
+     * @param table   The table of the row
+     * @param columns The columns of the row
+     * @param values  The values of the row in the order of the columns
+     */
+    private void addRow(String table, String[] columns, Object[] values) {
+        Row row = new Row(columns, values);
+        switch (table) {
+            case USERS_KEY -> users.put(row.string(IDENTIFIER_KEY), new PandoroUser(row.string(IDENTIFIER_KEY),
+                    row.string(NAME_KEY), row.string(TOKEN_KEY), row.string(SURNAME_KEY), row.string(EMAIL_KEY),
+                    row.string(PASSWORD_KEY), row.string(LANGUAGE_KEY)));
+            case GROUPS_KEY -> {
+                String groupId = row.string(IDENTIFIER_KEY);
+                groups.put(groupId, new Group(groupId, row.string(NAME_KEY), null, row.date(CREATION_DATE_KEY),
+                        user(row, AUTHOR_KEY), row.string(GROUP_DESCRIPTION_KEY),
+                        groupMembers.computeIfAbsent(groupId, id -> new ArrayList<>()),
+                        groupProjects.computeIfAbsent(groupId, id -> new ArrayList<>())));
+            }
+            case GROUP_MEMBERS_TABLE -> groupMembers.get(row.string(GROUP_MEMBER_KEY)).add(
+                    new GroupMember(row.string(IDENTIFIER_KEY), row.string(NAME_KEY), row.string(SURNAME_KEY), null,
+                            row.string(EMAIL_KEY), Role.valueOf(row.string(MEMBER_ROLE_KEY)),
+                            InvitationStatus.valueOf(row.string(INVITATION_STATUS_KEY))));
+            case PROJECTS_KEY -> {
+                String projectId = row.string(IDENTIFIER_KEY);
+                projects.put(projectId, new Project(projectId, row.string(NAME_KEY), null,
+                        row.date(CREATION_DATE_KEY), user(row, AUTHOR_KEY), row.string(PROJECT_DESCRIPTION_KEY),
+                        row.string(PROJECT_VERSION_KEY),
+                        projectGroups.computeIfAbsent(projectId, id -> new ArrayList<>()),
+                        projectUpdates.computeIfAbsent(projectId, id -> new ArrayList<>()),
+                        row.string(PROJECT_REPOSITORY_KEY)));
+            }
+            case PROJECTS_GROUPS_TABLE -> {
+                String projectId = row.string(PROJECT_IDENTIFIER_KEY);
+                String groupId = row.string(GROUP_IDENTIFIER_KEY);
+                projectGroups.get(projectId).add(groups.get(groupId));
+                groupProjects.get(groupId).add(projects.get(projectId));
+            }
+            case UPDATES_KEY -> {
+                String projectId = row.string(PROJECT_KEY);
+                String updateId = row.string(IDENTIFIER_KEY);
+                projectUpdates.get(projectId).add(new Update(updateId, user(row, AUTHOR_KEY),
+                        row.date(UPDATE_CREATE_DATE_KEY), row.string(UPDATE_TARGET_VERSION_KEY),
+                        user(row, UPDATE_STARTED_BY_KEY), row.date(UPDATE_START_DATE_KEY),
+                        user(row, UPDATE_PUBLISHED_BY_KEY), row.date(UPDATE_PUBLISH_DATE_KEY),
+                        UpdateStatus.valueOf(row.string(UPDATE_STATUS_KEY)),
+                        updateNotes.computeIfAbsent(updateId, id -> new ArrayList<>()), projects.get(projectId),
+                        new ArrayList<>()));
+            }
+            case NOTES_KEY -> updateNotes.get(row.string(UPDATE_ESCAPED_KEY)).add(new Note(
+                    row.string(IDENTIFIER_KEY), user(row, AUTHOR_KEY), row.string(CONTENT_NOTE_KEY),
+                    row.date(CREATION_DATE_KEY), (boolean) row.value(MARKED_AS_DONE_KEY),
+                    user(row, MARKED_AS_DONE_BY_KEY), row.date(MARKED_AS_DONE_DATE_KEY)));
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Method to get the user referred by a column of a row
+     *
+     * @param row    The row
+     * @param column The column which refers to the user
+     * @return the user referred as {@link PandoroUser}, {@code null} if the column is empty
+     */
+    private PandoroUser user(Row row, String column) {
+        String userId = row.string(column);
+        return userId == null ? null : users.get(userId);
+    }
+
+    /**
+     * The {@code Row} record represents a row generated, with the accessors of its values by column
+     *
+     * @param columns The columns of the row
+     * @param values  The values of the row in the order of the columns
+     */
+    private record Row(String[] columns, Object[] values) {
+
+        /**
+         * Method to get the value of a column
+         *
+         * @param column The column
+         * @return the value of the column as {@link Object}
+         */
+        private Object value(String column) {
+            for (int j = 0; j < columns.length; j++)
+                if (columns[j].equals(column))
+                    return values[j];
+            throw new IllegalArgumentException("The row has not the column " + column);
+        }
+
+        /**
+         * Method to get the textual value of a column
+         *
+         * @param column The column
+         * @return the value of the column as {@link String}
+         */
+        private String string(String column) {
+            return (String) value(column);
+        }
+
+        /**
+         * Method to get the timestamp of a column
+         *
+         * @param column The column
+         * @return the timestamp of the column as long
+         */
+        private long date(String column) {
+            return (long) value(column);
+        }
+
+    }
+
+}
@@ -0,0 +1,340 @@
+package com.tecknobit.pandoro.benchmarks;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.tecknobit.pandoro.services.users.helpers.UsersCountersBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.USERS_KEY;
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+
+/**
+ * The {@code UsersCountersLockingBenchmark} class measures the commits per second and the latency percentiles of
+ * concurrent operations on groups sharing their members. Each operation stores a changelog for each member, increases
+ * their counters of the changelogs yet to read and stamps two items for them. The {@code perStatement} locking runs the
+ * statements as the services did before the {@link UsersCountersBuffer}, a counter update for each member in the order
+ * of the group and an update of the change sequences for each item stamped, while the {@code sorted} locking updates
+ * all the counters with a single statement sorted by identifier before storing the changelogs and the changes. The
+ * deadlocks rolled back and retried during each trial are printed when the trial ends
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class UsersCountersLockingBenchmark {
+
+    /**
+     * {@code DATABASE_NAME} the name of the database of the benchmark
+     */
+    private static final String DATABASE_NAME = "pandoro_benchmarks";
+
+    /**
+     * {@code USERS} the number of users shared between the groups
+     */
+    private static final int USERS = 64;
+
+    /**
+     * {@code GROUP_SIZE} the number of members of each group
+     */
+    private static final int GROUP_SIZE = 8;
+
+    /**
+     * {@code DEADLOCK} the error code of a transaction rolled back because of a deadlock
+     */
+    private static final int DEADLOCK = 1213;
+
+    /**
+     * {@code LOCK_WAIT_TIMEOUT} the error code of a statement rolled back because it waited too long for a lock
+     */
+    private static final int LOCK_WAIT_TIMEOUT = 1205;
+
+    /**
+     * {@code MEMBERS_PLACEHOLDERS} the placeholders of the members of a group
+     */
+    private static final String MEMBERS_PLACEHOLDERS = String.join(",", Collections.nCopies(GROUP_SIZE, "?"));
+
+    /**
+     * {@code INSERT_CHANGELOG} the statement used to store a changelog
+     */
+    private static final String INSERT_CHANGELOG = "INSERT INTO " + CHANGELOGS_KEY + " (" + IDENTIFIER_KEY + ","
+            + CHANGELOG_OWNER_KEY + "," + CHANGELOG_READ_KEY + ") VALUES (?,?,false)";
+
+    /**
+     * {@code INCREASE_UNREAD_CHANGELOGS} the statement used to increase the counter of a single member
+     */
+    private static final String INCREASE_UNREAD_CHANGELOGS = "UPDATE " + USERS_KEY + " SET " + UNREAD_CHANGELOGS_KEY
+            + "=" + UNREAD_CHANGELOGS_KEY + "+1 WHERE " + IDENTIFIER_KEY + "=?";
+
+    /**
+     * {@code INCREASE_CHANGE_SEQUENCES} the statement used to increase the change sequences of the audience of an item
+     */
+    private static final String INCREASE_CHANGE_SEQUENCES = "UPDATE " + USERS_KEY + " SET " + CHANGE_SEQUENCE_KEY
+            + "=" + CHANGE_SEQUENCE_KEY + "+1 WHERE " + IDENTIFIER_KEY + " IN (" + MEMBERS_PLACEHOLDERS + ")";
+
+    /**
+     * {@code UPDATE_COUNTERS} the statement used to update all the counters of the members sorted by identifier
+     */
+    private static final String UPDATE_COUNTERS = "UPDATE " + USERS_KEY + " SET " + UNREAD_CHANGELOGS_KEY
+            + "=GREATEST(" + UNREAD_CHANGELOGS_KEY + "+CASE " + IDENTIFIER_KEY
+            + " WHEN ? THEN ?".repeat(GROUP_SIZE) + " ELSE 0 END,0)," + CHANGE_SEQUENCE_KEY + "=" + CHANGE_SEQUENCE_KEY
+            + "+1 WHERE " + IDENTIFIER_KEY + " IN (" + MEMBERS_PLACEHOLDERS + ") ORDER BY " + IDENTIFIER_KEY;
+
+    /**
+     * {@code STORE_CHANGE} the statement used to store the change of an item for its audience
+     */
+    private static final String STORE_CHANGE = "INSERT INTO " + SYNC_CHANGES_KEY + " (" + CHANGELOG_OWNER_KEY + ","
+            + SYNC_ITEM_IDENTIFIER_KEY + "," + CHANGE_SEQUENCE_KEY + ") SELECT " + IDENTIFIER_KEY + ",?,"
+            + CHANGE_SEQUENCE_KEY + " FROM " + USERS_KEY + " WHERE " + IDENTIFIER_KEY + " IN (" + MEMBERS_PLACEHOLDERS
+            + ") ON DUPLICATE KEY UPDATE " + CHANGE_SEQUENCE_KEY + "=VALUES(" + CHANGE_SEQUENCE_KEY + ")";
+
+    /**
+     * {@code locking} the way the rows of the users are locked
+     */
+    @Param({"perStatement", "sorted"})
+    public String locking;
+
+    /**
+     * {@code database} the embedded database
+     */
+    private DB database;
+
+    /**
+     * {@code url} the url of the database
+     */
+    private String url;
+
+    /**
+     * {@code deadlocks} the transactions rolled back because of a deadlock or a lock wait timeout
+     */
+    private final AtomicLong deadlocks = new AtomicLong();
+
+    /**
+     * The {@code Session} class represents the connection used by each thread of the benchmark
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 1.2.2
+     */
+    @State(Scope.Thread)
+    public static class Session {
+
+        /**
+         * {@code connection} the connection to the database
+         */
+        private Connection connection;
+
+        /**
+         * {@code random} the generator of the members of the groups
+         */
+        private Random random;
+
+        /**
+         * Method to open the connection of the thread
+         *
+         * @param benchmark The state of the benchmark
+         */
+        @Setup(Level.Trial)
+        public void setup(UsersCountersLockingBenchmark benchmark) throws SQLException {
+            connection = DriverManager.getConnection(benchmark.url, "root", "");
+            connection.setAutoCommit(false);
+            random = new Random(SyntheticData.DEFAULT_SEED + Thread.currentThread().getId());
+        }
+
+        /**
+         * Method to close the connection of the thread
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+
+    }
+
+    /**
+     * Method to start the database and to create the tables shaped as the users, the changelogs and the changes to
+     * synchronize ones
+     */
+    @Setup(Level.Trial)
+    public void setup() throws ManagedProcessException, SQLException {
+        database = DB.newEmbeddedDB(DBConfigurationBuilder.newBuilder()
+                .setPort(0)
+                .addArg("--innodb-lock-wait-timeout=5")
+                .build());
+        database.start();
+        database.createDB(DATABASE_NAME);
+        url = database.getConfiguration().getURL(DATABASE_NAME);
+        try (Connection connection = DriverManager.getConnection(url, "root", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + USERS_KEY + " ("
+                    + IDENTIFIER_KEY + " VARCHAR(255) NOT NULL PRIMARY KEY,"
+                    + UNREAD_CHANGELOGS_KEY + " INT NOT NULL DEFAULT 0,"
+                    + CHANGE_SEQUENCE_KEY + " BIGINT NOT NULL DEFAULT 0) ENGINE=InnoDB");
+            statement.execute("CREATE TABLE " + CHANGELOGS_KEY + " ("
+                    + IDENTIFIER_KEY + " VARCHAR(255) NOT NULL PRIMARY KEY,"
+                    + CHANGELOG_OWNER_KEY + " VARCHAR(255) NOT NULL,"
+                    + CHANGELOG_READ_KEY + " BIT NOT NULL,"
+                    + "FOREIGN KEY (" + CHANGELOG_OWNER_KEY + ") REFERENCES " + USERS_KEY + "(" + IDENTIFIER_KEY
+                    + ")) ENGINE=InnoDB");
+            statement.execute("CREATE TABLE " + SYNC_CHANGES_KEY + " ("
+                    + CHANGELOG_OWNER_KEY + " VARCHAR(255) NOT NULL,"
+                    + SYNC_ITEM_IDENTIFIER_KEY + " VARCHAR(255) NOT NULL,"
+                    + CHANGE_SEQUENCE_KEY + " BIGINT NOT NULL,"
+                    + "PRIMARY KEY (" + CHANGELOG_OWNER_KEY + "," + SYNC_ITEM_IDENTIFIER_KEY + ")) ENGINE=InnoDB");
+            for (int j = 0; j < USERS; j++)
+                statement.execute("INSERT INTO " + USERS_KEY + " (" + IDENTIFIER_KEY + ") VALUES ('" + user(j) + "')");
+        }
+    }
+
+    /**
+     * Method to measure an operation on a group, retried until it is committed
+     *
+     * @param session The connection of the thread
+     * @return the members of the group of the operation
+     */
+    @Benchmark
+    public List<String> groupOperation(Session session) throws SQLException {
+        List<String> members = members(session.random);
+        while (true) {
+            try {
+                if (locking.equals("sorted"))
+                    sortedLocking(session.connection, members);
+                else
+                    perStatementLocking(session.connection, members);
+                session.connection.commit();
+                return members;
+            } catch (SQLException e) {
+                session.connection.rollback();
+                if (e.getErrorCode() != DEADLOCK && e.getErrorCode() != LOCK_WAIT_TIMEOUT)
+                    throw e;
+                deadlocks.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Method to print the deadlocks counted during the trial and to stop the database
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws ManagedProcessException {
+        System.out.println();
+        System.out.println(locking + " locking deadlocks: " + deadlocks.get());
+        database.stop();
+    }
+
+    /**
+     * Method to run an operation locking the rows of the members with a statement for each member, in the order of the
+     * group, and with a statement for each item stamped
+     *
+     * @param connection The connection to the database
+     * @param members    The members of the group
+     */
+    private void perStatementLocking(Connection connection, List<String> members) throws SQLException {
+        try (PreparedStatement insertChangelog = connection.prepareStatement(INSERT_CHANGELOG);
+             PreparedStatement increaseUnreadChangelogs = connection.prepareStatement(INCREASE_UNREAD_CHANGELOGS)) {
+            for (String member : members) {
+                insertChangelog.setString(1, UUID.randomUUID().toString());
+                insertChangelog.setString(2, member);
+                insertChangelog.executeUpdate();
+                increaseUnreadChangelogs.setString(1, member);
+                increaseUnreadChangelogs.executeUpdate();
+            }
+        }
+        for (String item : List.of("group", "project")) {
+            try (PreparedStatement increaseChangeSequences = connection.prepareStatement(INCREASE_CHANGE_SEQUENCES)) {
+                bindMembers(increaseChangeSequences, 1, members);
+                increaseChangeSequences.executeUpdate();
+            }
+            storeChange(connection, item, members);
+        }
+    }
+
+    /**
+     * Method to run an operation locking the rows of the members with a single statement sorted by identifier, then
+     * storing the changelogs and the changes
+     *
+     * @param connection The connection to the database
+     * @param members    The members of the group
+     */
+    private void sortedLocking(Connection connection, List<String> members) throws SQLException {
+        try (PreparedStatement updateCounters = connection.prepareStatement(UPDATE_COUNTERS)) {
+            int index = 1;
+            for (String member : members) {
+                updateCounters.setString(index++, member);
+                updateCounters.setInt(index++, 1);
+            }
+            bindMembers(updateCounters, index, members);
+            updateCounters.executeUpdate();
+        }
+        try (PreparedStatement insertChangelog = connection.prepareStatement(INSERT_CHANGELOG)) {
+            for (String member : members) {
+                insertChangelog.setString(1, UUID.randomUUID().toString());
+                insertChangelog.setString(2, member);
+                insertChangelog.addBatch();
+            }
+            insertChangelog.executeBatch();
+        }
+        for (String item : List.of("group", "project"))
+            storeChange(connection, item, members);
+    }
+
+    /**
+     * Method to store the change of an item for the members of a group
+     *
+     * @param connection The connection to the database
+     * @param item       The identifier of the item changed
+     * @param members    The members of the group
+     */
+    private void storeChange(Connection connection, String item, List<String> members) throws SQLException {
+        try (PreparedStatement storeChange = connection.prepareStatement(STORE_CHANGE)) {
+            storeChange.setString(1, item);
+            bindMembers(storeChange, 2, members);
+            storeChange.executeUpdate();
+        }
+    }
+
+    /**
+     * Method to bind the members of a group to the placeholders of a statement
+     *
+     * @param statement The statement to bind
+     * @param index     The index of the first placeholder
+     * @param members   The members of the group
+     */
+    private void bindMembers(PreparedStatement statement, int index, List<String> members) throws SQLException {
+        for (String member : members)
+            statement.setString(index++, member);
+    }
+
+    /**
+     * Method to pick the members of a group between the users, in the order of the group
+     *
+     * @param random The generator of the members
+     * @return the members of the group as {@link List} of {@link String}
+     */
+    private List<String> members(Random random) {
+        List<String> users = new ArrayList<>();
+        for (int j = 0; j < USERS; j++)
+            users.add(user(j));
+        Collections.shuffle(users, random);
+        return users.subList(0, GROUP_SIZE);
+    }
+
+    /**
+     * Method to get the identifier of a user
+     *
+     * @param index The index of the user
+     * @return the identifier of the user as {@link String}
+     */
+    private static String user(int index) {
+        return String.format("user%03d", index);
+    }
+
+}
@@ -60,6 +60,13 @@ kotlin {
             dependencies {
                 implementation(libs.equinox.core)
                 implementation(libs.kotlinx.serialization.json)
+                api(libs.kotlinx.serialization.cbor)
+            }
+        }
+
+        val jvmTest by getting {
+            dependencies {
+                implementation(kotlin("test"))
             }
         }
 
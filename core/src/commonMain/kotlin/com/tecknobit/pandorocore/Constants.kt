@@ -270,4 +270,186 @@ const val CHANGELOG_OWNER_KEY = "owner"
  *
  * @since 1.2.0
  */
-const val EXTRA_CONTENT_KEY = "extra_content"
\ No newline at end of file
+const val EXTRA_CONTENT_KEY = "extra_content"
+
+/**
+ * `QUERY_KEY` search query key
+ *
+ * @since 1.2.2
+ */
+const val QUERY_KEY = "query"
+
+/**
+ * `CHANGE_NOTES_KEY` change notes key
+ *
+ * @since 1.2.2
+ */
+const val CHANGE_NOTES_KEY = "change_notes"
+
+/**
+ * `VERSION_MAJOR_KEY` major component of a version key
+ *
+ * @since 1.2.2
+ */
+const val VERSION_MAJOR_KEY = "version_major"
+
+/**
+ * `VERSION_MINOR_KEY` minor component of a version key
+ *
+ * @since 1.2.2
+ */
+const val VERSION_MINOR_KEY = "version_minor"
+
+/**
+ * `VERSION_PATCH_KEY` patch component of a version key
+ *
+ * @since 1.2.2
+ */
+const val VERSION_PATCH_KEY = "version_patch"
+
+/**
+ * `VERSION_PRE_RELEASE_KEY` pre-release label of a version key
+ *
+ * @since 1.2.2
+ */
+const val VERSION_PRE_RELEASE_KEY = "version_pre_release"
+
+/**
+ * `SEMANTIC_VERSION_KEY` parsed version key
+ *
+ * @since 1.2.2
+ */
+const val SEMANTIC_VERSION_KEY = "semantic_version"
+
+/**
+ * `VERSION_RANGE_KEY` versions range filter key
+ *
+ * @since 1.2.2
+ */
+const val VERSION_RANGE_KEY = "version_range"
+
+/**
+ * `LAST_EVENT_IDENTIFIER_KEY` identifier of the last event received from a stream key
+ *
+ * @since 1.2.2
+ */
+const val LAST_EVENT_IDENTIFIER_KEY = "Last-Event-ID"
+
+/**
+ * `CHANGELOG_STREAM_EVENT` name of the stream event which carries a new changelog
+ *
+ * @since 1.2.2
+ */
+const val CHANGELOG_STREAM_EVENT = "changelog"
+
+/**
+ * `UNREAD_CHANGELOGS_STREAM_EVENT` name of the stream event which carries the count of the unread changelogs
+ *
+ * @since 1.2.2
+ */
+const val UNREAD_CHANGELOGS_STREAM_EVENT = "unread_changelogs"
+
+/**
+ * `UNREAD_CHANGELOGS_KEY` count of the changelogs yet to read key
+ *
+ * @since 1.2.2
+ */
+const val UNREAD_CHANGELOGS_KEY = "unread_changelogs"
+
+/**
+ * `ARCHIVED_CHANGELOGS_KEY` archived changelogs key
+ *
+ * @since 1.2.2
+ */
+const val ARCHIVED_CHANGELOGS_KEY = "archived_changelogs"
+
+/**
+ * `ARCHIVED_AT_KEY` when a changelog has been archived key
+ *
+ * @since 1.2.2
+ */
+const val ARCHIVED_AT_KEY = "archived_at"
+
+/**
+ * `COALESCED_EVENTS_KEY` number of events merged in a changelog key
+ *
+ * @since 1.2.2
+ */
+const val COALESCED_EVENTS_KEY = "coalesced_events"
+
+/**
+ * `SYNC_CHANGES_KEY` changes to synchronize key
+ *
+ * @since 1.2.2
+ */
+const val SYNC_CHANGES_KEY = "sync_changes"
+
+/**
+ * `CHANGE_SEQUENCE_KEY` the sequence of the changes of a user key
+ *
+ * @since 1.2.2
+ */
+const val CHANGE_SEQUENCE_KEY = "change_sequence"
+
+/**
+ * `SYNC_ITEM_TYPE_KEY` type of the item changed key
+ *
+ * @since 1.2.2
+ */
+const val SYNC_ITEM_TYPE_KEY = "item_type"
+
+/**
+ * `SYNC_ITEM_IDENTIFIER_KEY` identifier of the item changed key
+ *
+ * @since 1.2.2
+ */
+const val SYNC_ITEM_IDENTIFIER_KEY = "item_id"
+
+/**
+ * `SYNC_DELETED_KEY` whether the item changed has been deleted key
+ *
+ * @since 1.2.2
+ */
+const val SYNC_DELETED_KEY = "deleted"
+
+/**
+ * `SYNC_HORIZON_KEY` the highest change sequence of the tombstones pruned for a user key
+ *
+ * @since 1.2.2
+ */
+const val SYNC_HORIZON_KEY = "sync_horizon"
+
+/**
+ * `SYNC_TOKEN_KEY` token of the last change synchronized key
+ *
+ * @since 1.2.2
+ */
+const val SYNC_TOKEN_KEY = "sync_token"
+
+/**
+ * `SINCE_KEY` token from which synchronize the changes key
+ *
+ * @since 1.2.2
+ */
+const val SINCE_KEY = "since"
+
+/**
+ * `TOMBSTONES_KEY` items deleted since the last synchronization key
+ *
+ * @since 1.2.2
+ */
+const val TOMBSTONES_KEY = "tombstones"
+
+/**
+ * `IN_DEVELOPMENT_PROJECTS_KEY` projects currently in development key
+ *
+ * @since 1.2.2
+ */
+const val IN_DEVELOPMENT_PROJECTS_KEY = "in_development_projects"
+
+/**
+ * `OVERVIEW_KEY` overview data analysis key
+ *
+ * @since 1.2.2
+ */
+const val OVERVIEW_KEY = "overview"
@@ -0,0 +1,28 @@
+package com.tecknobit.pandorocore.enums
+
+import kotlinx.serialization.Serializable
+
+/**
+ * `SyncableType` list of the types of the items which can be synchronized incrementally
+ *
+ * @since 1.2.2
+ */
+@Serializable
+enum class SyncableType {
+
+    /**
+     * `PROJECT` a project, its updates and their change notes included
+     */
+    PROJECT,
+
+    /**
+     * `GROUP` a group, its members and its projects included
+     */
+    GROUP,
+
+    /**
+     * `NOTE` a personal note
+     */
+    NOTE
+
+}
@@ -14,6 +14,14 @@ object PandoroEndpoints : EquinoxBaseEndpointsSet() {
      */
     const val AUTHORED_PROJECTS_ENDPOINT: String = "/authored"
 
+    /**
+     * `AUTHORED_PROJECTS_STREAM_ENDPOINT` endpoint to receive the projects authored by an user as a stream of
+     * newline-delimited JSON objects
+     *
+     * @since 1.2.2
+     */
+    const val AUTHORED_PROJECTS_STREAM_ENDPOINT: String = "$AUTHORED_PROJECTS_ENDPOINT/stream"
+
     /**
      * `IN_DEVELOPMENT_PROJECTS_ENDPOINT` endpoint to get the projects currently in [com.tecknobit.pandorocore.enums.UpdateStatus.IN_DEVELOPMENT] status
      */
@@ -109,6 +117,34 @@ object PandoroEndpoints : EquinoxBaseEndpointsSet() {
      */
     const val UNREAD_CHANGELOGS_ENDPOINT = "unread"
 
+    /**
+     * `CHANGELOGS_STREAM_ENDPOINT` endpoint to receive the new changelogs and the unread changelogs count as pushed events
+     *
+     * @since 1.2.2
+     */
+    const val CHANGELOGS_STREAM_ENDPOINT = "stream"
+
+    /**
+     * `MARK_CHANGELOGS_AS_READ_ENDPOINT` endpoint to mark as read a list of changelogs
+     *
+     * @since 1.2.2
+     */
+    const val MARK_CHANGELOGS_AS_READ_ENDPOINT = "markAsRead"
+
+    /**
+     * `MARK_ALL_CHANGELOGS_AS_READ_ENDPOINT` endpoint to mark as read all the changelogs created up to a timestamp
+     *
+     * @since 1.2.2
+     */
+    const val MARK_ALL_CHANGELOGS_AS_READ_ENDPOINT = "markAllAsRead"
+
+    /**
+     * `DELETE_READ_CHANGELOGS_ENDPOINT` endpoint to delete all the read changelogs
+     *
+     * @since 1.2.2
+     */
+    const val DELETE_READ_CHANGELOGS_ENDPOINT = "deleteRead"
+
     /**
      * `OVERVIEW_ENDPOINT` endpoint to get the overview data analysis
      */
@@ -119,4 +155,25 @@ object PandoroEndpoints : EquinoxBaseEndpointsSet() {
      */
     const val MOVE_ENDPOINT = "/move/"
 
+    /**
+     * `SEARCH_ENDPOINT` endpoint to search a content between projects, groups, notes and change notes
+     *
+     * @since 1.2.2
+     */
+    const val SEARCH_ENDPOINT = "search"
+
+    /**
+     * `SYNC_ENDPOINT` endpoint to get the changes of the items of a user since a sync token
+     *
+     * @since 1.2.2
+     */
+    const val SYNC_ENDPOINT = "sync"
+
+    /**
+     * `BOOTSTRAP_ENDPOINT` endpoint to get in a single request the initial state of a client
+     *
+     * @since 1.2.2
+     */
+    const val BOOTSTRAP_ENDPOINT = "bootstrap"
+
 }
\ No newline at end of file
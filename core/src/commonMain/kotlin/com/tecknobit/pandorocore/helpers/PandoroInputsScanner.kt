@@ -0,0 +1,255 @@
+package com.tecknobit.pandorocore.helpers
+
+import com.tecknobit.equinoxcore.annotations.Validator
+
+/**
+ * `PandoroInputsScanner` hand-written scanners used to validate the inputs which were previously matched with regular
+ * expressions. Each scanner reads the input once, from left to right and without allocating, so its cost is linear in
+ * the length of the input whatever its content, while the backtracking of the regular expressions could explode on
+ * crafted inputs. The scanners accept exactly the same inputs accepted by the regular expressions they replace
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+object PandoroInputsScanner {
+
+    /**
+     * `MAX_PORT_DIGITS` the max number of digits of the port of an url
+     */
+    private const val MAX_PORT_DIGITS = 5
+
+    /**
+     * `MAX_OCTET_DIGITS` the max number of digits of an octet of an IPv4 address
+     */
+    private const val MAX_OCTET_DIGITS = 3
+
+    /**
+     * `IPV4_OCTETS` the number of octets of an IPv4 address
+     */
+    private const val IPV4_OCTETS = 4
+
+    /**
+     * `MIN_TLD_LENGTH` the min length of the top level domain of a host
+     */
+    private const val MIN_TLD_LENGTH = 2
+
+    /**
+     * `MAX_TLD_LENGTH` the max length of the top level domain of a host
+     */
+    private const val MAX_TLD_LENGTH = 6
+
+    /**
+     * Function to check whether a value is a valid url, the accepted values are the same of the
+     * [PandoroInputsValidator.URL_REGEX]
+     *
+     * @param url: the value to check
+     * @return whether the value is a valid url as [Boolean]
+     */
+    @Validator
+    fun isUrl(
+        url: String,
+    ): Boolean {
+        val length = url.length
+        if (length == 0 || !isLetter(url[0]))
+            return false
+        var index = 1
+        while (index < length && isSchemeChar(url[index]))
+            index++
+        if (!url.startsWith("://", index))
+            return false
+        index += 3
+        val hostStart = index
+        while (index < length && isHostChar(url[index]))
+            index++
+        if (!isDomain(url, hostStart, index) && !isIpv4(url, hostStart, index))
+            return false
+        if (index < length && url[index] == ':') {
+            val portStart = ++index
+            while (index < length && isDigit(url[index]))
+                index++
+            if (index - portStart !in 1..MAX_PORT_DIGITS)
+                return false
+        }
+        if (index == length)
+            return true
+        val tailStart = url[index]
+        if (tailStart != '/' && tailStart != '?' && tailStart != '#')
+            return false
+        while (++index < length)
+            if (isWhitespace(url[index]))
+                return false
+        return true
+    }
+
+    /**
+     * Function to check whether a value is a valid version of a project, the accepted values are the same of the
+     * `^v?(?:\d+[-.]?)+(-[a-zA-Z]+\d*)?$` regular expression, so for example `v1.2.2`, `1-0`, `1.2.` or
+     * `1.2.2-beta3`
+     *
+     * @param version: the value to check
+     * @return whether the value is a valid version as [Boolean]
+     *
+     * @apiNote a `-` followed by a letter always starts the suffix, because the numeric part of the version cannot
+     * continue with a letter
+     */
+    @Validator
+    fun isProjectVersion(
+        version: String,
+    ): Boolean {
+        val length = version.length
+        var index = if (version.startsWith('v')) 1 else 0
+        if (index == length || !isDigit(version[index]))
+            return false
+        while (true) {
+            while (index < length && isDigit(version[index]))
+                index++
+            if (index == length)
+                return true
+            val separator = version[index]
+            if (separator == '-' && index + 1 < length && isLetter(version[index + 1]))
+                break
+            if (separator != '-' && separator != '.')
+                break
+            index++
+            if (index == length || !isDigit(version[index]))
+                break
+        }
+        if (index == length)
+            return true
+        if (version[index] != '-')
+            return false
+        val suffixStart = ++index
+        while (index < length && isLetter(version[index]))
+            index++
+        if (index == suffixStart)
+            return false
+        while (index < length && isDigit(version[index]))
+            index++
+        return index == length
+    }
+
+    /**
+     * Function to check whether a section of a value is a domain, made up by one or more labels each one followed by
+     * a dot and by the top level domain
+     *
+     * @param value: the value which contains the section
+     * @param start: the index where the section starts
+     * @param end: the index where the section ends, exclusive
+     * @return whether the section is a domain as [Boolean]
+     */
+    private fun isDomain(
+        value: String,
+        start: Int,
+        end: Int,
+    ): Boolean {
+        var labels = 0
+        var labelStart = start
+        for (index in start until end) {
+            if (value[index] == '.') {
+                if (index == labelStart)
+                    return false
+                labels++
+                labelStart = index + 1
+            }
+        }
+        if (labels == 0 || end - labelStart !in MIN_TLD_LENGTH..MAX_TLD_LENGTH)
+            return false
+        for (index in labelStart until end)
+            if (!isLetter(value[index]))
+                return false
+        return true
+    }
+
+    /**
+     * Function to check whether a section of a value is an IPv4 address, made up by four groups of one to three digits
+     * separated by a dot
+     *
+     * @param value: the value which contains the section
+     * @param start: the index where the section starts
+     * @param end: the index where the section ends, exclusive
+     * @return whether the section is an IPv4 address as [Boolean]
+     */
+    private fun isIpv4(
+        value: String,
+        start: Int,
+        end: Int,
+    ): Boolean {
+        var octets = 0
+        var index = start
+        while (index <= end) {
+            val octetStart = index
+            while (index < end && isDigit(value[index]))
+                index++
+            if (index - octetStart !in 1..MAX_OCTET_DIGITS)
+                return false
+            octets++
+            if (index == end)
+                return octets == IPV4_OCTETS
+            if (value[index] != '.' || octets == IPV4_OCTETS)
+                return false
+            index++
+        }
+        return false
+    }
+
+    /**
+     * Function to check whether a char can be part of the scheme of an url
+     *
+     * @param char: the char to check
+     * @return whether the char can be part of the scheme as [Boolean]
+     */
+    private fun isSchemeChar(
+        char: Char,
+    ): Boolean {
+        return isLetter(char) || isDigit(char) || char == '+' || char == '.' || char == '-'
+    }
+
+    /**
+     * Function to check whether a char can be part of the host of an url
+     *
+     * @param char: the char to check
+     * @return whether the char can be part of the host as [Boolean]
+     */
+    private fun isHostChar(
+        char: Char,
+    ): Boolean {
+        return isLetter(char) || isDigit(char) || char == '.' || char == '-'
+    }
+
+    /**
+     * Function to check whether a char is an ASCII letter
+     *
+     * @param char: the char to check
+     * @return whether the char is an ASCII letter as [Boolean]
+     */
+    private fun isLetter(
+        char: Char,
+    ): Boolean {
+        return char in 'a'..'z' || char in 'A'..'Z'
+    }
+
+    /**
+     * Function to check whether a char is an ASCII digit
+     *
+     * @param char: the char to check
+     * @return whether the char is an ASCII digit as [Boolean]
+     */
+    private fun isDigit(
+        char: Char,
+    ): Boolean {
+        return char in '0'..'9'
+    }
+
+    /**
+     * Function to check whether a char is one of the whitespaces excluded by the `\S` class of the regular expressions
+     *
+     * @param char: the char to check
+     * @return whether the char is a whitespace as [Boolean]
+     */
+    private fun isWhitespace(
+        char: Char,
+    ): Boolean {
+        return char == ' ' || char == '\t' || char == '\n' || char == '\u000B' || char == '\u000C' || char == '\r'
+    }
+
+}
@@ -151,12 +151,15 @@ object PandoroInputsValidator : InputsValidator() {
      *
      * @param repository: repository to check
      * @return whether the repository is valid as [Boolean]
+     *
+     * @apiNote the url is checked with [PandoroInputsScanner.isUrl] which accepts the same values of the [urlValidator]
+     * in linear time
      */
     @Validator
     fun isValidRepository(
         repository: String?,
     ): Boolean {
-        return repository != null && repository.isEmpty() || (urlValidator.matches(repository!!) &&
+        return repository != null && repository.isEmpty() || (PandoroInputsScanner.isUrl(repository!!) &&
                 isValidPlatform(repository))
     }
 
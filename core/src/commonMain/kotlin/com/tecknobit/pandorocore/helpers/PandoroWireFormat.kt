@@ -0,0 +1,30 @@
+package com.tecknobit.pandorocore.helpers
+
+import kotlinx.serialization.ExperimentalSerializationApi
+import kotlinx.serialization.cbor.Cbor
+
+/**
+ * `PandoroWireFormat` the compact binary format which the clients can request in place of the JSON responses. The
+ * server sends the same keys and values of the JSON responses encoded as CBOR, so the clients on slow links download
+ * smaller payloads and decode them faster, while the shared enums keep being encoded by their names
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+@OptIn(ExperimentalSerializationApi::class)
+object PandoroWireFormat {
+
+    /**
+     * `CBOR_MEDIA_TYPE` the media type to set in the `Accept` header of a request to receive its response as CBOR
+     */
+    const val CBOR_MEDIA_TYPE: String = "application/cbor"
+
+    /**
+     * `cbor` the instance to decode the CBOR responses, the keys not declared by the models of the client are ignored,
+     * so the client keeps working when the server adds new keys to the responses
+     */
+    val cbor: Cbor = Cbor {
+        ignoreUnknownKeys = true
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.tecknobit.pandorocore.helpers
+
+import java.util.Random
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+/**
+ * `PandoroInputsScannerTest` differential tests which check that the [PandoroInputsScanner] accepts exactly the inputs
+ * accepted by the regular expressions it replaces, running both on the same random and mutated inputs
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+class PandoroInputsScannerTest {
+
+    private companion object {
+
+        /**
+         * `SEED` the seed used to generate the fuzzed inputs
+         */
+        const val SEED = 1809L
+
+        /**
+         * `FUZZED_INPUTS` the number of the inputs checked with both the scanners and the regular expressions
+         */
+        const val FUZZED_INPUTS = 500_000
+
+        /**
+         * `FUZZING_ALPHABET` the chars used to generate and to mutate the fuzzed inputs
+         */
+        const val FUZZING_ALPHABET = "av1Z9.-+:/?# \t\né"
+
+        /**
+         * `PROJECT_VERSION_REGEX` the regex previously used to validate the versions of the projects
+         */
+        val PROJECT_VERSION_REGEX = Regex("^v?(?:\\d+[-.]?)+(-[a-zA-Z]+\\d*)?$")
+
+        /**
+         * `FUZZING_SEEDS` the valid inputs mutated to generate the fuzzed inputs
+         */
+        val FUZZING_SEEDS = arrayOf(
+            "https://github.com/N7ghtm4r3/Pandoro",
+            "https://gitlab.com/group/project?tab=readme#top",
+            "http://192.168.1.1:8080/repository",
+            "ftp+ssh://code.example.co:22",
+            "v1.2.2",
+            "1.2.2-beta3",
+            "1-0.",
+            "1.2.-rc"
+        )
+
+    }
+
+    /**
+     * Function to check that [PandoroInputsScanner.isUrl] agrees with [PandoroInputsValidator.URL_REGEX]
+     */
+    @Test
+    fun isUrlMatchesUrlRegex() {
+        fuzz { input ->
+            assertEquals(
+                expected = PandoroInputsValidator.urlValidator.matches(input),
+                actual = PandoroInputsScanner.isUrl(input),
+                message = "The url scanner disagrees with the regex on \"$input\""
+            )
+        }
+    }
+
+    /**
+     * Function to check that [PandoroInputsScanner.isProjectVersion] agrees with the regex previously used to validate
+     * the versions of the projects
+     */
+    @Test
+    fun isProjectVersionMatchesVersionRegex() {
+        fuzz { input ->
+            assertEquals(
+                expected = PROJECT_VERSION_REGEX.matches(input),
+                actual = PandoroInputsScanner.isProjectVersion(input),
+                message = "The version scanner disagrees with the regex on \"$input\""
+            )
+        }
+    }
+
+    /**
+     * Function to run a check on the [FUZZED_INPUTS] random and mutated inputs
+     *
+     * @param check: the check to run on each input
+     */
+    private fun fuzz(
+        check: (String) -> Unit,
+    ) {
+        val random = Random(SEED)
+        repeat(FUZZED_INPUTS) {
+            check(if (random.nextBoolean()) mutate(random) else randomInput(random))
+        }
+    }
+
+    /**
+     * Function to generate an input mutating one of the [FUZZING_SEEDS]
+     *
+     * @param random: the source of randomness
+     * @return the input generated as [String]
+     */
+    private fun mutate(
+        random: Random,
+    ): String {
+        val input = StringBuilder(FUZZING_SEEDS[random.nextInt(FUZZING_SEEDS.size)])
+        repeat(random.nextInt(4)) {
+            val position = random.nextInt(input.length + 1)
+            val mutation = FUZZING_ALPHABET[random.nextInt(FUZZING_ALPHABET.length)]
+            when (random.nextInt(3)) {
+                0 -> input.insert(position, mutation)
+                1 -> if (position < input.length) input.deleteCharAt(position)
+                else -> if (position < input.length) input.setCharAt(position, mutation)
+            }
+        }
+        return input.toString()
+    }
+
+    /**
+     * Function to generate a random input from the [FUZZING_ALPHABET]
+     *
+     * @param random: the source of randomness
+     * @return the input generated as [String]
+     */
+    private fun randomInput(
+        random: Random,
+    ): String {
+        val input = StringBuilder(if (random.nextBoolean()) "a://" else "")
+        repeat(random.nextInt(14)) {
+            input.append(FUZZING_ALPHABET[random.nextInt(FUZZING_ALPHABET.length)])
+        }
+        return input.toString()
+    }
+
+}
@@ -0,0 +1,34 @@
+plugins {
+    id("java-library")
+}
+
+group = "com.tecknobit.pandoro"
+version = "1.2.1"
+
+repositories {
+    mavenCentral()
+    maven("https://jitpack.io")
+}
+
+dependencies {
+    api(project(":backend"))
+    api(project(":core"))
+    implementation(libs.spring.boot.starter.data.jpa)
+    implementation(libs.equinox.backend)
+    implementation(libs.equinox.core)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_18
+    targetCompatibility = JavaVersion.VERSION_18
+}
+
+tasks.register<JavaExec>("generateDataset") {
+    group = "application"
+    description = "Populates the configured database with a synthetic Pandoro instance generated from a seed"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.tecknobit.pandoro.dataset.DatasetLauncher")
+    project.properties
+        .filterKeys { it.startsWith("pandoro.dataset.") || it.startsWith("spring.datasource.") }
+        .forEach { (key, value) -> systemProperty(key, value.toString()) }
+}
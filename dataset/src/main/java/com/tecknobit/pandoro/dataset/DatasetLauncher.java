@@ -0,0 +1,39 @@
+package com.tecknobit.pandoro.dataset;
+
+import com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController;
+import com.tecknobit.pandoro.Launcher;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * The {@code DatasetLauncher} class is useful to populate the database configured for the backend with a synthetic
+ * dataset, shaped by the {@code pandoro.dataset.*} system properties as described by
+ * {@link DatasetShape#fromSystemProperties()}. The backend is booted without its web server, so the schema is created
+ * or updated as usual before the rows are inserted
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public class DatasetLauncher {
+
+    /**
+     * Main method to generate the dataset
+     *
+     * @param args The arguments shared with the {@link SpringApplication} of the backend
+     */
+    public static void main(String[] args) {
+        String[] backendArgs = new String[args.length + 1];
+        System.arraycopy(args, 0, backendArgs, 0, args.length);
+        backendArgs[args.length] = "--spring.main.web-application-type=none";
+        EquinoxController.initEquinoxEnvironment(Launcher.class, backendArgs);
+        DatasetShape shape = DatasetShape.fromSystemProperties();
+        try (ConfigurableApplicationContext context = SpringApplication.run(Launcher.class, backendArgs)) {
+            long start = System.currentTimeMillis();
+            SyntheticDatasetGenerator generator = SyntheticDatasetGenerator.generate(context, shape);
+            generator.getInsertedRows().forEach((table, rows) -> System.out.printf("%-20s %,12d%n", table, rows));
+            System.out.printf("Dataset with seed %d generated in %,d ms%n", shape.seed(),
+                    System.currentTimeMillis() - start);
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.tecknobit.pandoro.dataset;
+
+/**
+ * The {@code DatasetShape} record represents the size and the distributions of a synthetic dataset. The averages are
+ * the means of geometric distributions, so most of the items stay close to the average while a few of them are much
+ * bigger, as it happens in the real instances
+ *
+ * @param seed                     The seed used to generate the dataset, the same seed always generates the same
+ *                                 dataset
+ * @param users                    The number of the users
+ * @param groupsPerUser            The ratio between the groups and the users
+ * @param membersPerGroup          The average number of the members of a group, its author included
+ * @param projectsPerUser          The average number of the projects authored by a user
+ * @param updatesPerProject        The average number of the updates of a project
+ * @param changeNotesPerUpdate     The average number of the change notes of an update
+ * @param sharedProjectsRatio      The ratio of the projects shared with at least a group
+ * @param startTimestamp           The timestamp when the history of the dataset begins
+ * @param batchSize                The maximum number of the rows inserted by a single statement
+ * @param fixedSizes               Whether every item has exactly the average number of children instead of a number
+ *                                 drawn from the geometric distributions, so the benchmarks can measure items of an
+ *                                 exact size
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public record DatasetShape(long seed, int users, double groupsPerUser, double membersPerGroup,
+                           double projectsPerUser, double updatesPerProject, double changeNotesPerUpdate,
+                           double sharedProjectsRatio, long startTimestamp, int batchSize, boolean fixedSizes) {
+
+    /**
+     * {@code PROPERTIES_PREFIX} the prefix of the system properties used to customize the shape
+     */
+    public static final String PROPERTIES_PREFIX = "pandoro.dataset.";
+
+    /**
+     * {@code DEFAULT_START_TIMESTAMP} the default timestamp when the history of the dataset begins, fixed so the
+     * dataset does not depend on when it is generated
+     */
+    public static final long DEFAULT_START_TIMESTAMP = 1672531200000L;
+
+    /**
+     * Constructor used to validate the shape
+     */
+    public DatasetShape {
+        if (users <= 0)
+            throw new IllegalArgumentException("The users of the dataset must be greater than zero");
+        if (groupsPerUser < 0)
+            throw new IllegalArgumentException("The groups per user of the dataset must not be negative");
+        if (projectsPerUser < 0)
+            throw new IllegalArgumentException("The projects per user of the dataset must not be negative");
+        if (sharedProjectsRatio < 0 || sharedProjectsRatio > 1)
+            throw new IllegalArgumentException("The shared projects ratio of the dataset must be between zero and one");
+        if (membersPerGroup < 1 || updatesPerProject < 1 || changeNotesPerUpdate < 1)
+            throw new IllegalArgumentException("The averages of the dataset must be at least one");
+        if (batchSize <= 0)
+            throw new IllegalArgumentException("The batch size must be greater than zero");
+    }
+
+    /**
+     * Method to create the default shape of a dataset with the given users, which produces about three millions of
+     * rows every ten thousands users
+     *
+     * @param seed  The seed used to generate the dataset
+     * @param users The number of the users
+     * @return the shape as {@link DatasetShape}
+     */
+    public static DatasetShape ofUsers(long seed, int users) {
+        return new DatasetShape(seed, users, 0.2, 8, 6, 6, 3, 0.4, DEFAULT_START_TIMESTAMP, 1000, false);
+    }
+
+    /**
+     * Method to create the shape from the {@code pandoro.dataset.*} system properties, using the values of
+     * {@link #ofUsers(long, int)} for the properties not set
+     *
+     * @return the shape as {@link DatasetShape}
+     */
+    public static DatasetShape fromSystemProperties() {
+        DatasetShape defaults = ofUsers(Long.getLong(PROPERTIES_PREFIX + "seed", 1809),
+                Integer.getInteger(PROPERTIES_PREFIX + "users", 10000));
+        return new DatasetShape(
+                defaults.seed(),
+                defaults.users(),
+                doubleProperty("groups-per-user", defaults.groupsPerUser()),
+                doubleProperty("members-per-group", defaults.membersPerGroup()),
+                doubleProperty("projects-per-user", defaults.projectsPerUser()),
+                doubleProperty("updates-per-project", defaults.updatesPerProject()),
+                doubleProperty("change-notes-per-update", defaults.changeNotesPerUpdate()),
+                doubleProperty("shared-projects-ratio", defaults.sharedProjectsRatio()),
+                Long.getLong(PROPERTIES_PREFIX + "start-timestamp", defaults.startTimestamp()),
+                Integer.getInteger(PROPERTIES_PREFIX + "batch-size", defaults.batchSize()),
+                Boolean.getBoolean(PROPERTIES_PREFIX + "fixed-sizes")
+        );
+    }
+
+    /**
+     * Method to get a decimal system property of the shape
+     *
+     * @param name         The name of the property without its prefix
+     * @param defaultValue The value used when the property is not set
+     * @return the value of the property as double
+     */
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(PROPERTIES_PREFIX + name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+}
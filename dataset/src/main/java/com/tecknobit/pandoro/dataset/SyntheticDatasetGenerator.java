@@ -0,0 +1,1012 @@
+package com.tecknobit.pandoro.dataset;
+
+import com.tecknobit.equinoxbackend.apis.batch.EquinoxItemsHelper;
+import com.tecknobit.pandoro.helpers.SortableIdentifierGenerator;
+import com.tecknobit.pandorocore.enums.InvitationStatus;
+import com.tecknobit.pandorocore.enums.Role;
+import com.tecknobit.pandorocore.enums.UpdateStatus;
+import com.tecknobit.pandorocore.enums.events.ChangelogEvent;
+import com.tecknobit.pandorocore.enums.events.UpdateEventType;
+import jakarta.persistence.Query;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+import static com.tecknobit.equinoxbackend.apis.batch.EquinoxItemsHelper.InsertCommand.INSERT_INTO;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+import static com.tecknobit.pandorocore.enums.InvitationStatus.JOINED;
+import static com.tecknobit.pandorocore.enums.InvitationStatus.PENDING;
+import static com.tecknobit.pandorocore.enums.Role.*;
+import static com.tecknobit.pandorocore.enums.UpdateStatus.*;
+import static com.tecknobit.pandorocore.enums.events.ChangelogEvent.*;
+import static com.tecknobit.pandorocore.enums.events.UpdateEventType.CHANGENOTE_ADDED;
+import static com.tecknobit.pandorocore.enums.events.UpdateEventType.CHANGENOTE_DONE;
+
+/**
+ * The {@code SyntheticDatasetGenerator} class is useful to populate a database with a realistic Pandoro instance
+ * generated from a {@link DatasetShape}: the users, the groups with their members and roles, the projects shared
+ * with the groups, the updates in all the {@link UpdateStatus} with their change notes, the history of the updates
+ * and the changelogs received by the members of the groups. The rows are written with multi-row inserts, so millions
+ * of rows are generated in minutes, and the same shape always generates the same rows, identifiers included, so the
+ * users of a dataset can be rebuilt with {@link #userIdentifier(DatasetShape, int)} and
+ * {@link #userToken(DatasetShape, int)} without reading them from the database. The users are inserted with the
+ * counters the backend keeps on their rows, the changelogs yet to read and the change sequence, already matching the
+ * rows generated after them. The generator is usable as a library from the tests and the load tests with
+ * {@link #generate(ApplicationContext, DatasetShape)}, from the benchmarks, which keep the rows in memory, with
+ * {@link #generate(DatasetShape, RowsConsumer)} or from the {@code generateDataset} Gradle task
+ *
+ * @apiNote the counters of a user depend on the rows generated after the user row, so the dataset is generated
+ * twice from the same seed: the first pass only counts the changelogs yet to read and the changes of each user, the
+ * second one writes the rows, so the users are inserted with their final counters and no statement has to fix them
+ * afterward
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see EquinoxItemsHelper
+ * @since 1.2.2
+ */
+public class SyntheticDatasetGenerator extends EquinoxItemsHelper {
+
+    /**
+     * {@code UPDATE_EVENT_TYPE_COLUMN} the column of the type of the update events, named after its field
+     */
+    private static final String UPDATE_EVENT_TYPE_COLUMN = "type";
+
+    /**
+     * {@code PASSWORD_PLACEHOLDER} the password stored for the users generated, the users authenticate with their
+     * tokens so the password never matches
+     */
+    private static final String PASSWORD_PLACEHOLDER = "synthetic";
+
+    /**
+     * {@code MAX_PARAMETERS} the maximum number of the parameters of a prepared statement
+     */
+    private static final int MAX_PARAMETERS = 65535;
+
+    /**
+     * {@code MINUTE} the milliseconds in a minute
+     */
+    private static final long MINUTE = 60 * 1000L;
+
+    /**
+     * {@code DAY} the milliseconds in a day
+     */
+    private static final long DAY = 24 * 60 * MINUTE;
+
+    /**
+     * {@code LANGUAGES} the languages of the users with their weights
+     */
+    private static final String[] LANGUAGES = {"en", "en", "en", "en", "it", "it", "es", "fr", "de", "pt"};
+
+    /**
+     * {@code WORDS} the words used to compose the texts
+     */
+    private static final String[] WORDS = {"fixed", "added", "improved", "removed", "refactored", "the", "login",
+            "crash", "when", "loading", "projects", "groups", "updates", "notes", "screen", "layout", "performance",
+            "of", "sync", "dark", "theme", "support", "for", "new", "api", "timeout", "on", "slow", "networks",
+            "translations", "icons", "settings", "export", "import", "search", "results", "pagination"};
+
+    /**
+     * {@code USERS_KIND} the kind of the identifiers of the users
+     */
+    private static final int USERS_KIND = 1;
+
+    /**
+     * {@code GROUPS_KIND} the kind of the identifiers of the groups
+     */
+    private static final int GROUPS_KIND = 2;
+
+    /**
+     * {@code PROJECTS_KIND} the kind of the identifiers of the projects
+     */
+    private static final int PROJECTS_KIND = 3;
+
+    /**
+     * {@code UPDATES_KIND} the kind of the identifiers of the updates
+     */
+    private static final int UPDATES_KIND = 4;
+
+    /**
+     * {@code CHANGE_NOTES_KIND} the kind of the identifiers of the change notes
+     */
+    private static final int CHANGE_NOTES_KIND = 5;
+
+    /**
+     * {@code EVENTS_KIND} the kind of the identifiers of the update events
+     */
+    private static final int EVENTS_KIND = 6;
+
+    /**
+     * {@code CHANGELOGS_KIND} the kind of the identifiers of the changelogs
+     */
+    private static final int CHANGELOGS_KIND = 7;
+
+    /**
+     * The {@code RowsConsumer} interface is useful to receive the rows of a dataset generated without a database
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 1.2.2
+     */
+    @FunctionalInterface
+    public interface RowsConsumer {
+
+        /**
+         * Method to receive a row generated, the rows are received in the order they are generated, so each row is
+         * received after the rows it refers to
+         *
+         * @param table   The table of the row
+         * @param columns The columns of the row
+         * @param values  The values of the row in the order of the columns
+         */
+        void accept(String table, String[] columns, Object[] values);
+
+    }
+
+    /**
+     * {@code PlannedUpdate} the record represents an update planned before its project is inserted, so the version of
+     * the project can be the target version of its last update published
+     *
+     * @param version     The target version of the update
+     * @param status      The status of the update
+     * @param createDate  When the update has been scheduled
+     * @param startDate   When the update has been started, {@code -1} if not started yet
+     * @param publishDate When the update has been published, {@code -1} if not published yet
+     */
+    private record PlannedUpdate(int[] version, UpdateStatus status, long createDate, long startDate,
+                                 long publishDate) {
+    }
+
+    /**
+     * The {@code RowsBatch} class collects the rows to insert in a table and inserts them with a single statement
+     */
+    private final class RowsBatch implements BatchQuery<Object[]> {
+
+        /**
+         * {@code table} the table where insert the rows
+         */
+        private final String table;
+
+        /**
+         * {@code columns} the columns of the rows
+         */
+        private final String[] columns;
+
+        /**
+         * {@code capacity} the maximum number of the rows inserted by a single statement
+         */
+        private final int capacity;
+
+        /**
+         * {@code rows} the rows yet to insert
+         */
+        private final ArrayList<Object[]> rows;
+
+        /**
+         * Constructor used to init the batch
+         *
+         * @param table   The table where insert the rows
+         * @param columns The columns of the rows
+         */
+        private RowsBatch(String table, String... columns) {
+            this.table = table;
+            this.columns = columns;
+            capacity = Math.max(1, Math.min(shape.batchSize(), MAX_PARAMETERS / columns.length));
+            rows = new ArrayList<>(capacity);
+            batches.add(this);
+        }
+
+        /**
+         * Method to add a row, when the batch is full all the batches are inserted. The row is discarded while the
+         * counters are computed and is handed to the {@link #rowsConsumer} when the dataset is generated without a
+         * database
+         *
+         * @param values The values of the row in the order of the {@link #columns}
+         */
+        private void add(Object... values) {
+            if (counting)
+                return;
+            if (rowsConsumer != null) {
+                rowsConsumer.accept(table, columns, values);
+                return;
+            }
+            rows.add(values);
+            if (rows.size() >= capacity)
+                flush();
+        }
+
+        /**
+         * Method to insert the rows collected
+         */
+        private void insert() {
+            if (rows.isEmpty())
+                return;
+            batchInsert(INSERT_INTO, table, this);
+            insertedRows.merge(table, (long) rows.size(), Long::sum);
+            rows.clear();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Collection<Object[]> getData() {
+            return rows;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void prepareQuery(Query query, int index, Collection<Object[]> rows) {
+            for (Object[] row : rows)
+                for (Object value : row)
+                    query.setParameter(index++, value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String[] getColumns() {
+            return columns;
+        }
+
+    }
+
+    /**
+     * {@code shape} the shape of the dataset to generate
+     */
+    private final DatasetShape shape;
+
+    /**
+     * {@code random} the source of all the values generated
+     */
+    private Random random;
+
+    /**
+     * {@code transactionTemplate} the template used to insert each round of batches in a single transaction,
+     * {@code null} when the dataset is generated without a database
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * {@code rowsConsumer} the consumer of the rows when the dataset is generated without a database, {@code null}
+     * otherwise
+     */
+    private final RowsConsumer rowsConsumer;
+
+    /**
+     * {@code counting} whether the pass in progress only counts the changelogs and the changes of the users
+     */
+    private boolean counting;
+
+    /**
+     * {@code unreadChangelogs} the number of the changelogs yet to read of each user
+     */
+    private final int[] unreadChangelogs;
+
+    /**
+     * {@code changeSequences} the change sequence of each user, increased by each operation on the items visible
+     * to the user
+     */
+    private final long[] changeSequences;
+
+    /**
+     * {@code batches} the batches in the order they have to be inserted to respect the foreign keys
+     */
+    private final List<RowsBatch> batches;
+
+    /**
+     * {@code insertedRows} the number of the rows inserted in each table
+     */
+    private final LinkedHashMap<String, Long> insertedRows;
+
+    /**
+     * {@code users} the batch of the users
+     */
+    private final RowsBatch users;
+
+    /**
+     * {@code groups} the batch of the groups
+     */
+    private final RowsBatch groups;
+
+    /**
+     * {@code members} the batch of the members of the groups
+     */
+    private final RowsBatch members;
+
+    /**
+     * {@code projects} the batch of the projects
+     */
+    private final RowsBatch projects;
+
+    /**
+     * {@code projectsGroups} the batch of the projects shared with the groups
+     */
+    private final RowsBatch projectsGroups;
+
+    /**
+     * {@code updates} the batch of the updates
+     */
+    private final RowsBatch updates;
+
+    /**
+     * {@code changeNotes} the batch of the change notes
+     */
+    private final RowsBatch changeNotes;
+
+    /**
+     * {@code events} the batch of the update events
+     */
+    private final RowsBatch events;
+
+    /**
+     * {@code groupChangelogs} the batch of the changelogs related to the groups
+     */
+    private final RowsBatch groupChangelogs;
+
+    /**
+     * {@code projectChangelogs} the batch of the changelogs related to the projects
+     */
+    private final RowsBatch projectChangelogs;
+
+    /**
+     * {@code groupIdentifiers} the identifiers of the groups
+     */
+    private String[] groupIdentifiers;
+
+    /**
+     * {@code groupMembers} the members who joined each group
+     */
+    private int[][] groupMembers;
+
+    /**
+     * {@code managedGroups} the groups where each user is an admin or a maintainer, so where he can share his
+     * projects
+     */
+    private int[][] managedGroups;
+
+    /**
+     * {@code managedGroupsCount} the number of the groups managed by each user
+     */
+    private int[] managedGroupsCount;
+
+    /**
+     * {@code sequences} the sequence of the identifiers generated for each kind
+     */
+    private final long[] sequences;
+
+    /**
+     * Constructor used to init the generator
+     *
+     * @param shape              The shape of the dataset to generate
+     * @param transactionManager The manager of the transactions where the rows are inserted
+     */
+    public SyntheticDatasetGenerator(DatasetShape shape, PlatformTransactionManager transactionManager) {
+        this(shape, new TransactionTemplate(transactionManager), null);
+    }
+
+    /**
+     * Constructor used to init the generator
+     *
+     * @param shape               The shape of the dataset to generate
+     * @param transactionTemplate The template used to insert the rows, {@code null} when generated without a database
+     * @param rowsConsumer        The consumer of the rows, {@code null} when they are inserted in the database
+     */
+    private SyntheticDatasetGenerator(DatasetShape shape, TransactionTemplate transactionTemplate,
+                                      RowsConsumer rowsConsumer) {
+        this.shape = shape;
+        random = new Random(shape.seed());
+        this.transactionTemplate = transactionTemplate;
+        this.rowsConsumer = rowsConsumer;
+        batches = new ArrayList<>();
+        insertedRows = new LinkedHashMap<>();
+        sequences = new long[CHANGELOGS_KIND + 1];
+        unreadChangelogs = new int[shape.users()];
+        changeSequences = new long[shape.users()];
+        users = new RowsBatch(USERS_KEY, IDENTIFIER_KEY, TOKEN_KEY, NAME_KEY, SURNAME_KEY, EMAIL_KEY, PASSWORD_KEY,
+                PROFILE_PIC_KEY, LANGUAGE_KEY, UNREAD_CHANGELOGS_KEY, CHANGE_SEQUENCE_KEY);
+        groups = new RowsBatch(GROUPS_KEY, IDENTIFIER_KEY, NAME_KEY, GROUP_LOGO_KEY, CREATION_DATE_KEY,
+                GROUP_DESCRIPTION_KEY, AUTHOR_KEY);
+        members = new RowsBatch(GROUP_MEMBERS_TABLE, IDENTIFIER_KEY, NAME_KEY, EMAIL_KEY, PROFILE_PIC_KEY,
+                SURNAME_KEY, MEMBER_ROLE_KEY, INVITATION_STATUS_KEY, GROUP_MEMBER_KEY);
+        projects = new RowsBatch(PROJECTS_KEY, AUTHOR_KEY, IDENTIFIER_KEY, NAME_KEY, CREATION_DATE_KEY,
+                PROJECT_DESCRIPTION_KEY, PROJECT_VERSION_KEY, VERSION_MAJOR_KEY, VERSION_MINOR_KEY, VERSION_PATCH_KEY,
+                PROJECT_REPOSITORY_KEY);
+        projectsGroups = new RowsBatch(PROJECTS_GROUPS_TABLE, PROJECT_IDENTIFIER_KEY, GROUP_IDENTIFIER_KEY);
+        updates = new RowsBatch(UPDATES_KEY, IDENTIFIER_KEY, AUTHOR_KEY, UPDATE_CREATE_DATE_KEY,
+                UPDATE_TARGET_VERSION_KEY, VERSION_MAJOR_KEY, VERSION_MINOR_KEY, VERSION_PATCH_KEY, UPDATE_STATUS_KEY,
+                UPDATE_STARTED_BY_KEY, UPDATE_START_DATE_KEY, UPDATE_PUBLISHED_BY_KEY, UPDATE_PUBLISH_DATE_KEY,
+                PROJECT_KEY);
+        changeNotes = new RowsBatch(NOTES_KEY, IDENTIFIER_KEY, AUTHOR_KEY, CONTENT_NOTE_KEY, CREATION_DATE_KEY,
+                MARKED_AS_DONE_KEY, MARKED_AS_DONE_BY_KEY, MARKED_AS_DONE_DATE_KEY, UPDATE_ESCAPED_KEY);
+        events = new RowsBatch(UPDATE_EVENTS_KEY, IDENTIFIER_KEY, OWNER_KEY, UPDATE_EVENT_TYPE_COLUMN, AUTHOR_KEY,
+                TIMESTAMP_KEY, CONTENT_NOTE_KEY);
+        groupChangelogs = new RowsBatch(CHANGELOGS_KEY, IDENTIFIER_KEY, CHANGELOG_EVENT_KEY, EXTRA_CONTENT_KEY,
+                CHANGELOG_READ_KEY, TIMESTAMP_KEY, GROUP_IDENTIFIER_KEY, CHANGELOG_OWNER_KEY);
+        projectChangelogs = new RowsBatch(CHANGELOGS_KEY, IDENTIFIER_KEY, CHANGELOG_EVENT_KEY, EXTRA_CONTENT_KEY,
+                CHANGELOG_READ_KEY, TIMESTAMP_KEY, PROJECT_IDENTIFIER_KEY, CHANGELOG_OWNER_KEY);
+    }
+
+    /**
+     * Method to generate a dataset in the database of a running backend
+     *
+     * @param context The context of the running backend
+     * @param shape   The shape of the dataset to generate
+     * @return the generator used, to read the rows inserted, as {@link SyntheticDatasetGenerator}
+     */
+    public static SyntheticDatasetGenerator generate(ApplicationContext context, DatasetShape shape) {
+        SyntheticDatasetGenerator generator = new SyntheticDatasetGenerator(shape,
+                context.getBean(PlatformTransactionManager.class));
+        context.getAutowireCapableBeanFactory().autowireBean(generator);
+        generator.populate();
+        return generator;
+    }
+
+    /**
+     * Method to generate a dataset without a database, handing each row generated to a consumer
+     *
+     * @param shape        The shape of the dataset to generate
+     * @param rowsConsumer The consumer of the rows generated
+     */
+    public static void generate(DatasetShape shape, RowsConsumer rowsConsumer) {
+        new SyntheticDatasetGenerator(shape, null, rowsConsumer).populate();
+    }
+
+    /**
+     * Method to get the identifier of a user of a dataset
+     *
+     * @param shape The shape of the dataset
+     * @param user  The index of the user, from zero to {@link DatasetShape#users()} excluded
+     * @return the identifier of the user as {@link String}
+     */
+    public static String userIdentifier(DatasetShape shape, int user) {
+        return identifier(shape.seed(), USERS_KIND, user, signUpDate(shape, user));
+    }
+
+    /**
+     * Method to get the token of a user of a dataset
+     *
+     * @param shape The shape of the dataset
+     * @param user  The index of the user, from zero to {@link DatasetShape#users()} excluded
+     * @return the token of the user as {@link String}
+     */
+    public static String userToken(DatasetShape shape, int user) {
+        long tokenSeed = mix(shape.seed() ^ mix(user));
+        return Long.toHexString(mix(tokenSeed)) + Long.toHexString(mix(~tokenSeed));
+    }
+
+    /**
+     * Method to get the number of the rows inserted in each table
+     *
+     * @return the number of the rows inserted in each table, in the order of insertion, as {@link Map}
+     */
+    public Map<String, Long> getInsertedRows() {
+        return Collections.unmodifiableMap(insertedRows);
+    }
+
+    /**
+     * Method to populate the database with the dataset, counting the counters of the users first
+     */
+    private void populate() {
+        counting = true;
+        generateItems();
+        counting = false;
+        random = new Random(shape.seed());
+        Arrays.fill(sequences, 0);
+        generateItems();
+        flush();
+    }
+
+    /**
+     * Method to generate all the items of the dataset
+     */
+    private void generateItems() {
+        for (int user = 0; user < shape.users(); user++)
+            insertUser(user);
+        int groupsCount = (int) Math.round(shape.users() * shape.groupsPerUser());
+        groupIdentifiers = new String[groupsCount];
+        groupMembers = new int[groupsCount][];
+        managedGroups = new int[shape.users()][];
+        managedGroupsCount = new int[shape.users()];
+        for (int group = 0; group < groupsCount; group++)
+            insertGroup(group);
+        for (int user = 0; user < shape.users(); user++) {
+            int userProjects = size(shape.projectsPerUser());
+            for (int j = 0; j < userProjects; j++)
+                insertProject(user);
+        }
+    }
+
+    /**
+     * Method to insert a user
+     *
+     * @param user The index of the user
+     */
+    private void insertUser(int user) {
+        users.add(userIdentifier(shape, user), userToken(shape, user), "User" + user, "Synthetic",
+                email(user), PASSWORD_PLACEHOLDER, DEFAULT_PROFILE_PIC, pick(LANGUAGES), unreadChangelogs[user],
+                changeSequences[user]);
+    }
+
+    /**
+     * Method to insert a group with its members, each member receives the invitation to join the group and most of
+     * them joins it
+     *
+     * @param group The index of the group
+     */
+    private void insertGroup(int group) {
+        int author = random.nextInt(shape.users());
+        long creationDate = signUpDate(shape, author) + randomDuration(180 * DAY);
+        String groupId = identifier(shape.seed(), GROUPS_KIND, group, creationDate);
+        groupIdentifiers[group] = groupId;
+        String groupName = "Group " + capitalize(pick(WORDS)) + " " + group;
+        groups.add(groupId, groupName, DEFAULT_PROFILE_PIC, creationDate, "The team behind the " + groupName,
+                userIdentifier(shape, author));
+        int membersCount = Math.min(shape.users(), positiveSize(shape.membersPerGroup()));
+        LinkedHashSet<Integer> groupUsers = new LinkedHashSet<>();
+        groupUsers.add(author);
+        while (groupUsers.size() < membersCount)
+            groupUsers.add(random.nextInt(shape.users()));
+        int[] joined = new int[membersCount];
+        int joinedCount = 0;
+        for (int member : groupUsers) {
+            Role role = member == author ? ADMIN : role();
+            InvitationStatus status = member == author || random.nextDouble() < 0.85 ? JOINED : PENDING;
+            members.add(userIdentifier(shape, member), "User" + member, email(member), DEFAULT_PROFILE_PIC,
+                    "Synthetic", role.name(), status.name(), groupId);
+            if (member != author) {
+                groupChangelogs.add(nextIdentifier(CHANGELOGS_KIND, creationDate), INVITED_GROUP.name(), groupName,
+                        status == JOINED, creationDate + randomDuration(DAY), groupId, userIdentifier(shape, member));
+                countChangelog(member, status == JOINED);
+            }
+            if (status == JOINED) {
+                joined[joinedCount++] = member;
+                if (role != DEVELOPER)
+                    addManagedGroup(member, group);
+            }
+        }
+        groupMembers[group] = Arrays.copyOf(joined, joinedCount);
+        countChange(groupMembers[group]);
+    }
+
+    /**
+     * Method to insert a project with its updates, the project is shared with some of the groups managed by its
+     * author
+     *
+     * @param author The index of the author of the project
+     */
+    private void insertProject(int author) {
+        long creationDate = signUpDate(shape, author) + randomDuration(365 * DAY);
+        long projectIndex = sequences[PROJECTS_KIND]++;
+        String projectId = identifier(shape.seed(), PROJECTS_KIND, projectIndex, creationDate);
+        int[] sharedGroups = shareProject(author);
+        int updatesCount = positiveSize(shape.updatesPerProject());
+        int[] version = {1, 0, 0};
+        int[] publishedVersion = version.clone();
+        List<PlannedUpdate> projectUpdates = new ArrayList<>(updatesCount);
+        long timestamp = creationDate;
+        for (int j = 0; j < updatesCount; j++) {
+            bumpVersion(version);
+            UpdateStatus status = j < updatesCount - 1 ? PUBLISHED : lastUpdateStatus();
+            long createDate = timestamp + MINUTE + randomDuration(14 * DAY);
+            long startDate = status == SCHEDULED ? -1 : createDate + randomDuration(3 * DAY);
+            long publishDate = status == PUBLISHED ? startDate + MINUTE + randomDuration(21 * DAY) : -1;
+            if (status == PUBLISHED) {
+                publishedVersion = version.clone();
+                timestamp = publishDate;
+            } else
+                timestamp = createDate;
+            projectUpdates.add(new PlannedUpdate(version.clone(), status, createDate, startDate, publishDate));
+        }
+        String projectName = "Project " + capitalize(pick(WORDS)) + " " + projectIndex;
+        String repository = random.nextDouble() < 0.6 ? "https://github.com/pandoro-synthetic/project-" + projectIndex
+                : "";
+        projects.add(userIdentifier(shape, author), projectId, projectName, creationDate, text(12),
+                formatVersion(publishedVersion), publishedVersion[0], publishedVersion[1], publishedVersion[2],
+                repository);
+        for (int sharedGroup : sharedGroups)
+            projectsGroups.add(projectId, groupIdentifiers[sharedGroup]);
+        int[] audience = audience(author, sharedGroups);
+        countChange(audience);
+        notifyMembers(PROJECT_ADDED, null, creationDate, projectId, sharedGroups, author);
+        for (PlannedUpdate projectUpdate : projectUpdates)
+            insertUpdate(projectId, author, sharedGroups, audience, projectUpdate);
+    }
+
+    /**
+     * Method to insert an update with its change notes and its history
+     *
+     * @param projectId    The identifier of the project of the update
+     * @param author       The index of the author of the project
+     * @param sharedGroups The groups where the project is shared
+     * @param audience     The users who can see the project
+     * @param update       The update planned
+     */
+    private void insertUpdate(String projectId, int author, int[] sharedGroups, int[] audience,
+                              PlannedUpdate update) {
+        int[] version = update.version();
+        UpdateStatus status = update.status();
+        long createDate = update.createDate();
+        long startDate = update.startDate();
+        long publishDate = update.publishDate();
+        String updateId = nextIdentifier(UPDATES_KIND, createDate);
+        String targetVersion = formatVersion(version);
+        int scheduledBy = collaborator(author, sharedGroups);
+        int startedBy = collaborator(author, sharedGroups);
+        int publishedBy = collaborator(author, sharedGroups);
+        updates.add(updateId, userIdentifier(shape, scheduledBy), createDate, targetVersion, version[0], version[1],
+                version[2], status.name(), status == SCHEDULED ? null : userIdentifier(shape, startedBy), startDate,
+                status == PUBLISHED ? userIdentifier(shape, publishedBy) : null, publishDate, projectId);
+        insertEvent(updateId, UpdateEventType.SCHEDULED, userIdentifier(shape, scheduledBy), createDate, null);
+        countChange(audience);
+        notifyMembers(UPDATE_SCHEDULED, targetVersion, createDate, projectId, sharedGroups, scheduledBy);
+        if (status != SCHEDULED) {
+            insertEvent(updateId, UpdateEventType.STARTED, userIdentifier(shape, startedBy), startDate, null);
+            countChange(audience);
+            notifyMembers(UPDATE_STARTED, targetVersion, startDate, projectId, sharedGroups, startedBy);
+        }
+        long workEnd = status == PUBLISHED ? publishDate : startDate + 14 * DAY;
+        int changeNotesCount = positiveSize(shape.changeNotesPerUpdate());
+        for (int j = 0; j < changeNotesCount; j++) {
+            int noteAuthor = collaborator(author, sharedGroups);
+            String content = text(6);
+            boolean addedLater = status != SCHEDULED && random.nextDouble() < 0.2;
+            long noteCreation = addedLater ? startDate + randomDuration(workEnd - startDate) : createDate;
+            boolean done = status == PUBLISHED || (status == IN_DEVELOPMENT && random.nextBoolean());
+            String doneBy = null;
+            long doneDate = -1;
+            if (done) {
+                doneBy = userIdentifier(shape, collaborator(author, sharedGroups));
+                doneDate = noteCreation + randomDuration(Math.max(workEnd - noteCreation, MINUTE));
+            }
+            changeNotes.add(nextIdentifier(CHANGE_NOTES_KIND, noteCreation), userIdentifier(shape, noteAuthor),
+                    content, noteCreation, done, doneBy, doneDate, updateId);
+            if (addedLater) {
+                insertEvent(updateId, CHANGENOTE_ADDED, userIdentifier(shape, noteAuthor), noteCreation, content);
+                countChange(audience);
+            }
+            if (done) {
+                insertEvent(updateId, CHANGENOTE_DONE, doneBy, doneDate, content);
+                countChange(audience);
+            }
+        }
+        if (status == PUBLISHED) {
+            insertEvent(updateId, UpdateEventType.PUBLISHED, userIdentifier(shape, publishedBy), publishDate, null);
+            countChange(audience);
+            notifyMembers(UPDATE_PUBLISHED, targetVersion, publishDate, projectId, sharedGroups, publishedBy);
+        }
+    }
+
+    /**
+     * Method to insert an event in the history of an update
+     *
+     * @param updateId    The identifier of the update
+     * @param type        The type of the event
+     * @param authorId    The identifier of the user who made the action
+     * @param timestamp   When the event occurred
+     * @param noteContent The content of the change note of the event, {@code null} if not related to a change note
+     */
+    private void insertEvent(String updateId, UpdateEventType type, String authorId, long timestamp,
+                             String noteContent) {
+        events.add(nextIdentifier(EVENTS_KIND, timestamp), updateId, type.name(), authorId, timestamp, noteContent);
+    }
+
+    /**
+     * Method to insert the changelogs of an event of a project for the members of the groups where the project is
+     * shared, excluded who made the action
+     *
+     * @param event        The event of the changelogs
+     * @param extraContent The extra content of the changelogs
+     * @param timestamp    When the event occurred
+     * @param projectId    The identifier of the project
+     * @param sharedGroups The groups where the project is shared
+     * @param actor        The index of the user who made the action
+     */
+    private void notifyMembers(ChangelogEvent event, String extraContent, long timestamp, String projectId,
+                               int[] sharedGroups, int actor) {
+        if (sharedGroups.length == 0)
+            return;
+        HashSet<Integer> notified = new HashSet<>();
+        notified.add(actor);
+        for (int sharedGroup : sharedGroups) {
+            for (int member : groupMembers[sharedGroup]) {
+                if (notified.add(member)) {
+                    boolean read = random.nextDouble() < 0.8;
+                    projectChangelogs.add(nextIdentifier(CHANGELOGS_KIND, timestamp), event.name(), extraContent,
+                            read, timestamp, projectId, userIdentifier(shape, member));
+                    countChangelog(member, read);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to choose the groups where share a project, among the groups managed by its author
+     *
+     * @param author The index of the author of the project
+     * @return the indexes of the groups chosen as array of int
+     */
+    private int[] shareProject(int author) {
+        int managed = managedGroupsCount[author];
+        if (managed == 0 || random.nextDouble() >= shape.sharedProjectsRatio())
+            return new int[0];
+        int first = managedGroups[author][random.nextInt(managed)];
+        if (managed == 1 || random.nextDouble() >= 0.25)
+            return new int[]{first};
+        int second = managedGroups[author][random.nextInt(managed)];
+        return second == first ? new int[]{first} : new int[]{first, second};
+    }
+
+    /**
+     * Method to choose who works on a project, its author or one of the members of the groups where it is shared
+     *
+     * @param author       The index of the author of the project
+     * @param sharedGroups The groups where the project is shared
+     * @return the index of the user chosen as int
+     */
+    private int collaborator(int author, int[] sharedGroups) {
+        if (sharedGroups.length == 0 || random.nextDouble() < 0.7)
+            return author;
+        int[] candidates = groupMembers[sharedGroups[random.nextInt(sharedGroups.length)]];
+        return candidates[random.nextInt(candidates.length)];
+    }
+
+    /**
+     * Method to get the users who can see a project, its author and the members who joined the groups where it is
+     * shared
+     *
+     * @param author       The index of the author of the project
+     * @param sharedGroups The groups where the project is shared
+     * @return the indexes of the users as array of int
+     */
+    private int[] audience(int author, int[] sharedGroups) {
+        LinkedHashSet<Integer> audience = new LinkedHashSet<>();
+        audience.add(author);
+        for (int sharedGroup : sharedGroups)
+            for (int member : groupMembers[sharedGroup])
+                audience.add(member);
+        return audience.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Method to count a changelog received by a user while the counters are computed
+     *
+     * @param owner The index of the owner of the changelog
+     * @param read  Whether the changelog has been read
+     */
+    private void countChangelog(int owner, boolean read) {
+        if (counting && !read)
+            unreadChangelogs[owner]++;
+    }
+
+    /**
+     * Method to count an operation on an item while the counters are computed, increasing the change sequence of
+     * each user who can see the item
+     *
+     * @param audience The indexes of the users who can see the item
+     */
+    private void countChange(int[] audience) {
+        if (counting)
+            for (int user : audience)
+                changeSequences[user]++;
+    }
+
+    /**
+     * Method to add a group to the groups managed by a user
+     *
+     * @param user  The index of the user
+     * @param group The index of the group
+     */
+    private void addManagedGroup(int user, int group) {
+        int[] userGroups = managedGroups[user];
+        int count = managedGroupsCount[user];
+        if (userGroups == null)
+            userGroups = managedGroups[user] = new int[2];
+        else if (count == userGroups.length)
+            userGroups = managedGroups[user] = Arrays.copyOf(userGroups, count * 2);
+        userGroups[count] = group;
+        managedGroupsCount[user]++;
+    }
+
+    /**
+     * Method to insert the rows collected by all the batches, in the order which respects the foreign keys
+     */
+    private void flush() {
+        if (transactionTemplate == null)
+            return;
+        transactionTemplate.executeWithoutResult(status -> {
+            for (RowsBatch batch : batches)
+                batch.insert();
+        });
+    }
+
+    /**
+     * Method to pick the role of a member who is not the author of the group
+     *
+     * @return the role picked as {@link Role}
+     */
+    private Role role() {
+        double roll = random.nextDouble();
+        if (roll < 0.05)
+            return ADMIN;
+        return roll < 0.2 ? MAINTAINER : DEVELOPER;
+    }
+
+    /**
+     * Method to pick the status of the most recent update of a project, the previous ones are all published
+     *
+     * @return the status picked as {@link UpdateStatus}
+     */
+    private UpdateStatus lastUpdateStatus() {
+        double roll = random.nextDouble();
+        if (roll < 0.6)
+            return PUBLISHED;
+        return roll < 0.85 ? IN_DEVELOPMENT : SCHEDULED;
+    }
+
+    /**
+     * Method to bump a version as a new release would do
+     *
+     * @param version The components of the version to bump
+     */
+    private void bumpVersion(int[] version) {
+        double roll = random.nextDouble();
+        if (roll < 0.1) {
+            version[0]++;
+            version[1] = 0;
+            version[2] = 0;
+        } else if (roll < 0.7) {
+            version[1]++;
+            version[2] = 0;
+        } else
+            version[2]++;
+    }
+
+    /**
+     * Method to format the components of a version
+     *
+     * @param version The components of the version
+     * @return the version formatted as {@link String}
+     */
+    private String formatVersion(int[] version) {
+        return version[0] + "." + version[1] + "." + version[2];
+    }
+
+    /**
+     * Method to generate a text
+     *
+     * @param words The number of the words of the text
+     * @return the text generated as {@link String}
+     */
+    private String text(int words) {
+        StringBuilder text = new StringBuilder(capitalize(pick(WORDS)));
+        for (int j = 1; j < words; j++)
+            text.append(' ').append(pick(WORDS));
+        return text.toString();
+    }
+
+    /**
+     * Method to pick a value
+     *
+     * @param values The values where pick
+     * @return the value picked as {@link String}
+     */
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Method to get the number of the children of an item, which can be zero
+     *
+     * @param mean The average number of the children
+     * @return the number of the children as int
+     */
+    private int size(double mean) {
+        return shape.fixedSizes() ? (int) Math.round(mean) : geometric(mean);
+    }
+
+    /**
+     * Method to get the number of the children of an item which has at least one of them
+     *
+     * @param mean The average number of the children
+     * @return the number of the children as int
+     */
+    private int positiveSize(double mean) {
+        return shape.fixedSizes() ? (int) Math.max(1, Math.round(mean)) : 1 + geometric(mean - 1);
+    }
+
+    /**
+     * Method to draw a number from a geometric distribution
+     *
+     * @param mean The mean of the distribution
+     * @return the number drawn as int
+     */
+    private int geometric(double mean) {
+        if (mean <= 0)
+            return 0;
+        double failure = mean / (mean + 1);
+        return (int) Math.floor(Math.log(1 - random.nextDouble()) / Math.log(failure));
+    }
+
+    /**
+     * Method to draw a duration
+     *
+     * @param bound The maximum duration
+     * @return the duration drawn as long
+     */
+    private long randomDuration(long bound) {
+        return bound <= 0 ? 0 : Math.floorMod(random.nextLong(), bound);
+    }
+
+    /**
+     * Method to generate the next identifier of a kind
+     *
+     * @param kind      The kind of the identifier
+     * @param timestamp When the item identified has been created
+     * @return the identifier generated as {@link String}
+     */
+    private String nextIdentifier(int kind, long timestamp) {
+        return identifier(shape.seed(), kind, sequences[kind]++, timestamp);
+    }
+
+    /**
+     * Method to generate an identifier
+     *
+     * @param seed      The seed of the dataset
+     * @param kind      The kind of the identifier
+     * @param index     The index of the item identified among the items of its kind
+     * @param timestamp When the item identified has been created
+     * @return the identifier generated as {@link String}
+     */
+    private static String identifier(long seed, int kind, long index, long timestamp) {
+        return SortableIdentifierGenerator.encode(timestamp, kind, mix(seed ^ mix(index * 31 + kind)));
+    }
+
+    /**
+     * Method to get when a user signed up
+     *
+     * @param shape The shape of the dataset
+     * @param user  The index of the user
+     * @return when the user signed up as long
+     */
+    private static long signUpDate(DatasetShape shape, int user) {
+        return shape.startTimestamp() + user * MINUTE;
+    }
+
+    /**
+     * Method to get the email of a user
+     *
+     * @param user The index of the user
+     * @return the email of the user as {@link String}
+     */
+    private static String email(int user) {
+        return "user" + user + "@synthetic.pandoro";
+    }
+
+    /**
+     * Method to capitalize a word
+     *
+     * @param word The word to capitalize
+     * @return the word capitalized as {@link String}
+     */
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    /**
+     * Method to mix the bits of a value, so close values produce unrelated bits
+     *
+     * @param value The value to mix
+     * @return the value mixed as long
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+}
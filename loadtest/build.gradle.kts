@@ -0,0 +1,44 @@
+plugins {
+    id("java")
+    id("application")
+}
+
+group = "com.tecknobit.pandoro"
+version = "1.2.1"
+
+repositories {
+    mavenCentral()
+    maven("https://jitpack.io")
+}
+
+dependencies {
+    implementation(project(":backend"))
+    implementation(project(":core"))
+    implementation(project(":dataset"))
+    implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.data.jpa)
+    implementation(libs.jackson.databind)
+    implementation(libs.equinox.backend)
+    implementation(libs.equinox.core)
+    implementation(libs.mariadb4j)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_18
+    targetCompatibility = JavaVersion.VERSION_18
+}
+
+application {
+    mainClass.set("com.tecknobit.pandoro.loadtest.LoadHarness")
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Boots the backend against an embedded database and replays the scripted user journeys"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set(application.mainClass)
+    workingDir = layout.buildDirectory.dir("loadtest").get().asFile.also { it.mkdirs() }
+    project.properties
+        .filterKeys { it.startsWith("pandoro.loadtest.") }
+        .forEach { (key, value) -> systemProperty(key, value.toString()) }
+}
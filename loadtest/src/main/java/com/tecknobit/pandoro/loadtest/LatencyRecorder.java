@@ -0,0 +1,146 @@
+package com.tecknobit.pandoro.loadtest;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code LatencyRecorder} class is useful to record the latencies of the requests sent during a stage of the load
+ * test, grouped by endpoint, and to compute their percentiles
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public class LatencyRecorder {
+
+    /**
+     * {@code NANOS_PER_MILLISECOND} the number of nanoseconds in a millisecond
+     */
+    private static final long NANOS_PER_MILLISECOND = 1_000_000L;
+
+    /**
+     * {@code EndpointStats} the record represents the stats of the requests sent to an endpoint during a stage
+     *
+     * @param endpoint The endpoint requested
+     * @param requests The number of the requests sent
+     * @param errors   The number of the requests failed
+     * @param p50      The median latency, in milliseconds
+     * @param p95      The 95th percentile of the latencies, in milliseconds
+     * @param p99      The 99th percentile of the latencies, in milliseconds
+     * @param max      The maximum latency, in milliseconds
+     */
+    public record EndpointStats(String endpoint, int requests, long errors, double p50, double p95, double p99,
+                                double max) {
+    }
+
+    /**
+     * The {@code EndpointSamples} class collects the latencies of the requests sent to an endpoint
+     */
+    private static final class EndpointSamples {
+
+        /**
+         * {@code latencies} the latencies recorded, in nanoseconds
+         */
+        private long[] latencies = new long[1024];
+
+        /**
+         * {@code size} the number of the latencies recorded
+         */
+        private int size;
+
+        /**
+         * {@code errors} the number of the requests failed
+         */
+        private final AtomicLong errors = new AtomicLong();
+
+        /**
+         * Method to record the latency of a request
+         *
+         * @param latency The latency of the request, in nanoseconds
+         */
+        private synchronized void record(long latency) {
+            if (size == latencies.length)
+                latencies = Arrays.copyOf(latencies, size * 2);
+            latencies[size++] = latency;
+        }
+
+        /**
+         * Method to get the latencies recorded sorted
+         *
+         * @return the latencies sorted as {@code long[]}
+         */
+        private synchronized long[] sorted() {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+    }
+
+    /**
+     * {@code samples} the latencies recorded for each endpoint
+     */
+    private final ConcurrentHashMap<String, EndpointSamples> samples;
+
+    /**
+     * Constructor used to init the recorder
+     */
+    public LatencyRecorder() {
+        samples = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method to record a request
+     *
+     * @param endpoint The endpoint requested
+     * @param latency  The latency of the request, in nanoseconds
+     * @param failed   Whether the request failed
+     */
+    public void record(String endpoint, long latency, boolean failed) {
+        EndpointSamples endpointSamples = samples.computeIfAbsent(endpoint, key -> new EndpointSamples());
+        endpointSamples.record(latency);
+        if (failed)
+            endpointSamples.errors.incrementAndGet();
+    }
+
+    /**
+     * Method to compute the stats of each endpoint requested
+     *
+     * @return the stats sorted by endpoint as {@link List} of {@link EndpointStats}
+     */
+    public List<EndpointStats> getStats() {
+        List<EndpointStats> stats = new ArrayList<>();
+        new TreeMap<>(samples).forEach((endpoint, endpointSamples) -> {
+            long[] latencies = endpointSamples.sorted();
+            if (latencies.length == 0)
+                return;
+            stats.add(new EndpointStats(endpoint, latencies.length, endpointSamples.errors.get(),
+                    percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99),
+                    toMillis(latencies[latencies.length - 1])));
+        });
+        return stats;
+    }
+
+    /**
+     * Method to compute a percentile of the latencies
+     *
+     * @param latencies  The latencies sorted
+     * @param percentile The percentile to compute
+     * @return the percentile, in milliseconds, as double
+     */
+    private double percentile(long[] latencies, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+        return toMillis(latencies[Math.max(index, 0)]);
+    }
+
+    /**
+     * Method to convert a latency in milliseconds
+     *
+     * @param latency The latency, in nanoseconds
+     * @return the latency, in milliseconds, as double
+     */
+    private double toMillis(long latency) {
+        return latency / (double) NANOS_PER_MILLISECOND;
+    }
+
+}
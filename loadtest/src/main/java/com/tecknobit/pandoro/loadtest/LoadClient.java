@@ -0,0 +1,152 @@
+package com.tecknobit.pandoro.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.TOKEN_KEY;
+
+/**
+ * The {@code LoadClient} class is useful to send the requests of the user journeys to the server, recording the
+ * latency of each request in the {@link LatencyRecorder} of the current stage
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public class LoadClient {
+
+    /**
+     * {@code FAILED_STATUS} the status included in the body of the responses of the failed requests
+     */
+    private static final String FAILED_STATUS = "\"FAILED\"";
+
+    /**
+     * {@code REQUEST_TIMEOUT} the timeout of each request
+     */
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * {@code httpClient} the client used to send the requests
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * {@code mapper} the mapper used to format the payloads and to read the responses
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * {@code baseUrl} the base url of the users endpoints of the server
+     */
+    private final String baseUrl;
+
+    /**
+     * {@code recorder} the recorder of the current stage
+     */
+    private volatile LatencyRecorder recorder;
+
+    /**
+     * Constructor used to init the client
+     *
+     * @param baseUrl The base url of the users endpoints of the server
+     * @param mapper  The mapper used to format the payloads and to read the responses
+     */
+    public LoadClient(String baseUrl, ObjectMapper mapper) {
+        this.baseUrl = baseUrl;
+        this.mapper = mapper;
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        recorder = new LatencyRecorder();
+    }
+
+    /**
+     * Method to set the recorder of the current stage
+     *
+     * @param recorder The recorder of the current stage
+     */
+    public void setRecorder(LatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Method to send a {@code GET} request
+     *
+     * @param endpoint The endpoint requested, used to group the latencies
+     * @param user     The user who sends the request
+     * @param path     The path of the request relative to the user
+     * @return the body of the response as {@link JsonNode}, {@code null} if the request failed
+     */
+    public JsonNode get(String endpoint, SeededUser user, String path) {
+        return send(endpoint, user, path, "GET", null);
+    }
+
+    /**
+     * Method to send a {@code POST} request
+     *
+     * @param endpoint The endpoint requested, used to group the latencies
+     * @param user     The user who sends the request
+     * @param path     The path of the request relative to the user
+     * @param payload  The payload of the request
+     * @return the body of the response as {@link JsonNode}, {@code null} if the request failed
+     */
+    public JsonNode post(String endpoint, SeededUser user, String path, Object payload) {
+        return send(endpoint, user, path, "POST", payload);
+    }
+
+    /**
+     * Method to send a {@code PATCH} request
+     *
+     * @param endpoint The endpoint requested, used to group the latencies
+     * @param user     The user who sends the request
+     * @param path     The path of the request relative to the user
+     * @return the body of the response as {@link JsonNode}, {@code null} if the request failed
+     */
+    public JsonNode patch(String endpoint, SeededUser user, String path) {
+        return send(endpoint, user, path, "PATCH", null);
+    }
+
+    /**
+     * Method to send a request and record its latency
+     *
+     * @param endpoint The endpoint requested, used to group the latencies
+     * @param user     The user who sends the request
+     * @param path     The path of the request relative to the user
+     * @param method   The method of the request
+     * @param payload  The payload of the request, {@code null} if the request has no body
+     * @return the body of the response as {@link JsonNode}, {@code null} if the request failed
+     * @apiNote a request is considered failed when the response has an error status or it is a failed response of
+     * the server
+     */
+    private JsonNode send(String endpoint, SeededUser user, String path, String method, Object payload) {
+        LatencyRecorder stageRecorder = recorder;
+        long start = System.nanoTime();
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + user.id() + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header(TOKEN_KEY, user.token());
+            if (payload != null) {
+                request.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(payload)));
+            } else
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            boolean failed = response.statusCode() >= 400 || response.body().contains(FAILED_STATUS);
+            stageRecorder.record(endpoint, System.nanoTime() - start, failed);
+            return failed ? null : mapper.readTree(response.body());
+        } catch (IOException e) {
+            stageRecorder.record(endpoint, System.nanoTime() - start, true);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+}
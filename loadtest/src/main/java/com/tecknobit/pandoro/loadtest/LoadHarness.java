@@ -0,0 +1,275 @@
+package com.tecknobit.pandoro.loadtest;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController;
+import com.tecknobit.pandoro.Launcher;
+import com.tecknobit.pandoro.loadtest.LatencyRecorder.EndpointStats;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.USERS_KEY;
+import static com.tecknobit.equinoxcore.network.EquinoxBaseEndpointsSet.BASE_EQUINOX_ENDPOINT;
+import static java.util.concurrent.TimeUnit.*;
+
+/**
+ * The {@code LoadHarness} class is useful to run the end-to-end load test of the backend: an embedded database is
+ * started, the backend is booted against it, the database is seeded and the scripted {@link UserJourneys} are replayed
+ * in stages with a doubling arrival rate until the backend saturates. The percentiles of the latencies of each
+ * endpoint in each stage are printed and written in the {@code load-report.json} file. The test is configured with
+ * the following system properties:
+ *
+ * <ul>
+ *     <li>
+ *         {@code pandoro.loadtest.users} - the number of the users seeded, {@code 200} by default
+ *     </li>
+ *     <li>
+ *         {@code pandoro.loadtest.projects-per-user} - the average number of the projects of each user, {@code 20}
+ *         by default
+ *     </li>
+ *     <li>
+ *         {@code pandoro.loadtest.group-size} - the average number of the members of each group, {@code 5} by
+ *         default
+ *     </li>
+ *     <li>
+ *         {@code pandoro.loadtest.seed} - the seed used to generate the data, {@code 1809} by default
+ *     </li>
+ *     <li>
+ *         {@code pandoro.loadtest.initial-rate} - the journeys per second of the first stage, {@code 10} by default
+ *     </li>
+ *     <li>
+ *         {@code pandoro.loadtest.max-rate} - the journeys per second after which the test stops, {@code 1280} by
+ *         default
+ *     </li>
+ *     <li>
+ *         {@code pandoro.loadtest.stage-duration} - the duration of each stage in seconds, {@code 30} by default
+ *     </li>
+ *     <li>
+ *         {@code pandoro.loadtest.max-p99} - the maximum 99th percentile, in milliseconds, accepted for an endpoint,
+ *         {@code 500} by default
+ *     </li>
+ *     <li>
+ *         {@code pandoro.loadtest.max-error-rate} - the maximum rate of the requests failed accepted,
+ *         {@code 0.01} by default
+ *     </li>
+ * </ul>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public class LoadHarness {
+
+    /**
+     * {@code PROPERTIES_PREFIX} the prefix of the properties of the load test
+     */
+    private static final String PROPERTIES_PREFIX = "pandoro.loadtest.";
+
+    /**
+     * {@code REPORT_FILE} the file where the report of the load test is written
+     */
+    private static final String REPORT_FILE = "load-report.json";
+
+    /**
+     * {@code MIN_THROUGHPUT_RATIO} the minimum ratio between the journeys completed and the journeys scheduled of a
+     * stage before the backend is considered saturated
+     */
+    private static final double MIN_THROUGHPUT_RATIO = 0.9;
+
+    /**
+     * {@code StageReport} the record represents the result of a stage of the load test
+     *
+     * @param targetRate   The journeys per second scheduled
+     * @param achievedRate The journeys per second completed
+     * @param errorRate    The rate of the requests failed
+     * @param endpoints    The stats of each endpoint requested
+     * @param saturated    Whether the backend was saturated during the stage
+     */
+    public record StageReport(int targetRate, double achievedRate, double errorRate, List<EndpointStats> endpoints,
+                              boolean saturated) {
+    }
+
+    /**
+     * Main method to run the load test
+     *
+     * @param args The arguments shared with the {@link SpringApplication} of the backend
+     */
+    public static void main(String[] args) throws Exception {
+        DB database = DB.newEmbeddedDB(DBConfigurationBuilder.newBuilder()
+                .setPort(0)
+                .build());
+        database.start();
+        ConfigurableApplicationContext context = null;
+        try {
+            String databaseUrl = database.getConfiguration().getURL("pandoro");
+            String[] backendArgs = concat(args,
+                    "--spring.datasource.url=" + databaseUrl + "?createDatabaseIfNotExist=true",
+                    "--spring.datasource.username=root",
+                    "--spring.datasource.password=",
+                    "--server.port=0",
+                    "--management.server.port=0"
+            );
+            EquinoxController.initEquinoxEnvironment(Launcher.class, backendArgs);
+            context = SpringApplication.run(Launcher.class, backendArgs);
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            List<SeededUser> users = new LoadSeeder(context, longProperty("seed", 1809))
+                    .seed(intProperty("users", 200), intProperty("projects-per-user", 20),
+                            intProperty("group-size", 5));
+            ObjectMapper mapper = new ObjectMapper();
+            LoadClient client = new LoadClient("http://localhost:" + port + BASE_EQUINOX_ENDPOINT + USERS_KEY + "/",
+                    mapper);
+            List<StageReport> reports = runStages(client, new UserJourneys(client, users));
+            printReports(reports);
+            mapper.enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(new File(REPORT_FILE), Map.of("stages", reports));
+        } finally {
+            if (context != null)
+                context.close();
+            database.stop();
+        }
+    }
+
+    /**
+     * Method to run the stages of the load test, doubling the arrival rate at each stage until the backend saturates
+     * or the maximum rate is reached
+     *
+     * @param client   The client used to send the requests
+     * @param journeys The journeys to replay
+     * @return the reports of the stages run as {@link List} of {@link StageReport}
+     */
+    private static List<StageReport> runStages(LoadClient client, UserJourneys journeys) throws InterruptedException {
+        int maxRate = intProperty("max-rate", 1280);
+        int stageDuration = intProperty("stage-duration", 30);
+        double maxP99 = doubleProperty("max-p99", 500);
+        double maxErrorRate = doubleProperty("max-error-rate", 0.01);
+        List<StageReport> reports = new ArrayList<>();
+        for (int rate = intProperty("initial-rate", 10); rate <= maxRate; rate *= 2) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            client.setRecorder(recorder);
+            long completed = runStage(journeys, rate, stageDuration);
+            List<EndpointStats> endpoints = recorder.getStats();
+            long requests = 0;
+            long errors = 0;
+            double p99 = 0;
+            for (EndpointStats endpoint : endpoints) {
+                requests += endpoint.requests();
+                errors += endpoint.errors();
+                p99 = Math.max(p99, endpoint.p99());
+            }
+            double achievedRate = completed / (double) stageDuration;
+            double errorRate = requests == 0 ? 0 : errors / (double) requests;
+            boolean saturated = achievedRate < rate * MIN_THROUGHPUT_RATIO || errorRate > maxErrorRate
+                    || p99 > maxP99;
+            reports.add(new StageReport(rate, achievedRate, errorRate, endpoints, saturated));
+            if (saturated)
+                break;
+        }
+        return reports;
+    }
+
+    /**
+     * Method to run a stage of the load test, starting the journeys at a fixed rate regardless of the journeys still
+     * in progress, so a slow backend does not slow down the load it receives
+     *
+     * @param journeys      The journeys to replay
+     * @param rate          The journeys per second to start
+     * @param stageDuration The duration of the stage in seconds
+     * @return the number of the journeys completed within the stage as long
+     */
+    private static long runStage(UserJourneys journeys, int rate, int stageDuration) throws InterruptedException {
+        AtomicLong completed = new AtomicLong();
+        long deadline = System.nanoTime() + SECONDS.toNanos(stageDuration);
+        ExecutorService workers = Executors.newCachedThreadPool();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.scheduleAtFixedRate(() -> workers.execute(() -> {
+            journeys.perform();
+            if (System.nanoTime() <= deadline)
+                completed.incrementAndGet();
+        }), 0, SECONDS.toMicros(1) / rate, MICROSECONDS);
+        MILLISECONDS.sleep(SECONDS.toMillis(stageDuration));
+        scheduler.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(stageDuration, SECONDS))
+            workers.shutdownNow();
+        return completed.get();
+    }
+
+    /**
+     * Method to print the reports of the stages run
+     *
+     * @param reports The reports of the stages run
+     */
+    private static void printReports(List<StageReport> reports) {
+        for (StageReport report : reports) {
+            System.out.printf("%nStage %d journeys/s - achieved %.1f journeys/s - errors %.2f%%%s%n",
+                    report.targetRate(), report.achievedRate(), report.errorRate() * 100,
+                    report.saturated() ? " - SATURATED" : "");
+            System.out.printf("%-90s %8s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "p50 ms",
+                    "p95 ms", "p99 ms", "max ms");
+            for (EndpointStats endpoint : report.endpoints()) {
+                System.out.printf("%-90s %8d %7d %9.1f %9.1f %9.1f %9.1f%n", endpoint.endpoint(),
+                        endpoint.requests(), endpoint.errors(), endpoint.p50(), endpoint.p95(), endpoint.p99(),
+                        endpoint.max());
+            }
+        }
+    }
+
+    /**
+     * Method to append arguments to the arguments of the backend
+     *
+     * @param args      The arguments of the backend
+     * @param extraArgs The arguments to append
+     * @return the arguments as array of {@link String}
+     */
+    private static String[] concat(String[] args, String... extraArgs) {
+        String[] allArgs = new String[args.length + extraArgs.length];
+        System.arraycopy(args, 0, allArgs, 0, args.length);
+        System.arraycopy(extraArgs, 0, allArgs, args.length, extraArgs.length);
+        return allArgs;
+    }
+
+    /**
+     * Method to get an integer property of the load test
+     *
+     * @param name         The name of the property without its prefix
+     * @param defaultValue The value used when the property is not set
+     * @return the value of the property as int
+     */
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger(PROPERTIES_PREFIX + name, defaultValue);
+    }
+
+    /**
+     * Method to get a long property of the load test
+     *
+     * @param name         The name of the property without its prefix
+     * @param defaultValue The value used when the property is not set
+     * @return the value of the property as long
+     */
+    private static long longProperty(String name, long defaultValue) {
+        return Long.getLong(PROPERTIES_PREFIX + name, defaultValue);
+    }
+
+    /**
+     * Method to get a decimal property of the load test
+     *
+     * @param name         The name of the property without its prefix
+     * @param defaultValue The value used when the property is not set
+     * @return the value of the property as double
+     */
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(PROPERTIES_PREFIX + name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+}
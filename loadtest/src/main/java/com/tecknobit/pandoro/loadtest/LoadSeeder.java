@@ -0,0 +1,72 @@
+package com.tecknobit.pandoro.loadtest;
+
+import com.tecknobit.pandoro.dataset.DatasetShape;
+import com.tecknobit.pandoro.dataset.SyntheticDatasetGenerator;
+import com.tecknobit.pandoro.services.projects.repositories.ProjectsRepository;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code LoadSeeder} class is useful to seed the database of the load test with the users, their groups and their
+ * projects, generated by the {@link SyntheticDatasetGenerator} in the database of the server booted
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public class LoadSeeder {
+
+    /**
+     * {@code context} the context of the server booted
+     */
+    private final ApplicationContext context;
+
+    /**
+     * {@code projectsRepository} instance for the projects repository
+     */
+    private final ProjectsRepository projectsRepository;
+
+    /**
+     * {@code seed} the seed used to generate the data
+     */
+    private final long seed;
+
+    /**
+     * Constructor used to init the seeder
+     *
+     * @param context The context of the server booted
+     * @param seed    The seed used to generate the data
+     */
+    public LoadSeeder(ApplicationContext context, long seed) {
+        this.context = context;
+        projectsRepository = context.getBean(ProjectsRepository.class);
+        this.seed = seed;
+    }
+
+    /**
+     * Method to seed the users, each one authoring a group on average, with their projects and the history of their
+     * updates
+     *
+     * @param users           The number of the users to seed
+     * @param projectsPerUser The average number of the projects of each user
+     * @param groupSize       The average number of the members of each group, its author included, no group is
+     *                        seeded when not greater than zero
+     * @return the users seeded as {@link List} of {@link SeededUser}
+     */
+    public List<SeededUser> seed(int users, int projectsPerUser, int groupSize) {
+        DatasetShape defaults = DatasetShape.ofUsers(seed, users);
+        DatasetShape shape = new DatasetShape(seed, users, groupSize > 0 ? 1 : 0, Math.max(groupSize, 1),
+                projectsPerUser, defaults.updatesPerProject(), defaults.changeNotesPerUpdate(),
+                defaults.sharedProjectsRatio(), defaults.startTimestamp(), defaults.batchSize(), false);
+        SyntheticDatasetGenerator.generate(context, shape);
+        List<SeededUser> credentials = new ArrayList<>(users);
+        for (int j = 0; j < users; j++) {
+            String userId = SyntheticDatasetGenerator.userIdentifier(shape, j);
+            credentials.add(new SeededUser(userId, SyntheticDatasetGenerator.userToken(shape, j),
+                    projectsRepository.getAuthoredProjectsIds(userId)));
+        }
+        return credentials;
+    }
+
+}
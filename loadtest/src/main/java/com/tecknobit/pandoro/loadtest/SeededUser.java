@@ -0,0 +1,15 @@
+package com.tecknobit.pandoro.loadtest;
+
+import java.util.List;
+
+/**
+ * The {@code SeededUser} record represents a user seeded in the database of the load test
+ *
+ * @param id       The identifier of the user
+ * @param token    The token of the user
+ * @param projects The identifiers of the projects authored by the user
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public record SeededUser(String id, String token, List<String> projects) {
+}
@@ -0,0 +1,192 @@
+package com.tecknobit.pandoro.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
+import static com.tecknobit.equinoxcore.pagination.PaginatedResponse.PAGE_KEY;
+import static com.tecknobit.equinoxcore.pagination.PaginatedResponse.PAGE_SIZE_KEY;
+import static com.tecknobit.pandorocore.ConstantsKt.*;
+import static com.tecknobit.pandorocore.helpers.PandoroEndpoints.*;
+
+/**
+ * The {@code UserJourneys} class is useful to replay the scripted journeys of the users against the server, each one
+ * picked with the weight it has in the real traffic:
+ *
+ * <ul>
+ *     <li>
+ *         <b>browse</b> - the user opens the client, so the bootstrap data are loaded, and scrolls the projects
+ *     </li>
+ *     <li>
+ *         <b>poll changelogs</b> - the user checks the changelogs yet to read and the list of the changelogs
+ *     </li>
+ *     <li>
+ *         <b>release</b> - the user schedules an update with its change notes, starts it, works on the change notes
+ *         and finally publishes it
+ *     </li>
+ * </ul>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 1.2.2
+ */
+public class UserJourneys {
+
+    /**
+     * {@code BROWSE_WEIGHT} the percentage of the journeys which browse the projects
+     */
+    private static final int BROWSE_WEIGHT = 50;
+
+    /**
+     * {@code POLL_CHANGELOGS_WEIGHT} the percentage of the journeys which poll the changelogs
+     */
+    private static final int POLL_CHANGELOGS_WEIGHT = 35;
+
+    /**
+     * {@code PROJECTS_PAGE_SIZE} the size of the page of projects requested by the browse journey
+     */
+    private static final int PROJECTS_PAGE_SIZE = 10;
+
+    /**
+     * {@code CHANGE_NOTES} the number of the change notes of each update scheduled by the release journey
+     */
+    private static final int CHANGE_NOTES = 2;
+
+    /**
+     * {@code releasesCounter} the counter used to assign a distinct target version to each update scheduled
+     */
+    private static final AtomicLong releasesCounter = new AtomicLong();
+
+    /**
+     * {@code client} the client used to send the requests
+     */
+    private final LoadClient client;
+
+    /**
+     * {@code users} the users seeded who perform the journeys
+     */
+    private final List<SeededUser> users;
+
+    /**
+     * Constructor used to init the journeys
+     *
+     * @param client The client used to send the requests
+     * @param users  The users seeded who perform the journeys
+     */
+    public UserJourneys(LoadClient client, List<SeededUser> users) {
+        this.client = client;
+        this.users = users;
+    }
+
+    /**
+     * Method to perform a journey picked by its weight with a random user
+     */
+    public void perform() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SeededUser user = users.get(random.nextInt(users.size()));
+        int journey = random.nextInt(100);
+        if (journey < BROWSE_WEIGHT)
+            browse(user);
+        else if (journey < BROWSE_WEIGHT + POLL_CHANGELOGS_WEIGHT)
+            pollChangelogs(user);
+        else
+            release(user);
+    }
+
+    /**
+     * Method to perform the browse journey
+     *
+     * @param user The user who performs the journey
+     */
+    private void browse(SeededUser user) {
+        if (client.get("GET /" + BOOTSTRAP_ENDPOINT, user, "/" + BOOTSTRAP_ENDPOINT) == null)
+            return;
+        int page = ThreadLocalRandom.current().nextInt(Math.max(user.projects().size() / PROJECTS_PAGE_SIZE, 1));
+        client.get("GET /" + PROJECTS_KEY, user, "/" + PROJECTS_KEY + "?" + PAGE_KEY + "=" + page + "&" +
+                PAGE_SIZE_KEY + "=" + PROJECTS_PAGE_SIZE);
+    }
+
+    /**
+     * Method to perform the poll changelogs journey
+     *
+     * @param user The user who performs the journey
+     */
+    private void pollChangelogs(SeededUser user) {
+        client.get("GET /" + CHANGELOGS_KEY + "/" + UNREAD_CHANGELOGS_ENDPOINT, user,
+                "/" + CHANGELOGS_KEY + "/" + UNREAD_CHANGELOGS_ENDPOINT);
+        client.get("GET /" + CHANGELOGS_KEY, user, "/" + CHANGELOGS_KEY);
+    }
+
+    /**
+     * Method to perform the release journey, the journey stops at the first request failed
+     *
+     * @param user The user who performs the journey
+     */
+    private void release(SeededUser user) {
+        if (user.projects().isEmpty())
+            return;
+        String projectId = user.projects().get(ThreadLocalRandom.current().nextInt(user.projects().size()));
+        String projectPath = "/" + PROJECTS_KEY + "/" + projectId;
+        String targetVersion = "2.0." + releasesCounter.incrementAndGet();
+        List<String> changeNotes = new ArrayList<>(CHANGE_NOTES);
+        for (int j = 0; j < CHANGE_NOTES; j++)
+            changeNotes.add("Change note " + j + " of the release " + targetVersion);
+        if (client.post("POST /" + PROJECTS_KEY + "/{project_id}" + UPDATES_PATH + SCHEDULE_UPDATE_ENDPOINT, user,
+                projectPath + UPDATES_PATH + SCHEDULE_UPDATE_ENDPOINT, Map.of(UPDATE_TARGET_VERSION_KEY, targetVersion,
+                        UPDATE_CHANGE_NOTES_KEY, changeNotes)) == null) {
+            return;
+        }
+        JsonNode update = findUpdate(client.get("GET /" + PROJECTS_KEY + "/{project_id}", user, projectPath),
+                targetVersion);
+        if (update == null)
+            return;
+        String updatePath = projectPath + UPDATES_PATH + update.path(IDENTIFIER_KEY).asText();
+        String updateEndpoint = "/" + PROJECTS_KEY + "/{project_id}" + UPDATES_PATH + "{update_id}";
+        if (client.patch("PATCH " + updateEndpoint + START_UPDATE_ENDPOINT, user,
+                updatePath + START_UPDATE_ENDPOINT) == null) {
+            return;
+        }
+        String noteEndpoint = updateEndpoint + "/" + NOTES_KEY + "/{note_id}";
+        List<String> notes = new ArrayList<>();
+        for (JsonNode note : update.path(NOTES_KEY))
+            notes.add(updatePath + "/" + NOTES_KEY + "/" + note.path(IDENTIFIER_KEY).asText());
+        if (!notes.isEmpty()) {
+            String togglingNote = notes.get(0);
+            client.patch("PATCH " + noteEndpoint + MARK_CHANGE_NOTE_AS_DONE_ENDPOINT, user,
+                    togglingNote + MARK_CHANGE_NOTE_AS_DONE_ENDPOINT);
+            client.patch("PATCH " + noteEndpoint + MARK_CHANGE_NOTE_AS_TODO_ENDPOINT, user,
+                    togglingNote + MARK_CHANGE_NOTE_AS_TODO_ENDPOINT);
+        }
+        for (String note : notes) {
+            if (client.patch("PATCH " + noteEndpoint + MARK_CHANGE_NOTE_AS_DONE_ENDPOINT, user,
+                    note + MARK_CHANGE_NOTE_AS_DONE_ENDPOINT) == null) {
+                return;
+            }
+        }
+        client.patch("PATCH " + updateEndpoint + PUBLISH_UPDATE_ENDPOINT, user, updatePath + PUBLISH_UPDATE_ENDPOINT);
+    }
+
+    /**
+     * Method to find an update of a project by its target version
+     *
+     * @param project       The response with the project
+     * @param targetVersion The target version of the update to find
+     * @return the update as {@link JsonNode}, {@code null} if not found
+     */
+    private JsonNode findUpdate(JsonNode project, String targetVersion) {
+        if (project == null)
+            return null;
+        JsonNode updates = project.findValue(UPDATES_KEY);
+        if (updates == null)
+            return null;
+        for (JsonNode update : updates)
+            if (targetVersion.equals(update.path(UPDATE_TARGET_VERSION_KEY).asText()))
+                return update;
+        return null;
+    }
+
+}
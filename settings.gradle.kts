@@ -21,3 +21,6 @@ dependencyResolutionManagement {
 
 include("core")
 include("backend")
+include("benchmarks")
+include("loadtest")
+include("dataset")